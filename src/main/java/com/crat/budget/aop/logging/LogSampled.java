@@ -0,0 +1,22 @@
+package com.crat.budget.aop.logging;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Opts a method, or all the methods of a type, in the logging of the {@link LoggingAdvisor} in sampled mode: a share of
+ * their calls is logged at INFO level, with their arguments and result. The methods that are not annotated are not
+ * proxied for logging.
+ */
+@Documented
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LogSampled {
+    /**
+     * Share of the calls to log, from 0 (none) to 1 (all of them).
+     */
+    double rate() default 1.0;
+}
@@ -0,0 +1,154 @@
+package com.crat.budget.aop.logging;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.ClassFilter;
+import org.springframework.aop.aspectj.AspectJExpressionPointcut;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.StaticMethodMatcherPointcutAdvisor;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+/**
+ * Logging of the same join points as {@link LoggingAspect}, decided for each of them once, when the beans are proxied.
+ * <p>
+ * A join point that is not logged gets no advice, and a bean none of whose methods are logged is not proxied at all:
+ * they run as if there was no logging. The advised join points have their logger and name resolved beforehand.
+ * <ul>
+ *     <li>In debug mode, the methods whose logger has DEBUG enabled on startup are logged on entry and exit, as long as it
+ *     stays enabled. Enabling it later on has no effect until a restart.</li>
+ *     <li>In sampled mode, only the methods annotated with {@link LogSampled}, or declared by an annotated type, are
+ *     advised, and the sampled share of their calls is logged at INFO level.</li>
+ * </ul>
+ * In both modes, the illegal arguments and exceptions of the advised methods are logged as errors.
+ */
+@SuppressWarnings("java:S110") // Inheritance tree of classes should not be too deep
+public class LoggingAdvisor extends StaticMethodMatcherPointcutAdvisor implements MethodInterceptor {
+
+    private static final long serialVersionUID = 1L;
+
+    private final boolean sampled;
+
+    private final transient AspectJExpressionPointcut pointcut = new AspectJExpressionPointcut();
+
+    /**
+     * Loggers of the join points by target class: the methods declared by an interface are shared by its
+     * implementations.
+     */
+    private final transient ClassValue<Map<Method, JoinPointLogger>> loggers = new ClassValue<>() {
+        @Override
+        protected Map<Method, JoinPointLogger> computeValue(Class<?> targetClass) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private LoggingAdvisor(boolean sampled, String expression) {
+        this.sampled = sampled;
+        pointcut.setPointcutDeclarationScope(LoggingAspect.class);
+        pointcut.setExpression(expression);
+        setAdvice(this);
+    }
+
+    /**
+     * Advisor logging the join points whose logger has DEBUG enabled on startup.
+     */
+    public static LoggingAdvisor debugEnabled() {
+        return debugEnabled(LoggingAspect.LOGGED_POINTCUT);
+    }
+
+    /**
+     * Advisor logging a sample of the calls to the join points annotated with {@link LogSampled}.
+     */
+    public static LoggingAdvisor sampled() {
+        return sampled(LoggingAspect.LOGGED_POINTCUT);
+    }
+
+    static LoggingAdvisor debugEnabled(String expression) {
+        return new LoggingAdvisor(false, expression);
+    }
+
+    static LoggingAdvisor sampled(String expression) {
+        return new LoggingAdvisor(true, expression);
+    }
+
+    @Override
+    public ClassFilter getClassFilter() {
+        return pointcut.getClassFilter();
+    }
+
+    @Override
+    public boolean matches(Method method, Class<?> targetClass) {
+        return loggers.get(targetClass).computeIfAbsent(method, m -> resolve(m, targetClass)) != JoinPointLogger.NONE;
+    }
+
+    private JoinPointLogger resolve(Method method, Class<?> targetClass) {
+        if (!pointcut.matches(method, targetClass)) {
+            return JoinPointLogger.NONE;
+        }
+        // the logger of the declaring type, as the aspect
+        Logger log = LoggerFactory.getLogger(method.getDeclaringClass());
+        if (!sampled) {
+            return log.isDebugEnabled() ? new JoinPointLogger(log, method.getName(), 1.0) : JoinPointLogger.NONE;
+        }
+        Method specificMethod = AopUtils.getMostSpecificMethod(method, targetClass);
+        LogSampled logSampled = AnnotatedElementUtils.findMergedAnnotation(specificMethod, LogSampled.class);
+        if (logSampled == null) {
+            logSampled = AnnotatedElementUtils.findMergedAnnotation(targetClass, LogSampled.class);
+        }
+        return logSampled != null && logSampled.rate() > 0
+            ? new JoinPointLogger(log, method.getName(), logSampled.rate())
+            : JoinPointLogger.NONE;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Object target = invocation.getThis();
+        JoinPointLogger joinPoint = target == null ? null : loggers.get(target.getClass()).get(invocation.getMethod());
+        if (joinPoint == null || joinPoint == JoinPointLogger.NONE) {
+            return invocation.proceed();
+        }
+        Logger log = joinPoint.log();
+        boolean logged = sampled ? joinPoint.isSampled() && log.isInfoEnabled() : log.isDebugEnabled();
+        if (logged) {
+            log(log, "Enter: {}() with argument[s] = {}", joinPoint.name(), Arrays.toString(invocation.getArguments()));
+        }
+        try {
+            Object result = invocation.proceed();
+            if (logged) {
+                log(log, "Exit: {}() with result = {}", joinPoint.name(), result);
+            }
+            return result;
+        } catch (IllegalArgumentException e) {
+            log.error("Illegal argument: {} in {}()", Arrays.toString(invocation.getArguments()), joinPoint.name());
+            throw e;
+        } catch (Throwable e) {
+            log.error("Exception in {}() with cause = {}", joinPoint.name(), e.getCause() != null ? String.valueOf(e.getCause()) : "NULL");
+            throw e;
+        }
+    }
+
+    private void log(Logger log, String format, Object name, Object value) {
+        if (sampled) {
+            log.info(format, name, value);
+        } else {
+            log.debug(format, name, value);
+        }
+    }
+
+    /**
+     * Logger of an advised join point, {@link #NONE} for the join points that are not.
+     */
+    private record JoinPointLogger(Logger log, String name, double rate) {
+        static final JoinPointLogger NONE = new JoinPointLogger(null, null, 0);
+
+        boolean isSampled() {
+            return rate >= 1.0 || ThreadLocalRandom.current().nextDouble() < rate;
+        }
+    }
+}
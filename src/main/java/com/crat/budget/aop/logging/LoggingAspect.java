@@ -16,11 +16,17 @@ import tech.jhipster.config.JHipsterConstants;
 /**
  * Aspect for logging execution of service and repository Spring components.
  *
- * By default, it only runs with the "dev" profile.
+ * It only runs with {@code application.logging.aspect-mode} set to {@code always}: it advises every join point and
+ * checks the log level on each call. See {@link LoggingAdvisor} for the other modes.
  */
 @Aspect
 public class LoggingAspect {
 
+    /**
+     * Pointcut of the logged join points, also used by the {@link LoggingAdvisor}.
+     */
+    public static final String LOGGED_POINTCUT = "applicationPackagePointcut() && springBeanPointcut()";
+
     private final Environment env;
 
     public LoggingAspect(Environment env) {
@@ -65,7 +71,7 @@ public class LoggingAspect {
      * @param joinPoint join point for advice.
      * @param e exception.
      */
-    @AfterThrowing(pointcut = "applicationPackagePointcut() && springBeanPointcut()", throwing = "e")
+    @AfterThrowing(pointcut = LOGGED_POINTCUT, throwing = "e")
     public void logAfterThrowing(JoinPoint joinPoint, Throwable e) {
         if (env.acceptsProfiles(Profiles.of(JHipsterConstants.SPRING_PROFILE_DEVELOPMENT))) {
             logger(joinPoint).error(
@@ -91,7 +97,7 @@ public class LoggingAspect {
      * @return result.
      * @throws Throwable throws {@link IllegalArgumentException}.
      */
-    @Around("applicationPackagePointcut() && springBeanPointcut()")
+    @Around(LOGGED_POINTCUT)
     public Object logAround(ProceedingJoinPoint joinPoint) throws Throwable {
         Logger log = logger(joinPoint);
         if (log.isDebugEnabled()) {
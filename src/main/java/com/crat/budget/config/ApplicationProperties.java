@@ -1,6 +1,12 @@
 package com.crat.budget.config;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 
 /**
  * Properties specific to Jhipster Financial Management.
@@ -13,12 +19,66 @@ public class ApplicationProperties {
 
     private final Liquibase liquibase = new Liquibase();
 
+    private final Pagination pagination = new Pagination();
+
+    private final Export export = new Export();
+
+    private final Cache cache = new Cache();
+
+    private final Security security = new Security();
+
+    private final Logging logging = new Logging();
+
+    private final QueryStatistics queryStatistics = new QueryStatistics();
+
+    private final SlowQuery slowQuery = new SlowQuery();
+
+    private final PurchaseOrderTotals purchaseOrderTotals = new PurchaseOrderTotals();
+
+    private final YearEndRollover yearEndRollover = new YearEndRollover();
+
     // jhipster-needle-application-properties-property
 
     public Liquibase getLiquibase() {
         return liquibase;
     }
 
+    public Pagination getPagination() {
+        return pagination;
+    }
+
+    public Export getExport() {
+        return export;
+    }
+
+    public Cache getCache() {
+        return cache;
+    }
+
+    public Security getSecurity() {
+        return security;
+    }
+
+    public Logging getLogging() {
+        return logging;
+    }
+
+    public QueryStatistics getQueryStatistics() {
+        return queryStatistics;
+    }
+
+    public SlowQuery getSlowQuery() {
+        return slowQuery;
+    }
+
+    public PurchaseOrderTotals getPurchaseOrderTotals() {
+        return purchaseOrderTotals;
+    }
+
+    public YearEndRollover getYearEndRollover() {
+        return yearEndRollover;
+    }
+
     // jhipster-needle-application-properties-property-getter
 
     public static class Liquibase {
@@ -33,5 +93,603 @@ public class ApplicationProperties {
             this.asyncStart = asyncStart;
         }
     }
+
+    public static class Pagination {
+
+        /**
+         * How long the approximate total sent by list endpoints with {@code total=approximate} may be stale.
+         */
+        private long approximateCountTimeToLiveSeconds = 60;
+
+        public long getApproximateCountTimeToLiveSeconds() {
+            return approximateCountTimeToLiveSeconds;
+        }
+
+        public void setApproximateCountTimeToLiveSeconds(long approximateCountTimeToLiveSeconds) {
+            this.approximateCountTimeToLiveSeconds = approximateCountTimeToLiveSeconds;
+        }
+    }
+
+    public static class Export {
+
+        /**
+         * Number of rows fetched from the database per round trip by the export cursor.
+         */
+        private int fetchSize = 500;
+
+        public int getFetchSize() {
+            return fetchSize;
+        }
+
+        public void setFetchSize(int fetchSize) {
+            this.fetchSize = fetchSize;
+        }
+    }
+
+    public static class Cache {
+
+        /**
+         * Settings of individual cache regions, by region name (the entity or collection role for the second-level
+         * cache). Unset settings fall back to {@code jhipster.cache.ehcache}.
+         */
+        private Map<String, Region> regions = new HashMap<>();
+
+        private final WarmUp warmUp = new WarmUp();
+
+        public Map<String, Region> getRegions() {
+            return regions;
+        }
+
+        public void setRegions(Map<String, Region> regions) {
+            this.regions = regions;
+        }
+
+        public WarmUp getWarmUp() {
+            return warmUp;
+        }
+
+        public static class Region {
+
+            /**
+             * Number of entries kept on heap.
+             */
+            private Long heapEntries;
+
+            /**
+             * Size of the off-heap tier, none if unset. Entries evicted from the heap move there, serialized.
+             */
+            private DataSize offHeapSize;
+
+            /**
+             * How long an entry stays in the region after it was written.
+             */
+            private Duration timeToLive;
+
+            /**
+             * How long an entry stays in the region after it was last read, takes precedence over the time to live.
+             */
+            private Duration timeToIdle;
+
+            /**
+             * Whether entries never expire, for reference data only invalidated by writes. They are still evicted once the
+             * region holds {@link #heapEntries} entries.
+             */
+            private boolean eternal;
+
+            public Long getHeapEntries() {
+                return heapEntries;
+            }
+
+            public void setHeapEntries(Long heapEntries) {
+                this.heapEntries = heapEntries;
+            }
+
+            public DataSize getOffHeapSize() {
+                return offHeapSize;
+            }
+
+            public void setOffHeapSize(DataSize offHeapSize) {
+                this.offHeapSize = offHeapSize;
+            }
+
+            public Duration getTimeToLive() {
+                return timeToLive;
+            }
+
+            public void setTimeToLive(Duration timeToLive) {
+                this.timeToLive = timeToLive;
+            }
+
+            public Duration getTimeToIdle() {
+                return timeToIdle;
+            }
+
+            public void setTimeToIdle(Duration timeToIdle) {
+                this.timeToIdle = timeToIdle;
+            }
+
+            public boolean isEternal() {
+                return eternal;
+            }
+
+            public void setEternal(boolean eternal) {
+                this.eternal = eternal;
+            }
+        }
+
+        public static class WarmUp {
+
+            /**
+             * Whether the regions are preloaded on startup, the readiness probe staying out of service until they are.
+             */
+            private boolean enabled = true;
+
+            /**
+             * Regions to preload: entity names, or collection roles to also load the collections of their owners.
+             */
+            private List<String> regions = new ArrayList<>();
+
+            /**
+             * Number of entities loaded by each query.
+             */
+            private int batchSize = 500;
+
+            /**
+             * Number of batches loaded at the same time, each holding a connection.
+             */
+            private int parallelism = 4;
+
+            public boolean isEnabled() {
+                return enabled;
+            }
+
+            public void setEnabled(boolean enabled) {
+                this.enabled = enabled;
+            }
+
+            public List<String> getRegions() {
+                return regions;
+            }
+
+            public void setRegions(List<String> regions) {
+                this.regions = regions;
+            }
+
+            public int getBatchSize() {
+                return batchSize;
+            }
+
+            public void setBatchSize(int batchSize) {
+                this.batchSize = batchSize;
+            }
+
+            public int getParallelism() {
+                return parallelism;
+            }
+
+            public void setParallelism(int parallelism) {
+                this.parallelism = parallelism;
+            }
+        }
+    }
+
+    public static class Security {
+
+        private final TokenCache tokenCache = new TokenCache();
+
+        private final Password password = new Password();
+
+        private final LoginRateLimit loginRateLimit = new LoginRateLimit();
+
+        public TokenCache getTokenCache() {
+            return tokenCache;
+        }
+
+        public Password getPassword() {
+            return password;
+        }
+
+        public LoginRateLimit getLoginRateLimit() {
+            return loginRateLimit;
+        }
+
+        public static class TokenCache {
+
+            /**
+             * Whether verified tokens are cached until they expire, sparing the signature check of the next requests.
+             */
+            private boolean enabled = true;
+
+            /**
+             * Number of verified tokens kept.
+             */
+            private int maximumSize = 10000;
+
+            public boolean isEnabled() {
+                return enabled;
+            }
+
+            public void setEnabled(boolean enabled) {
+                this.enabled = enabled;
+            }
+
+            public int getMaximumSize() {
+                return maximumSize;
+            }
+
+            public void setMaximumSize(int maximumSize) {
+                this.maximumSize = maximumSize;
+            }
+        }
+
+        public static class Password {
+
+            /**
+             * BCrypt cost of the password hashes, from 4 to 31: each increment doubles the hashing time. The hashes of a
+             * lower cost are re-encoded when their user logs in.
+             */
+            private int bcryptStrength = 10;
+
+            public int getBcryptStrength() {
+                return bcryptStrength;
+            }
+
+            public void setBcryptStrength(int bcryptStrength) {
+                this.bcryptStrength = bcryptStrength;
+            }
+        }
+
+        public static class LoginRateLimit {
+
+            /**
+             * Where the buckets of the limiter are kept.
+             */
+            public enum Store {
+                /**
+                 * In the memory of each instance.
+                 */
+                MEMORY,
+                /**
+                 * In the {@code loginRateLimits} JCache region, shared by the instances when the cache provider is.
+                 */
+                CACHE,
+            }
+
+            /**
+             * Whether authentication attempts are rate limited, by login and by client IP.
+             */
+            private boolean enabled = true;
+
+            private Store store = Store.MEMORY;
+
+            /**
+             * Number of buckets kept, in memory or in the cache region. In memory, the full ones are evicted when it is
+             * reached, the attempts for new keys being refused until one is.
+             */
+            private int maximumKeys = 100000;
+
+            private final Limit perLogin = new Limit(10, Duration.ofMinutes(1));
+
+            private final Limit perIp = new Limit(100, Duration.ofMinutes(1));
+
+            public boolean isEnabled() {
+                return enabled;
+            }
+
+            public void setEnabled(boolean enabled) {
+                this.enabled = enabled;
+            }
+
+            public Store getStore() {
+                return store;
+            }
+
+            public void setStore(Store store) {
+                this.store = store;
+            }
+
+            public int getMaximumKeys() {
+                return maximumKeys;
+            }
+
+            public void setMaximumKeys(int maximumKeys) {
+                this.maximumKeys = maximumKeys;
+            }
+
+            public Limit getPerLogin() {
+                return perLogin;
+            }
+
+            public Limit getPerIp() {
+                return perIp;
+            }
+
+            public static class Limit {
+
+                /**
+                 * Number of attempts allowed in a burst, 0 for no limit.
+                 */
+                private int capacity;
+
+                /**
+                 * Time for an empty bucket to refill, the attempts being allowed back evenly over it.
+                 */
+                private Duration period;
+
+                public Limit(int capacity, Duration period) {
+                    this.capacity = capacity;
+                    this.period = period;
+                }
+
+                public int getCapacity() {
+                    return capacity;
+                }
+
+                public void setCapacity(int capacity) {
+                    this.capacity = capacity;
+                }
+
+                public Duration getPeriod() {
+                    return period;
+                }
+
+                public void setPeriod(Duration period) {
+                    this.period = period;
+                }
+            }
+        }
+    }
+
+    public static class Logging {
+
+        /**
+         * Which join points the logging aspect advises.
+         */
+        public enum AspectMode {
+            /**
+             * None, no bean is proxied for logging.
+             */
+            OFF,
+            /**
+             * Every method of the repositories, services and REST controllers, checking the log level on each call.
+             */
+            ALWAYS,
+            /**
+             * The methods whose logger has DEBUG enabled on startup, the others are not proxied.
+             */
+            DEBUG,
+            /**
+             * The methods annotated with {@code @LogSampled}, or declared by an annotated type, for a share of their calls.
+             */
+            SAMPLED,
+        }
+
+        private AspectMode aspectMode = AspectMode.OFF;
+
+        public AspectMode getAspectMode() {
+            return aspectMode;
+        }
+
+        public void setAspectMode(AspectMode aspectMode) {
+            this.aspectMode = aspectMode;
+        }
+    }
+
+    public static class QueryStatistics {
+
+        /**
+         * Whether the JDBC statements, rows, entity loads and second-level cache lookups of the API requests are counted.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Whether the counts are sent in the {@code X-Query-Statistics} response header.
+         */
+        private boolean responseHeader = false;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public boolean isResponseHeader() {
+            return responseHeader;
+        }
+
+        public void setResponseHeader(boolean responseHeader) {
+            this.responseHeader = responseHeader;
+        }
+    }
+
+    public static class SlowQuery {
+
+        /**
+         * Whether the statements slower than the threshold are logged and kept for the slowqueries endpoint.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Execution time from which a statement is slow.
+         */
+        private Duration threshold = Duration.ofMillis(500);
+
+        /**
+         * Number of slow queries kept for the slowqueries endpoint, the slowest ones.
+         */
+        private int capacity = 50;
+
+        /**
+         * Whether the bind values of the slow queries are logged, off by default as they may hold personal data.
+         */
+        private boolean captureParameters;
+
+        /**
+         * Length from which the logged bind values are truncated.
+         */
+        private int maximumParameterLength = 100;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getThreshold() {
+            return threshold;
+        }
+
+        public void setThreshold(Duration threshold) {
+            this.threshold = threshold;
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(int capacity) {
+            this.capacity = capacity;
+        }
+
+        public boolean isCaptureParameters() {
+            return captureParameters;
+        }
+
+        public void setCaptureParameters(boolean captureParameters) {
+            this.captureParameters = captureParameters;
+        }
+
+        public int getMaximumParameterLength() {
+            return maximumParameterLength;
+        }
+
+        public void setMaximumParameterLength(int maximumParameterLength) {
+            this.maximumParameterLength = maximumParameterLength;
+        }
+    }
+
+    public static class PurchaseOrderTotals {
+
+        private final Reconciliation reconciliation = new Reconciliation();
+
+        public Reconciliation getReconciliation() {
+            return reconciliation;
+        }
+
+        public static class Reconciliation {
+
+            /**
+             * Whether the totals of all the purchase orders having items are checked on schedule, and fixed if they drifted.
+             */
+            private boolean enabled = true;
+
+            /**
+             * When the reconciliation runs.
+             */
+            private String cron = "0 30 2 * * ?";
+
+            /**
+             * Number of purchase orders checked by each transaction.
+             */
+            private int chunkSize = 500;
+
+            /**
+             * Number of chunks checked at the same time, each holding a connection.
+             */
+            private int parallelism = 4;
+
+            public boolean isEnabled() {
+                return enabled;
+            }
+
+            public void setEnabled(boolean enabled) {
+                this.enabled = enabled;
+            }
+
+            public String getCron() {
+                return cron;
+            }
+
+            public void setCron(String cron) {
+                this.cron = cron;
+            }
+
+            public int getChunkSize() {
+                return chunkSize;
+            }
+
+            public void setChunkSize(int chunkSize) {
+                this.chunkSize = chunkSize;
+            }
+
+            public int getParallelism() {
+                return parallelism;
+            }
+
+            public void setParallelism(int parallelism) {
+                this.parallelism = parallelism;
+            }
+        }
+    }
+
+    public static class YearEndRollover {
+
+        /**
+         * Number of article links copied to the new financial year by each transaction.
+         */
+        private int chunkSize = 1000;
+
+        /**
+         * Number of chunks copied at the same time, each holding a connection.
+         */
+        private int parallelism = 4;
+
+        /**
+         * Whether the rollovers interrupted by a stop of the application are resumed from their checkpoint on startup.
+         */
+        private boolean resumeOnStartup = true;
+
+        /**
+         * How long an instance holds a rollover without renewing its lease. The lease is renewed at each step and
+         * checkpoint; once it expired, after a crash of the instance, another instance can resume the rollover.
+         */
+        private Duration leaseDuration = Duration.ofMinutes(5);
+
+        public int getChunkSize() {
+            return chunkSize;
+        }
+
+        public void setChunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        public void setParallelism(int parallelism) {
+            this.parallelism = parallelism;
+        }
+
+        public boolean isResumeOnStartup() {
+            return resumeOnStartup;
+        }
+
+        public void setResumeOnStartup(boolean resumeOnStartup) {
+            this.resumeOnStartup = resumeOnStartup;
+        }
+
+        public Duration getLeaseDuration() {
+            return leaseDuration;
+        }
+
+        public void setLeaseDuration(Duration leaseDuration) {
+            this.leaseDuration = leaseDuration;
+        }
+    }
     // jhipster-needle-application-properties-property-class
 }
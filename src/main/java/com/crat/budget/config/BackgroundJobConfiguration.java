@@ -0,0 +1,72 @@
+package com.crat.budget.config;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Executors of the background jobs: the cache warm-up, the reconciliation of the purchase order totals and the year-end
+ * rollover, each sized by its {@code parallelism} property.
+ * <p>
+ * Being beans, they are shut down with the context, their running tasks being interrupted. Their threads stop once
+ * idle, between two runs. They are not default candidates: they are injected by name only, and do not hide the
+ * {@code taskExecutor} of the application, nor are they seen by the executor metrics of Spring Boot, so they are
+ * measured here as the same {@code executor} meters, tagged by bean name.
+ */
+@Configuration
+public class BackgroundJobConfiguration {
+
+    public static final String CACHE_WARM_UP_EXECUTOR = "cacheWarmUpExecutor";
+    public static final String PURCHASE_ORDER_TOTALS_EXECUTOR = "purchaseOrderTotalsExecutor";
+    public static final String YEAR_END_ROLLOVER_EXECUTOR = "yearEndRolloverExecutor";
+
+    @Bean(name = CACHE_WARM_UP_EXECUTOR, defaultCandidate = false)
+    public ThreadPoolTaskExecutor cacheWarmUpExecutor(ApplicationProperties applicationProperties) {
+        return executor(applicationProperties.getCache().getWarmUp().getParallelism(), "cache-warm-up-");
+    }
+
+    @Bean(name = PURCHASE_ORDER_TOTALS_EXECUTOR, defaultCandidate = false)
+    public ThreadPoolTaskExecutor purchaseOrderTotalsExecutor(ApplicationProperties applicationProperties) {
+        return executor(applicationProperties.getPurchaseOrderTotals().getReconciliation().getParallelism(), "purchase-order-totals-");
+    }
+
+    @Bean(name = YEAR_END_ROLLOVER_EXECUTOR, defaultCandidate = false)
+    public ThreadPoolTaskExecutor yearEndRolloverExecutor(ApplicationProperties applicationProperties) {
+        // one thread walks through the steps while the others copy the chunks
+        return executor(Math.max(1, applicationProperties.getYearEndRollover().getParallelism()) + 1, "year-end-rollover-");
+    }
+
+    @Bean
+    public MeterBinder backgroundJobExecutorMetrics(
+        @Qualifier(CACHE_WARM_UP_EXECUTOR) ThreadPoolTaskExecutor cacheWarmUpExecutor,
+        @Qualifier(PURCHASE_ORDER_TOTALS_EXECUTOR) ThreadPoolTaskExecutor purchaseOrderTotalsExecutor,
+        @Qualifier(YEAR_END_ROLLOVER_EXECUTOR) ThreadPoolTaskExecutor yearEndRolloverExecutor
+    ) {
+        Map<String, ThreadPoolTaskExecutor> executors = Map.of(
+            CACHE_WARM_UP_EXECUTOR,
+            cacheWarmUpExecutor,
+            PURCHASE_ORDER_TOTALS_EXECUTOR,
+            purchaseOrderTotalsExecutor,
+            YEAR_END_ROLLOVER_EXECUTOR,
+            yearEndRolloverExecutor
+        );
+        return registry ->
+            executors.forEach((name, executor) ->
+                new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), name, Tags.empty()).bindTo(registry)
+            );
+    }
+
+    private static ThreadPoolTaskExecutor executor(int parallelism, String threadNamePrefix) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(Math.max(1, parallelism));
+        executor.setMaxPoolSize(Math.max(1, parallelism));
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        return executor;
+    }
+}
@@ -1,9 +1,19 @@
 package com.crat.budget.config;
 
+import com.crat.budget.config.ApplicationProperties.Cache.Region;
+import com.crat.budget.management.CacheRegionMetrics;
 import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import javax.cache.Caching;
 import org.ehcache.config.builders.*;
+import org.ehcache.config.units.MemoryUnit;
+import org.ehcache.expiry.ExpiryPolicy;
 import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
 import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.cache.JCacheManagerCustomizer;
 import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
@@ -21,20 +31,33 @@ public class CacheConfiguration {
 
     private GitProperties gitProperties;
     private BuildProperties buildProperties;
-    private final javax.cache.configuration.Configuration<Object, Object> jcacheConfiguration;
+    private final Region defaultRegion;
+    private final Region approximateCountRegion;
+    private final Region loginRateLimitRegion;
+    private final Map<String, Region> regions;
 
-    public CacheConfiguration(JHipsterProperties jHipsterProperties) {
+    public CacheConfiguration(JHipsterProperties jHipsterProperties, ApplicationProperties applicationProperties) {
         JHipsterProperties.Cache.Ehcache ehcache = jHipsterProperties.getCache().getEhcache();
 
-        jcacheConfiguration = Eh107Configuration.fromEhcacheCacheConfiguration(
-            CacheConfigurationBuilder.newCacheConfigurationBuilder(
-                Object.class,
-                Object.class,
-                ResourcePoolsBuilder.heap(ehcache.getMaxEntries())
-            )
-                .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(Duration.ofSeconds(ehcache.getTimeToLiveSeconds())))
-                .build()
+        defaultRegion = new Region();
+        defaultRegion.setHeapEntries(ehcache.getMaxEntries());
+        defaultRegion.setTimeToLive(Duration.ofSeconds(ehcache.getTimeToLiveSeconds()));
+
+        approximateCountRegion = new Region();
+        approximateCountRegion.setHeapEntries(ehcache.getMaxEntries());
+        approximateCountRegion.setTimeToLive(
+            Duration.ofSeconds(applicationProperties.getPagination().getApproximateCountTimeToLiveSeconds())
+        );
+
+        // a bucket is full again at most one period after its last attempt, and a full bucket is the same as none
+        ApplicationProperties.Security.LoginRateLimit loginRateLimit = applicationProperties.getSecurity().getLoginRateLimit();
+        loginRateLimitRegion = new Region();
+        loginRateLimitRegion.setHeapEntries((long) loginRateLimit.getMaximumKeys());
+        loginRateLimitRegion.setTimeToLive(
+            Collections.max(List.of(loginRateLimit.getPerLogin().getPeriod(), loginRateLimit.getPerIp().getPeriod()))
         );
+
+        regions = applicationProperties.getCache().getRegions();
     }
 
     @Bean
@@ -42,9 +65,36 @@ public class CacheConfiguration {
         return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
     }
 
+    /**
+     * Statistics of every cache region, published to Micrometer.
+     */
+    @Bean
+    public CacheRegionMetrics cacheRegionMetrics() {
+        return new CacheRegionMetrics();
+    }
+
+    /**
+     * The JCache cache manager, created here instead of by Spring Boot so that its Ehcache configuration holds the
+     * {@link CacheRegionMetrics#tierStatistics() tier statistics} of the regions. The customizers are applied the same way.
+     */
+    @Bean
+    public javax.cache.CacheManager jCacheCacheManager(ObjectProvider<JCacheManagerCustomizer> cacheManagerCustomizers) {
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        javax.cache.CacheManager cacheManager = provider.getCacheManager(
+            provider.getDefaultURI(),
+            ConfigurationBuilder.newConfigurationBuilder()
+                .withClassLoader(provider.getDefaultClassLoader())
+                .withService(CacheRegionMetrics.tierStatistics())
+                .build()
+        );
+        cacheManagerCustomizers.orderedStream().forEach(customizer -> customizer.customize(cacheManager));
+        return cacheManager;
+    }
+
     @Bean
-    public JCacheManagerCustomizer cacheManagerCustomizer() {
+    public JCacheManagerCustomizer cacheManagerCustomizer(CacheRegionMetrics cacheRegionMetrics) {
         return cm -> {
+            cacheRegionMetrics.monitor(cm);
             createCache(cm, com.crat.budget.repository.UserRepository.USERS_BY_LOGIN_CACHE);
             createCache(cm, com.crat.budget.repository.UserRepository.USERS_BY_EMAIL_CACHE);
             createCache(cm, com.crat.budget.domain.User.class.getName());
@@ -77,17 +127,71 @@ public class CacheConfiguration {
             createCache(cm, com.crat.budget.domain.Engagement.class.getName());
             createCache(cm, com.crat.budget.domain.Engagement.class.getName() + ".purchaseOrders");
             createCache(cm, com.crat.budget.domain.Mandate.class.getName());
+            createCache(cm, com.crat.budget.service.AppUserQueryService.APPROXIMATE_COUNT_CACHE, approximateCountRegion);
+            createCache(cm, com.crat.budget.service.FinancialYearQueryService.APPROXIMATE_COUNT_CACHE, approximateCountRegion);
+            createCache(cm, com.crat.budget.service.SubTitleQueryService.APPROXIMATE_COUNT_CACHE, approximateCountRegion);
+            createCache(cm, com.crat.budget.service.ChapterQueryService.APPROXIMATE_COUNT_CACHE, approximateCountRegion);
+            createCache(cm, com.crat.budget.service.ArticleQueryService.APPROXIMATE_COUNT_CACHE, approximateCountRegion);
+            createCache(cm, com.crat.budget.service.RecipeQueryService.APPROXIMATE_COUNT_CACHE, approximateCountRegion);
+            createCache(cm, com.crat.budget.service.ExpenseQueryService.APPROXIMATE_COUNT_CACHE, approximateCountRegion);
+            createCache(cm, com.crat.budget.service.AnnexDecisionQueryService.APPROXIMATE_COUNT_CACHE, approximateCountRegion);
+            createCache(cm, com.crat.budget.service.SupplierQueryService.APPROXIMATE_COUNT_CACHE, approximateCountRegion);
+            createCache(cm, com.crat.budget.service.PurchaseOrderQueryService.APPROXIMATE_COUNT_CACHE, approximateCountRegion);
+            createCache(cm, com.crat.budget.service.PurchaseOrderItemQueryService.APPROXIMATE_COUNT_CACHE, approximateCountRegion);
+            createCache(cm, com.crat.budget.service.DecisionQueryService.APPROXIMATE_COUNT_CACHE, approximateCountRegion);
+            createCache(cm, com.crat.budget.service.DecisionItemQueryService.APPROXIMATE_COUNT_CACHE, approximateCountRegion);
+            createCache(cm, com.crat.budget.service.EngagementQueryService.APPROXIMATE_COUNT_CACHE, approximateCountRegion);
+            createCache(cm, com.crat.budget.service.MandateQueryService.APPROXIMATE_COUNT_CACHE, approximateCountRegion);
+            createCache(cm, com.crat.budget.service.BudgetExecutionRollupService.BUDGET_EXECUTION_ROLLUP_CACHE);
+            createCache(cm, com.crat.budget.security.JCacheRateLimitStore.CACHE_NAME, loginRateLimitRegion);
             // jhipster-needle-ehcache-add-entry
         };
     }
 
     private void createCache(javax.cache.CacheManager cm, String cacheName) {
+        createCache(cm, cacheName, defaultRegion);
+    }
+
+    private void createCache(javax.cache.CacheManager cm, String cacheName, Region defaults) {
         javax.cache.Cache<Object, Object> cache = cm.getCache(cacheName);
         if (cache != null) {
             cache.clear();
         } else {
-            cm.createCache(cacheName, jcacheConfiguration);
+            cm.createCache(cacheName, cacheConfiguration(cacheName, defaults));
+        }
+    }
+
+    /**
+     * Build the configuration of a region: its {@code application.cache.regions} settings, completed by the defaults.
+     * <p>
+     * The off-heap tier holds the entries serialized with the default Ehcache serializer for {@code Object}, that is Java
+     * serialization: the second-level cache stores the disassembled state of the entities and collections, made of ids,
+     * basic values and Hibernate's cache entry classes, all {@link java.io.Serializable}, and never the entity instances
+     * themselves. Each off-heap hit is deserialized again, so the tier only backs the large transactional regions, whose
+     * entries would otherwise be read from the database.
+     */
+    javax.cache.configuration.Configuration<Object, Object> cacheConfiguration(String cacheName, Region defaults) {
+        Region region = regions.getOrDefault(cacheName, defaults);
+        long heapEntries = region.getHeapEntries() != null ? region.getHeapEntries() : defaults.getHeapEntries();
+        ResourcePoolsBuilder resourcePools = ResourcePoolsBuilder.heap(heapEntries);
+        if (region.getOffHeapSize() != null) {
+            resourcePools = resourcePools.offheap(Math.max(1, region.getOffHeapSize().toMegabytes()), MemoryUnit.MB);
+        }
+        return Eh107Configuration.fromEhcacheCacheConfiguration(
+            CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class, resourcePools)
+                .withExpiry(expiryPolicy(region, defaults))
+                .build()
+        );
+    }
+
+    private static ExpiryPolicy<Object, Object> expiryPolicy(Region region, Region defaults) {
+        if (region.isEternal()) {
+            return ExpiryPolicyBuilder.noExpiration();
+        }
+        if (region.getTimeToIdle() != null) {
+            return ExpiryPolicyBuilder.timeToIdleExpiration(region.getTimeToIdle());
         }
+        return ExpiryPolicyBuilder.timeToLiveExpiration(region.getTimeToLive() != null ? region.getTimeToLive() : defaults.getTimeToLive());
     }
 
     @Autowired(required = false)
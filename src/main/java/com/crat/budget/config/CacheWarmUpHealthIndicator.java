@@ -0,0 +1,31 @@
+package com.crat.budget.config;
+
+import com.crat.budget.service.CacheWarmUpService;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Health of the cache warm-up, part of the readiness group: out of service while the reference data is preloaded, so
+ * that no traffic is routed to an instance with a cold second-level cache. A failed warm-up does not hold the instance
+ * back, the regions are then filled on demand.
+ */
+@Component
+public class CacheWarmUpHealthIndicator implements HealthIndicator {
+
+    private final CacheWarmUpService cacheWarmUpService;
+
+    public CacheWarmUpHealthIndicator(CacheWarmUpService cacheWarmUpService) {
+        this.cacheWarmUpService = cacheWarmUpService;
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder builder = cacheWarmUpService.isRunning() ? Health.outOfService() : Health.up();
+        return builder
+            .withDetail("state", cacheWarmUpService.getState())
+            .withDetail("loadedEntries", cacheWarmUpService.getLoadedEntries())
+            .withDetail("totalEntries", cacheWarmUpService.getTotalEntries())
+            .build();
+    }
+}
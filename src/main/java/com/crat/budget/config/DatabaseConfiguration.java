@@ -1,8 +1,16 @@
 package com.crat.budget.config;
 
+import com.crat.budget.management.HibernateStatisticsMetrics;
+import com.crat.budget.management.InstrumentedDataSource;
+import com.crat.budget.management.SlowQueryLog;
+import jakarta.persistence.EntityManagerFactory;
 import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.hibernate.SessionFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.h2.H2ConsoleProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -31,6 +39,41 @@ public class DatabaseConfiguration {
         this.env = env;
     }
 
+    /**
+     * Wrap the data source, to count the statements and rows of the API requests and to log the slow queries.
+     *
+     * @param env the environment, for {@code application.query-statistics.enabled}.
+     * @param slowQueryLog the log of the slow queries, if enabled.
+     * @return the post processor of the data source.
+     */
+    @Bean
+    public static BeanPostProcessor instrumentedDataSourcePostProcessor(Environment env, ObjectProvider<SlowQueryLog> slowQueryLog) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof InstrumentedDataSource) {
+                    return bean;
+                }
+                SlowQueryLog log = slowQueryLog.getIfAvailable();
+                if (log == null && !env.getProperty("application.query-statistics.enabled", Boolean.class, true)) {
+                    return bean;
+                }
+                return new InstrumentedDataSource(dataSource, log);
+            }
+        };
+    }
+
+    /**
+     * Publish the Hibernate statistics to Micrometer, whether they are collected or not.
+     *
+     * @param entityManagerFactory the entity manager factory, for its statistics.
+     * @return the binder of the Hibernate statistics meters.
+     */
+    @Bean
+    public HibernateStatisticsMetrics hibernateStatisticsMetrics(EntityManagerFactory entityManagerFactory) {
+        return new HibernateStatisticsMetrics(entityManagerFactory.unwrap(SessionFactory.class).getStatistics());
+    }
+
     /**
      * Open the TCP port for the H2 database, so it is available remotely.
      *
@@ -1,17 +1,35 @@
 package com.crat.budget.config;
 
+import com.crat.budget.aop.logging.LoggingAdvisor;
 import com.crat.budget.aop.logging.LoggingAspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.*;
 import org.springframework.core.env.Environment;
-import tech.jhipster.config.JHipsterConstants;
 
+/**
+ * Logging of the repositories, services and REST controllers, depending on {@code application.logging.aspect-mode}.
+ */
 @Configuration
 @EnableAspectJAutoProxy
 public class LoggingAspectConfiguration {
 
+    private static final String ASPECT_MODE_PROPERTY = "application.logging.aspect-mode";
+
     @Bean
-    @Profile(JHipsterConstants.SPRING_PROFILE_DEVELOPMENT)
+    @ConditionalOnProperty(name = ASPECT_MODE_PROPERTY, havingValue = "always")
     public LoggingAspect loggingAspect(Environment env) {
         return new LoggingAspect(env);
     }
+
+    @Bean
+    @ConditionalOnProperty(name = ASPECT_MODE_PROPERTY, havingValue = "debug")
+    public LoggingAdvisor debugLoggingAdvisor() {
+        return LoggingAdvisor.debugEnabled();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = ASPECT_MODE_PROPERTY, havingValue = "sampled")
+    public LoggingAdvisor sampledLoggingAdvisor() {
+        return LoggingAdvisor.sampled();
+    }
 }
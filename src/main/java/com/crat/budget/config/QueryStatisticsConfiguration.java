@@ -0,0 +1,46 @@
+package com.crat.budget.config;
+
+import com.crat.budget.management.QueryStatisticsInterceptor;
+import com.crat.budget.management.QueryStatisticsListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.jpa.boot.spi.JpaSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Count the database work of each API request, see {@link QueryStatisticsInterceptor}. The statements and rows are
+ * counted by the data source, wrapped in {@link DatabaseConfiguration}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "application.query-statistics.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryStatisticsConfiguration implements WebMvcConfigurer {
+
+    private final MeterRegistry meterRegistry;
+
+    public QueryStatisticsConfiguration(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new QueryStatisticsInterceptor(meterRegistry)).addPathPatterns("/api/**");
+    }
+
+    /**
+     * Register the Hibernate listener, to count the entity loads and cache lookups.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer queryStatisticsHibernatePropertiesCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, QueryStatisticsListener.class.getName());
+            properties.put(JpaSettings.INTEGRATOR_PROVIDER, (IntegratorProvider) () -> List.of(new QueryStatisticsListener()));
+        };
+    }
+}
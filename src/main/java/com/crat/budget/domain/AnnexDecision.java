@@ -3,6 +3,7 @@ package com.crat.budget.domain;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import java.io.Serializable;
+import java.math.BigDecimal;
 import java.util.HashSet;
 import java.util.Set;
 import org.hibernate.annotations.Cache;
@@ -20,22 +21,22 @@ public class AnnexDecision implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
-    @SequenceGenerator(name = "sequenceGenerator")
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "annexDecisionSequenceGenerator")
+    @SequenceGenerator(name = "annexDecisionSequenceGenerator", sequenceName = "annex_decision_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
     @Column(name = "designation")
     private String designation;
 
-    @Column(name = "expense_amount")
-    private String expenseAmount;
+    @Column(name = "expense_amount", precision = 21, scale = 2)
+    private BigDecimal expenseAmount;
 
-    @Column(name = "credits_already_open")
-    private String creditsAlreadyOpen;
+    @Column(name = "credits_already_open", precision = 21, scale = 2)
+    private BigDecimal creditsAlreadyOpen;
 
-    @Column(name = "credits_open")
-    private String creditsOpen;
+    @Column(name = "credits_open", precision = 21, scale = 2)
+    private BigDecimal creditsOpen;
 
     @JsonIgnoreProperties(value = { "recipe", "expense", "annexDecision" }, allowSetters = true)
     @OneToOne(fetch = FetchType.LAZY)
@@ -84,42 +85,42 @@ public class AnnexDecision implements Serializable {
         this.designation = designation;
     }
 
-    public String getExpenseAmount() {
+    public BigDecimal getExpenseAmount() {
         return this.expenseAmount;
     }
 
-    public AnnexDecision expenseAmount(String expenseAmount) {
+    public AnnexDecision expenseAmount(BigDecimal expenseAmount) {
         this.setExpenseAmount(expenseAmount);
         return this;
     }
 
-    public void setExpenseAmount(String expenseAmount) {
+    public void setExpenseAmount(BigDecimal expenseAmount) {
         this.expenseAmount = expenseAmount;
     }
 
-    public String getCreditsAlreadyOpen() {
+    public BigDecimal getCreditsAlreadyOpen() {
         return this.creditsAlreadyOpen;
     }
 
-    public AnnexDecision creditsAlreadyOpen(String creditsAlreadyOpen) {
+    public AnnexDecision creditsAlreadyOpen(BigDecimal creditsAlreadyOpen) {
         this.setCreditsAlreadyOpen(creditsAlreadyOpen);
         return this;
     }
 
-    public void setCreditsAlreadyOpen(String creditsAlreadyOpen) {
+    public void setCreditsAlreadyOpen(BigDecimal creditsAlreadyOpen) {
         this.creditsAlreadyOpen = creditsAlreadyOpen;
     }
 
-    public String getCreditsOpen() {
+    public BigDecimal getCreditsOpen() {
         return this.creditsOpen;
     }
 
-    public AnnexDecision creditsOpen(String creditsOpen) {
+    public AnnexDecision creditsOpen(BigDecimal creditsOpen) {
         this.setCreditsOpen(creditsOpen);
         return this;
     }
 
-    public void setCreditsOpen(String creditsOpen) {
+    public void setCreditsOpen(BigDecimal creditsOpen) {
         this.creditsOpen = creditsOpen;
     }
 
@@ -242,9 +243,9 @@ public class AnnexDecision implements Serializable {
         return "AnnexDecision{" +
             "id=" + getId() +
             ", designation='" + getDesignation() + "'" +
-            ", expenseAmount='" + getExpenseAmount() + "'" +
-            ", creditsAlreadyOpen='" + getCreditsAlreadyOpen() + "'" +
-            ", creditsOpen='" + getCreditsOpen() + "'" +
+            ", expenseAmount=" + getExpenseAmount() +
+            ", creditsAlreadyOpen=" + getCreditsAlreadyOpen() +
+            ", creditsOpen=" + getCreditsOpen() +
             "}";
     }
 }
@@ -20,8 +20,8 @@ public class AppUser implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
-    @SequenceGenerator(name = "sequenceGenerator")
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "appUserSequenceGenerator")
+    @SequenceGenerator(name = "appUserSequenceGenerator", sequenceName = "app_user_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -22,8 +22,8 @@ public class Article implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
-    @SequenceGenerator(name = "sequenceGenerator")
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "articleSequenceGenerator")
+    @SequenceGenerator(name = "articleSequenceGenerator", sequenceName = "article_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
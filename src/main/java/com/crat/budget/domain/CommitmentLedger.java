@@ -0,0 +1,109 @@
+package com.crat.budget.domain;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+/**
+ * The running totals of the {@link PurchaseOrder}s committed on an {@link AnnexDecision}.
+ * <p>
+ * The totals are only changed by deltas, applied by atomic update statements which lock the row until the end of the
+ * transaction, see {@link com.crat.budget.service.CommitmentLedgerService}: the entity is never updated through the
+ * persistence context, nor cached.
+ */
+@Entity
+@Table(name = "commitment_ledger")
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class CommitmentLedger implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @Column(name = "annex_decision_id")
+    private Long annexDecisionId;
+
+    @Column(name = "committed_amount", precision = 21, scale = 2, nullable = false)
+    private BigDecimal committedAmount;
+
+    @Column(name = "purchase_order_count", nullable = false)
+    private Long purchaseOrderCount;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    public Long getAnnexDecisionId() {
+        return this.annexDecisionId;
+    }
+
+    public CommitmentLedger annexDecisionId(Long annexDecisionId) {
+        this.setAnnexDecisionId(annexDecisionId);
+        return this;
+    }
+
+    public void setAnnexDecisionId(Long annexDecisionId) {
+        this.annexDecisionId = annexDecisionId;
+    }
+
+    public BigDecimal getCommittedAmount() {
+        return this.committedAmount;
+    }
+
+    public CommitmentLedger committedAmount(BigDecimal committedAmount) {
+        this.setCommittedAmount(committedAmount);
+        return this;
+    }
+
+    public void setCommittedAmount(BigDecimal committedAmount) {
+        this.committedAmount = committedAmount;
+    }
+
+    public Long getPurchaseOrderCount() {
+        return this.purchaseOrderCount;
+    }
+
+    public CommitmentLedger purchaseOrderCount(Long purchaseOrderCount) {
+        this.setPurchaseOrderCount(purchaseOrderCount);
+        return this;
+    }
+
+    public void setPurchaseOrderCount(Long purchaseOrderCount) {
+        this.purchaseOrderCount = purchaseOrderCount;
+    }
+
+    public Long getVersion() {
+        return this.version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CommitmentLedger)) {
+            return false;
+        }
+        return getAnnexDecisionId() != null && getAnnexDecisionId().equals(((CommitmentLedger) o).getAnnexDecisionId());
+    }
+
+    @Override
+    public int hashCode() {
+        // see https://vladmihalcea.com/how-to-implement-equals-and-hashcode-using-the-jpa-entity-identifier/
+        return getClass().hashCode();
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "CommitmentLedger{" +
+            "annexDecisionId=" + getAnnexDecisionId() +
+            ", committedAmount=" + getCommittedAmount() +
+            ", purchaseOrderCount=" + getPurchaseOrderCount() +
+            ", version=" + getVersion() +
+            "}";
+    }
+}
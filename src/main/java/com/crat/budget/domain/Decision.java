@@ -22,8 +22,8 @@ public class Decision implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
-    @SequenceGenerator(name = "sequenceGenerator")
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "decisionSequenceGenerator")
+    @SequenceGenerator(name = "decisionSequenceGenerator", sequenceName = "decision_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -35,6 +35,9 @@ public class Decision implements Serializable {
     @Column(name = "decision_date", nullable = false)
     private Instant decisionDate;
 
+    @Column(name = "financial_year_id")
+    private Long financialYearId;
+
     @JsonIgnoreProperties(value = { "decision", "mandate", "purchaseOrders" }, allowSetters = true)
     @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(unique = true)
@@ -90,6 +93,19 @@ public class Decision implements Serializable {
         this.decisionDate = decisionDate;
     }
 
+    public Long getFinancialYearId() {
+        return this.financialYearId;
+    }
+
+    public Decision financialYearId(Long financialYearId) {
+        this.setFinancialYearId(financialYearId);
+        return this;
+    }
+
+    public void setFinancialYearId(Long financialYearId) {
+        this.financialYearId = financialYearId;
+    }
+
     public Engagement getEngagement() {
         return this.engagement;
     }
@@ -173,6 +189,7 @@ public class Decision implements Serializable {
             "id=" + getId() +
             ", decisionNumber='" + getDecisionNumber() + "'" +
             ", decisionDate='" + getDecisionDate() + "'" +
+            ", financialYearId=" + getFinancialYearId() +
             "}";
     }
 }
@@ -20,8 +20,8 @@ public class DecisionItem implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
-    @SequenceGenerator(name = "sequenceGenerator")
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "decisionItemSequenceGenerator")
+    @SequenceGenerator(name = "decisionItemSequenceGenerator", sequenceName = "decision_item_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -35,6 +35,9 @@ public class DecisionItem implements Serializable {
     @Column(name = "observation", precision = 21, scale = 2)
     private BigDecimal observation;
 
+    @Column(name = "financial_year_id")
+    private Long financialYearId;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JsonIgnoreProperties(value = { "engagement", "annexDecision", "decisionItems" }, allowSetters = true)
     private Decision decision;
@@ -93,6 +96,19 @@ public class DecisionItem implements Serializable {
         this.observation = observation;
     }
 
+    public Long getFinancialYearId() {
+        return this.financialYearId;
+    }
+
+    public DecisionItem financialYearId(Long financialYearId) {
+        this.setFinancialYearId(financialYearId);
+        return this;
+    }
+
+    public void setFinancialYearId(Long financialYearId) {
+        this.financialYearId = financialYearId;
+    }
+
     public Decision getDecision() {
         return this.decision;
     }
@@ -133,6 +149,7 @@ public class DecisionItem implements Serializable {
             ", beneficiary='" + getBeneficiary() + "'" +
             ", amount=" + getAmount() +
             ", observation=" + getObservation() +
+            ", financialYearId=" + getFinancialYearId() +
             "}";
     }
 }
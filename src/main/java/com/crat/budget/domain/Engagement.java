@@ -4,11 +4,14 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import java.io.Serializable;
+import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.HashSet;
 import java.util.Set;
 import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Generated;
+import org.hibernate.generator.EventType;
 
 /**
  * A Engagement.
@@ -22,8 +25,8 @@ public class Engagement implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
-    @SequenceGenerator(name = "sequenceGenerator")
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "engagementSequenceGenerator")
+    @SequenceGenerator(name = "engagementSequenceGenerator", sequenceName = "engagement_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -38,17 +41,21 @@ public class Engagement implements Serializable {
     @Column(name = "object_of_expense")
     private String objectOfExpense;
 
-    @Column(name = "notified_credits")
-    private String notifiedCredits;
+    @Column(name = "notified_credits", precision = 21, scale = 2)
+    private BigDecimal notifiedCredits;
 
-    @Column(name = "credit_committed")
-    private String creditCommitted;
+    @Column(name = "credit_committed", precision = 21, scale = 2)
+    private BigDecimal creditCommitted;
 
-    @Column(name = "credits_available")
-    private String creditsAvailable;
+    /**
+     * The notified credits not committed yet, computed and indexed by the database: set by the inserts and updates.
+     */
+    @Generated(event = { EventType.INSERT, EventType.UPDATE })
+    @Column(name = "credits_available", precision = 21, scale = 2, insertable = false, updatable = false)
+    private BigDecimal creditsAvailable;
 
-    @Column(name = "amount_proposed_commitment")
-    private String amountProposedCommitment;
+    @Column(name = "amount_proposed_commitment", precision = 21, scale = 2)
+    private BigDecimal amountProposedCommitment;
 
     @Column(name = "head_daf")
     private String headDaf;
@@ -59,6 +66,9 @@ public class Engagement implements Serializable {
     @Column(name = "general_manager")
     private String generalManager;
 
+    @Column(name = "financial_year_id")
+    private Long financialYearId;
+
     @JsonIgnoreProperties(value = { "engagement", "annexDecision", "decisionItems" }, allowSetters = true)
     @OneToOne(fetch = FetchType.LAZY, mappedBy = "engagement")
     private Decision decision;
@@ -126,55 +136,55 @@ public class Engagement implements Serializable {
         this.objectOfExpense = objectOfExpense;
     }
 
-    public String getNotifiedCredits() {
+    public BigDecimal getNotifiedCredits() {
         return this.notifiedCredits;
     }
 
-    public Engagement notifiedCredits(String notifiedCredits) {
+    public Engagement notifiedCredits(BigDecimal notifiedCredits) {
         this.setNotifiedCredits(notifiedCredits);
         return this;
     }
 
-    public void setNotifiedCredits(String notifiedCredits) {
+    public void setNotifiedCredits(BigDecimal notifiedCredits) {
         this.notifiedCredits = notifiedCredits;
     }
 
-    public String getCreditCommitted() {
+    public BigDecimal getCreditCommitted() {
         return this.creditCommitted;
     }
 
-    public Engagement creditCommitted(String creditCommitted) {
+    public Engagement creditCommitted(BigDecimal creditCommitted) {
         this.setCreditCommitted(creditCommitted);
         return this;
     }
 
-    public void setCreditCommitted(String creditCommitted) {
+    public void setCreditCommitted(BigDecimal creditCommitted) {
         this.creditCommitted = creditCommitted;
     }
 
-    public String getCreditsAvailable() {
+    public BigDecimal getCreditsAvailable() {
         return this.creditsAvailable;
     }
 
-    public Engagement creditsAvailable(String creditsAvailable) {
+    public Engagement creditsAvailable(BigDecimal creditsAvailable) {
         this.setCreditsAvailable(creditsAvailable);
         return this;
     }
 
-    public void setCreditsAvailable(String creditsAvailable) {
+    public void setCreditsAvailable(BigDecimal creditsAvailable) {
         this.creditsAvailable = creditsAvailable;
     }
 
-    public String getAmountProposedCommitment() {
+    public BigDecimal getAmountProposedCommitment() {
         return this.amountProposedCommitment;
     }
 
-    public Engagement amountProposedCommitment(String amountProposedCommitment) {
+    public Engagement amountProposedCommitment(BigDecimal amountProposedCommitment) {
         this.setAmountProposedCommitment(amountProposedCommitment);
         return this;
     }
 
-    public void setAmountProposedCommitment(String amountProposedCommitment) {
+    public void setAmountProposedCommitment(BigDecimal amountProposedCommitment) {
         this.amountProposedCommitment = amountProposedCommitment;
     }
 
@@ -217,6 +227,19 @@ public class Engagement implements Serializable {
         this.generalManager = generalManager;
     }
 
+    public Long getFinancialYearId() {
+        return this.financialYearId;
+    }
+
+    public Engagement financialYearId(Long financialYearId) {
+        this.setFinancialYearId(financialYearId);
+        return this;
+    }
+
+    public void setFinancialYearId(Long financialYearId) {
+        this.financialYearId = financialYearId;
+    }
+
     public Decision getDecision() {
         return this.decision;
     }
@@ -313,13 +336,14 @@ public class Engagement implements Serializable {
             ", engagementNumber='" + getEngagementNumber() + "'" +
             ", engagementDate='" + getEngagementDate() + "'" +
             ", objectOfExpense='" + getObjectOfExpense() + "'" +
-            ", notifiedCredits='" + getNotifiedCredits() + "'" +
-            ", creditCommitted='" + getCreditCommitted() + "'" +
-            ", creditsAvailable='" + getCreditsAvailable() + "'" +
-            ", amountProposedCommitment='" + getAmountProposedCommitment() + "'" +
+            ", notifiedCredits=" + getNotifiedCredits() +
+            ", creditCommitted=" + getCreditCommitted() +
+            ", creditsAvailable=" + getCreditsAvailable() +
+            ", amountProposedCommitment=" + getAmountProposedCommitment() +
             ", headDaf='" + getHeadDaf() + "'" +
             ", financialController='" + getFinancialController() + "'" +
             ", generalManager='" + getGeneralManager() + "'" +
+            ", financialYearId=" + getFinancialYearId() +
             "}";
     }
 }
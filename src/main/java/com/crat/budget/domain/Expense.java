@@ -21,8 +21,8 @@ public class Expense implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
-    @SequenceGenerator(name = "sequenceGenerator")
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "expenseSequenceGenerator")
+    @SequenceGenerator(name = "expenseSequenceGenerator", sequenceName = "expense_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -19,8 +19,8 @@ public class FinancialYear implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
-    @SequenceGenerator(name = "sequenceGenerator")
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "financialYearSequenceGenerator")
+    @SequenceGenerator(name = "financialYearSequenceGenerator", sequenceName = "financial_year_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
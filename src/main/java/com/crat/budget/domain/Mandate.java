@@ -20,8 +20,8 @@ public class Mandate implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
-    @SequenceGenerator(name = "sequenceGenerator")
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "mandateSequenceGenerator")
+    @SequenceGenerator(name = "mandateSequenceGenerator", sequenceName = "mandate_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -42,6 +42,9 @@ public class Mandate implements Serializable {
     @Column(name = "supporting_documents")
     private String supportingDocuments;
 
+    @Column(name = "financial_year_id")
+    private Long financialYearId;
+
     @JsonIgnoreProperties(value = { "decision", "mandate", "purchaseOrders" }, allowSetters = true)
     @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(unique = true)
@@ -127,6 +130,19 @@ public class Mandate implements Serializable {
         this.supportingDocuments = supportingDocuments;
     }
 
+    public Long getFinancialYearId() {
+        return this.financialYearId;
+    }
+
+    public Mandate financialYearId(Long financialYearId) {
+        this.setFinancialYearId(financialYearId);
+        return this;
+    }
+
+    public void setFinancialYearId(Long financialYearId) {
+        this.financialYearId = financialYearId;
+    }
+
     public Engagement getEngagement() {
         return this.engagement;
     }
@@ -169,6 +185,7 @@ public class Mandate implements Serializable {
             ", issueSlipNumber='" + getIssueSlipNumber() + "'" +
             ", monthAndYearOfIssue='" + getMonthAndYearOfIssue() + "'" +
             ", supportingDocuments='" + getSupportingDocuments() + "'" +
+            ", financialYearId=" + getFinancialYearId() +
             "}";
     }
 }
@@ -23,8 +23,8 @@ public class PurchaseOrder implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
-    @SequenceGenerator(name = "sequenceGenerator")
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "purchaseOrderSequenceGenerator")
+    @SequenceGenerator(name = "purchaseOrderSequenceGenerator", sequenceName = "purchase_order_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -67,6 +67,9 @@ public class PurchaseOrder implements Serializable {
     @Column(name = "available_balance", precision = 21, scale = 2)
     private BigDecimal availableBalance;
 
+    @Column(name = "financial_year_id")
+    private Long financialYearId;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JsonIgnoreProperties(value = { "financialYear", "expense", "purchaseOrders", "decisions" }, allowSetters = true)
     private AnnexDecision annexDecision;
@@ -255,6 +258,19 @@ public class PurchaseOrder implements Serializable {
         this.availableBalance = availableBalance;
     }
 
+    public Long getFinancialYearId() {
+        return this.financialYearId;
+    }
+
+    public PurchaseOrder financialYearId(Long financialYearId) {
+        this.setFinancialYearId(financialYearId);
+        return this;
+    }
+
+    public void setFinancialYearId(Long financialYearId) {
+        this.financialYearId = financialYearId;
+    }
+
     public AnnexDecision getAnnexDecision() {
         return this.annexDecision;
     }
@@ -361,6 +377,7 @@ public class PurchaseOrder implements Serializable {
             ", allocatedCredits=" + getAllocatedCredits() +
             ", committedExpenditures=" + getCommittedExpenditures() +
             ", availableBalance=" + getAvailableBalance() +
+            ", financialYearId=" + getFinancialYearId() +
             "}";
     }
 }
@@ -20,8 +20,8 @@ public class PurchaseOrderItem implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
-    @SequenceGenerator(name = "sequenceGenerator")
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "purchaseOrderItemSequenceGenerator")
+    @SequenceGenerator(name = "purchaseOrderItemSequenceGenerator", sequenceName = "purchase_order_item_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -41,6 +41,9 @@ public class PurchaseOrderItem implements Serializable {
     @Column(name = "total_amount", precision = 21, scale = 2, nullable = false)
     private BigDecimal totalAmount;
 
+    @Column(name = "financial_year_id")
+    private Long financialYearId;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JsonIgnoreProperties(value = { "annexDecision", "supplier", "engagement", "purchaseOrderItems" }, allowSetters = true)
     private PurchaseOrder purchaseOrder;
@@ -112,6 +115,19 @@ public class PurchaseOrderItem implements Serializable {
         this.totalAmount = totalAmount;
     }
 
+    public Long getFinancialYearId() {
+        return this.financialYearId;
+    }
+
+    public PurchaseOrderItem financialYearId(Long financialYearId) {
+        this.setFinancialYearId(financialYearId);
+        return this;
+    }
+
+    public void setFinancialYearId(Long financialYearId) {
+        this.financialYearId = financialYearId;
+    }
+
     public PurchaseOrder getPurchaseOrder() {
         return this.purchaseOrder;
     }
@@ -153,6 +169,7 @@ public class PurchaseOrderItem implements Serializable {
             ", quantity=" + getQuantity() +
             ", unitPrice=" + getUnitPrice() +
             ", totalAmount=" + getTotalAmount() +
+            ", financialYearId=" + getFinancialYearId() +
             "}";
     }
 }
@@ -21,8 +21,8 @@ public class Recipe implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
-    @SequenceGenerator(name = "sequenceGenerator")
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "recipeSequenceGenerator")
+    @SequenceGenerator(name = "recipeSequenceGenerator", sequenceName = "recipe_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
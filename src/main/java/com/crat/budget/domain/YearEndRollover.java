@@ -0,0 +1,201 @@
+package com.crat.budget.domain;
+
+import com.crat.budget.domain.enumeration.YearEndRolloverStep;
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * The checkpoint of the rollover opening a {@link FinancialYear} from the previous one.
+ * <p>
+ * The step and the article checkpoint only move forward, by update statements of
+ * {@link com.crat.budget.service.YearEndRolloverService}, each committed with the work it records: a rollover
+ * interrupted by a stop resumes from its checkpoint, and the work done after it is done again without effect. The
+ * instance of the application running the rollover holds its lease, until the lease expires.
+ */
+@Entity
+@Table(name = "year_end_rollover")
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class YearEndRollover implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @Column(name = "financial_year_id")
+    private Long financialYearId;
+
+    @Column(name = "previous_financial_year_id", nullable = false)
+    private Long previousFinancialYearId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "step", nullable = false)
+    private YearEndRolloverStep step;
+
+    @Column(name = "article_checkpoint")
+    private Long articleCheckpoint;
+
+    @Column(name = "relinked_articles", nullable = false)
+    private Long relinkedArticles;
+
+    @Column(name = "started_date", nullable = false)
+    private Instant startedDate;
+
+    @Column(name = "updated_date", nullable = false)
+    private Instant updatedDate;
+
+    @Column(name = "lease_owner")
+    private String leaseOwner;
+
+    @Column(name = "lease_expires_at")
+    private Instant leaseExpiresAt;
+
+    public Long getFinancialYearId() {
+        return this.financialYearId;
+    }
+
+    public YearEndRollover financialYearId(Long financialYearId) {
+        this.setFinancialYearId(financialYearId);
+        return this;
+    }
+
+    public void setFinancialYearId(Long financialYearId) {
+        this.financialYearId = financialYearId;
+    }
+
+    public Long getPreviousFinancialYearId() {
+        return this.previousFinancialYearId;
+    }
+
+    public YearEndRollover previousFinancialYearId(Long previousFinancialYearId) {
+        this.setPreviousFinancialYearId(previousFinancialYearId);
+        return this;
+    }
+
+    public void setPreviousFinancialYearId(Long previousFinancialYearId) {
+        this.previousFinancialYearId = previousFinancialYearId;
+    }
+
+    public YearEndRolloverStep getStep() {
+        return this.step;
+    }
+
+    public YearEndRollover step(YearEndRolloverStep step) {
+        this.setStep(step);
+        return this;
+    }
+
+    public void setStep(YearEndRolloverStep step) {
+        this.step = step;
+    }
+
+    public Long getArticleCheckpoint() {
+        return this.articleCheckpoint;
+    }
+
+    public YearEndRollover articleCheckpoint(Long articleCheckpoint) {
+        this.setArticleCheckpoint(articleCheckpoint);
+        return this;
+    }
+
+    public void setArticleCheckpoint(Long articleCheckpoint) {
+        this.articleCheckpoint = articleCheckpoint;
+    }
+
+    public Long getRelinkedArticles() {
+        return this.relinkedArticles;
+    }
+
+    public YearEndRollover relinkedArticles(Long relinkedArticles) {
+        this.setRelinkedArticles(relinkedArticles);
+        return this;
+    }
+
+    public void setRelinkedArticles(Long relinkedArticles) {
+        this.relinkedArticles = relinkedArticles;
+    }
+
+    public Instant getStartedDate() {
+        return this.startedDate;
+    }
+
+    public YearEndRollover startedDate(Instant startedDate) {
+        this.setStartedDate(startedDate);
+        return this;
+    }
+
+    public void setStartedDate(Instant startedDate) {
+        this.startedDate = startedDate;
+    }
+
+    public Instant getUpdatedDate() {
+        return this.updatedDate;
+    }
+
+    public YearEndRollover updatedDate(Instant updatedDate) {
+        this.setUpdatedDate(updatedDate);
+        return this;
+    }
+
+    public void setUpdatedDate(Instant updatedDate) {
+        this.updatedDate = updatedDate;
+    }
+
+    public String getLeaseOwner() {
+        return this.leaseOwner;
+    }
+
+    public YearEndRollover leaseOwner(String leaseOwner) {
+        this.setLeaseOwner(leaseOwner);
+        return this;
+    }
+
+    public void setLeaseOwner(String leaseOwner) {
+        this.leaseOwner = leaseOwner;
+    }
+
+    public Instant getLeaseExpiresAt() {
+        return this.leaseExpiresAt;
+    }
+
+    public YearEndRollover leaseExpiresAt(Instant leaseExpiresAt) {
+        this.setLeaseExpiresAt(leaseExpiresAt);
+        return this;
+    }
+
+    public void setLeaseExpiresAt(Instant leaseExpiresAt) {
+        this.leaseExpiresAt = leaseExpiresAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof YearEndRollover)) {
+            return false;
+        }
+        return getFinancialYearId() != null && getFinancialYearId().equals(((YearEndRollover) o).getFinancialYearId());
+    }
+
+    @Override
+    public int hashCode() {
+        // see https://vladmihalcea.com/how-to-implement-equals-and-hashcode-using-the-jpa-entity-identifier/
+        return getClass().hashCode();
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "YearEndRollover{" +
+            "financialYearId=" + getFinancialYearId() +
+            ", previousFinancialYearId=" + getPreviousFinancialYearId() +
+            ", step='" + getStep() + "'" +
+            ", articleCheckpoint=" + getArticleCheckpoint() +
+            ", relinkedArticles=" + getRelinkedArticles() +
+            ", startedDate='" + getStartedDate() + "'" +
+            ", updatedDate='" + getUpdatedDate() + "'" +
+            ", leaseOwner='" + getLeaseOwner() + "'" +
+            ", leaseExpiresAt='" + getLeaseExpiresAt() + "'" +
+            "}";
+    }
+}
@@ -0,0 +1,11 @@
+package com.crat.budget.domain.enumeration;
+
+/**
+ * The steps of a year-end rollover, in the order they run.
+ */
+public enum YearEndRolloverStep {
+    OPEN_YEAR,
+    RECIPE_ARTICLES,
+    EXPENSE_ARTICLES,
+    COMPLETED,
+}
@@ -0,0 +1,318 @@
+package com.crat.budget.management;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
+import javax.cache.management.CacheStatisticsMXBean;
+import javax.management.JMX;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import org.ehcache.core.spi.service.ServiceFactory;
+import org.ehcache.core.spi.service.StatisticsService;
+import org.ehcache.core.statistics.CacheStatistics;
+import org.ehcache.core.statistics.TierStatistics;
+import org.ehcache.spi.service.Service;
+import org.ehcache.spi.service.ServiceCreationConfiguration;
+import org.ehcache.spi.service.ServiceDependencies;
+import org.ehcache.spi.service.ServiceProvider;
+
+/**
+ * JCache and Ehcache statistics of every region of a JCache {@link javax.cache.CacheManager}, published to Micrometer.
+ * <p>
+ * The statistics of each region are enabled through {@link javax.cache.CacheManager#enableStatistics(String, boolean)}
+ * and read from its {@link CacheStatisticsMXBean}, registered by the provider in the platform MBean server. The JCache
+ * statistics only count operations: when the Ehcache configuration of the cache manager holds the
+ * {@link #tierStatistics()} service configuration, the expirations and the tier sizes are read from the Ehcache
+ * {@link StatisticsService} of the cache manager as well. The meters are tagged by region, the entity name or collection
+ * role for the second-level cache, and by region type:
+ * <ul>
+ *     <li>{@code cache.region.gets}, by {@code result} (hit or miss);</li>
+ *     <li>{@code cache.region.puts}, {@code cache.region.evictions} and {@code cache.region.removals};</li>
+ *     <li>{@code cache.region.expirations}, from the Ehcache statistics;</li>
+ *     <li>{@code cache.region.size}, the number of entries by {@code tier}, from the Ehcache statistics;</li>
+ *     <li>{@code cache.region.off-heap.size}, the bytes occupied in the off-heap tier, for the regions having one, from
+ *     the Ehcache statistics.</li>
+ * </ul>
+ * The regions measured are the ones the cache manager holds when the meters are bound, that is once the context, and so
+ * the second-level cache regions, are initialized.
+ */
+public class CacheRegionMetrics implements MeterBinder {
+
+    public static final String METER_NAME_PREFIX = "cache.region.";
+    public static final String REGION_DIMENSION = "region";
+    public static final String TYPE_DIMENSION = "type";
+    public static final String TIER_DIMENSION = "tier";
+    public static final String RESULT_DIMENSION = "result";
+
+    private static final String GETS_DESCRIPTION = "The number of region lookups, by result";
+
+    private static final String OFF_HEAP_TIER = "OffHeap";
+
+    private final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+
+    // the meters only hold their statistics weakly
+    private final Map<String, CacheStatisticsMXBean> boundRegions = new ConcurrentHashMap<>();
+
+    private volatile javax.cache.CacheManager cacheManager;
+
+    private volatile TierStatisticsConfiguration tierStatistics;
+
+    private volatile MeterRegistry registry;
+
+    /**
+     * The Ehcache service configuration giving access to the tier statistics of a cache manager, to add to its Ehcache
+     * configuration when it is created.
+     *
+     * @return a new service configuration, for one cache manager.
+     */
+    public static ServiceCreationConfiguration<?, ?> tierStatistics() {
+        return new TierStatisticsConfiguration();
+    }
+
+    /**
+     * Collect the statistics of the regions of a cache manager.
+     *
+     * @param cacheManager the monitored cache manager.
+     */
+    public void monitor(javax.cache.CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+        this.tierStatistics = cacheManager
+            .unwrap(org.ehcache.CacheManager.class)
+            .getRuntimeConfiguration()
+            .getServiceCreationConfigurations()
+            .stream()
+            .filter(TierStatisticsConfiguration.class::isInstance)
+            .map(TierStatisticsConfiguration.class::cast)
+            .findFirst()
+            .orElse(null);
+        MeterRegistry meterRegistry = registry;
+        if (meterRegistry != null) {
+            bindTo(meterRegistry);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        registry = meterRegistry;
+        javax.cache.CacheManager monitored = cacheManager;
+        if (monitored == null) {
+            return;
+        }
+        for (String cacheName : monitored.getCacheNames()) {
+            CacheStatisticsMXBean statistics = statistics(monitored, cacheName);
+            if (boundRegions.putIfAbsent(cacheName, statistics) == null) {
+                monitored.enableStatistics(cacheName, true);
+                bindTo(meterRegistry, cacheName, statistics);
+            }
+        }
+    }
+
+    private void bindTo(MeterRegistry meterRegistry, String cacheName, CacheStatisticsMXBean statistics) {
+        Tags tags = Tags.of(REGION_DIMENSION, cacheName, TYPE_DIMENSION, regionType(cacheName));
+        counter(
+            meterRegistry,
+            "gets",
+            GETS_DESCRIPTION,
+            tags.and(RESULT_DIMENSION, "hit"),
+            statistics,
+            CacheStatisticsMXBean::getCacheHits
+        );
+        counter(
+            meterRegistry,
+            "gets",
+            GETS_DESCRIPTION,
+            tags.and(RESULT_DIMENSION, "miss"),
+            statistics,
+            CacheStatisticsMXBean::getCacheMisses
+        );
+        counter(meterRegistry, "puts", "The number of entries added to a region", tags, statistics, CacheStatisticsMXBean::getCachePuts);
+        counter(
+            meterRegistry,
+            "evictions",
+            "The number of entries evicted from a region when it is full",
+            tags,
+            statistics,
+            CacheStatisticsMXBean::getCacheEvictions
+        );
+        counter(
+            meterRegistry,
+            "removals",
+            "The number of entries removed from a region",
+            tags,
+            statistics,
+            CacheStatisticsMXBean::getCacheRemovals
+        );
+        TierStatisticsConfiguration monitoredTiers = tierStatistics;
+        CacheStatistics cacheStatistics = monitoredTiers == null ? null : monitoredTiers.cacheStatistics(cacheName);
+        if (cacheStatistics == null) {
+            return;
+        }
+        FunctionCounter.builder(METER_NAME_PREFIX + "expirations", monitoredTiers, tiers ->
+            tiers.statistic(cacheName, CacheStatistics::getCacheExpirations)
+        )
+            .description("The number of entries of a region that have expired")
+            .tags(tags)
+            .register(meterRegistry);
+        for (String tier : cacheStatistics.getTierStatistics().keySet()) {
+            Gauge.builder(METER_NAME_PREFIX + "size", monitoredTiers, tiers ->
+                tiers.tierStatistic(cacheName, tier, TierStatistics::getMappings)
+            )
+                .description("The number of entries held by a tier of a region")
+                .tags(tags.and(TIER_DIMENSION, tier.toLowerCase(Locale.ROOT)))
+                .register(meterRegistry);
+        }
+        if (cacheStatistics.getTierStatistics().containsKey(OFF_HEAP_TIER)) {
+            Gauge.builder(METER_NAME_PREFIX + "off-heap.size", monitoredTiers, tiers ->
+                tiers.tierStatistic(cacheName, OFF_HEAP_TIER, TierStatistics::getOccupiedByteSize)
+            )
+                .description("The bytes occupied by the entries of the off-heap tier of a region")
+                .baseUnit(BaseUnits.BYTES)
+                .tags(tags)
+                .register(meterRegistry);
+        }
+    }
+
+    private static void counter(
+        MeterRegistry meterRegistry,
+        String name,
+        String description,
+        Tags tags,
+        CacheStatisticsMXBean statistics,
+        ToLongFunction<CacheStatisticsMXBean> statistic
+    ) {
+        FunctionCounter.builder(METER_NAME_PREFIX + name, statistics, bean -> statistic(bean, statistic))
+            .description(description)
+            .tags(tags)
+            .register(meterRegistry);
+    }
+
+    private static double statistic(CacheStatisticsMXBean statistics, ToLongFunction<CacheStatisticsMXBean> statistic) {
+        try {
+            return statistic.applyAsLong(statistics);
+        } catch (RuntimeException e) {
+            // the region was destroyed, unregistering its statistics
+            return Double.NaN;
+        }
+    }
+
+    private CacheStatisticsMXBean statistics(javax.cache.CacheManager monitored, String cacheName) {
+        try {
+            ObjectName objectName = new ObjectName(
+                "javax.cache:type=CacheStatistics,CacheManager=" + sanitize(monitored.getURI().toString()) + ",Cache=" + sanitize(cacheName)
+            );
+            return JMX.newMXBeanProxy(mBeanServer, objectName, CacheStatisticsMXBean.class);
+        } catch (MalformedObjectNameException e) {
+            throw new IllegalArgumentException("Invalid cache name " + cacheName, e);
+        }
+    }
+
+    /**
+     * The JCache object name of a cache manager or cache: the characters not allowed in an object name property are
+     * replaced by dots.
+     */
+    private static String sanitize(String name) {
+        return name == null ? "" : name.replaceAll("[,:=\n]", ".");
+    }
+
+    /**
+     * The type of a region: {@code entity} or {@code collection} for the second-level cache, where collection roles are
+     * the entity name followed by the property name, {@code application} for the caches of the application.
+     */
+    static String regionType(String alias) {
+        int lastDot = alias.lastIndexOf('.');
+        if (lastDot < 0 || lastDot == alias.length() - 1 || !alias.contains(".domain.")) {
+            return "application";
+        }
+        return Character.isUpperCase(alias.charAt(lastDot + 1)) ? "entity" : "collection";
+    }
+
+    /**
+     * Configuration of the {@link TierStatisticsService} of a cache manager, holding the Ehcache statistics service of
+     * the cache manager once it is started.
+     */
+    static class TierStatisticsConfiguration implements ServiceCreationConfiguration<TierStatisticsService, Void> {
+
+        private volatile StatisticsService statisticsService;
+
+        @Override
+        public Class<TierStatisticsService> getServiceType() {
+            return TierStatisticsService.class;
+        }
+
+        CacheStatistics cacheStatistics(String cacheName) {
+            StatisticsService started = statisticsService;
+            if (started == null) {
+                return null;
+            }
+            try {
+                return started.getCacheStatistics(cacheName);
+            } catch (IllegalArgumentException e) {
+                // the region is not held by the cache manager anymore
+                return null;
+            }
+        }
+
+        double statistic(String cacheName, ToLongFunction<CacheStatistics> statistic) {
+            CacheStatistics cacheStatistics = cacheStatistics(cacheName);
+            return cacheStatistics == null ? Double.NaN : statistic.applyAsLong(cacheStatistics);
+        }
+
+        double tierStatistic(String cacheName, String tier, ToLongFunction<TierStatistics> statistic) {
+            CacheStatistics cacheStatistics = cacheStatistics(cacheName);
+            TierStatistics tierStatistics = cacheStatistics == null ? null : cacheStatistics.getTierStatistics().get(tier);
+            return tierStatistics == null ? Double.NaN : statistic.applyAsLong(tierStatistics);
+        }
+    }
+
+    /**
+     * Ehcache service of a cache manager handing its statistics service to its {@link TierStatisticsConfiguration}.
+     */
+    @ServiceDependencies(StatisticsService.class)
+    public static class TierStatisticsService implements Service {
+
+        private final TierStatisticsConfiguration configuration;
+
+        TierStatisticsService(TierStatisticsConfiguration configuration) {
+            this.configuration = configuration;
+        }
+
+        @Override
+        public void start(ServiceProvider<Service> serviceProvider) {
+            configuration.statisticsService = serviceProvider.getService(StatisticsService.class);
+        }
+
+        @Override
+        public void stop() {
+            configuration.statisticsService = null;
+        }
+    }
+
+    /**
+     * Factory of the {@link TierStatisticsService}, found by Ehcache through {@code META-INF/services}.
+     */
+    public static class TierStatisticsServiceFactory implements ServiceFactory<TierStatisticsService> {
+
+        @Override
+        public TierStatisticsService create(ServiceCreationConfiguration<TierStatisticsService, ?> configuration) {
+            return new TierStatisticsService(
+                configuration instanceof TierStatisticsConfiguration tierStatisticsConfiguration
+                    ? tierStatisticsConfiguration
+                    : new TierStatisticsConfiguration()
+            );
+        }
+
+        @Override
+        public Class<TierStatisticsService> getServiceType() {
+            return TierStatisticsService.class;
+        }
+    }
+}
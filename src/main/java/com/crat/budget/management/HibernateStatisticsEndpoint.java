@@ -0,0 +1,145 @@
+package com.crat.budget.management;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Management endpoint turning the Hibernate statistics on and off at runtime, under
+ * {@code /management/hibernatestatistics}: a {@code POST} of {@code {"enabled": true}} starts collecting them, without
+ * a restart, {@code hibernate.generate_statistics} only being their initial state.
+ * <p>
+ * A {@code GET} lists the counts of each entity, the execution statistics of each query, the slowest first, and the
+ * counts of each second-level cache region; a {@code DELETE} resets them. They are also published to Micrometer by the
+ * {@link HibernateStatisticsMetrics} bean.
+ */
+@Component
+@Endpoint(id = "hibernatestatistics")
+public class HibernateStatisticsEndpoint {
+
+    private static final Logger LOG = LoggerFactory.getLogger(HibernateStatisticsEndpoint.class);
+
+    private final Statistics statistics;
+
+    public HibernateStatisticsEndpoint(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @ReadOperation
+    public HibernateStatistics statistics() {
+        Map<String, Entity> entities = new TreeMap<>();
+        for (String entityName : statistics.getEntityNames()) {
+            EntityStatistics entityStatistics = statistics.getEntityStatistics(entityName);
+            entities.put(
+                entityName,
+                new Entity(
+                    entityStatistics.getLoadCount(),
+                    entityStatistics.getFetchCount(),
+                    entityStatistics.getInsertCount(),
+                    entityStatistics.getUpdateCount(),
+                    entityStatistics.getDeleteCount(),
+                    entityStatistics.getOptimisticFailureCount()
+                )
+            );
+        }
+        List<Query> queries = Arrays.stream(statistics.getQueries())
+            .map(query -> {
+                org.hibernate.stat.QueryStatistics queryStatistics = statistics.getQueryStatistics(query);
+                return new Query(
+                    query,
+                    queryStatistics.getExecutionCount(),
+                    queryStatistics.getExecutionRowCount(),
+                    queryStatistics.getExecutionTotalTime(),
+                    queryStatistics.getExecutionAvgTime(),
+                    queryStatistics.getExecutionMaxTime(),
+                    queryStatistics.getExecutionMinTime()
+                );
+            })
+            .sorted(Comparator.comparingLong(Query::totalTimeMillis).reversed())
+            .toList();
+        Map<String, CacheRegion> cacheRegions = new TreeMap<>();
+        for (String regionName : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics regionStatistics = HibernateStatisticsMetrics.regionStatistics(statistics, regionName);
+            if (regionStatistics != null) {
+                cacheRegions.put(
+                    regionName,
+                    new CacheRegion(regionStatistics.getHitCount(), regionStatistics.getMissCount(), regionStatistics.getPutCount())
+                );
+            }
+        }
+        return new HibernateStatistics(
+            statistics.isStatisticsEnabled(),
+            statistics.getStart(),
+            statistics.getSessionOpenCount(),
+            statistics.getTransactionCount(),
+            statistics.getPrepareStatementCount(),
+            statistics.getQueryExecutionCount(),
+            statistics.getQueryExecutionMaxTimeQueryString(),
+            entities,
+            queries,
+            cacheRegions
+        );
+    }
+
+    /**
+     * Turn the statistics on or off.
+     *
+     * @param enabled whether the statistics are collected from now on.
+     * @return the statistics collected so far.
+     */
+    @WriteOperation
+    public HibernateStatistics toggle(boolean enabled) {
+        if (statistics.isStatisticsEnabled() != enabled) {
+            LOG.info("Hibernate statistics turned {}", enabled ? "on" : "off");
+            statistics.setStatisticsEnabled(enabled);
+        }
+        return statistics();
+    }
+
+    @DeleteOperation
+    public void clear() {
+        statistics.clear();
+    }
+
+    public record HibernateStatistics(
+        boolean enabled,
+        Instant start,
+        long sessionsOpened,
+        long transactions,
+        long statementsPrepared,
+        long queryExecutions,
+        String slowestQuery,
+        Map<String, Entity> entities,
+        List<Query> queries,
+        Map<String, CacheRegion> secondLevelCacheRegions
+    ) {}
+
+    public record Entity(long loads, long fetches, long inserts, long updates, long deletes, long optimisticFailures) {}
+
+    public record Query(
+        String query,
+        long executions,
+        long rows,
+        long totalTimeMillis,
+        long averageTimeMillis,
+        long maximumTimeMillis,
+        long minimumTimeMillis
+    ) {}
+
+    public record CacheRegion(long hits, long misses, long puts) {}
+}
@@ -0,0 +1,144 @@
+package com.crat.budget.management;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
+
+/**
+ * Hibernate statistics published to Micrometer, whether they are enabled or not: they are read on each scrape, so that
+ * they appear as soon as they are turned on through the {@link HibernateStatisticsEndpoint}, and stay flat while they
+ * are off. The meters are:
+ * <ul>
+ *     <li>{@code hibernate.statistics.enabled}, 1 while the statistics are collected;</li>
+ *     <li>{@code hibernate.sessions.open}, {@code hibernate.sessions.closed}, {@code hibernate.flushes} and
+ *     {@code hibernate.transactions}, by {@code result} (success or failure);</li>
+ *     <li>{@code hibernate.entity.loads}, {@code fetches}, {@code inserts}, {@code updates} and {@code deletes}, by
+ *     {@code entity};</li>
+ *     <li>{@code hibernate.query.executions} and {@code hibernate.query.executions.max}, the slowest execution;</li>
+ *     <li>{@code hibernate.second.level.cache.requests}, by {@code region} and {@code result} (hit or miss), and
+ *     {@code hibernate.second.level.cache.puts}, by {@code region}.</li>
+ * </ul>
+ * The statistics of each query are only listed by the endpoint, their text being unbounded as a tag.
+ */
+public class HibernateStatisticsMetrics implements MeterBinder {
+
+    public static final String METER_NAME_PREFIX = "hibernate.";
+    public static final String ENTITY_DIMENSION = "entity";
+    public static final String REGION_DIMENSION = "region";
+    public static final String RESULT_DIMENSION = "result";
+
+    private static final String REQUESTS_DESCRIPTION = "Second-level cache lookups, by result";
+
+    private final Statistics statistics;
+
+    public HibernateStatisticsMetrics(Statistics statistics) {
+        this.statistics = statistics;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        Gauge.builder(METER_NAME_PREFIX + "statistics.enabled", statistics, stats -> stats.isStatisticsEnabled() ? 1 : 0)
+            .description("Whether the Hibernate statistics are collected")
+            .register(meterRegistry);
+        counter(meterRegistry, "sessions.open", "Sessions opened", Tags.empty(), Statistics::getSessionOpenCount);
+        counter(meterRegistry, "sessions.closed", "Sessions closed", Tags.empty(), Statistics::getSessionCloseCount);
+        counter(meterRegistry, "flushes", "Session flushes", Tags.empty(), Statistics::getFlushCount);
+        counter(
+            meterRegistry,
+            "transactions",
+            "Transactions, by result",
+            Tags.of(RESULT_DIMENSION, "success"),
+            Statistics::getSuccessfulTransactionCount
+        );
+        counter(
+            meterRegistry,
+            "transactions",
+            "Transactions, by result",
+            Tags.of(RESULT_DIMENSION, "failure"),
+            stats -> stats.getTransactionCount() - stats.getSuccessfulTransactionCount()
+        );
+        counter(meterRegistry, "query.executions", "Queries executed", Tags.empty(), Statistics::getQueryExecutionCount);
+        TimeGauge.builder(
+            METER_NAME_PREFIX + "query.executions.max",
+            statistics,
+            TimeUnit.MILLISECONDS,
+            Statistics::getQueryExecutionMaxTime
+        )
+            .description("The time of the slowest query")
+            .register(meterRegistry);
+        for (String entityName : statistics.getEntityNames()) {
+            Tags tags = Tags.of(ENTITY_DIMENSION, entityName);
+            entityCounter(meterRegistry, "loads", "Entities loaded", tags, entityName, EntityStatistics::getLoadCount);
+            entityCounter(
+                meterRegistry,
+                "fetches",
+                "Entities fetched by a separate statement",
+                tags,
+                entityName,
+                EntityStatistics::getFetchCount
+            );
+            entityCounter(meterRegistry, "inserts", "Entities inserted", tags, entityName, EntityStatistics::getInsertCount);
+            entityCounter(meterRegistry, "updates", "Entities updated", tags, entityName, EntityStatistics::getUpdateCount);
+            entityCounter(meterRegistry, "deletes", "Entities deleted", tags, entityName, EntityStatistics::getDeleteCount);
+        }
+        for (String regionName : statistics.getSecondLevelCacheRegionNames()) {
+            Tags tags = Tags.of(REGION_DIMENSION, regionName);
+            Tags hit = tags.and(RESULT_DIMENSION, "hit");
+            Tags miss = tags.and(RESULT_DIMENSION, "miss");
+            regionCounter(meterRegistry, "requests", REQUESTS_DESCRIPTION, hit, regionName, CacheRegionStatistics::getHitCount);
+            regionCounter(meterRegistry, "requests", REQUESTS_DESCRIPTION, miss, regionName, CacheRegionStatistics::getMissCount);
+            regionCounter(meterRegistry, "puts", "Second-level cache entries put", tags, regionName, CacheRegionStatistics::getPutCount);
+        }
+    }
+
+    private void counter(MeterRegistry meterRegistry, String name, String description, Tags tags, ToLongFunction<Statistics> statistic) {
+        FunctionCounter.builder(METER_NAME_PREFIX + name, statistics, statistic::applyAsLong)
+            .description(description)
+            .tags(tags)
+            .register(meterRegistry);
+    }
+
+    private void entityCounter(
+        MeterRegistry meterRegistry,
+        String name,
+        String description,
+        Tags tags,
+        String entityName,
+        ToLongFunction<EntityStatistics> statistic
+    ) {
+        counter(meterRegistry, "entity." + name, description, tags, stats -> statistic.applyAsLong(stats.getEntityStatistics(entityName)));
+    }
+
+    private void regionCounter(
+        MeterRegistry meterRegistry,
+        String name,
+        String description,
+        Tags tags,
+        String regionName,
+        ToLongFunction<CacheRegionStatistics> statistic
+    ) {
+        counter(meterRegistry, "second.level.cache." + name, description, tags, stats -> {
+            CacheRegionStatistics regionStatistics = regionStatistics(stats, regionName);
+            return regionStatistics == null ? 0 : statistic.applyAsLong(regionStatistics);
+        });
+    }
+
+    /**
+     * The statistics of an entity or collection region, {@code null} for the query results region.
+     */
+    static CacheRegionStatistics regionStatistics(Statistics statistics, String regionName) {
+        try {
+            return statistics.getDomainDataRegionStatistics(regionName);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
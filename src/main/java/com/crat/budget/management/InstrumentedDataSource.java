@@ -0,0 +1,291 @@
+package com.crat.budget.management;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Data source counting the statements executed and the rows fetched through its connections, in the
+ * {@link QueryStatistics} of the current thread, and reporting the slow ones to the {@link SlowQueryLog}.
+ * <p>
+ * The connections, statements and result sets are wrapped in proxies: the pool is still reachable through
+ * {@link #unwrap(Class)}, for its metrics. Each execution is timed; only the slow ones pay for finding their origin and
+ * formatting their bind values, their rows being counted until their result set or statement is closed.
+ */
+public class InstrumentedDataSource extends DelegatingDataSource {
+
+    private static final Set<String> STATEMENT_FACTORY_METHODS = Set.of("createStatement", "prepareStatement", "prepareCall");
+
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+        "execute",
+        "executeQuery",
+        "executeUpdate",
+        "executeLargeUpdate",
+        "executeBatch",
+        "executeLargeBatch"
+    );
+
+    private static final Set<String> RESULT_SET_METHODS = Set.of("executeQuery", "getResultSet", "getGeneratedKeys");
+
+    private static final String SET_NULL_METHOD = "setNull";
+
+    private static final String CLEAR_PARAMETERS_METHOD = "clearParameters";
+
+    private static final String CLOSE_METHOD = "close";
+
+    private static final String GENERATED_KEYS_METHOD = "getGeneratedKeys";
+
+    private final SlowQueryLog slowQueryLog;
+
+    public InstrumentedDataSource(DataSource targetDataSource) {
+        this(targetDataSource, null);
+    }
+
+    /**
+     * @param targetDataSource the pool.
+     * @param slowQueryLog the log of the slow queries, {@code null} not to time the statements.
+     */
+    public InstrumentedDataSource(DataSource targetDataSource, SlowQueryLog slowQueryLog) {
+        super(targetDataSource);
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(obtainTargetDataSource().getConnection()));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(obtainTargetDataSource().getConnection(username, password)));
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(InstrumentedDataSource.class.getClassLoader(), new Class<?>[] { type }, handler));
+    }
+
+    /**
+     * Handler of a JDBC object, answering the identity methods for the proxy.
+     */
+    private abstract static class DelegatingHandler implements InvocationHandler {
+
+        final Object target;
+
+        DelegatingHandler(Object target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            return switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "toString" -> target.toString();
+                default -> handle(method, args);
+            };
+        }
+
+        abstract Object handle(Method method, Object[] args) throws Throwable;
+
+        Object delegate(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    private final class ConnectionHandler extends DelegatingHandler {
+
+        ConnectionHandler(Connection connection) {
+            super(connection);
+        }
+
+        @Override
+        Object handle(Method method, Object[] args) throws Throwable {
+            Object result = delegate(method, args);
+            if (result instanceof Statement statement && STATEMENT_FACTORY_METHODS.contains(method.getName())) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String prepared ? prepared : null;
+                return proxy(method.getReturnType().asSubclass(Statement.class), new StatementHandler(statement, sql));
+            }
+            return result;
+        }
+    }
+
+    private final class StatementHandler extends DelegatingHandler {
+
+        private final String sql;
+
+        private final List<Object> parameters;
+
+        private PendingSlowQuery pending;
+
+        StatementHandler(Statement statement, String sql) {
+            super(statement);
+            this.sql = sql;
+            this.parameters = slowQueryLog != null && slowQueryLog.isCaptureParameters() && statement instanceof PreparedStatement
+                ? new ArrayList<>()
+                : null;
+        }
+
+        @Override
+        Object handle(Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (EXECUTE_METHODS.contains(name)) {
+                return execute(method, args);
+            }
+            if (parameters != null && name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                bind(index, SET_NULL_METHOD.equals(name) ? null : args[1]);
+            } else if (parameters != null && CLEAR_PARAMETERS_METHOD.equals(name)) {
+                parameters.clear();
+            }
+            Object result = delegate(method, args);
+            if (result instanceof ResultSet resultSet && RESULT_SET_METHODS.contains(name)) {
+                return proxy(ResultSet.class, new ResultSetHandler(resultSet, this, GENERATED_KEYS_METHOD.equals(name)));
+            }
+            if (CLOSE_METHOD.equals(name)) {
+                finish();
+            }
+            return result;
+        }
+
+        private Object execute(Method method, Object[] args) throws Throwable {
+            finish();
+            long start = System.nanoTime();
+            Object result = delegate(method, args);
+            long duration = System.nanoTime() - start;
+            QueryStatistics.statementExecuted();
+            if (slowQueryLog != null && slowQueryLog.isSlow(duration)) {
+                String executedSql = args != null && args.length > 0 && args[0] instanceof String executed ? executed : sql;
+                pending = new PendingSlowQuery(executedSql, formatParameters(), duration, slowQueryLog.origin(), Instant.now());
+                // the rows of a query are counted as they are fetched
+                pending.rows = updateCount(result);
+            }
+            if (result instanceof ResultSet resultSet) {
+                return proxy(ResultSet.class, new ResultSetHandler(resultSet, this, false));
+            }
+            return result;
+        }
+
+        private long updateCount(Object result) throws SQLException {
+            if (result instanceof Number count) {
+                return count.longValue();
+            } else if (result instanceof int[] counts) {
+                long total = 0;
+                for (int count : counts) {
+                    total += Math.max(count, 0);
+                }
+                return total;
+            } else if (result instanceof long[] counts) {
+                long total = 0;
+                for (long count : counts) {
+                    total += Math.max(count, 0);
+                }
+                return total;
+            } else if (Boolean.FALSE.equals(result)) {
+                return Math.max(((Statement) target).getUpdateCount(), 0);
+            }
+            return 0;
+        }
+
+        private void bind(int index, Object value) {
+            while (parameters.size() < index) {
+                parameters.add(null);
+            }
+            parameters.set(index - 1, value);
+        }
+
+        private List<String> formatParameters() {
+            return parameters == null ? List.of() : parameters.stream().map(slowQueryLog::format).toList();
+        }
+
+        void rowFetched(boolean generatedKey) {
+            QueryStatistics.rowFetched();
+            if (pending != null && !generatedKey) {
+                pending.rows++;
+            }
+        }
+
+        void finish() {
+            if (pending != null) {
+                slowQueryLog.record(pending.toSlowQuery());
+                pending = null;
+            }
+        }
+    }
+
+    private static final class ResultSetHandler extends DelegatingHandler {
+
+        private final StatementHandler statement;
+
+        private final boolean generatedKeys;
+
+        ResultSetHandler(ResultSet resultSet, StatementHandler statement, boolean generatedKeys) {
+            super(resultSet);
+            this.statement = statement;
+            this.generatedKeys = generatedKeys;
+        }
+
+        @Override
+        Object handle(Method method, Object[] args) throws Throwable {
+            Object result = delegate(method, args);
+            if (Boolean.TRUE.equals(result) && "next".equals(method.getName())) {
+                statement.rowFetched(generatedKeys);
+            } else if (CLOSE_METHOD.equals(method.getName())) {
+                statement.finish();
+            }
+            return result;
+        }
+    }
+
+    /**
+     * A slow statement whose rows are still being fetched.
+     */
+    private static final class PendingSlowQuery {
+
+        private final String sql;
+
+        private final List<String> parameters;
+
+        private final long durationNanos;
+
+        private final String origin;
+
+        private final Instant executedAt;
+
+        private long rows;
+
+        PendingSlowQuery(String sql, List<String> parameters, long durationNanos, String origin, Instant executedAt) {
+            this.sql = sql;
+            this.parameters = parameters;
+            this.durationNanos = durationNanos;
+            this.origin = origin;
+            this.executedAt = executedAt;
+        }
+
+        SlowQuery toSlowQuery() {
+            return new SlowQuery(
+                sql,
+                parameters,
+                SlowQueryLog.toMillis(durationNanos),
+                rows,
+                SlowQueryLog.countJoins(sql),
+                origin,
+                executedAt
+            );
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.crat.budget.management;
+
+/**
+ * Database work of the request being handled by the current thread: the JDBC statements executed and rows fetched, the
+ * entities loaded and the second-level cache lookups.
+ * <p>
+ * The counting starts with {@link #start()} and stops with {@link #stop()}: in between, the instrumented data source and
+ * Hibernate listeners update the statistics of the thread, and do nothing on the threads without any.
+ */
+public final class QueryStatistics {
+
+    private static final ThreadLocal<QueryStatistics> CURRENT = new ThreadLocal<>();
+
+    private long statements;
+
+    private long rows;
+
+    private long entityLoads;
+
+    private long cacheHits;
+
+    private long cacheMisses;
+
+    private QueryStatistics() {}
+
+    /**
+     * Start counting the database work of the current thread.
+     *
+     * @return the statistics of the current thread, reset.
+     */
+    public static QueryStatistics start() {
+        QueryStatistics statistics = new QueryStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    /**
+     * Stop counting the database work of the current thread.
+     *
+     * @return the statistics of the current thread, {@code null} if they were not started.
+     */
+    public static QueryStatistics stop() {
+        QueryStatistics statistics = CURRENT.get();
+        CURRENT.remove();
+        return statistics;
+    }
+
+    /**
+     * The statistics of the current thread.
+     *
+     * @return the statistics being counted, {@code null} if they were not started.
+     */
+    public static QueryStatistics current() {
+        return CURRENT.get();
+    }
+
+    static void statementExecuted() {
+        QueryStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.statements++;
+        }
+    }
+
+    static void rowFetched() {
+        QueryStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.rows++;
+        }
+    }
+
+    static void entityLoaded() {
+        QueryStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.entityLoads++;
+        }
+    }
+
+    static void cacheLookedUp(boolean hit) {
+        QueryStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            if (hit) {
+                statistics.cacheHits++;
+            } else {
+                statistics.cacheMisses++;
+            }
+        }
+    }
+
+    public long getStatements() {
+        return statements;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getEntityLoads() {
+        return entityLoads;
+    }
+
+    public long getCacheHits() {
+        return cacheHits;
+    }
+
+    public long getCacheMisses() {
+        return cacheMisses;
+    }
+
+    @Override
+    public String toString() {
+        return (
+            "statements=" +
+            statements +
+            ", rows=" +
+            rows +
+            ", entities=" +
+            entityLoads +
+            ", cache-hits=" +
+            cacheHits +
+            ", cache-misses=" +
+            cacheMisses
+        );
+    }
+}
@@ -0,0 +1,43 @@
+package com.crat.budget.management;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Sends the {@link QueryStatistics} of a request in the {@value #HEADER_NAME} response header, when
+ * {@code application.query-statistics.response-header} is enabled. They are counted until the response body is
+ * written.
+ */
+@ControllerAdvice
+@ConditionalOnProperty(name = "application.query-statistics.response-header", havingValue = "true")
+public class QueryStatisticsHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String HEADER_NAME = "X-Query-Statistics";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+        Object body,
+        MethodParameter returnType,
+        MediaType selectedContentType,
+        Class<? extends HttpMessageConverter<?>> selectedConverterType,
+        ServerHttpRequest request,
+        ServerHttpResponse response
+    ) {
+        QueryStatistics statistics = QueryStatistics.current();
+        if (statistics != null) {
+            response.getHeaders().set(HEADER_NAME, statistics.toString());
+        }
+        return body;
+    }
+}
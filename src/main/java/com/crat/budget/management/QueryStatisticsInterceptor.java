@@ -0,0 +1,71 @@
+package com.crat.budget.management;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Interceptor counting the database work of each request handled by a controller method, recorded in distribution
+ * summaries tagged by handler, {@code ResourceClass#method}:
+ * <ul>
+ *     <li>{@code http.server.requests.jdbc.statements}, the JDBC statements executed;</li>
+ *     <li>{@code http.server.requests.jdbc.rows}, the rows fetched from their result sets;</li>
+ *     <li>{@code http.server.requests.entities.loaded}, the entities loaded by Hibernate, from the database or the
+ *     second-level cache;</li>
+ *     <li>{@code http.server.requests.cache.gets}, the second-level cache lookups, by {@code result} (hit or miss).</li>
+ * </ul>
+ * Their histograms show the endpoints running many queries for one request, the N+1 selects.
+ */
+public class QueryStatisticsInterceptor implements HandlerInterceptor {
+
+    public static final String METER_NAME_PREFIX = "http.server.requests.";
+    public static final String HANDLER_DIMENSION = "handler";
+    public static final String RESULT_DIMENSION = "result";
+
+    private static final String CACHE_GETS_DESCRIPTION = "Second-level cache lookups of a request";
+
+    private static final double MAXIMUM_EXPECTED_VALUE = 10000.0;
+
+    private final MeterRegistry meterRegistry;
+
+    public QueryStatisticsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            QueryStatistics.start();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        QueryStatistics statistics = QueryStatistics.stop();
+        if (statistics == null || !(handler instanceof HandlerMethod handlerMethod)) {
+            return;
+        }
+        Tags tags = Tags.of(HANDLER_DIMENSION, handlerMethod.getBeanType().getSimpleName() + "#" + handlerMethod.getMethod().getName());
+        record("jdbc.statements", "JDBC statements executed by a request", "statements", tags, statistics.getStatements());
+        record("jdbc.rows", "Rows fetched by the JDBC statements of a request", "rows", tags, statistics.getRows());
+        record("entities.loaded", "Entities loaded by a request", "entities", tags, statistics.getEntityLoads());
+        record("cache.gets", CACHE_GETS_DESCRIPTION, "gets", tags.and(RESULT_DIMENSION, "hit"), statistics.getCacheHits());
+        record("cache.gets", CACHE_GETS_DESCRIPTION, "gets", tags.and(RESULT_DIMENSION, "miss"), statistics.getCacheMisses());
+    }
+
+    private void record(String name, String description, String baseUnit, Tags tags, long value) {
+        DistributionSummary.builder(METER_NAME_PREFIX + name)
+            .description(description)
+            .baseUnit(baseUnit)
+            .tags(tags)
+            .publishPercentileHistogram()
+            .maximumExpectedValue(MAXIMUM_EXPECTED_VALUE)
+            .register(meterRegistry)
+            .record(value);
+    }
+}
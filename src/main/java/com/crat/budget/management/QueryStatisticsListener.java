@@ -0,0 +1,44 @@
+package com.crat.budget.management;
+
+import org.hibernate.SessionEventListener;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+/**
+ * Hibernate listener counting the entities loaded and the second-level cache lookups in the {@link QueryStatistics} of
+ * the current thread.
+ * <p>
+ * It is registered as an {@link Integrator}, for the entity loads, and as the automatic session event listener, through
+ * {@value org.hibernate.cfg.SessionEventSettings#AUTO_SESSION_EVENTS_LISTENER}, for the cache lookups.
+ */
+public class QueryStatisticsListener implements SessionEventListener, PostLoadEventListener, Integrator {
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        QueryStatistics.entityLoaded();
+    }
+
+    @Override
+    public void cacheGetEnd(boolean hit) {
+        QueryStatistics.cacheLookedUp(hit);
+    }
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+        sessionFactory.getServiceRegistry().requireService(EventListenerRegistry.class).appendListeners(EventType.POST_LOAD, this);
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        // the listeners go with the session factory
+    }
+}
@@ -2,6 +2,11 @@ package com.crat.budget.management;
 
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -13,16 +18,59 @@ public class SecurityMetersService {
     public static final String INVALID_TOKENS_METER_BASE_UNIT = "errors";
     public static final String INVALID_TOKENS_METER_CAUSE_DIMENSION = "cause";
 
+    public static final String TOKEN_CACHE_METER_NAME = "security.authentication.token-cache";
+    public static final String TOKEN_CACHE_METER_DESCRIPTION = "Indicates lookups of the presented tokens in the cache of verified tokens.";
+    public static final String TOKEN_CACHE_METER_BASE_UNIT = "lookups";
+    public static final String TOKEN_CACHE_METER_RESULT_DIMENSION = "result";
+
+    public static final String LOGIN_METER_NAME = "security.authentication.login";
+    public static final String LOGIN_METER_DESCRIPTION = "Indicates the time taken to authenticate users with their password.";
+    public static final String LOGIN_CPU_METER_NAME = "security.authentication.login.cpu";
+    public static final String LOGIN_CPU_METER_DESCRIPTION = "Indicates the CPU time used to authenticate users with their password.";
+    public static final String LOGIN_METER_OUTCOME_DIMENSION = "outcome";
+
+    public static final String PASSWORD_UPGRADES_METER_NAME = "security.authentication.password-upgrades";
+    public static final String PASSWORD_UPGRADES_METER_DESCRIPTION = "Indicates password hashes re-encoded on login with the current cost.";
+    public static final String PASSWORD_UPGRADES_METER_BASE_UNIT = "upgrades";
+
+    public static final String RATE_LIMITED_METER_NAME = "security.authentication.rate-limited";
+    public static final String RATE_LIMITED_METER_DESCRIPTION = "Indicates authentication attempts rejected before checking the password.";
+    public static final String RATE_LIMITED_METER_BASE_UNIT = "attempts";
+    public static final String RATE_LIMITED_METER_KEY_DIMENSION = "key";
+
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
     private final Counter tokenInvalidSignatureCounter;
     private final Counter tokenExpiredCounter;
     private final Counter tokenUnsupportedCounter;
     private final Counter tokenMalformedCounter;
+    private final Counter tokenCacheHitCounter;
+    private final Counter tokenCacheMissCounter;
+    private final Timer loginSuccessTimer;
+    private final Timer loginFailureTimer;
+    private final Timer loginSuccessCpuTimer;
+    private final Timer loginFailureCpuTimer;
+    private final Counter passwordUpgradeCounter;
+    private final Counter rateLimitedByLoginCounter;
+    private final Counter rateLimitedByIpCounter;
 
     public SecurityMetersService(MeterRegistry registry) {
         this.tokenInvalidSignatureCounter = invalidTokensCounterForCauseBuilder("invalid-signature").register(registry);
         this.tokenExpiredCounter = invalidTokensCounterForCauseBuilder("expired").register(registry);
         this.tokenUnsupportedCounter = invalidTokensCounterForCauseBuilder("unsupported").register(registry);
         this.tokenMalformedCounter = invalidTokensCounterForCauseBuilder("malformed").register(registry);
+        this.tokenCacheHitCounter = tokenCacheCounterForResultBuilder("hit").register(registry);
+        this.tokenCacheMissCounter = tokenCacheCounterForResultBuilder("miss").register(registry);
+        this.loginSuccessTimer = loginTimerBuilder(LOGIN_METER_NAME, LOGIN_METER_DESCRIPTION, "success").register(registry);
+        this.loginFailureTimer = loginTimerBuilder(LOGIN_METER_NAME, LOGIN_METER_DESCRIPTION, "failure").register(registry);
+        this.loginSuccessCpuTimer = loginTimerBuilder(LOGIN_CPU_METER_NAME, LOGIN_CPU_METER_DESCRIPTION, "success").register(registry);
+        this.loginFailureCpuTimer = loginTimerBuilder(LOGIN_CPU_METER_NAME, LOGIN_CPU_METER_DESCRIPTION, "failure").register(registry);
+        this.passwordUpgradeCounter = Counter.builder(PASSWORD_UPGRADES_METER_NAME)
+            .baseUnit(PASSWORD_UPGRADES_METER_BASE_UNIT)
+            .description(PASSWORD_UPGRADES_METER_DESCRIPTION)
+            .register(registry);
+        this.rateLimitedByLoginCounter = rateLimitedCounterForKeyBuilder("login").register(registry);
+        this.rateLimitedByIpCounter = rateLimitedCounterForKeyBuilder("ip").register(registry);
     }
 
     private Counter.Builder invalidTokensCounterForCauseBuilder(String cause) {
@@ -32,6 +80,28 @@ public class SecurityMetersService {
             .tag(INVALID_TOKENS_METER_CAUSE_DIMENSION, cause);
     }
 
+    private Counter.Builder tokenCacheCounterForResultBuilder(String result) {
+        return Counter.builder(TOKEN_CACHE_METER_NAME)
+            .baseUnit(TOKEN_CACHE_METER_BASE_UNIT)
+            .description(TOKEN_CACHE_METER_DESCRIPTION)
+            .tag(TOKEN_CACHE_METER_RESULT_DIMENSION, result);
+    }
+
+    private Counter.Builder rateLimitedCounterForKeyBuilder(String key) {
+        return Counter.builder(RATE_LIMITED_METER_NAME)
+            .baseUnit(RATE_LIMITED_METER_BASE_UNIT)
+            .description(RATE_LIMITED_METER_DESCRIPTION)
+            .tag(RATE_LIMITED_METER_KEY_DIMENSION, key);
+    }
+
+    private Timer.Builder loginTimerBuilder(String name, String description, String outcome) {
+        return Timer.builder(name)
+            .description(description)
+            .tag(LOGIN_METER_OUTCOME_DIMENSION, outcome)
+            .publishPercentiles(0.5, 0.99)
+            .publishPercentileHistogram();
+    }
+
     public void trackTokenInvalidSignature() {
         this.tokenInvalidSignatureCounter.increment();
     }
@@ -47,4 +117,54 @@ public class SecurityMetersService {
     public void trackTokenMalformed() {
         this.tokenMalformedCounter.increment();
     }
+
+    public void trackTokenCacheHit() {
+        this.tokenCacheHitCounter.increment();
+    }
+
+    public void trackTokenCacheMiss() {
+        this.tokenCacheMissCounter.increment();
+    }
+
+    public void trackPasswordUpgrade() {
+        this.passwordUpgradeCounter.increment();
+    }
+
+    public void trackLoginRateLimitedByLogin() {
+        this.rateLimitedByLoginCounter.increment();
+    }
+
+    public void trackLoginRateLimitedByIp() {
+        this.rateLimitedByIpCounter.increment();
+    }
+
+    /**
+     * Run a password authentication, recording its duration and the CPU time of the current thread by outcome: a failure
+     * is an exception thrown by the authentication.
+     *
+     * @param login the password authentication.
+     * @param <T> the type of the authentication result.
+     * @return the authentication result.
+     */
+    public <T> T trackLogin(Supplier<T> login) {
+        long start = System.nanoTime();
+        long cpuStart = currentThreadCpuTime();
+        boolean success = false;
+        try {
+            T result = login.get();
+            success = true;
+            return result;
+        } finally {
+            long duration = System.nanoTime() - start;
+            (success ? loginSuccessTimer : loginFailureTimer).record(duration, TimeUnit.NANOSECONDS);
+            long cpuEnd = currentThreadCpuTime();
+            if (cpuStart >= 0 && cpuEnd >= 0) {
+                (success ? loginSuccessCpuTimer : loginFailureCpuTimer).record(cpuEnd - cpuStart, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private static long currentThreadCpuTime() {
+        return THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported() ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : -1;
+    }
 }
@@ -0,0 +1,27 @@
+package com.crat.budget.management;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A statement that took longer than the slow query threshold to execute.
+ *
+ * @param sql the SQL of the statement.
+ * @param parameters the values bound to its parameters, in order, empty if they are not captured.
+ * @param durationMillis the execution time, the rows fetched afterwards excluded.
+ * @param rows the rows fetched or updated, the statements of a batch whose update count the driver does not report
+ * counting for none.
+ * @param joins the number of joins of the SQL.
+ * @param origin the application code that ran it: the query service whose specification built it, for the criteria
+ * queries.
+ * @param executedAt when it was executed.
+ */
+public record SlowQuery(
+    String sql,
+    List<String> parameters,
+    long durationMillis,
+    long rows,
+    int joins,
+    String origin,
+    Instant executedAt
+) {}
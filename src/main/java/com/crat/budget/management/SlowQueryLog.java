@@ -0,0 +1,176 @@
+package com.crat.budget.management;
+
+import com.crat.budget.config.ApplicationProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Log of the statements executed through the {@link InstrumentedDataSource} slower than
+ * {@code application.slow-query.threshold}.
+ * <p>
+ * Each of them is logged as a warning, with its bind values, row count and origin, and counted in
+ * {@code jdbc.slow-queries}. The slowest {@code application.slow-query.capacity} ones since the start, or since they
+ * were last cleared, are kept in a heap ordered by duration for the {@link SlowQueriesEndpoint}: a slow query replaces
+ * the fastest one kept once it is full.
+ */
+@Component
+@ConditionalOnProperty(name = "application.slow-query.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowQueryLog {
+
+    public static final String METER_NAME = "jdbc.slow-queries";
+
+    private static final Logger LOG = LoggerFactory.getLogger(SlowQueryLog.class);
+
+    private static final String APPLICATION_PACKAGE = "com.crat.budget.";
+
+    private static final String QUERY_SERVICE_SUFFIX = "QueryService";
+
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    private final long thresholdNanos;
+
+    private final boolean captureParameters;
+
+    private final int maximumParameterLength;
+
+    private final int capacity;
+
+    private final PriorityQueue<SlowQuery> slowQueries = new PriorityQueue<>(Comparator.comparingLong(SlowQuery::durationMillis));
+
+    private final Counter counter;
+
+    public SlowQueryLog(ApplicationProperties applicationProperties, MeterRegistry meterRegistry) {
+        ApplicationProperties.SlowQuery properties = applicationProperties.getSlowQuery();
+        this.thresholdNanos = properties.getThreshold().toNanos();
+        this.captureParameters = properties.isCaptureParameters();
+        this.maximumParameterLength = properties.getMaximumParameterLength();
+        this.capacity = Math.max(1, properties.getCapacity());
+        this.counter = Counter.builder(METER_NAME)
+            .description("Statements slower than the slow query threshold")
+            .baseUnit("statements")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Whether an execution time is over the threshold.
+     */
+    boolean isSlow(long durationNanos) {
+        return durationNanos >= thresholdNanos;
+    }
+
+    boolean isCaptureParameters() {
+        return captureParameters;
+    }
+
+    /**
+     * The application code running a statement, from the stack of the current thread: the first query service, the
+     * criteria queries being built by its {@code createSpecification}, otherwise the first application class.
+     */
+    String origin() {
+        return STACK_WALKER.walk(frames -> {
+            List<StackWalker.StackFrame> applicationFrames = frames
+                .filter(frame -> frame.getClassName().startsWith(APPLICATION_PACKAGE))
+                .filter(frame -> !isDeclaredIn(frame.getDeclaringClass(), InstrumentedDataSource.class))
+                .filter(frame -> frame.getDeclaringClass() != SlowQueryLog.class)
+                .filter(frame -> !frame.getClassName().contains("$$"))
+                .toList();
+            return applicationFrames
+                .stream()
+                .filter(frame -> frame.getClassName().endsWith(QUERY_SERVICE_SUFFIX))
+                .findFirst()
+                .or(() -> applicationFrames.stream().findFirst())
+                .map(frame -> frame.toStackTraceElement().toString())
+                .orElse(null);
+        });
+    }
+
+    private static boolean isDeclaredIn(Class<?> type, Class<?> outerType) {
+        for (Class<?> declaring = type; declaring != null; declaring = declaring.getDeclaringClass()) {
+            if (declaring == outerType) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Format a bind value for the log, truncated to {@code application.slow-query.maximum-parameter-length}.
+     */
+    String format(Object parameter) {
+        String value = String.valueOf(parameter);
+        return value.length() > maximumParameterLength ? value.substring(0, maximumParameterLength) + "..." : value;
+    }
+
+    void record(SlowQuery slowQuery) {
+        counter.increment();
+        synchronized (slowQueries) {
+            if (slowQueries.size() < capacity) {
+                slowQueries.add(slowQuery);
+            } else if (slowQuery.durationMillis() > slowQueries.element().durationMillis()) {
+                slowQueries.remove();
+                slowQueries.add(slowQuery);
+            }
+        }
+        LOG.warn(
+            "Slow query in {} ms, {} rows, {} joins, from {}: {} with parameters {}",
+            slowQuery.durationMillis(),
+            slowQuery.rows(),
+            slowQuery.joins(),
+            slowQuery.origin(),
+            slowQuery.sql(),
+            slowQuery.parameters()
+        );
+    }
+
+    /**
+     * The slow queries kept, the slowest first.
+     *
+     * @return the slowest queries, at most {@code application.slow-query.capacity} of them.
+     */
+    public List<SlowQuery> getSlowQueries() {
+        List<SlowQuery> result;
+        synchronized (slowQueries) {
+            result = new ArrayList<>(slowQueries);
+        }
+        result.sort(Comparator.comparingLong(SlowQuery::durationMillis).reversed());
+        return result;
+    }
+
+    /**
+     * Forget the slow queries kept.
+     */
+    public void clear() {
+        synchronized (slowQueries) {
+            slowQueries.clear();
+        }
+    }
+
+    static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    /**
+     * The number of joins of a statement.
+     */
+    static int countJoins(String sql) {
+        if (sql == null) {
+            return 0;
+        }
+        String lowerCase = sql.toLowerCase(Locale.ROOT);
+        int joins = 0;
+        for (int index = lowerCase.indexOf(" join "); index >= 0; index = lowerCase.indexOf(" join ", index + 1)) {
+            joins++;
+        }
+        return joins;
+    }
+}
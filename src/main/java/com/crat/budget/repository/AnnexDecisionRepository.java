@@ -1,7 +1,12 @@
 package com.crat.budget.repository;
 
 import com.crat.budget.domain.AnnexDecision;
+import jakarta.persistence.LockModeType;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -9,4 +14,60 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface AnnexDecisionRepository extends JpaRepository<AnnexDecision, Long>, JpaSpecificationExecutor<AnnexDecision> {}
+public interface AnnexDecisionRepository extends JpaRepository<AnnexDecision, Long>, JpaSpecificationExecutor<AnnexDecision> {
+    String CREDIT_AVAILABILITY_SELECT =
+        "select new com.crat.budget.repository.AnnexDecisionRepository$CreditAvailability(annexDecision.id, annexDecision.designation," +
+        " annexDecision.creditsOpen, coalesce(ledger.committedAmount, 0)," +
+        " annexDecision.creditsOpen - coalesce(ledger.committedAmount, 0))" +
+        " from AnnexDecision annexDecision left join CommitmentLedger ledger on ledger.annexDecisionId = annexDecision.id";
+
+    /**
+     * Read one annex decision with its commitment ledger.
+     *
+     * @param id the id of the annex decision.
+     * @return the credits of the annex decision, empty if it does not exist.
+     */
+    @Query(CREDIT_AVAILABILITY_SELECT + " where annexDecision.id = :id")
+    Optional<CreditAvailability> findCreditAvailability(@Param("id") Long id);
+
+    /**
+     * Read the annex decisions with less credits available than a threshold, with their commitment ledgers.
+     *
+     * @param threshold the exclusive upper bound of the available credits.
+     * @return the credits of the matching annex decisions, the least available first.
+     */
+    @Query(
+        CREDIT_AVAILABILITY_SELECT +
+        " where annexDecision.creditsOpen is not null" +
+        " and annexDecision.creditsOpen - coalesce(ledger.committedAmount, 0) < :threshold" +
+        " order by annexDecision.creditsOpen - coalesce(ledger.committedAmount, 0), annexDecision.id"
+    )
+    List<CreditAvailability> findCreditAvailabilitiesBelow(@Param("threshold") BigDecimal threshold);
+
+    /**
+     * Lock an annex decision until the end of the transaction.
+     *
+     * @param id the id of the annex decision.
+     * @return the id of the annex decision, empty if it does not exist.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select annexDecision.id from AnnexDecision annexDecision where annexDecision.id = :id")
+    Optional<Long> lockById(@Param("id") Long id);
+
+    @Query("select annexDecision.financialYear.id from AnnexDecision annexDecision where annexDecision.id = :id")
+    Optional<Long> findFinancialYearId(@Param("id") Long id);
+
+    @Query("select annexDecision from AnnexDecision annexDecision where annexDecision.financialYear.id = :financialYearId")
+    Optional<AnnexDecision> findOneByFinancialYearId(@Param("financialYearId") Long financialYearId);
+
+    /**
+     * The open credits of an annex decision, and the part of them committed by its purchase orders.
+     */
+    record CreditAvailability(
+        Long annexDecisionId,
+        String designation,
+        BigDecimal creditsOpen,
+        BigDecimal creditsCommitted,
+        BigDecimal creditsAvailable
+    ) {}
+}
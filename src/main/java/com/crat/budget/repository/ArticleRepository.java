@@ -1,11 +1,14 @@
 package com.crat.budget.repository;
 
 import com.crat.budget.domain.Article;
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -16,7 +19,11 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 public interface ArticleRepository
-    extends ArticleRepositoryWithBagRelationships, JpaRepository<Article, Long>, JpaSpecificationExecutor<Article> {
+    extends
+        ArticleRepositoryWithBagRelationships,
+        ArticleRepositoryWithBudgetAggregates,
+        JpaRepository<Article, Long>,
+        JpaSpecificationExecutor<Article> {
     default Optional<Article> findOneWithEagerRelationships(Long id) {
         return this.fetchBagRelationships(this.findById(id));
     }
@@ -28,4 +35,70 @@ public interface ArticleRepository
     default Page<Article> findAllWithEagerRelationships(Pageable pageable) {
         return this.fetchBagRelationships(this.findAll(pageable));
     }
+
+    @Query(
+        "select article.id from Article article join article.recipes recipe" +
+        " where recipe.id = :recipeId and article.id > :afterArticleId order by article.id"
+    )
+    List<Long> findIdsByRecipeId(@Param("recipeId") Long recipeId, @Param("afterArticleId") Long afterArticleId);
+
+    @Query(
+        "select article.id from Article article join article.expenses expense" +
+        " where expense.id = :expenseId and article.id > :afterArticleId order by article.id"
+    )
+    List<Long> findIdsByExpenseId(@Param("expenseId") Long expenseId, @Param("afterArticleId") Long afterArticleId);
+
+    /**
+     * Link the articles of a range of ids linked to a recipe to another recipe too, those already linked to it being
+     * left as they are. The query spaces restrict the second-level cache eviction to the recipe collections.
+     *
+     * @param recipeId the id of the recipe whose articles are linked.
+     * @param toRecipeId the id of the recipe to link them to.
+     * @param fromArticleId the first article id of the range.
+     * @param toArticleId the last article id of the range.
+     * @return the number of links inserted.
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "rel_article__recipe"))
+    @Query(
+        value = "insert into rel_article__recipe (article_id, recipe_id)" +
+        " select link.article_id, cast(:toRecipeId as bigint) from rel_article__recipe link" +
+        " where link.recipe_id = :recipeId and link.article_id between :fromArticleId and :toArticleId" +
+        " and not exists (select 1 from rel_article__recipe copied" +
+        " where copied.article_id = link.article_id and copied.recipe_id = :toRecipeId)",
+        nativeQuery = true
+    )
+    int copyRecipeLinks(
+        @Param("recipeId") Long recipeId,
+        @Param("toRecipeId") Long toRecipeId,
+        @Param("fromArticleId") Long fromArticleId,
+        @Param("toArticleId") Long toArticleId
+    );
+
+    /**
+     * Link the articles of a range of ids linked to an expense to another expense too, those already linked to it
+     * being left as they are. The query spaces restrict the second-level cache eviction to the expense collections.
+     *
+     * @param expenseId the id of the expense whose articles are linked.
+     * @param toExpenseId the id of the expense to link them to.
+     * @param fromArticleId the first article id of the range.
+     * @param toArticleId the last article id of the range.
+     * @return the number of links inserted.
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "rel_article__expense"))
+    @Query(
+        value = "insert into rel_article__expense (article_id, expense_id)" +
+        " select link.article_id, cast(:toExpenseId as bigint) from rel_article__expense link" +
+        " where link.expense_id = :expenseId and link.article_id between :fromArticleId and :toArticleId" +
+        " and not exists (select 1 from rel_article__expense copied" +
+        " where copied.article_id = link.article_id and copied.expense_id = :toExpenseId)",
+        nativeQuery = true
+    )
+    int copyExpenseLinks(
+        @Param("expenseId") Long expenseId,
+        @Param("toExpenseId") Long toExpenseId,
+        @Param("fromArticleId") Long fromArticleId,
+        @Param("toArticleId") Long toArticleId
+    );
 }
@@ -3,28 +3,36 @@ package com.crat.budget.repository;
 import com.crat.budget.domain.Article;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.IntStream;
+import java.util.function.Function;
+import org.hibernate.Cache;
+import org.hibernate.Hibernate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 
 /**
  * Utility repository to load bag relationships based on https://vladmihalcea.com/hibernate-multiplebagfetchexception/
+ * <p>
+ * Each bag is fetched by at most one query for the whole list, restricted to the articles whose bag is neither already
+ * initialized nor held by the second-level collection cache.
  */
 public class ArticleRepositoryWithBagRelationshipsImpl implements ArticleRepositoryWithBagRelationships {
 
-    private static final String ID_PARAMETER = "id";
-    private static final String ARTICLES_PARAMETER = "articles";
+    private static final String IDS_PARAMETER = "ids";
+
+    private static final String RECIPES = "recipes";
+    private static final String EXPENSES = "expenses";
 
     @PersistenceContext
     private EntityManager entityManager;
 
     @Override
     public Optional<Article> fetchBagRelationships(Optional<Article> article) {
-        return article.map(this::fetchRecipes).map(this::fetchExpenses);
+        return article.map(result -> fetchBagRelationships(List.of(result)).get(0));
     }
 
     @Override
@@ -34,42 +42,97 @@ public class ArticleRepositoryWithBagRelationshipsImpl implements ArticleReposit
 
     @Override
     public List<Article> fetchBagRelationships(List<Article> articles) {
-        return Optional.of(articles).map(this::fetchRecipes).map(this::fetchExpenses).orElse(Collections.emptyList());
+        Article[] result = articles.toArray(new Article[0]);
+        if (result.length == 0) {
+            return new ArrayList<>();
+        }
+        ArticleIndex index = new ArticleIndex(result);
+        fetchBag(result, index, RECIPES, Article::getRecipes);
+        fetchBag(result, index, EXPENSES, Article::getExpenses);
+        return new ArrayList<>(Arrays.asList(result));
     }
 
-    Article fetchRecipes(Article result) {
-        return entityManager
-            .createQuery("select article from Article article left join fetch article.recipes where article.id = :id", Article.class)
-            .setParameter(ID_PARAMETER, result.getId())
-            .getSingleResult();
+    private void fetchBag(Article[] articles, ArticleIndex index, String association, Function<Article, Collection<?>> bag) {
+        String role = Article.class.getName() + "." + association;
+        Cache cache = entityManager.getEntityManagerFactory().getCache().unwrap(Cache.class);
+        List<Long> missing = new ArrayList<>(articles.length);
+        for (Article article : articles) {
+            Collection<?> collection = bag.apply(article);
+            if (Hibernate.isInitialized(collection)) {
+                continue;
+            }
+            if (entityManager.contains(article) && cache.containsCollection(role, article.getId())) {
+                // resolved from the second-level cache, without any statement
+                Hibernate.initialize(collection);
+                continue;
+            }
+            missing.add(article.getId());
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+        entityManager
+            .createQuery(
+                "select article from Article article left join fetch article." + association + " where article.id in :ids",
+                Article.class
+            )
+            .setParameter(IDS_PARAMETER, missing)
+            .getResultList()
+            .forEach(fetched -> index.replace(articles, fetched));
     }
 
-    List<Article> fetchRecipes(List<Article> articles) {
-        HashMap<Object, Integer> order = new HashMap<>();
-        IntStream.range(0, articles.size()).forEach(index -> order.put(articles.get(index).getId(), index));
-        List<Article> result = entityManager
-            .createQuery("select article from Article article left join fetch article.recipes where article in :articles", Article.class)
-            .setParameter(ARTICLES_PARAMETER, articles)
-            .getResultList();
-        Collections.sort(result, (o1, o2) -> Integer.compare(order.get(o1.getId()), order.get(o2.getId())));
-        return result;
-    }
+    /**
+     * Position of the articles of a list by id, kept in two primitive arrays sorted by id so that fetched articles can be
+     * put back in the order of the list without boxing. An article present several times in the list has several
+     * positions, in the order of the list.
+     */
+    private static final class ArticleIndex {
 
-    Article fetchExpenses(Article result) {
-        return entityManager
-            .createQuery("select article from Article article left join fetch article.expenses where article.id = :id", Article.class)
-            .setParameter(ID_PARAMETER, result.getId())
-            .getSingleResult();
-    }
+        private final long[] ids;
+
+        private final int[] positions;
+
+        ArticleIndex(Article[] articles) {
+            ids = new long[articles.length];
+            for (int i = 0; i < articles.length; i++) {
+                ids[i] = articles[i].getId();
+            }
+            Arrays.sort(ids);
+            positions = new int[articles.length];
+            Arrays.fill(positions, -1);
+            for (int i = 0; i < articles.length; i++) {
+                // the first free slot of the id: the slots of a repeated id are taken in list order
+                int slot = firstSlot(articles[i].getId());
+                while (positions[slot] >= 0) {
+                    slot++;
+                }
+                positions[slot] = i;
+            }
+        }
+
+        void replace(Article[] articles, Article fetched) {
+            long id = fetched.getId();
+            int first = firstSlot(id);
+            if (first < 0) {
+                return;
+            }
+            for (int i = first; i < ids.length && ids[i] == id; i++) {
+                articles[positions[i]] = fetched;
+            }
+        }
 
-    List<Article> fetchExpenses(List<Article> articles) {
-        HashMap<Object, Integer> order = new HashMap<>();
-        IntStream.range(0, articles.size()).forEach(index -> order.put(articles.get(index).getId(), index));
-        List<Article> result = entityManager
-            .createQuery("select article from Article article left join fetch article.expenses where article in :articles", Article.class)
-            .setParameter(ARTICLES_PARAMETER, articles)
-            .getResultList();
-        Collections.sort(result, (o1, o2) -> Integer.compare(order.get(o1.getId()), order.get(o2.getId())));
-        return result;
+        /**
+         * @return the first index of an id in the sorted ids, -1 if it is not there.
+         */
+        private int firstSlot(long id) {
+            int found = Arrays.binarySearch(ids, id);
+            if (found < 0) {
+                return -1;
+            }
+            while (found > 0 && ids[found - 1] == id) {
+                found--;
+            }
+            return found;
+        }
     }
 }
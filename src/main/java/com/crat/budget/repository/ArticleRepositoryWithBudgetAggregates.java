@@ -0,0 +1,37 @@
+package com.crat.budget.repository;
+
+import com.crat.budget.domain.enumeration.FinancialCategoryEnum;
+import java.util.List;
+
+public interface ArticleRepositoryWithBudgetAggregates {
+    String RECIPE_SOURCE = "RECIPE";
+
+    String EXPENSE_SOURCE = "EXPENSE";
+
+    /**
+     * Sum the recipe and expense lines of every article, per financial year and category, in a single statement.
+     *
+     * @return one aggregate per article, source ({@link #RECIPE_SOURCE} or {@link #EXPENSE_SOURCE}), year and category.
+     */
+    List<BudgetLineAggregate> aggregateBudgetLines();
+
+    /**
+     * Sum of the recipe or expense lines attached to one article for one financial year and category.
+     */
+    record BudgetLineAggregate(
+        String source,
+        Long articleId,
+        String articleCode,
+        String articleDesignation,
+        Long chapterId,
+        String chapterCode,
+        String chapterDesignation,
+        Long subTitleId,
+        String subTitleCode,
+        String subTitleDesignation,
+        FinancialCategoryEnum category,
+        Integer financialYear,
+        long achievementsInThePastYear,
+        long newYearForecast
+    ) {}
+}
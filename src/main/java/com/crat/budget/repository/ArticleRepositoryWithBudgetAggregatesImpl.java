@@ -0,0 +1,58 @@
+package com.crat.budget.repository;
+
+import com.crat.budget.domain.enumeration.FinancialCategoryEnum;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.util.List;
+
+/**
+ * Utility repository to aggregate the recipe and expense lines of the articles in the database rather than in memory.
+ */
+public class ArticleRepositoryWithBudgetAggregatesImpl implements ArticleRepositoryWithBudgetAggregates {
+
+    private static final String GROUPED_COLUMNS =
+        "article.id, article.code, article.designation, chapter.id, chapter.code, chapter.designation, " +
+        "subTitle.id, subTitle.code, subTitle.designation, coalesce(line.category, article.category), financialYear.year";
+
+    private static final String BUDGET_LINES_QUERY =
+        budgetLinesBranch(RECIPE_SOURCE, "recipes") + " union all " + budgetLinesBranch(EXPENSE_SOURCE, "expenses");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<BudgetLineAggregate> aggregateBudgetLines() {
+        return entityManager
+            .createQuery(BUDGET_LINES_QUERY, Object[].class)
+            .getResultList()
+            .stream()
+            .map(row ->
+                new BudgetLineAggregate(
+                    (String) row[0],
+                    (Long) row[1],
+                    (String) row[2],
+                    (String) row[3],
+                    (Long) row[4],
+                    (String) row[5],
+                    (String) row[6],
+                    (Long) row[7],
+                    (String) row[8],
+                    (String) row[9],
+                    (FinancialCategoryEnum) row[10],
+                    (Integer) row[11],
+                    row[12] == null ? 0L : ((Number) row[12]).longValue(),
+                    row[13] == null ? 0L : ((Number) row[13]).longValue()
+                )
+            )
+            .toList();
+    }
+
+    private static String budgetLinesBranch(String source, String lines) {
+        return (
+            "select '" + source + "', " + GROUPED_COLUMNS + ", sum(line.achievementsInThePastYear), sum(line.newYearForecast)" +
+            " from Article article join article." + lines + " line" +
+            " left join article.chapter chapter left join chapter.subTitle subTitle left join line.financialYear financialYear" +
+            " group by " + GROUPED_COLUMNS
+        );
+    }
+}
@@ -0,0 +1,50 @@
+package com.crat.budget.repository;
+
+import com.crat.budget.domain.CommitmentLedger;
+import java.math.BigDecimal;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for the CommitmentLedger entity.
+ */
+@SuppressWarnings("unused")
+@Repository
+public interface CommitmentLedgerRepository extends JpaRepository<CommitmentLedger, Long> {
+    /**
+     * Add a delta to the totals of an annex decision. The updated row stays locked until the end of the transaction, so
+     * that concurrent deltas are applied one after the other.
+     *
+     * @param annexDecisionId the id of the annex decision.
+     * @param amount the amount to add to the committed amount.
+     * @param count the number to add to the purchase order count.
+     * @return the number of updated rows, 0 if the ledger of the annex decision is not open yet.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(
+        "update CommitmentLedger ledger set ledger.committedAmount = ledger.committedAmount + :amount," +
+        " ledger.purchaseOrderCount = ledger.purchaseOrderCount + :count, ledger.version = ledger.version + 1" +
+        " where ledger.annexDecisionId = :annexDecisionId"
+    )
+    int addDelta(@Param("annexDecisionId") Long annexDecisionId, @Param("amount") BigDecimal amount, @Param("count") long count);
+
+    /**
+     * Open the ledger of an annex decision with the totals of its purchase orders.
+     *
+     * @param annexDecisionId the id of the annex decision.
+     * @return the number of inserted rows.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(
+        value = "insert into commitment_ledger (annex_decision_id, committed_amount, purchase_order_count, version)" +
+        " select cast(:annexDecisionId as bigint), coalesce(sum(total_amount_with_tax), 0), count(*), 0" +
+        " from purchase_order where annex_decision_id = :annexDecisionId",
+        nativeQuery = true
+    )
+    int open(@Param("annexDecisionId") Long annexDecisionId);
+
+    @Query("select ledger.committedAmount from CommitmentLedger ledger where ledger.annexDecisionId = :annexDecisionId")
+    Optional<BigDecimal> findCommittedAmount(@Param("annexDecisionId") Long annexDecisionId);
+}
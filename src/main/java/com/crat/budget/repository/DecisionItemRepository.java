@@ -2,6 +2,7 @@ package com.crat.budget.repository;
 
 import com.crat.budget.domain.DecisionItem;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -9,4 +10,32 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface DecisionItemRepository extends JpaRepository<DecisionItem, Long>, JpaSpecificationExecutor<DecisionItem> {}
+public interface DecisionItemRepository extends JpaRepository<DecisionItem, Long>, JpaSpecificationExecutor<DecisionItem> {
+    /**
+     * Move the items of a decision to another financial year.
+     *
+     * @param decisionId the id of the decision.
+     * @param financialYearId the id of the financial year, {@code null} for none.
+     * @return the number of updated rows.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update DecisionItem item set item.financialYearId = :financialYearId where item.decision.id = :decisionId")
+    int updateFinancialYearIdByDecisionId(@Param("decisionId") Long decisionId, @Param("financialYearId") Long financialYearId);
+
+    /**
+     * Move the items of the decisions of an annex decision to another financial year.
+     *
+     * @param annexDecisionId the id of the annex decision.
+     * @param financialYearId the id of the financial year, {@code null} for none.
+     * @return the number of updated rows.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+        "update DecisionItem item set item.financialYearId = :financialYearId where item.decision.id in" +
+        " (select decision.id from Decision decision where decision.annexDecision.id = :annexDecisionId)"
+    )
+    int updateFinancialYearIdByAnnexDecisionId(
+        @Param("annexDecisionId") Long annexDecisionId,
+        @Param("financialYearId") Long financialYearId
+    );
+}
@@ -1,7 +1,9 @@
 package com.crat.budget.repository;
 
 import com.crat.budget.domain.Decision;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -9,4 +11,26 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface DecisionRepository extends JpaRepository<Decision, Long>, JpaSpecificationExecutor<Decision> {}
+public interface DecisionRepository extends JpaRepository<Decision, Long>, JpaSpecificationExecutor<Decision> {
+    @Query("select decision.financialYearId from Decision decision where decision.id = :id")
+    Optional<Long> findFinancialYearId(@Param("id") Long id);
+
+    @Query("select decision.financialYearId from Decision decision where decision.engagement.id = :engagementId")
+    Optional<Long> findFinancialYearIdByEngagementId(@Param("engagementId") Long engagementId);
+
+    /**
+     * Move the decisions of an annex decision to another financial year.
+     *
+     * @param annexDecisionId the id of the annex decision.
+     * @param financialYearId the id of the financial year, {@code null} for none.
+     * @return the number of updated rows.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+        "update Decision decision set decision.financialYearId = :financialYearId where decision.annexDecision.id = :annexDecisionId"
+    )
+    int updateFinancialYearIdByAnnexDecisionId(
+        @Param("annexDecisionId") Long annexDecisionId,
+        @Param("financialYearId") Long financialYearId
+    );
+}
@@ -1,7 +1,9 @@
 package com.crat.budget.repository;
 
 import com.crat.budget.domain.Engagement;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -9,4 +11,35 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface EngagementRepository extends JpaRepository<Engagement, Long>, JpaSpecificationExecutor<Engagement> {}
+public interface EngagementRepository extends JpaRepository<Engagement, Long>, JpaSpecificationExecutor<Engagement> {
+    @Query("select engagement.financialYearId from Engagement engagement where engagement.id = :id")
+    Optional<Long> findFinancialYearId(@Param("id") Long id);
+
+    /**
+     * Move an engagement to another financial year.
+     *
+     * @param id the id of the engagement.
+     * @param financialYearId the id of the financial year, {@code null} for none.
+     * @return the number of updated rows.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Engagement engagement set engagement.financialYearId = :financialYearId where engagement.id = :id")
+    int updateFinancialYearId(@Param("id") Long id, @Param("financialYearId") Long financialYearId);
+
+    /**
+     * Move the engagements of the decisions of an annex decision to another financial year.
+     *
+     * @param annexDecisionId the id of the annex decision.
+     * @param financialYearId the id of the financial year, {@code null} for none.
+     * @return the number of updated rows.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+        "update Engagement engagement set engagement.financialYearId = :financialYearId where engagement.id in" +
+        " (select decision.engagement.id from Decision decision where decision.annexDecision.id = :annexDecisionId)"
+    )
+    int updateFinancialYearIdByAnnexDecisionId(
+        @Param("annexDecisionId") Long annexDecisionId,
+        @Param("financialYearId") Long financialYearId
+    );
+}
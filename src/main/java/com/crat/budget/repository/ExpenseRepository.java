@@ -1,7 +1,9 @@
 package com.crat.budget.repository;
 
 import com.crat.budget.domain.Expense;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -9,4 +11,10 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface ExpenseRepository extends JpaRepository<Expense, Long>, JpaSpecificationExecutor<Expense> {}
+public interface ExpenseRepository extends JpaRepository<Expense, Long>, JpaSpecificationExecutor<Expense> {
+    @Query("select expense from Expense expense where expense.financialYear.id = :financialYearId")
+    Optional<Expense> findOneByFinancialYearId(@Param("financialYearId") Long financialYearId);
+
+    @Query("select expense.id from Expense expense where expense.financialYear.id = :financialYearId")
+    Optional<Long> findIdByFinancialYearId(@Param("financialYearId") Long financialYearId);
+}
@@ -2,6 +2,7 @@ package com.crat.budget.repository;
 
 import com.crat.budget.domain.Mandate;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -9,4 +10,32 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface MandateRepository extends JpaRepository<Mandate, Long>, JpaSpecificationExecutor<Mandate> {}
+public interface MandateRepository extends JpaRepository<Mandate, Long>, JpaSpecificationExecutor<Mandate> {
+    /**
+     * Move the mandates of an engagement to another financial year.
+     *
+     * @param engagementId the id of the engagement.
+     * @param financialYearId the id of the financial year, {@code null} for none.
+     * @return the number of updated rows.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Mandate mandate set mandate.financialYearId = :financialYearId where mandate.engagement.id = :engagementId")
+    int updateFinancialYearIdByEngagementId(@Param("engagementId") Long engagementId, @Param("financialYearId") Long financialYearId);
+
+    /**
+     * Move the mandates of the engagements of the decisions of an annex decision to another financial year.
+     *
+     * @param annexDecisionId the id of the annex decision.
+     * @param financialYearId the id of the financial year, {@code null} for none.
+     * @return the number of updated rows.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+        "update Mandate mandate set mandate.financialYearId = :financialYearId where mandate.engagement.id in" +
+        " (select decision.engagement.id from Decision decision where decision.annexDecision.id = :annexDecisionId)"
+    )
+    int updateFinancialYearIdByAnnexDecisionId(
+        @Param("annexDecisionId") Long annexDecisionId,
+        @Param("financialYearId") Long financialYearId
+    );
+}
@@ -1,7 +1,11 @@
 package com.crat.budget.repository;
 
 import com.crat.budget.domain.PurchaseOrderItem;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -9,4 +13,55 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface PurchaseOrderItemRepository extends JpaRepository<PurchaseOrderItem, Long>, JpaSpecificationExecutor<PurchaseOrderItem> {}
+public interface PurchaseOrderItemRepository extends JpaRepository<PurchaseOrderItem, Long>, JpaSpecificationExecutor<PurchaseOrderItem> {
+    /**
+     * Sum the items of several purchase orders, with a single aggregate query.
+     *
+     * @param purchaseOrderIds the ids of the purchase orders.
+     * @return the totals of the purchase orders having items.
+     */
+    @Query(
+        "select new com.crat.budget.repository.PurchaseOrderItemRepository$ItemTotals(item.purchaseOrder.id, sum(item.totalAmount))" +
+        " from PurchaseOrderItem item where item.purchaseOrder.id in :purchaseOrderIds group by item.purchaseOrder.id"
+    )
+    List<ItemTotals> findItemTotals(@Param("purchaseOrderIds") Collection<Long> purchaseOrderIds);
+
+    @Query("select distinct item.purchaseOrder.id from PurchaseOrderItem item order by item.purchaseOrder.id")
+    List<Long> findItemizedPurchaseOrderIds();
+
+    /**
+     * Move the items of a purchase order to another financial year.
+     *
+     * @param purchaseOrderId the id of the purchase order.
+     * @param financialYearId the id of the financial year, {@code null} for none.
+     * @return the number of updated rows.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update PurchaseOrderItem item set item.financialYearId = :financialYearId where item.purchaseOrder.id = :purchaseOrderId")
+    int updateFinancialYearIdByPurchaseOrderId(
+        @Param("purchaseOrderId") Long purchaseOrderId,
+        @Param("financialYearId") Long financialYearId
+    );
+
+    /**
+     * Move the items of the purchase orders of an annex decision to another financial year.
+     *
+     * @param annexDecisionId the id of the annex decision.
+     * @param financialYearId the id of the financial year, {@code null} for none.
+     * @return the number of updated rows.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+        "update PurchaseOrderItem item set item.financialYearId = :financialYearId where item.purchaseOrder.id in" +
+        " (select purchaseOrder.id from PurchaseOrder purchaseOrder where purchaseOrder.annexDecision.id = :annexDecisionId)"
+    )
+    int updateFinancialYearIdByAnnexDecisionId(
+        @Param("annexDecisionId") Long annexDecisionId,
+        @Param("financialYearId") Long financialYearId
+    );
+
+    /**
+     * The sum of the amounts of the items of a purchase order.
+     */
+    record ItemTotals(Long purchaseOrderId, BigDecimal totalAmount) {}
+}
@@ -1,7 +1,12 @@
 package com.crat.budget.repository;
 
 import com.crat.budget.domain.PurchaseOrder;
+import jakarta.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -9,4 +14,34 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface PurchaseOrderRepository extends JpaRepository<PurchaseOrder, Long>, JpaSpecificationExecutor<PurchaseOrder> {}
+public interface PurchaseOrderRepository extends JpaRepository<PurchaseOrder, Long>, JpaSpecificationExecutor<PurchaseOrder> {
+    /**
+     * Load several purchase orders, locking them until the end of the transaction in the order of their ids.
+     *
+     * @param ids the ids of the purchase orders.
+     * @return the existing purchase orders.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select purchaseOrder from PurchaseOrder purchaseOrder where purchaseOrder.id in :ids order by purchaseOrder.id")
+    List<PurchaseOrder> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
+    @Query("select purchaseOrder.financialYearId from PurchaseOrder purchaseOrder where purchaseOrder.id = :id")
+    Optional<Long> findFinancialYearId(@Param("id") Long id);
+
+    /**
+     * Move the purchase orders of an annex decision to another financial year.
+     *
+     * @param annexDecisionId the id of the annex decision.
+     * @param financialYearId the id of the financial year, {@code null} for none.
+     * @return the number of updated rows.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+        "update PurchaseOrder purchaseOrder set purchaseOrder.financialYearId = :financialYearId" +
+        " where purchaseOrder.annexDecision.id = :annexDecisionId"
+    )
+    int updateFinancialYearIdByAnnexDecisionId(
+        @Param("annexDecisionId") Long annexDecisionId,
+        @Param("financialYearId") Long financialYearId
+    );
+}
@@ -1,7 +1,9 @@
 package com.crat.budget.repository;
 
 import com.crat.budget.domain.Recipe;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -9,4 +11,10 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface RecipeRepository extends JpaRepository<Recipe, Long>, JpaSpecificationExecutor<Recipe> {}
+public interface RecipeRepository extends JpaRepository<Recipe, Long>, JpaSpecificationExecutor<Recipe> {
+    @Query("select recipe from Recipe recipe where recipe.financialYear.id = :financialYearId")
+    Optional<Recipe> findOneByFinancialYearId(@Param("financialYearId") Long financialYearId);
+
+    @Query("select recipe.id from Recipe recipe where recipe.financialYear.id = :financialYearId")
+    Optional<Long> findIdByFinancialYearId(@Param("financialYearId") Long financialYearId);
+}
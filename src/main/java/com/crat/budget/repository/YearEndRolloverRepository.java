@@ -0,0 +1,104 @@
+package com.crat.budget.repository;
+
+import com.crat.budget.domain.YearEndRollover;
+import com.crat.budget.domain.enumeration.YearEndRolloverStep;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for the YearEndRollover entity.
+ */
+@SuppressWarnings("unused")
+@Repository
+public interface YearEndRolloverRepository extends JpaRepository<YearEndRollover, Long> {
+    @Query("select rollover from YearEndRollover rollover where rollover.step <> :step order by rollover.startedDate")
+    List<YearEndRollover> findAllByStepNot(@Param("step") YearEndRolloverStep step);
+
+    /**
+     * Claim the lease of a rollover for an instance, or renew it: the lease is only taken when it is free, expired or
+     * already held by this instance. The updated row is locked until the end of the transaction, so that of two
+     * instances claiming the lease at the same time, the second one finds it taken.
+     *
+     * @param financialYearId the id of the financial year opened by the rollover.
+     * @param leaseOwner the instance claiming the lease.
+     * @param now the date of the claim.
+     * @param leaseExpiresAt the date the lease expires if it is not renewed.
+     * @return the number of updated rows, 0 if another instance holds the lease.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(
+        "update YearEndRollover rollover set rollover.leaseOwner = :leaseOwner, rollover.leaseExpiresAt = :leaseExpiresAt" +
+        " where rollover.financialYearId = :financialYearId" +
+        " and (rollover.leaseOwner is null or rollover.leaseOwner = :leaseOwner or rollover.leaseExpiresAt < :now)"
+    )
+    int claimLease(
+        @Param("financialYearId") Long financialYearId,
+        @Param("leaseOwner") String leaseOwner,
+        @Param("now") Instant now,
+        @Param("leaseExpiresAt") Instant leaseExpiresAt
+    );
+
+    /**
+     * Release the lease of a rollover, if an instance still holds it.
+     *
+     * @param financialYearId the id of the financial year opened by the rollover.
+     * @param leaseOwner the instance holding the lease.
+     * @return the number of updated rows, 0 if the instance no longer holds the lease.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(
+        "update YearEndRollover rollover set rollover.leaseOwner = null, rollover.leaseExpiresAt = null" +
+        " where rollover.financialYearId = :financialYearId and rollover.leaseOwner = :leaseOwner"
+    )
+    int releaseLease(@Param("financialYearId") Long financialYearId, @Param("leaseOwner") String leaseOwner);
+
+    /**
+     * Move the article checkpoint of a rollover forward, to an article id below which every link of the step is
+     * copied, and add the links copied up to it to the count. A checkpoint already further is left as it is.
+     *
+     * @param financialYearId the id of the financial year opened by the rollover.
+     * @param step the step of the rollover.
+     * @param articleCheckpoint the new checkpoint.
+     * @param relinkedArticles the number of links copied since the previous checkpoint.
+     * @param updatedDate the date of the update.
+     * @return the number of updated rows, 0 if the rollover is no longer at this step or already further.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(
+        "update YearEndRollover rollover set rollover.articleCheckpoint = :articleCheckpoint," +
+        " rollover.relinkedArticles = rollover.relinkedArticles + :relinkedArticles, rollover.updatedDate = :updatedDate" +
+        " where rollover.financialYearId = :financialYearId and rollover.step = :step" +
+        " and (rollover.articleCheckpoint is null or rollover.articleCheckpoint < :articleCheckpoint)"
+    )
+    int advanceArticleCheckpoint(
+        @Param("financialYearId") Long financialYearId,
+        @Param("step") YearEndRolloverStep step,
+        @Param("articleCheckpoint") Long articleCheckpoint,
+        @Param("relinkedArticles") long relinkedArticles,
+        @Param("updatedDate") Instant updatedDate
+    );
+
+    /**
+     * Move a rollover from a step to the next one, with no article checkpoint.
+     *
+     * @param financialYearId the id of the financial year opened by the rollover.
+     * @param step the step done.
+     * @param nextStep the next step.
+     * @param updatedDate the date of the update.
+     * @return the number of updated rows, 0 if the rollover is no longer at this step.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(
+        "update YearEndRollover rollover set rollover.step = :nextStep, rollover.articleCheckpoint = null," +
+        " rollover.updatedDate = :updatedDate where rollover.financialYearId = :financialYearId and rollover.step = :step"
+    )
+    int completeStep(
+        @Param("financialYearId") Long financialYearId,
+        @Param("step") YearEndRolloverStep step,
+        @Param("nextStep") YearEndRolloverStep nextStep,
+        @Param("updatedDate") Instant updatedDate
+    );
+}
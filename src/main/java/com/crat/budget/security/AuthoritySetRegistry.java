@@ -0,0 +1,103 @@
+package com.crat.budget.security;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+/**
+ * Converts the authorities claim of a JWT to granted authorities, through a registry of immutable authority sets shared by
+ * all the tokens carrying the same claim.
+ * <p>
+ * A token carries its authorities as a single space-separated string, of which there are only a handful of distinct
+ * values: each of them is split and converted once, the next requests get the same set back from a single map lookup.
+ * The {@link GrantedAuthority} instances are themselves shared, starting with the ones of {@link AuthoritiesConstants}.
+ * The registry holds at most {@code maximumSize} claims, the sets of the claims beyond are built for each request.
+ */
+public class AuthoritySetRegistry implements Converter<Jwt, Collection<GrantedAuthority>> {
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 256;
+
+    private static final String SEPARATOR = " ";
+
+    private final String claimName;
+
+    private final int maximumSize;
+
+    private final Map<String, GrantedAuthority> authorities = new ConcurrentHashMap<>();
+
+    private final Map<Object, Set<GrantedAuthority>> authoritySets = new ConcurrentHashMap<>();
+
+    public AuthoritySetRegistry(String claimName) {
+        this(claimName, DEFAULT_MAXIMUM_SIZE);
+    }
+
+    public AuthoritySetRegistry(String claimName, int maximumSize) {
+        this.claimName = claimName;
+        this.maximumSize = maximumSize;
+        for (String authority : new String[] { AuthoritiesConstants.ADMIN, AuthoritiesConstants.USER, AuthoritiesConstants.ANONYMOUS }) {
+            authorities.put(authority, new SimpleGrantedAuthority(authority));
+        }
+        authoritySets.put("", Set.of());
+        // the claims of the users, their authorities being sorted when the tokens are created
+        getAuthorities(AuthoritiesConstants.ADMIN + SEPARATOR + AuthoritiesConstants.USER);
+        getAuthorities(AuthoritiesConstants.USER);
+        getAuthorities(AuthoritiesConstants.ADMIN);
+    }
+
+    @Override
+    public Collection<GrantedAuthority> convert(Jwt jwt) {
+        return getAuthorities(jwt.getClaims().get(claimName));
+    }
+
+    /**
+     * Get the authorities of a claim.
+     *
+     * @param claim the value of the authorities claim: a space-separated string or a collection of authority names.
+     * @return the shared immutable set of the authorities, empty if there is no claim.
+     */
+    public Set<GrantedAuthority> getAuthorities(Object claim) {
+        if (claim == null) {
+            return Set.of();
+        }
+        Set<GrantedAuthority> authoritySet = authoritySets.get(claim);
+        if (authoritySet != null) {
+            return authoritySet;
+        }
+        authoritySet = createAuthoritySet(claim);
+        if (authoritySets.size() < maximumSize) {
+            Set<GrantedAuthority> registered = authoritySets.putIfAbsent(claim, authoritySet);
+            return registered != null ? registered : authoritySet;
+        }
+        return authoritySet;
+    }
+
+    private Set<GrantedAuthority> createAuthoritySet(Object claim) {
+        Set<GrantedAuthority> authoritySet = new LinkedHashSet<>();
+        if (claim instanceof Collection<?> names) {
+            names.forEach(name -> addAuthority(authoritySet, String.valueOf(name)));
+        } else {
+            for (String name : claim.toString().split(SEPARATOR)) {
+                addAuthority(authoritySet, name);
+            }
+        }
+        return Collections.unmodifiableSet(authoritySet);
+    }
+
+    private void addAuthority(Set<GrantedAuthority> authoritySet, String name) {
+        if (name.isBlank()) {
+            return;
+        }
+        if (authorities.size() < maximumSize) {
+            authoritySet.add(authorities.computeIfAbsent(name, SimpleGrantedAuthority::new));
+        } else {
+            authoritySet.add(authorities.getOrDefault(name, new SimpleGrantedAuthority(name)));
+        }
+    }
+}
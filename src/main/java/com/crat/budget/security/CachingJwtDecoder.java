@@ -0,0 +1,171 @@
+package com.crat.budget.security;
+
+import com.crat.budget.management.SecurityMetersService;
+import com.nimbusds.jose.proc.BadJOSEException;
+import com.nimbusds.jose.proc.BadJWSException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+
+/**
+ * {@link JwtDecoder} keeping the tokens it has verified until they expire, so that the requests of a session only pay
+ * for the signature check and the claims parsing once.
+ * <p>
+ * The tokens are cached by their SHA-256 digest in a concurrent map, read without locking, at most {@code maximumSize}
+ * of them, give or take the tokens inserted at the same time. When the cache is full, a new token evicts the expired
+ * ones if one may have expired since the last sweep, and otherwise arbitrary ones, the digests spreading the tokens
+ * evenly over the map. A token is never served from the cache after its {@code exp} claim, and tokens without one are
+ * not cached, nor any token if {@code maximumSize} is zero. The rejected tokens are counted by cause, from the type of
+ * the failure.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CachingJwtDecoder.class);
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private final JwtDecoder delegate;
+
+    private final SecurityMetersService metersService;
+
+    private final int maximumSize;
+
+    private final Clock clock;
+
+    private final Map<TokenDigest, Jwt> verifiedTokens = new ConcurrentHashMap<>();
+
+    /**
+     * Earliest expiry of the tokens kept by the last sweep, none of them being expired before.
+     */
+    private volatile Instant nextSweep = Instant.MIN;
+
+    public CachingJwtDecoder(JwtDecoder delegate, SecurityMetersService metersService, int maximumSize) {
+        this(delegate, metersService, maximumSize, Clock.systemUTC());
+    }
+
+    CachingJwtDecoder(JwtDecoder delegate, SecurityMetersService metersService, int maximumSize, Clock clock) {
+        this.delegate = delegate;
+        this.metersService = metersService;
+        this.maximumSize = maximumSize;
+        this.clock = clock;
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        if (maximumSize <= 0) {
+            return verify(token);
+        }
+        TokenDigest digest = TokenDigest.of(token);
+        Instant now = clock.instant();
+        Jwt cached = cached(digest, now);
+        if (cached != null) {
+            metersService.trackTokenCacheHit();
+            return cached;
+        }
+        metersService.trackTokenCacheMiss();
+        Jwt jwt = verify(token);
+        if (jwt.getExpiresAt() != null && now.isBefore(jwt.getExpiresAt())) {
+            if (verifiedTokens.size() >= maximumSize) {
+                evict(now);
+            }
+            verifiedTokens.put(digest, jwt);
+        }
+        return jwt;
+    }
+
+    /**
+     * Number of tokens currently cached.
+     *
+     * @return the number of cached tokens, expired ones included until they are evicted.
+     */
+    public int size() {
+        return verifiedTokens.size();
+    }
+
+    private Jwt cached(TokenDigest digest, Instant now) {
+        Jwt cached = verifiedTokens.get(digest);
+        if (cached != null && !now.isBefore(cached.getExpiresAt())) {
+            verifiedTokens.remove(digest, cached);
+            return null;
+        }
+        return cached;
+    }
+
+    /**
+     * Make room for a token: remove the expired tokens, unless none can have expired since the last sweep, then
+     * arbitrary ones while the cache is full.
+     */
+    private void evict(Instant now) {
+        if (!now.isBefore(nextSweep)) {
+            Instant earliest = Instant.MAX;
+            Iterator<Jwt> tokens = verifiedTokens.values().iterator();
+            while (tokens.hasNext()) {
+                Instant expiresAt = tokens.next().getExpiresAt();
+                if (!now.isBefore(expiresAt)) {
+                    tokens.remove();
+                } else if (expiresAt.isBefore(earliest)) {
+                    earliest = expiresAt;
+                }
+            }
+            nextSweep = earliest;
+        }
+        Iterator<TokenDigest> digests = verifiedTokens.keySet().iterator();
+        while (verifiedTokens.size() >= maximumSize && digests.hasNext()) {
+            digests.next();
+            digests.remove();
+        }
+    }
+
+    private Jwt verify(String token) {
+        try {
+            return delegate.decode(token);
+        } catch (JwtValidationException e) {
+            // only the timestamps are validated: the token is outside of its validity period
+            metersService.trackTokenExpired();
+            throw e;
+        } catch (BadJwtException e) {
+            if (e.getCause() instanceof BadJWSException) {
+                metersService.trackTokenInvalidSignature();
+            } else if (e.getCause() instanceof ParseException) {
+                metersService.trackTokenMalformed();
+            } else if (e.getCause() instanceof BadJOSEException) {
+                metersService.trackTokenUnsupported();
+            } else {
+                LOG.error("Unknown JWT error {}", e.getMessage());
+            }
+            throw e;
+        } catch (JwtException e) {
+            LOG.error("Unknown JWT error {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * SHA-256 digest of a token, held in four longs.
+     */
+    private record TokenDigest(long first, long second, long third, long fourth) {
+        static TokenDigest of(String token) {
+            ByteBuffer digest;
+            try {
+                digest = ByteBuffer.wrap(MessageDigest.getInstance(DIGEST_ALGORITHM).digest(token.getBytes(StandardCharsets.US_ASCII)));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+            return new TokenDigest(digest.getLong(), digest.getLong(), digest.getLong(), digest.getLong());
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.crat.budget.security;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link RateLimitStore} keeping the buckets in the memory of the instance, without locking.
+ * <p>
+ * At most {@code maximumKeys} buckets are kept: when it is reached, the full buckets are evicted, their keys starting
+ * over with a full bucket. A bucket which is not full is never evicted, as it still limits its key: until one of them
+ * is full again, the attempts for new keys are refused, so that a client flooding the store with keys cannot reset the
+ * buckets of the others. The store is only swept again once the earliest of the remaining buckets is full.
+ */
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    public static final int DEFAULT_MAXIMUM_KEYS = 100000;
+
+    private final int maximumKeys;
+
+    private final ConcurrentMap<String, AtomicLong> arrivalTimes = new ConcurrentHashMap<>();
+
+    /**
+     * Earliest arrival time of the buckets kept by the last sweep, none of them being evicted before.
+     */
+    private volatile long nextSweepMillis = Long.MIN_VALUE;
+
+    public InMemoryRateLimitStore() {
+        this(DEFAULT_MAXIMUM_KEYS);
+    }
+
+    public InMemoryRateLimitStore(int maximumKeys) {
+        this.maximumKeys = Math.max(1, maximumKeys);
+    }
+
+    @Override
+    public long tryAcquire(String key, long intervalMillis, long periodMillis, long nowMillis) {
+        AtomicLong arrivalTime = arrivalTimes.get(key);
+        if (arrivalTime == null) {
+            if (arrivalTimes.size() >= maximumKeys && !evictFullBuckets(nowMillis)) {
+                return Math.max(1, nextSweepMillis - nowMillis);
+            }
+            arrivalTime = arrivalTimes.computeIfAbsent(key, k -> new AtomicLong(Long.MIN_VALUE));
+        }
+        while (true) {
+            long current = arrivalTime.get();
+            long next = RateLimitStore.nextArrivalTime(current, intervalMillis, periodMillis, nowMillis);
+            if (next < 0) {
+                return -next;
+            }
+            if (arrivalTime.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Number of buckets currently kept.
+     *
+     * @return the number of buckets, full ones included until they are evicted.
+     */
+    public int size() {
+        return arrivalTimes.size();
+    }
+
+    /**
+     * Evict the full buckets.
+     *
+     * @return whether there is room for a new bucket.
+     */
+    private synchronized boolean evictFullBuckets(long nowMillis) {
+        if (arrivalTimes.size() < maximumKeys) {
+            // made room for by a concurrent attempt
+            return true;
+        }
+        if (nowMillis < nextSweepMillis) {
+            return false;
+        }
+        long earliest = Long.MAX_VALUE;
+        Iterator<Map.Entry<String, AtomicLong>> entries = arrivalTimes.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<String, AtomicLong> entry = entries.next();
+            long arrivalTime = entry.getValue().get();
+            if (arrivalTime <= nowMillis) {
+                entries.remove();
+                if (entry.getValue().get() > nowMillis) {
+                    // taken from by a concurrent attempt in the meantime
+                    arrivalTimes.putIfAbsent(entry.getKey(), entry.getValue());
+                }
+            } else {
+                earliest = Math.min(earliest, arrivalTime);
+            }
+        }
+        nextSweepMillis = earliest;
+        return arrivalTimes.size() < maximumKeys;
+    }
+}
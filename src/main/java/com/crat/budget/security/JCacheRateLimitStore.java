@@ -0,0 +1,42 @@
+package com.crat.budget.security;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link RateLimitStore} keeping the buckets in the {@value #CACHE_NAME} JCache region, shared by all the instances when
+ * the cache provider is distributed.
+ * <p>
+ * The buckets are updated with the atomic {@code putIfAbsent} and {@code replace} operations of the cache, retried
+ * when another attempt got in first. An evicted or expired bucket starts over full: the region holds
+ * {@code maximum-keys} buckets, each expiring the longest period after its last attempt, when it is full again anyway.
+ */
+@Component
+@ConditionalOnProperty(name = "application.security.login-rate-limit.store", havingValue = "cache")
+public class JCacheRateLimitStore implements RateLimitStore {
+
+    public static final String CACHE_NAME = "loginRateLimits";
+
+    private final Cache<Object, Object> cache;
+
+    public JCacheRateLimitStore(CacheManager cacheManager) {
+        this.cache = cacheManager.getCache(CACHE_NAME);
+    }
+
+    @Override
+    public long tryAcquire(String key, long intervalMillis, long periodMillis, long nowMillis) {
+        while (true) {
+            Object current = cache.get(key);
+            long arrivalTime = current instanceof Long value ? value : Long.MIN_VALUE;
+            long next = RateLimitStore.nextArrivalTime(arrivalTime, intervalMillis, periodMillis, nowMillis);
+            if (next < 0) {
+                return -next;
+            }
+            if (current == null ? cache.putIfAbsent(key, next) : cache.replace(key, current, next)) {
+                return 0;
+            }
+        }
+    }
+}
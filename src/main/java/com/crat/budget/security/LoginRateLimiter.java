@@ -0,0 +1,108 @@
+package com.crat.budget.security;
+
+import com.crat.budget.config.ApplicationProperties;
+import com.crat.budget.management.SecurityMetersService;
+import java.time.Clock;
+import java.util.Locale;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rate limiter of the password authentications, checked before the password is hashed so that a client hammering the
+ * authentication endpoint does not use up the CPU of the real users.
+ * <p>
+ * Each attempt takes a token from the bucket of its client IP, then from the bucket of its login: the first limit
+ * protects the server from a single client, the second one each account from a distributed guessing. The buckets are kept
+ * in the {@link RateLimitStore} bean if there is one, in memory otherwise, and the rejected attempts are counted by the
+ * key that was exhausted.
+ */
+@Component
+public class LoginRateLimiter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LoginRateLimiter.class);
+
+    private static final String IP_KEY_PREFIX = "ip:";
+    private static final String LOGIN_KEY_PREFIX = "login:";
+
+    private final ApplicationProperties.Security.LoginRateLimit properties;
+
+    private final RateLimitStore store;
+
+    private final SecurityMetersService metersService;
+
+    private final Clock clock;
+
+    @Autowired
+    public LoginRateLimiter(
+        ApplicationProperties applicationProperties,
+        ObjectProvider<RateLimitStore> store,
+        SecurityMetersService metersService
+    ) {
+        this(
+            applicationProperties.getSecurity().getLoginRateLimit(),
+            store.getIfAvailable(() ->
+                new InMemoryRateLimitStore(applicationProperties.getSecurity().getLoginRateLimit().getMaximumKeys())
+            ),
+            metersService,
+            Clock.systemUTC()
+        );
+    }
+
+    LoginRateLimiter(
+        ApplicationProperties.Security.LoginRateLimit properties,
+        RateLimitStore store,
+        SecurityMetersService metersService,
+        Clock clock
+    ) {
+        this.properties = properties;
+        this.store = store;
+        this.metersService = metersService;
+        this.clock = clock;
+    }
+
+    /**
+     * Take a token for an authentication attempt.
+     *
+     * @param login the login the client authenticates with.
+     * @param ip the address of the client, {@code null} if unknown.
+     * @return {@code 0} if the attempt is allowed, otherwise the seconds to wait before the next one.
+     */
+    public long tryAcquire(String login, String ip) {
+        if (!properties.isEnabled()) {
+            return 0;
+        }
+        long now = clock.millis();
+        if (ip != null) {
+            long wait = tryAcquire(IP_KEY_PREFIX + ip, properties.getPerIp(), now);
+            if (wait > 0) {
+                LOG.debug("Too many authentication attempts from {}", ip);
+                metersService.trackLoginRateLimitedByIp();
+                return toSeconds(wait);
+            }
+        }
+        if (login != null) {
+            long wait = tryAcquire(LOGIN_KEY_PREFIX + login.toLowerCase(Locale.ENGLISH), properties.getPerLogin(), now);
+            if (wait > 0) {
+                LOG.debug("Too many authentication attempts for {}", login);
+                metersService.trackLoginRateLimitedByLogin();
+                return toSeconds(wait);
+            }
+        }
+        return 0;
+    }
+
+    private long tryAcquire(String key, ApplicationProperties.Security.LoginRateLimit.Limit limit, long now) {
+        if (limit.getCapacity() <= 0) {
+            return 0;
+        }
+        long period = limit.getPeriod().toMillis();
+        return store.tryAcquire(key, Math.max(1, period / limit.getCapacity()), period, now);
+    }
+
+    private static long toSeconds(long millis) {
+        return Math.max(1, (millis + 999) / 1000);
+    }
+}
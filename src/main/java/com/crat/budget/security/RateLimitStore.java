@@ -0,0 +1,33 @@
+package com.crat.budget.security;
+
+/**
+ * Store of the token buckets of a {@link LoginRateLimiter}.
+ * <p>
+ * A bucket is held in a single number, its theoretical arrival time: the instant at which it would be full again if no
+ * more attempts were made. An attempt moves it forward by the emission interval, the time a token takes to come back,
+ * and is allowed as long as it stays within one period of now. This is a token bucket of {@code period / interval}
+ * tokens, updated with a single compare-and-set.
+ */
+public interface RateLimitStore {
+    /**
+     * Take a token from a bucket.
+     *
+     * @param key the key of the bucket.
+     * @param intervalMillis the time for a token to come back, in milliseconds.
+     * @param periodMillis the time for the empty bucket to refill, in milliseconds.
+     * @param nowMillis the current time, in milliseconds.
+     * @return {@code 0} if a token was taken, otherwise the milliseconds to wait for the next one.
+     */
+    long tryAcquire(String key, long intervalMillis, long periodMillis, long nowMillis);
+
+    /**
+     * The next theoretical arrival time of a bucket, for an attempt made at {@code nowMillis}.
+     *
+     * @return the new arrival time if the attempt is allowed, otherwise a negative number of milliseconds to wait.
+     */
+    static long nextArrivalTime(long arrivalTime, long intervalMillis, long periodMillis, long nowMillis) {
+        long next = Math.max(arrivalTime, nowMillis) + intervalMillis;
+        long excess = next - nowMillis - periodMillis;
+        return excess > 0 ? -excess : next;
+    }
+}
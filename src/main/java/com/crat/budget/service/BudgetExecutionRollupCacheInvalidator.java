@@ -0,0 +1,149 @@
+package com.crat.budget.service;
+
+import com.crat.budget.domain.Article;
+import com.crat.budget.domain.Chapter;
+import com.crat.budget.domain.Expense;
+import com.crat.budget.domain.FinancialYear;
+import com.crat.budget.domain.Recipe;
+import com.crat.budget.domain.SubTitle;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.AbstractCollectionEvent;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCollectionRecreateEvent;
+import org.hibernate.event.spi.PostCollectionRecreateEventListener;
+import org.hibernate.event.spi.PostCollectionRemoveEvent;
+import org.hibernate.event.spi.PostCollectionRemoveEventListener;
+import org.hibernate.event.spi.PostCollectionUpdateEvent;
+import org.hibernate.event.spi.PostCollectionUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Hibernate listener evicting the {@link BudgetExecutionRollupService} cache when an entity contributing to the
+ * rollups is written. The eviction happens once per transaction, after its commit, so that a concurrent reader cannot
+ * cache the rollups computed from the data being replaced; a rolled back transaction evicts too, the rollups read in it
+ * having possibly been computed from its writes.
+ */
+@Component
+public class BudgetExecutionRollupCacheInvalidator
+    implements
+        PostInsertEventListener,
+        PostUpdateEventListener,
+        PostDeleteEventListener,
+        PostCollectionRecreateEventListener,
+        PostCollectionUpdateEventListener,
+        PostCollectionRemoveEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final BudgetExecutionRollupService budgetExecutionRollupService;
+
+    private final TransactionSynchronization evictAfterCommit = new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+            budgetExecutionRollupService.clearRollupCache();
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            if (status != STATUS_COMMITTED) {
+                budgetExecutionRollupService.clearRollupCache();
+            }
+        }
+    };
+
+    public BudgetExecutionRollupCacheInvalidator(
+        EntityManagerFactory entityManagerFactory,
+        BudgetExecutionRollupService budgetExecutionRollupService
+    ) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.budgetExecutionRollupService = budgetExecutionRollupService;
+    }
+
+    @PostConstruct
+    void registerListeners() {
+        EventListenerRegistry registry = entityManagerFactory
+            .unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry()
+            .requireService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_RECREATE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_UPDATE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_REMOVE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        onWrite(event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        onWrite(event.getEntity());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        onWrite(event.getEntity());
+    }
+
+    @Override
+    public void onPostRecreateCollection(PostCollectionRecreateEvent event) {
+        onCollectionWrite(event);
+    }
+
+    @Override
+    public void onPostUpdateCollection(PostCollectionUpdateEvent event) {
+        onCollectionWrite(event);
+    }
+
+    @Override
+    public void onPostRemoveCollection(PostCollectionRemoveEvent event) {
+        onCollectionWrite(event);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void onCollectionWrite(AbstractCollectionEvent event) {
+        onWrite(event.getAffectedOwnerOrNull());
+    }
+
+    private void onWrite(Object entity) {
+        if (!contributesToRollups(entity)) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // registered synchronizations are a set: a single eviction per transaction
+            TransactionSynchronizationManager.registerSynchronization(evictAfterCommit);
+        } else {
+            budgetExecutionRollupService.clearRollupCache();
+        }
+    }
+
+    private static boolean contributesToRollups(Object entity) {
+        return (
+            entity instanceof Article ||
+            entity instanceof Recipe ||
+            entity instanceof Expense ||
+            entity instanceof Chapter ||
+            entity instanceof SubTitle ||
+            entity instanceof FinancialYear
+        );
+    }
+}
@@ -0,0 +1,149 @@
+package com.crat.budget.service;
+
+import com.crat.budget.domain.enumeration.FinancialCategoryEnum;
+import com.crat.budget.repository.ArticleRepository;
+import com.crat.budget.repository.ArticleRepositoryWithBudgetAggregates;
+import com.crat.budget.repository.ArticleRepositoryWithBudgetAggregates.BudgetLineAggregate;
+import com.crat.budget.service.dto.BudgetExecutionRollupDTO;
+import com.crat.budget.service.dto.BudgetExecutionRollupDTO.Level;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service computing the budget execution of the SubTitle → Chapter → Article hierarchy: the past year achievements and
+ * new year forecasts of the {@link com.crat.budget.domain.Recipe} and {@link com.crat.budget.domain.Expense} lines,
+ * totalled per level, {@link FinancialCategoryEnum} and financial year.
+ * <p>
+ * The lines are summed per article by a single aggregate query, the upper levels are then rolled up in memory. The
+ * result is cached until one of the contributing entities changes, see {@link BudgetExecutionRollupCacheInvalidator},
+ * and handed out as copies, so that a caller changing them does not change the cache.
+ * A line attached to several articles counts for each of them.
+ */
+@Service
+@Transactional(readOnly = true)
+public class BudgetExecutionRollupService {
+
+    public static final String BUDGET_EXECUTION_ROLLUP_CACHE = "budgetExecutionRollup";
+
+    private static final String ROLLUP_KEY = "all";
+
+    private static final Logger LOG = LoggerFactory.getLogger(BudgetExecutionRollupService.class);
+
+    private static final Comparator<BudgetExecutionRollupDTO> ROLLUP_ORDER = Comparator.comparing(BudgetExecutionRollupDTO::getLevel)
+        .thenComparing(BudgetExecutionRollupDTO::getFinancialYear, Comparator.nullsFirst(Comparator.naturalOrder()))
+        .thenComparing(BudgetExecutionRollupDTO::getCode, Comparator.nullsFirst(Comparator.naturalOrder()))
+        .thenComparing(BudgetExecutionRollupDTO::getId, Comparator.nullsFirst(Comparator.naturalOrder()))
+        .thenComparing(BudgetExecutionRollupDTO::getCategory, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final ArticleRepository articleRepository;
+
+    private final CacheManager cacheManager;
+
+    public BudgetExecutionRollupService(ArticleRepository articleRepository, CacheManager cacheManager) {
+        this.articleRepository = articleRepository;
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * Get the budget execution rollups.
+     *
+     * @param financialYear the financial year to keep, or {@code null} for all of them.
+     * @param level the level of the hierarchy to keep, or {@code null} for all of them.
+     * @return copies of the cached rollups, ordered by level, financial year and code.
+     */
+    public List<BudgetExecutionRollupDTO> findRollups(Integer financialYear, Level level) {
+        LOG.debug("Request to get budget execution rollups for financial year : {}, level : {}", financialYear, level);
+        return getRollups()
+            .stream()
+            .filter(rollup -> financialYear == null || financialYear.equals(rollup.getFinancialYear()))
+            .filter(rollup -> level == null || level == rollup.getLevel())
+            .map(BudgetExecutionRollupDTO::new)
+            .toList();
+    }
+
+    private List<BudgetExecutionRollupDTO> getRollups() {
+        return Objects.requireNonNull(cacheManager.getCache(BUDGET_EXECUTION_ROLLUP_CACHE)).get(ROLLUP_KEY, this::computeRollups);
+    }
+
+    private List<BudgetExecutionRollupDTO> computeRollups() {
+        LOG.debug("Computing budget execution rollups");
+        return rollUp(articleRepository.aggregateBudgetLines());
+    }
+
+    static List<BudgetExecutionRollupDTO> rollUp(List<BudgetLineAggregate> aggregates) {
+        Map<RollupKey, BudgetExecutionRollupDTO> rollups = new LinkedHashMap<>();
+        for (BudgetLineAggregate aggregate : aggregates) {
+            Integer year = aggregate.financialYear();
+            FinancialCategoryEnum category = aggregate.category();
+            add(rollups, aggregate, Level.BUDGET, null, null, null, null);
+            if (aggregate.subTitleId() != null) {
+                add(rollups, aggregate, Level.SUB_TITLE, aggregate.subTitleId(), aggregate.subTitleCode(), aggregate.subTitleDesignation(), null);
+            }
+            if (aggregate.chapterId() != null) {
+                add(
+                    rollups,
+                    aggregate,
+                    Level.CHAPTER,
+                    aggregate.chapterId(),
+                    aggregate.chapterCode(),
+                    aggregate.chapterDesignation(),
+                    aggregate.subTitleId()
+                );
+            }
+            add(
+                rollups,
+                aggregate,
+                Level.ARTICLE,
+                aggregate.articleId(),
+                aggregate.articleCode(),
+                aggregate.articleDesignation(),
+                aggregate.chapterId()
+            );
+            LOG.trace("Rolled up {} line aggregate of article {} for {} {}", aggregate.source(), aggregate.articleId(), year, category);
+        }
+        List<BudgetExecutionRollupDTO> result = new ArrayList<>(rollups.values());
+        result.sort(ROLLUP_ORDER);
+        return List.copyOf(result);
+    }
+
+    private static void add(
+        Map<RollupKey, BudgetExecutionRollupDTO> rollups,
+        BudgetLineAggregate aggregate,
+        Level level,
+        Long id,
+        String code,
+        String designation,
+        Long parentId
+    ) {
+        BudgetExecutionRollupDTO rollup = rollups.computeIfAbsent(
+            new RollupKey(level, id, aggregate.financialYear(), aggregate.category()),
+            key -> new BudgetExecutionRollupDTO(level, id, code, designation, parentId, key.financialYear(), key.category())
+        );
+        if (ArticleRepositoryWithBudgetAggregates.RECIPE_SOURCE.equals(aggregate.source())) {
+            rollup.setRecipeAchievementsInThePastYear(rollup.getRecipeAchievementsInThePastYear() + aggregate.achievementsInThePastYear());
+            rollup.setRecipeNewYearForecast(rollup.getRecipeNewYearForecast() + aggregate.newYearForecast());
+        } else {
+            rollup.setExpenseAchievementsInThePastYear(rollup.getExpenseAchievementsInThePastYear() + aggregate.achievementsInThePastYear());
+            rollup.setExpenseNewYearForecast(rollup.getExpenseNewYearForecast() + aggregate.newYearForecast());
+        }
+    }
+
+    /**
+     * Evict the cached rollups.
+     */
+    public void clearRollupCache() {
+        LOG.debug("Clearing budget execution rollup cache");
+        Objects.requireNonNull(cacheManager.getCache(BUDGET_EXECUTION_ROLLUP_CACHE)).clear();
+    }
+
+    private record RollupKey(Level level, Long id, Integer financialYear, FinancialCategoryEnum category) {}
+}
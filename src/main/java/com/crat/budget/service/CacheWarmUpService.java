@@ -0,0 +1,269 @@
+package com.crat.budget.service;
+
+import com.crat.budget.config.ApplicationProperties;
+import com.crat.budget.config.BackgroundJobConfiguration;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.hibernate.CacheMode;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.MappingMetamodel;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.Query;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service preloading the second-level cache regions listed in {@code application.cache.warm-up.regions} on startup, so
+ * that the first requests after a deploy do not load the reference data one entity at a time.
+ * <p>
+ * The warm-up starts once the context is refreshed, Liquibase having run, and loads each region by batches of ids,
+ * several batches at a time on the {@link BackgroundJobConfiguration#CACHE_WARM_UP_EXECUTOR} executor. An entity
+ * region is loaded by selecting its entities, a collection region by fetching the collection of its owners. Until it
+ * is over, {@link #isRunning()} keeps the readiness probe out of service.
+ * <p>
+ * The progress is published as the {@code cache.warm-up.entries} gauges, tagged by region and state (total or
+ * loaded), and the time spent on each region as the {@code cache.warm-up.duration} timer.
+ */
+@Service
+public class CacheWarmUpService {
+
+    public static final String ENTRIES_METER_NAME = "cache.warm-up.entries";
+    public static final String DURATION_METER_NAME = "cache.warm-up.duration";
+    public static final String REGION_DIMENSION = "region";
+    public static final String STATE_DIMENSION = "state";
+
+    private static final String IDS_PARAMETER = "ids";
+
+    private static final Logger LOG = LoggerFactory.getLogger(CacheWarmUpService.class);
+
+    /**
+     * State of the warm-up.
+     */
+    public enum State {
+        PENDING,
+        RUNNING,
+        DONE,
+        FAILED,
+        DISABLED,
+    }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ApplicationProperties applicationProperties;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Executor executor;
+
+    private final AtomicLong totalEntries = new AtomicLong();
+
+    private final AtomicLong loadedEntries = new AtomicLong();
+
+    private volatile State state = State.PENDING;
+
+    public CacheWarmUpService(
+        EntityManagerFactory entityManagerFactory,
+        PlatformTransactionManager transactionManager,
+        ApplicationProperties applicationProperties,
+        MeterRegistry meterRegistry,
+        @Qualifier(BackgroundJobConfiguration.CACHE_WARM_UP_EXECUTOR) Executor executor
+    ) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.applicationProperties = applicationProperties;
+        this.meterRegistry = meterRegistry;
+        this.executor = executor;
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void onApplicationStarted() {
+        warmUp();
+    }
+
+    /**
+     * Start preloading the configured regions, in the background.
+     *
+     * @return the warm-up completion, never exceptional: a failure is logged and leaves the regions cold.
+     */
+    public CompletableFuture<Void> warmUp() {
+        ApplicationProperties.Cache.WarmUp properties = applicationProperties.getCache().getWarmUp();
+        if (!properties.isEnabled()) {
+            state = State.DISABLED;
+            return CompletableFuture.completedFuture(null);
+        }
+        List<WarmUpRegion> regions = resolveRegions(properties.getRegions());
+        if (regions.isEmpty()) {
+            state = State.DONE;
+            return CompletableFuture.completedFuture(null);
+        }
+        state = State.RUNNING;
+        long start = System.nanoTime();
+        int batchSize = Math.max(1, properties.getBatchSize());
+        CompletableFuture<?>[] regionWarmUps = regions
+            .stream()
+            .map(region -> warmUp(region, batchSize))
+            .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(regionWarmUps).handle((result, failure) -> {
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            if (failure == null) {
+                state = State.DONE;
+                LOG.info("Warmed up {} cache entries of {} regions in {} ms", loadedEntries.get(), regions.size(), elapsed);
+            } else {
+                state = State.FAILED;
+                LOG.warn("Cache warm-up failed after {} ms, {} entries loaded: {}", elapsed, loadedEntries.get(), failure.toString());
+            }
+            return null;
+        });
+    }
+
+    private CompletableFuture<Void> warmUp(WarmUpRegion region, int batchSize) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        return CompletableFuture.supplyAsync(() -> findIds(region), executor)
+            .thenCompose(ids -> {
+                region.total().set(ids.size());
+                totalEntries.addAndGet(ids.size());
+                warnIfRegionIsTooSmall(region, ids.size());
+                List<CompletableFuture<Void>> batches = new ArrayList<>();
+                for (int from = 0; from < ids.size(); from += batchSize) {
+                    List<Object> batch = ids.subList(from, Math.min(from + batchSize, ids.size()));
+                    batches.add(CompletableFuture.runAsync(() -> load(region, batch), executor));
+                }
+                return CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new));
+            })
+            .whenComplete((result, failure) -> {
+                sample.stop(Timer.builder(DURATION_METER_NAME).tag(REGION_DIMENSION, region.name()).register(meterRegistry));
+                if (failure == null) {
+                    LOG.debug("Warmed up {} entries of region {}", region.loaded().get(), region.name());
+                }
+            });
+    }
+
+    private void warnIfRegionIsTooSmall(WarmUpRegion region, int entries) {
+        ApplicationProperties.Cache.Region settings = applicationProperties.getCache().getRegions().get(region.name());
+        if (settings == null || settings.getHeapEntries() == null || settings.getOffHeapSize() != null) {
+            return;
+        }
+        if (entries > settings.getHeapEntries()) {
+            LOG.warn(
+                "Region {} holds {} heap entries for {} rows: the least recently used ones will be read from the database",
+                region.name(),
+                settings.getHeapEntries(),
+                entries
+            );
+        }
+    }
+
+    private List<Object> findIds(WarmUpRegion region) {
+        String id = "entity." + region.idAttribute();
+        return transactionTemplate.execute(status ->
+            entityManager
+                .createQuery("select " + id + " from " + region.entityName() + " entity order by " + id, Object.class)
+                .getResultList()
+        );
+    }
+
+    private void load(WarmUpRegion region, List<Object> ids) {
+        transactionTemplate.executeWithoutResult(status -> {
+            String fetch = region.collectionAttribute() == null ? "" : " left join fetch entity." + region.collectionAttribute();
+            entityManager
+                .createQuery(
+                    "select entity from " + region.entityName() + " entity" + fetch + " where entity." + region.idAttribute() + " in :ids",
+                    Object.class
+                )
+                .unwrap(Query.class)
+                // always put the loaded state in the cache, never read it
+                .setCacheMode(CacheMode.PUT)
+                .setParameter(IDS_PARAMETER, ids)
+                .getResultList();
+        });
+        long loaded = region.loaded().addAndGet(ids.size());
+        loadedEntries.addAndGet(ids.size());
+        LOG.debug("Warmed up {}/{} entries of region {}", loaded, region.total().get(), region.name());
+    }
+
+    private List<WarmUpRegion> resolveRegions(List<String> names) {
+        MappingMetamodel metamodel = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getMappingMetamodel();
+        List<WarmUpRegion> regions = new ArrayList<>(names.size());
+        for (String name : names) {
+            EntityPersister entityPersister = metamodel.findEntityDescriptor(name);
+            CollectionPersister collectionPersister = entityPersister == null ? metamodel.findCollectionDescriptor(name) : null;
+            WarmUpRegion region;
+            if (entityPersister != null && entityPersister.canWriteToCache()) {
+                region = new WarmUpRegion(name, entityPersister, null);
+            } else if (collectionPersister != null && collectionPersister.hasCache()) {
+                EntityPersister owner = collectionPersister.getOwnerEntityPersister();
+                region = new WarmUpRegion(name, owner, name.substring(owner.getEntityName().length() + 1));
+            } else {
+                LOG.warn("Not warming up {}: not a cached entity or collection", name);
+                continue;
+            }
+            Gauge.builder(ENTRIES_METER_NAME, region.total(), AtomicLong::get)
+                .tag(REGION_DIMENSION, name)
+                .tag(STATE_DIMENSION, "total")
+                .register(meterRegistry);
+            Gauge.builder(ENTRIES_METER_NAME, region.loaded(), AtomicLong::get)
+                .tag(REGION_DIMENSION, name)
+                .tag(STATE_DIMENSION, "loaded")
+                .register(meterRegistry);
+            regions.add(region);
+        }
+        return regions;
+    }
+
+    /**
+     * Whether the warm-up is still loading the regions, or has not started yet.
+     *
+     * @return {@code true} until the warm-up is over.
+     */
+    public boolean isRunning() {
+        return state == State.PENDING || state == State.RUNNING;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public long getTotalEntries() {
+        return totalEntries.get();
+    }
+
+    public long getLoadedEntries() {
+        return loadedEntries.get();
+    }
+
+    private record WarmUpRegion(
+        String name,
+        String entityName,
+        String idAttribute,
+        String collectionAttribute,
+        AtomicLong total,
+        AtomicLong loaded
+    ) {
+        WarmUpRegion(String name, EntityPersister owner, String collectionAttribute) {
+            this(name, owner.getEntityName(), owner.getIdentifierPropertyName(), collectionAttribute, new AtomicLong(), new AtomicLong());
+        }
+    }
+}
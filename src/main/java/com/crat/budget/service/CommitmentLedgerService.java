@@ -0,0 +1,156 @@
+package com.crat.budget.service;
+
+import com.crat.budget.domain.PurchaseOrder;
+import com.crat.budget.repository.AnnexDecisionRepository;
+import com.crat.budget.repository.CommitmentLedgerRepository;
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service maintaining the {@link com.crat.budget.domain.CommitmentLedger} of each
+ * {@link com.crat.budget.domain.AnnexDecision}: the running totals of its {@link PurchaseOrder}s.
+ * <p>
+ * Every write of a purchase order adds the difference between its commitment before and after the write to the ledger,
+ * with an update statement which locks the ledger row until the end of the transaction: concurrent writers on the same
+ * annex decision wait for each other instead of losing a delta, and the ledgers are always locked in the order of their
+ * ids. The ledger of an annex decision is opened by its first purchase order, from the sum of its purchase orders, while
+ * the annex decision is locked.
+ */
+@Service
+@Transactional
+public class CommitmentLedgerService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CommitmentLedgerService.class);
+
+    private final CommitmentLedgerRepository commitmentLedgerRepository;
+
+    private final AnnexDecisionRepository annexDecisionRepository;
+
+    public CommitmentLedgerService(CommitmentLedgerRepository commitmentLedgerRepository, AnnexDecisionRepository annexDecisionRepository) {
+        this.commitmentLedgerRepository = commitmentLedgerRepository;
+        this.annexDecisionRepository = annexDecisionRepository;
+    }
+
+    /**
+     * Record the write of a purchase order, then update its committed expenditures and available balance.
+     *
+     * @param before the commitment of the purchase order before the write, {@link Commitment#NONE} if it is new.
+     * @param after the commitment of the purchase order after the write, {@link Commitment#NONE} if it is deleted.
+     * @param purchaseOrder the written purchase order, {@code null} if it is deleted.
+     */
+    public void record(Commitment before, Commitment after, PurchaseOrder purchaseOrder) {
+        LOG.debug("Request to record the commitment of a PurchaseOrder : {} -> {}", before, after);
+        Map<Long, Delta> deltas = new TreeMap<>();
+        if (before.annexDecisionId() != null) {
+            deltas.computeIfAbsent(before.annexDecisionId(), id -> new Delta()).add(before.amount().negate(), -1);
+        }
+        if (after.annexDecisionId() != null) {
+            deltas.computeIfAbsent(after.annexDecisionId(), id -> new Delta()).add(after.amount(), 1);
+        }
+        deltas.forEach((annexDecisionId, delta) -> {
+            if (!delta.isEmpty()) {
+                addDelta(annexDecisionId, delta.amount, delta.count);
+            }
+        });
+        if (purchaseOrder != null) {
+            refreshBalances(purchaseOrder);
+        }
+    }
+
+    /**
+     * Update the committed expenditures of a purchase order from the ledger of its annex decision, and its available
+     * balance from its allocated credits.
+     *
+     * @param purchaseOrder the purchase order, managed.
+     */
+    public void refreshBalances(PurchaseOrder purchaseOrder) {
+        Long annexDecisionId = Commitment.of(purchaseOrder).annexDecisionId();
+        if (annexDecisionId == null) {
+            return;
+        }
+        commitmentLedgerRepository
+            .findCommittedAmount(annexDecisionId)
+            .ifPresent(committedAmount -> {
+                purchaseOrder.setCommittedExpenditures(committedAmount);
+                if (purchaseOrder.getAllocatedCredits() != null) {
+                    purchaseOrder.setAvailableBalance(purchaseOrder.getAllocatedCredits().subtract(committedAmount));
+                }
+            });
+    }
+
+    /**
+     * Record the writes of the purchase orders of several annex decisions at once, with one update per annex decision.
+     *
+     * @param amounts the amount added to each annex decision, by id.
+     * @param counts the number of purchase orders added to each annex decision, by id, none if missing.
+     */
+    public void record(Map<Long, BigDecimal> amounts, Map<Long, Long> counts) {
+        LOG.debug("Request to record the commitments of {} AnnexDecisions", amounts.size());
+        new TreeMap<>(amounts).forEach((annexDecisionId, amount) ->
+            addDelta(annexDecisionId, amount, counts.getOrDefault(annexDecisionId, 0L))
+        );
+    }
+
+    /**
+     * Get the amount committed on an annex decision.
+     *
+     * @param annexDecisionId the id of the annex decision.
+     * @return the total of its purchase orders, zero if it has none.
+     */
+    @Transactional(readOnly = true)
+    public BigDecimal findCommittedAmount(Long annexDecisionId) {
+        return commitmentLedgerRepository.findCommittedAmount(annexDecisionId).orElse(BigDecimal.ZERO);
+    }
+
+    private void addDelta(Long annexDecisionId, BigDecimal amount, long count) {
+        if (commitmentLedgerRepository.addDelta(annexDecisionId, amount, count) > 0) {
+            return;
+        }
+        // the ledger is not open yet: the first writer opens it, the others apply their delta once it is committed
+        Optional<Long> annexDecision = annexDecisionRepository.lockById(annexDecisionId);
+        if (annexDecision.isPresent() && commitmentLedgerRepository.addDelta(annexDecisionId, amount, count) == 0) {
+            // the sum of the purchase orders already includes the flushed write
+            commitmentLedgerRepository.open(annexDecisionId);
+        }
+    }
+
+    /**
+     * The amount a purchase order commits on its annex decision.
+     *
+     * @param annexDecisionId the id of the annex decision, {@code null} if the purchase order commits nothing.
+     * @param amount the total amount with tax of the purchase order, zero if unknown.
+     */
+    public record Commitment(Long annexDecisionId, BigDecimal amount) {
+        public static final Commitment NONE = new Commitment(null, BigDecimal.ZERO);
+
+        public static Commitment of(PurchaseOrder purchaseOrder) {
+            if (purchaseOrder.getAnnexDecision() == null) {
+                return NONE;
+            }
+            BigDecimal amount = purchaseOrder.getTotalAmountWithTax();
+            return new Commitment(purchaseOrder.getAnnexDecision().getId(), amount == null ? BigDecimal.ZERO : amount);
+        }
+    }
+
+    private static final class Delta {
+
+        private BigDecimal amount = BigDecimal.ZERO;
+
+        private long count;
+
+        void add(BigDecimal amount, long count) {
+            this.amount = this.amount.add(amount);
+            this.count += count;
+        }
+
+        boolean isEmpty() {
+            return amount.signum() == 0 && count == 0;
+        }
+    }
+}
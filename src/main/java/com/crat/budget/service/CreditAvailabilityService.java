@@ -0,0 +1,65 @@
+package com.crat.budget.service;
+
+import com.crat.budget.repository.AnnexDecisionRepository;
+import com.crat.budget.repository.AnnexDecisionRepository.CreditAvailability;
+import com.crat.budget.service.dto.CreditAvailabilityDTO;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service computing the credits still available: the credits notified or opened, less the credits committed.
+ * <p>
+ * The available credits of an {@link com.crat.budget.domain.Engagement} are a generated, indexed column, filtered by the
+ * {@code creditsAvailable} range of the {@link com.crat.budget.service.criteria.EngagementCriteria}. Those of an
+ * {@link com.crat.budget.domain.AnnexDecision} are its open credits less the total of its
+ * {@link com.crat.budget.domain.PurchaseOrder}s, read from its {@link com.crat.budget.domain.CommitmentLedger}.
+ */
+@Service
+@Transactional(readOnly = true)
+public class CreditAvailabilityService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CreditAvailabilityService.class);
+
+    private final AnnexDecisionRepository annexDecisionRepository;
+
+    public CreditAvailabilityService(AnnexDecisionRepository annexDecisionRepository) {
+        this.annexDecisionRepository = annexDecisionRepository;
+    }
+
+    /**
+     * Get the credits of one annex decision.
+     *
+     * @param annexDecisionId the id of the annex decision.
+     * @return the credits of the annex decision, empty if it does not exist.
+     */
+    public Optional<CreditAvailabilityDTO> findAnnexDecisionCreditAvailability(Long annexDecisionId) {
+        LOG.debug("Request to get the credit availability of AnnexDecision : {}", annexDecisionId);
+        return annexDecisionRepository.findCreditAvailability(annexDecisionId).map(CreditAvailabilityService::toDto);
+    }
+
+    /**
+     * Get the annex decisions with less credits available than a threshold.
+     *
+     * @param threshold the exclusive upper bound of the available credits.
+     * @return the credits of the matching annex decisions, the least available first.
+     */
+    public List<CreditAvailabilityDTO> findAnnexDecisionCreditAvailabilitiesBelow(BigDecimal threshold) {
+        LOG.debug("Request to get the AnnexDecisions with less than {} credits available", threshold);
+        return annexDecisionRepository.findCreditAvailabilitiesBelow(threshold).stream().map(CreditAvailabilityService::toDto).toList();
+    }
+
+    private static CreditAvailabilityDTO toDto(CreditAvailability availability) {
+        return new CreditAvailabilityDTO(
+            availability.annexDecisionId(),
+            availability.designation(),
+            availability.creditsOpen(),
+            availability.creditsCommitted(),
+            availability.creditsAvailable()
+        );
+    }
+}
@@ -4,11 +4,25 @@ import com.crat.budget.domain.*; // for static metamodels
 import com.crat.budget.domain.DecisionItem;
 import com.crat.budget.repository.DecisionItemRepository;
 import com.crat.budget.service.criteria.DecisionItemCriteria;
+import com.crat.budget.service.export.EntityExporter;
+import com.crat.budget.service.export.ExportFormat;
+import com.crat.budget.service.projection.EntityProjector;
+import com.crat.budget.service.projection.ProjectionColumn;
 import jakarta.persistence.criteria.JoinType;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,12 +38,33 @@ import tech.jhipster.service.QueryService;
 @Transactional(readOnly = true)
 public class DecisionItemQueryService extends QueryService<DecisionItem> {
 
+    public static final String APPROXIMATE_COUNT_CACHE = "decisionItemApproximateCount";
+
     private static final Logger LOG = LoggerFactory.getLogger(DecisionItemQueryService.class);
 
+    private static final List<ProjectionColumn<DecisionItem>> COLUMNS = List.of(
+        ProjectionColumn.of("id", DecisionItem_.id),
+        ProjectionColumn.of("beneficiary", DecisionItem_.beneficiary),
+        ProjectionColumn.of("amount", DecisionItem_.amount),
+        ProjectionColumn.of("observation", DecisionItem_.observation),
+        ProjectionColumn.of("financialYearId", DecisionItem_.financialYearId),
+        ProjectionColumn.of("decisionId", DecisionItem_.decision, Decision_.id)
+    );
+
     private final DecisionItemRepository decisionItemRepository;
 
-    public DecisionItemQueryService(DecisionItemRepository decisionItemRepository) {
+    private final EntityExporter entityExporter;
+
+    private final EntityProjector entityProjector;
+
+    public DecisionItemQueryService(
+        DecisionItemRepository decisionItemRepository,
+        EntityExporter entityExporter,
+        EntityProjector entityProjector
+    ) {
         this.decisionItemRepository = decisionItemRepository;
+        this.entityExporter = entityExporter;
+        this.entityProjector = entityProjector;
     }
 
     /**
@@ -45,6 +80,81 @@ public class DecisionItemQueryService extends QueryService<DecisionItem> {
         return decisionItemRepository.findAll(specification, page);
     }
 
+    /**
+     * Return a {@link Slice} of {@link DecisionItem} which matches the criteria from the database,
+     * without running the count query needed to build a {@link Page}.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Slice<DecisionItem> findSliceByCriteria(DecisionItemCriteria criteria, Pageable page) {
+        LOG.debug("find slice by criteria : {}, page: {}", criteria, page);
+        final Specification<DecisionItem> specification = createSpecification(criteria);
+        ScrollPosition position = page.getOffset() == 0 ? ScrollPosition.offset() : ScrollPosition.offset(page.getOffset() - 1);
+        Window<DecisionItem> window = decisionItemRepository.findBy(specification, query ->
+            query.sortBy(page.getSort()).limit(page.getPageSize()).scroll(position)
+        );
+        return new SliceImpl<>(window.getContent(), page, window.hasNext());
+    }
+
+    /**
+     * Return a {@link Window} of {@link DecisionItem} which matches the criteria from the database,
+     * seeking after the given keyset position instead of skipping rows with an offset.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param position The keyset position after which the window starts.
+     * @param page The size and sort of the window, the page number is ignored.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Window<DecisionItem> findByCriteria(DecisionItemCriteria criteria, KeysetScrollPosition position, Pageable page) {
+        LOG.debug("find by criteria : {}, position: {}, page: {}", criteria, position, page);
+        final Specification<DecisionItem> specification = createSpecification(criteria);
+        return decisionItemRepository.findBy(specification, query ->
+            query.sortBy(page.getSort()).limit(page.getPageSize()).scroll(position)
+        );
+    }
+
+    /**
+     * Return a {@link Page} of read-only rows of the {@link DecisionItem} which match the criteria from the database,
+     * holding only the requested fields, without loading the entities in the persistence context.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param fields The comma-separated names of the fields of the rows, all of them if blank.
+     * @param page The page, which should be returned.
+     * @return the rows of the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> findRowsByCriteria(DecisionItemCriteria criteria, String fields, Pageable page) {
+        LOG.debug("find rows by criteria : {}, fields: {}, page: {}", criteria, fields, page);
+        final Specification<DecisionItem> specification = createSpecification(criteria);
+        return entityProjector.findPage(
+            DecisionItem.class,
+            specification,
+            EntityProjector.select(COLUMNS, fields, DecisionItem.class),
+            page
+        );
+    }
+
+    /**
+     * Return a {@link Slice} of read-only rows of the {@link DecisionItem} which match the criteria from the database,
+     * holding only the requested fields, without running the count query needed to build a {@link Page}.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param fields The comma-separated names of the fields of the rows, all of them if blank.
+     * @param page The page, which should be returned.
+     * @return the rows of the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Slice<Map<String, Object>> findRowSliceByCriteria(DecisionItemCriteria criteria, String fields, Pageable page) {
+        LOG.debug("find row slice by criteria : {}, fields: {}, page: {}", criteria, fields, page);
+        final Specification<DecisionItem> specification = createSpecification(criteria);
+        return entityProjector.findSlice(
+            DecisionItem.class,
+            specification,
+            EntityProjector.select(COLUMNS, fields, DecisionItem.class),
+            page
+        );
+    }
+
     /**
      * Return the number of matching entities in the database.
      * @param criteria The object which holds all the filters, which the entities should match.
@@ -57,6 +167,33 @@ public class DecisionItemQueryService extends QueryService<DecisionItem> {
         return decisionItemRepository.count(specification);
     }
 
+    /**
+     * Return the number of matching entities, cached for a short while so that it may be stale.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the approximate number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = APPROXIMATE_COUNT_CACHE)
+    public long approximateCountByCriteria(DecisionItemCriteria criteria) {
+        LOG.debug("approximate count by criteria : {}", criteria);
+        return countByCriteria(criteria);
+    }
+
+    /**
+     * Stream the entities which match the criteria from the database, ordered by id.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param format The format the entities are written in.
+     * @param outputStream The stream the entities are written to.
+     * @return the number of exported entities.
+     * @throws IOException if the entities could not be written.
+     */
+    @Transactional(readOnly = true)
+    public long exportByCriteria(DecisionItemCriteria criteria, ExportFormat format, OutputStream outputStream) throws IOException {
+        LOG.debug("export by criteria : {}, format: {}", criteria, format);
+        final Specification<DecisionItem> specification = createSpecification(criteria);
+        return entityExporter.export(DecisionItem.class, specification, COLUMNS, format, outputStream);
+    }
+
     /**
      * Function to convert {@link DecisionItemCriteria} to a {@link Specification}
      * @param criteria The object which holds all the filters, which the entities should match.
@@ -69,6 +206,9 @@ public class DecisionItemQueryService extends QueryService<DecisionItem> {
             if (criteria.getDistinct() != null) {
                 specification = specification.and(distinct(criteria.getDistinct()));
             }
+            if (criteria.getFetch() != null) {
+                specification = specification.and(FetchSpecification.fetch(DecisionItem_.class_, criteria.getFetch()));
+            }
             if (criteria.getId() != null) {
                 specification = specification.and(buildRangeSpecification(criteria.getId(), DecisionItem_.id));
             }
@@ -81,6 +221,9 @@ public class DecisionItemQueryService extends QueryService<DecisionItem> {
             if (criteria.getObservation() != null) {
                 specification = specification.and(buildRangeSpecification(criteria.getObservation(), DecisionItem_.observation));
             }
+            if (criteria.getFinancialYearId() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getFinancialYearId(), DecisionItem_.financialYearId));
+            }
             if (criteria.getDecisionId() != null) {
                 specification = specification.and(
                     buildSpecification(criteria.getDecisionId(), root -> root.join(DecisionItem_.decision, JoinType.LEFT).get(Decision_.id))
@@ -7,8 +7,14 @@ import com.crat.budget.service.criteria.DecisionCriteria;
 import jakarta.persistence.criteria.JoinType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,6 +30,8 @@ import tech.jhipster.service.QueryService;
 @Transactional(readOnly = true)
 public class DecisionQueryService extends QueryService<Decision> {
 
+    public static final String APPROXIMATE_COUNT_CACHE = "decisionApproximateCount";
+
     private static final Logger LOG = LoggerFactory.getLogger(DecisionQueryService.class);
 
     private final DecisionRepository decisionRepository;
@@ -45,6 +53,41 @@ public class DecisionQueryService extends QueryService<Decision> {
         return decisionRepository.findAll(specification, page);
     }
 
+    /**
+     * Return a {@link Slice} of {@link Decision} which matches the criteria from the database,
+     * without running the count query needed to build a {@link Page}.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Slice<Decision> findSliceByCriteria(DecisionCriteria criteria, Pageable page) {
+        LOG.debug("find slice by criteria : {}, page: {}", criteria, page);
+        final Specification<Decision> specification = createSpecification(criteria);
+        ScrollPosition position = page.getOffset() == 0 ? ScrollPosition.offset() : ScrollPosition.offset(page.getOffset() - 1);
+        Window<Decision> window = decisionRepository.findBy(specification, query ->
+            query.sortBy(page.getSort()).limit(page.getPageSize()).scroll(position)
+        );
+        return new SliceImpl<>(window.getContent(), page, window.hasNext());
+    }
+
+    /**
+     * Return a {@link Window} of {@link Decision} which matches the criteria from the database,
+     * seeking after the given keyset position instead of skipping rows with an offset.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param position The keyset position after which the window starts.
+     * @param page The size and sort of the window, the page number is ignored.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Window<Decision> findByCriteria(DecisionCriteria criteria, KeysetScrollPosition position, Pageable page) {
+        LOG.debug("find by criteria : {}, position: {}, page: {}", criteria, position, page);
+        final Specification<Decision> specification = createSpecification(criteria);
+        return decisionRepository.findBy(specification, query ->
+            query.sortBy(page.getSort()).limit(page.getPageSize()).scroll(position)
+        );
+    }
+
     /**
      * Return the number of matching entities in the database.
      * @param criteria The object which holds all the filters, which the entities should match.
@@ -57,6 +100,18 @@ public class DecisionQueryService extends QueryService<Decision> {
         return decisionRepository.count(specification);
     }
 
+    /**
+     * Return the number of matching entities, cached for a short while so that it may be stale.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the approximate number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = APPROXIMATE_COUNT_CACHE)
+    public long approximateCountByCriteria(DecisionCriteria criteria) {
+        LOG.debug("approximate count by criteria : {}", criteria);
+        return countByCriteria(criteria);
+    }
+
     /**
      * Function to convert {@link DecisionCriteria} to a {@link Specification}
      * @param criteria The object which holds all the filters, which the entities should match.
@@ -69,6 +124,9 @@ public class DecisionQueryService extends QueryService<Decision> {
             if (criteria.getDistinct() != null) {
                 specification = specification.and(distinct(criteria.getDistinct()));
             }
+            if (criteria.getFetch() != null) {
+                specification = specification.and(FetchSpecification.fetch(Decision_.class_, criteria.getFetch()));
+            }
             if (criteria.getId() != null) {
                 specification = specification.and(buildRangeSpecification(criteria.getId(), Decision_.id));
             }
@@ -78,6 +136,9 @@ public class DecisionQueryService extends QueryService<Decision> {
             if (criteria.getDecisionDate() != null) {
                 specification = specification.and(buildRangeSpecification(criteria.getDecisionDate(), Decision_.decisionDate));
             }
+            if (criteria.getFinancialYearId() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getFinancialYearId(), Decision_.financialYearId));
+            }
             if (criteria.getEngagementId() != null) {
                 specification = specification.and(
                     buildSpecification(criteria.getEngagementId(), root ->
@@ -7,8 +7,14 @@ import com.crat.budget.service.criteria.EngagementCriteria;
 import jakarta.persistence.criteria.JoinType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,6 +30,8 @@ import tech.jhipster.service.QueryService;
 @Transactional(readOnly = true)
 public class EngagementQueryService extends QueryService<Engagement> {
 
+    public static final String APPROXIMATE_COUNT_CACHE = "engagementApproximateCount";
+
     private static final Logger LOG = LoggerFactory.getLogger(EngagementQueryService.class);
 
     private final EngagementRepository engagementRepository;
@@ -45,6 +53,41 @@ public class EngagementQueryService extends QueryService<Engagement> {
         return engagementRepository.findAll(specification, page);
     }
 
+    /**
+     * Return a {@link Slice} of {@link Engagement} which matches the criteria from the database,
+     * without running the count query needed to build a {@link Page}.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Slice<Engagement> findSliceByCriteria(EngagementCriteria criteria, Pageable page) {
+        LOG.debug("find slice by criteria : {}, page: {}", criteria, page);
+        final Specification<Engagement> specification = createSpecification(criteria);
+        ScrollPosition position = page.getOffset() == 0 ? ScrollPosition.offset() : ScrollPosition.offset(page.getOffset() - 1);
+        Window<Engagement> window = engagementRepository.findBy(specification, query ->
+            query.sortBy(page.getSort()).limit(page.getPageSize()).scroll(position)
+        );
+        return new SliceImpl<>(window.getContent(), page, window.hasNext());
+    }
+
+    /**
+     * Return a {@link Window} of {@link Engagement} which matches the criteria from the database,
+     * seeking after the given keyset position instead of skipping rows with an offset.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param position The keyset position after which the window starts.
+     * @param page The size and sort of the window, the page number is ignored.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Window<Engagement> findByCriteria(EngagementCriteria criteria, KeysetScrollPosition position, Pageable page) {
+        LOG.debug("find by criteria : {}, position: {}, page: {}", criteria, position, page);
+        final Specification<Engagement> specification = createSpecification(criteria);
+        return engagementRepository.findBy(specification, query ->
+            query.sortBy(page.getSort()).limit(page.getPageSize()).scroll(position)
+        );
+    }
+
     /**
      * Return the number of matching entities in the database.
      * @param criteria The object which holds all the filters, which the entities should match.
@@ -57,6 +100,18 @@ public class EngagementQueryService extends QueryService<Engagement> {
         return engagementRepository.count(specification);
     }
 
+    /**
+     * Return the number of matching entities, cached for a short while so that it may be stale.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the approximate number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = APPROXIMATE_COUNT_CACHE)
+    public long approximateCountByCriteria(EngagementCriteria criteria) {
+        LOG.debug("approximate count by criteria : {}", criteria);
+        return countByCriteria(criteria);
+    }
+
     /**
      * Function to convert {@link EngagementCriteria} to a {@link Specification}
      * @param criteria The object which holds all the filters, which the entities should match.
@@ -69,6 +124,9 @@ public class EngagementQueryService extends QueryService<Engagement> {
             if (criteria.getDistinct() != null) {
                 specification = specification.and(distinct(criteria.getDistinct()));
             }
+            if (criteria.getFetch() != null) {
+                specification = specification.and(FetchSpecification.fetch(Engagement_.class_, criteria.getFetch()));
+            }
             if (criteria.getId() != null) {
                 specification = specification.and(buildRangeSpecification(criteria.getId(), Engagement_.id));
             }
@@ -82,17 +140,17 @@ public class EngagementQueryService extends QueryService<Engagement> {
                 specification = specification.and(buildStringSpecification(criteria.getObjectOfExpense(), Engagement_.objectOfExpense));
             }
             if (criteria.getNotifiedCredits() != null) {
-                specification = specification.and(buildStringSpecification(criteria.getNotifiedCredits(), Engagement_.notifiedCredits));
+                specification = specification.and(buildRangeSpecification(criteria.getNotifiedCredits(), Engagement_.notifiedCredits));
             }
             if (criteria.getCreditCommitted() != null) {
-                specification = specification.and(buildStringSpecification(criteria.getCreditCommitted(), Engagement_.creditCommitted));
+                specification = specification.and(buildRangeSpecification(criteria.getCreditCommitted(), Engagement_.creditCommitted));
             }
             if (criteria.getCreditsAvailable() != null) {
-                specification = specification.and(buildStringSpecification(criteria.getCreditsAvailable(), Engagement_.creditsAvailable));
+                specification = specification.and(buildRangeSpecification(criteria.getCreditsAvailable(), Engagement_.creditsAvailable));
             }
             if (criteria.getAmountProposedCommitment() != null) {
                 specification = specification.and(
-                    buildStringSpecification(criteria.getAmountProposedCommitment(), Engagement_.amountProposedCommitment)
+                    buildRangeSpecification(criteria.getAmountProposedCommitment(), Engagement_.amountProposedCommitment)
                 );
             }
             if (criteria.getHeadDaf() != null) {
@@ -106,6 +164,9 @@ public class EngagementQueryService extends QueryService<Engagement> {
             if (criteria.getGeneralManager() != null) {
                 specification = specification.and(buildStringSpecification(criteria.getGeneralManager(), Engagement_.generalManager));
             }
+            if (criteria.getFinancialYearId() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getFinancialYearId(), Engagement_.financialYearId));
+            }
             if (criteria.getDecisionId() != null) {
                 specification = specification.and(
                     buildSpecification(criteria.getDecisionId(), root -> root.join(Engagement_.decision, JoinType.LEFT).get(Decision_.id))
@@ -0,0 +1,65 @@
+package com.crat.budget.service;
+
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.SingularAttribute;
+import java.beans.Introspector;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Builds the {@link Specification} fetching the to-one associations named by the {@code fetch} parameter of a criteria,
+ * in the same statement as the entities they belong to, instead of one statement per entity when they are serialized.
+ * <p>
+ * Only to-one associations may be fetched: each entity still maps to a single row, so that the pagination stays in the
+ * database, by offset or on the ids, where a fetched collection would have the whole result paginated in memory. The
+ * associations are not fetched by the count queries, which do not select the entity.
+ */
+public final class FetchSpecification {
+
+    private FetchSpecification() {}
+
+    /**
+     * Specification fetching associations of an entity.
+     *
+     * @param entityType the entity, from its static metamodel.
+     * @param associations the names of the to-one associations to fetch.
+     * @param <T> the type of the entity.
+     * @return the specification, adding no predicate.
+     * @throws InvalidFetchException if a name is not a to-one association of the entity.
+     */
+    public static <T> Specification<T> fetch(EntityType<T> entityType, Collection<String> associations) {
+        List<String> attributeNames = new ArrayList<>(associations.size());
+        for (String association : associations) {
+            if (association.isBlank()) {
+                continue;
+            }
+            SingularAttribute<? super T, ?> attribute = entityType
+                .getSingularAttributes()
+                .stream()
+                .filter(singularAttribute -> singularAttribute.getName().equals(association))
+                .findFirst()
+                .orElse(null);
+            if (attribute == null || !isToOne(attribute)) {
+                throw new InvalidFetchException(Introspector.decapitalize(entityType.getName()), association);
+            }
+            attributeNames.add(association);
+        }
+        return (root, query, builder) -> {
+            if (query != null && root.getJavaType().equals(query.getResultType())) {
+                attributeNames.forEach(attributeName -> root.fetch(attributeName, JoinType.LEFT));
+            }
+            return null;
+        };
+    }
+
+    private static boolean isToOne(SingularAttribute<?, ?> attribute) {
+        return (
+            attribute.getPersistentAttributeType() == Attribute.PersistentAttributeType.MANY_TO_ONE ||
+            attribute.getPersistentAttributeType() == Attribute.PersistentAttributeType.ONE_TO_ONE
+        );
+    }
+}
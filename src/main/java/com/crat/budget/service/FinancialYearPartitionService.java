@@ -0,0 +1,241 @@
+package com.crat.budget.service;
+
+import com.crat.budget.domain.AnnexDecision;
+import com.crat.budget.domain.Decision;
+import com.crat.budget.domain.DecisionItem;
+import com.crat.budget.domain.Engagement;
+import com.crat.budget.domain.FinancialYear;
+import com.crat.budget.domain.Mandate;
+import com.crat.budget.domain.PurchaseOrder;
+import com.crat.budget.domain.PurchaseOrderItem;
+import com.crat.budget.repository.AnnexDecisionRepository;
+import com.crat.budget.repository.DecisionItemRepository;
+import com.crat.budget.repository.DecisionRepository;
+import com.crat.budget.repository.EngagementRepository;
+import com.crat.budget.repository.MandateRepository;
+import com.crat.budget.repository.PurchaseOrderItemRepository;
+import com.crat.budget.repository.PurchaseOrderRepository;
+import java.util.Objects;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service keeping the financial year of the transactional rows, the key their tables are partitioned by, in line with
+ * the financial year of their annex decision.
+ * <p>
+ * The purchase orders and decisions take the year of their annex decision, their items the year of their parent, an
+ * engagement the year of its decision and a mandate the year of its engagement. The year of a row is assigned before it
+ * is saved; when the year of a parent changes, its descendants are moved by a few set-based updates. These flush and then
+ * clear the persistence context, so that no row it still manages is left in, and later written back to, its previous year:
+ * the entities loaded before a move are detached and must be read again.
+ */
+@Service
+@Transactional
+public class FinancialYearPartitionService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FinancialYearPartitionService.class);
+
+    private final AnnexDecisionRepository annexDecisionRepository;
+
+    private final PurchaseOrderRepository purchaseOrderRepository;
+
+    private final PurchaseOrderItemRepository purchaseOrderItemRepository;
+
+    private final DecisionRepository decisionRepository;
+
+    private final DecisionItemRepository decisionItemRepository;
+
+    private final EngagementRepository engagementRepository;
+
+    private final MandateRepository mandateRepository;
+
+    public FinancialYearPartitionService(
+        AnnexDecisionRepository annexDecisionRepository,
+        PurchaseOrderRepository purchaseOrderRepository,
+        PurchaseOrderItemRepository purchaseOrderItemRepository,
+        DecisionRepository decisionRepository,
+        DecisionItemRepository decisionItemRepository,
+        EngagementRepository engagementRepository,
+        MandateRepository mandateRepository
+    ) {
+        this.annexDecisionRepository = annexDecisionRepository;
+        this.purchaseOrderRepository = purchaseOrderRepository;
+        this.purchaseOrderItemRepository = purchaseOrderItemRepository;
+        this.decisionRepository = decisionRepository;
+        this.decisionItemRepository = decisionItemRepository;
+        this.engagementRepository = engagementRepository;
+        this.mandateRepository = mandateRepository;
+    }
+
+    /**
+     * Get the financial year of an annex decision.
+     *
+     * @param annexDecisionId the id of the annex decision.
+     * @return the id of its financial year, {@code null} if there is none.
+     */
+    @Transactional(readOnly = true)
+    public Long findFinancialYearIdOfAnnexDecision(Long annexDecisionId) {
+        return annexDecisionId == null ? null : annexDecisionRepository.findFinancialYearId(annexDecisionId).orElse(null);
+    }
+
+    /**
+     * Assign the financial year of its annex decision to a purchase order.
+     *
+     * @param purchaseOrder the purchase order to save.
+     */
+    public void assign(PurchaseOrder purchaseOrder) {
+        purchaseOrder.setFinancialYearId(findFinancialYearIdOfAnnexDecision(idOf(purchaseOrder.getAnnexDecision())));
+    }
+
+    /**
+     * Assign the financial year of its purchase order to a purchase order item.
+     *
+     * @param purchaseOrderItem the purchase order item to save.
+     */
+    public void assign(PurchaseOrderItem purchaseOrderItem) {
+        Long purchaseOrderId = idOf(purchaseOrderItem.getPurchaseOrder());
+        purchaseOrderItem.setFinancialYearId(
+            purchaseOrderId == null ? null : purchaseOrderRepository.findFinancialYearId(purchaseOrderId).orElse(null)
+        );
+    }
+
+    /**
+     * Assign the financial year of its annex decision to a decision.
+     *
+     * @param decision the decision to save.
+     */
+    public void assign(Decision decision) {
+        decision.setFinancialYearId(findFinancialYearIdOfAnnexDecision(idOf(decision.getAnnexDecision())));
+    }
+
+    /**
+     * Assign the financial year of its decision to a decision item.
+     *
+     * @param decisionItem the decision item to save.
+     */
+    public void assign(DecisionItem decisionItem) {
+        Long decisionId = idOf(decisionItem.getDecision());
+        decisionItem.setFinancialYearId(decisionId == null ? null : decisionRepository.findFinancialYearId(decisionId).orElse(null));
+    }
+
+    /**
+     * Assign the financial year of its decision to an engagement, none to a new engagement: the decision linking it
+     * moves it to its year.
+     *
+     * @param engagement the engagement to save.
+     */
+    public void assign(Engagement engagement) {
+        engagement.setFinancialYearId(
+            engagement.getId() == null ? null : decisionRepository.findFinancialYearIdByEngagementId(engagement.getId()).orElse(null)
+        );
+    }
+
+    /**
+     * Assign the financial year of its engagement to a mandate.
+     *
+     * @param mandate the mandate to save.
+     */
+    public void assign(Mandate mandate) {
+        Long engagementId = idOf(mandate.getEngagement());
+        mandate.setFinancialYearId(engagementId == null ? null : engagementRepository.findFinancialYearId(engagementId).orElse(null));
+    }
+
+    /**
+     * Move the purchase orders and decisions of an annex decision, and their descendants, to its financial year if it
+     * changed.
+     *
+     * @param annexDecision the saved annex decision.
+     * @param previousFinancialYearId the id of its financial year before it was saved.
+     */
+    public void annexDecisionSaved(AnnexDecision annexDecision, Long previousFinancialYearId) {
+        Long financialYearId = idOf(annexDecision.getFinancialYear());
+        if (Objects.equals(financialYearId, previousFinancialYearId)) {
+            return;
+        }
+        Long annexDecisionId = annexDecision.getId();
+        int moved = purchaseOrderRepository.updateFinancialYearIdByAnnexDecisionId(annexDecisionId, financialYearId);
+        moved += purchaseOrderItemRepository.updateFinancialYearIdByAnnexDecisionId(annexDecisionId, financialYearId);
+        moved += decisionRepository.updateFinancialYearIdByAnnexDecisionId(annexDecisionId, financialYearId);
+        moved += decisionItemRepository.updateFinancialYearIdByAnnexDecisionId(annexDecisionId, financialYearId);
+        moved += engagementRepository.updateFinancialYearIdByAnnexDecisionId(annexDecisionId, financialYearId);
+        moved += mandateRepository.updateFinancialYearIdByAnnexDecisionId(annexDecisionId, financialYearId);
+        LOG.debug("Moved {} rows of AnnexDecision {} to FinancialYear {}", moved, annexDecisionId, financialYearId);
+    }
+
+    /**
+     * Move the items of a purchase order to its financial year if it changed.
+     *
+     * @param purchaseOrder the saved purchase order.
+     * @param previousFinancialYearId the id of its financial year before it was saved.
+     */
+    public void purchaseOrderSaved(PurchaseOrder purchaseOrder, Long previousFinancialYearId) {
+        if (!Objects.equals(purchaseOrder.getFinancialYearId(), previousFinancialYearId)) {
+            purchaseOrderItemRepository.updateFinancialYearIdByPurchaseOrderId(purchaseOrder.getId(), purchaseOrder.getFinancialYearId());
+        }
+    }
+
+    /**
+     * Move the items and the engagement of a decision to its financial year if it changed, and the engagement it was
+     * linked to before out of it.
+     *
+     * @param decision the saved decision.
+     * @param previousFinancialYearId the id of its financial year before it was saved.
+     * @param previousEngagementId the id of its engagement before it was saved.
+     */
+    public void decisionSaved(Decision decision, Long previousFinancialYearId, Long previousEngagementId) {
+        Long financialYearId = decision.getFinancialYearId();
+        Long engagementId = idOf(decision.getEngagement());
+        boolean moved = !Objects.equals(financialYearId, previousFinancialYearId);
+        if (moved) {
+            decisionItemRepository.updateFinancialYearIdByDecisionId(decision.getId(), financialYearId);
+        }
+        if (!Objects.equals(engagementId, previousEngagementId)) {
+            if (previousEngagementId != null) {
+                moveEngagement(previousEngagementId, null);
+            }
+            moved = true;
+        }
+        if (moved && engagementId != null) {
+            moveEngagement(engagementId, financialYearId);
+        }
+    }
+
+    /**
+     * Move the mandate of an engagement to its financial year if it changed.
+     *
+     * @param engagement the saved engagement.
+     * @param previousFinancialYearId the id of its financial year before it was saved.
+     */
+    public void engagementSaved(Engagement engagement, Long previousFinancialYearId) {
+        if (!Objects.equals(engagement.getFinancialYearId(), previousFinancialYearId)) {
+            mandateRepository.updateFinancialYearIdByEngagementId(engagement.getId(), engagement.getFinancialYearId());
+        }
+    }
+
+    private void moveEngagement(Long engagementId, Long financialYearId) {
+        engagementRepository.updateFinancialYearId(engagementId, financialYearId);
+        mandateRepository.updateFinancialYearIdByEngagementId(engagementId, financialYearId);
+    }
+
+    private static Long idOf(AnnexDecision annexDecision) {
+        return annexDecision == null ? null : annexDecision.getId();
+    }
+
+    private static Long idOf(FinancialYear financialYear) {
+        return financialYear == null ? null : financialYear.getId();
+    }
+
+    private static Long idOf(PurchaseOrder purchaseOrder) {
+        return purchaseOrder == null ? null : purchaseOrder.getId();
+    }
+
+    private static Long idOf(Decision decision) {
+        return decision == null ? null : decision.getId();
+    }
+
+    private static Long idOf(Engagement engagement) {
+        return engagement == null ? null : engagement.getId();
+    }
+}
@@ -0,0 +1,17 @@
+package com.crat.budget.service;
+
+public class InvalidFetchException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String entityName;
+
+    public InvalidFetchException(String entityName, String association) {
+        super("Cannot fetch " + association + ": not a to-one association of " + entityName);
+        this.entityName = entityName;
+    }
+
+    public String getEntityName() {
+        return entityName;
+    }
+}
@@ -0,0 +1,17 @@
+package com.crat.budget.service;
+
+public class InvalidFieldException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String entityName;
+
+    public InvalidFieldException(String entityName, String field) {
+        super("Cannot select " + field + ": not a field of the " + entityName + " rows");
+        this.entityName = entityName;
+    }
+
+    public String getEntityName() {
+        return entityName;
+    }
+}
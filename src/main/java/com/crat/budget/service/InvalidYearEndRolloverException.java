@@ -0,0 +1,10 @@
+package com.crat.budget.service;
+
+public class InvalidYearEndRolloverException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public InvalidYearEndRolloverException(String message) {
+        super(message);
+    }
+}
@@ -4,11 +4,25 @@ import com.crat.budget.domain.*; // for static metamodels
 import com.crat.budget.domain.Mandate;
 import com.crat.budget.repository.MandateRepository;
 import com.crat.budget.service.criteria.MandateCriteria;
+import com.crat.budget.service.export.EntityExporter;
+import com.crat.budget.service.export.ExportFormat;
+import com.crat.budget.service.projection.EntityProjector;
+import com.crat.budget.service.projection.ProjectionColumn;
 import jakarta.persistence.criteria.JoinType;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,12 +38,31 @@ import tech.jhipster.service.QueryService;
 @Transactional(readOnly = true)
 public class MandateQueryService extends QueryService<Mandate> {
 
+    public static final String APPROXIMATE_COUNT_CACHE = "mandateApproximateCount";
+
     private static final Logger LOG = LoggerFactory.getLogger(MandateQueryService.class);
 
+    private static final List<ProjectionColumn<Mandate>> COLUMNS = List.of(
+        ProjectionColumn.of("id", Mandate_.id),
+        ProjectionColumn.of("mandateNumber", Mandate_.mandateNumber),
+        ProjectionColumn.of("mandateDate", Mandate_.mandateDate),
+        ProjectionColumn.of("issueSlipNumber", Mandate_.issueSlipNumber),
+        ProjectionColumn.of("monthAndYearOfIssue", Mandate_.monthAndYearOfIssue),
+        ProjectionColumn.of("supportingDocuments", Mandate_.supportingDocuments),
+        ProjectionColumn.of("financialYearId", Mandate_.financialYearId),
+        ProjectionColumn.of("engagementId", Mandate_.engagement, Engagement_.id)
+    );
+
     private final MandateRepository mandateRepository;
 
-    public MandateQueryService(MandateRepository mandateRepository) {
+    private final EntityExporter entityExporter;
+
+    private final EntityProjector entityProjector;
+
+    public MandateQueryService(MandateRepository mandateRepository, EntityExporter entityExporter, EntityProjector entityProjector) {
         this.mandateRepository = mandateRepository;
+        this.entityExporter = entityExporter;
+        this.entityProjector = entityProjector;
     }
 
     /**
@@ -45,6 +78,71 @@ public class MandateQueryService extends QueryService<Mandate> {
         return mandateRepository.findAll(specification, page);
     }
 
+    /**
+     * Return a {@link Slice} of {@link Mandate} which matches the criteria from the database,
+     * without running the count query needed to build a {@link Page}.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Slice<Mandate> findSliceByCriteria(MandateCriteria criteria, Pageable page) {
+        LOG.debug("find slice by criteria : {}, page: {}", criteria, page);
+        final Specification<Mandate> specification = createSpecification(criteria);
+        ScrollPosition position = page.getOffset() == 0 ? ScrollPosition.offset() : ScrollPosition.offset(page.getOffset() - 1);
+        Window<Mandate> window = mandateRepository.findBy(specification, query ->
+            query.sortBy(page.getSort()).limit(page.getPageSize()).scroll(position)
+        );
+        return new SliceImpl<>(window.getContent(), page, window.hasNext());
+    }
+
+    /**
+     * Return a {@link Window} of {@link Mandate} which matches the criteria from the database,
+     * seeking after the given keyset position instead of skipping rows with an offset.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param position The keyset position after which the window starts.
+     * @param page The size and sort of the window, the page number is ignored.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Window<Mandate> findByCriteria(MandateCriteria criteria, KeysetScrollPosition position, Pageable page) {
+        LOG.debug("find by criteria : {}, position: {}, page: {}", criteria, position, page);
+        final Specification<Mandate> specification = createSpecification(criteria);
+        return mandateRepository.findBy(specification, query ->
+            query.sortBy(page.getSort()).limit(page.getPageSize()).scroll(position)
+        );
+    }
+
+    /**
+     * Return a {@link Page} of read-only rows of the {@link Mandate} which match the criteria from the database,
+     * holding only the requested fields, without loading the entities in the persistence context.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param fields The comma-separated names of the fields of the rows, all of them if blank.
+     * @param page The page, which should be returned.
+     * @return the rows of the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> findRowsByCriteria(MandateCriteria criteria, String fields, Pageable page) {
+        LOG.debug("find rows by criteria : {}, fields: {}, page: {}", criteria, fields, page);
+        final Specification<Mandate> specification = createSpecification(criteria);
+        return entityProjector.findPage(Mandate.class, specification, EntityProjector.select(COLUMNS, fields, Mandate.class), page);
+    }
+
+    /**
+     * Return a {@link Slice} of read-only rows of the {@link Mandate} which match the criteria from the database,
+     * holding only the requested fields, without running the count query needed to build a {@link Page}.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param fields The comma-separated names of the fields of the rows, all of them if blank.
+     * @param page The page, which should be returned.
+     * @return the rows of the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Slice<Map<String, Object>> findRowSliceByCriteria(MandateCriteria criteria, String fields, Pageable page) {
+        LOG.debug("find row slice by criteria : {}, fields: {}, page: {}", criteria, fields, page);
+        final Specification<Mandate> specification = createSpecification(criteria);
+        return entityProjector.findSlice(Mandate.class, specification, EntityProjector.select(COLUMNS, fields, Mandate.class), page);
+    }
+
     /**
      * Return the number of matching entities in the database.
      * @param criteria The object which holds all the filters, which the entities should match.
@@ -57,6 +155,33 @@ public class MandateQueryService extends QueryService<Mandate> {
         return mandateRepository.count(specification);
     }
 
+    /**
+     * Return the number of matching entities, cached for a short while so that it may be stale.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the approximate number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = APPROXIMATE_COUNT_CACHE)
+    public long approximateCountByCriteria(MandateCriteria criteria) {
+        LOG.debug("approximate count by criteria : {}", criteria);
+        return countByCriteria(criteria);
+    }
+
+    /**
+     * Stream the entities which match the criteria from the database, ordered by id.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param format The format the entities are written in.
+     * @param outputStream The stream the entities are written to.
+     * @return the number of exported entities.
+     * @throws IOException if the entities could not be written.
+     */
+    @Transactional(readOnly = true)
+    public long exportByCriteria(MandateCriteria criteria, ExportFormat format, OutputStream outputStream) throws IOException {
+        LOG.debug("export by criteria : {}, format: {}", criteria, format);
+        final Specification<Mandate> specification = createSpecification(criteria);
+        return entityExporter.export(Mandate.class, specification, COLUMNS, format, outputStream);
+    }
+
     /**
      * Function to convert {@link MandateCriteria} to a {@link Specification}
      * @param criteria The object which holds all the filters, which the entities should match.
@@ -69,6 +194,9 @@ public class MandateQueryService extends QueryService<Mandate> {
             if (criteria.getDistinct() != null) {
                 specification = specification.and(distinct(criteria.getDistinct()));
             }
+            if (criteria.getFetch() != null) {
+                specification = specification.and(FetchSpecification.fetch(Mandate_.class_, criteria.getFetch()));
+            }
             if (criteria.getId() != null) {
                 specification = specification.and(buildRangeSpecification(criteria.getId(), Mandate_.id));
             }
@@ -91,6 +219,9 @@ public class MandateQueryService extends QueryService<Mandate> {
                     buildStringSpecification(criteria.getSupportingDocuments(), Mandate_.supportingDocuments)
                 );
             }
+            if (criteria.getFinancialYearId() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getFinancialYearId(), Mandate_.financialYearId));
+            }
             if (criteria.getEngagementId() != null) {
                 specification = specification.and(
                     buildSpecification(criteria.getEngagementId(), root -> root.join(Mandate_.engagement, JoinType.LEFT).get(Engagement_.id)
@@ -4,11 +4,25 @@ import com.crat.budget.domain.*; // for static metamodels
 import com.crat.budget.domain.PurchaseOrderItem;
 import com.crat.budget.repository.PurchaseOrderItemRepository;
 import com.crat.budget.service.criteria.PurchaseOrderItemCriteria;
+import com.crat.budget.service.export.EntityExporter;
+import com.crat.budget.service.export.ExportFormat;
+import com.crat.budget.service.projection.EntityProjector;
+import com.crat.budget.service.projection.ProjectionColumn;
 import jakarta.persistence.criteria.JoinType;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,12 +38,34 @@ import tech.jhipster.service.QueryService;
 @Transactional(readOnly = true)
 public class PurchaseOrderItemQueryService extends QueryService<PurchaseOrderItem> {
 
+    public static final String APPROXIMATE_COUNT_CACHE = "purchaseOrderItemApproximateCount";
+
     private static final Logger LOG = LoggerFactory.getLogger(PurchaseOrderItemQueryService.class);
 
+    private static final List<ProjectionColumn<PurchaseOrderItem>> COLUMNS = List.of(
+        ProjectionColumn.of("id", PurchaseOrderItem_.id),
+        ProjectionColumn.of("productName", PurchaseOrderItem_.productName),
+        ProjectionColumn.of("quantity", PurchaseOrderItem_.quantity),
+        ProjectionColumn.of("unitPrice", PurchaseOrderItem_.unitPrice),
+        ProjectionColumn.of("totalAmount", PurchaseOrderItem_.totalAmount),
+        ProjectionColumn.of("financialYearId", PurchaseOrderItem_.financialYearId),
+        ProjectionColumn.of("purchaseOrderId", PurchaseOrderItem_.purchaseOrder, PurchaseOrder_.id)
+    );
+
     private final PurchaseOrderItemRepository purchaseOrderItemRepository;
 
-    public PurchaseOrderItemQueryService(PurchaseOrderItemRepository purchaseOrderItemRepository) {
+    private final EntityExporter entityExporter;
+
+    private final EntityProjector entityProjector;
+
+    public PurchaseOrderItemQueryService(
+        PurchaseOrderItemRepository purchaseOrderItemRepository,
+        EntityExporter entityExporter,
+        EntityProjector entityProjector
+    ) {
         this.purchaseOrderItemRepository = purchaseOrderItemRepository;
+        this.entityExporter = entityExporter;
+        this.entityProjector = entityProjector;
     }
 
     /**
@@ -45,6 +81,81 @@ public class PurchaseOrderItemQueryService extends QueryService<PurchaseOrderIte
         return purchaseOrderItemRepository.findAll(specification, page);
     }
 
+    /**
+     * Return a {@link Slice} of {@link PurchaseOrderItem} which matches the criteria from the database,
+     * without running the count query needed to build a {@link Page}.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Slice<PurchaseOrderItem> findSliceByCriteria(PurchaseOrderItemCriteria criteria, Pageable page) {
+        LOG.debug("find slice by criteria : {}, page: {}", criteria, page);
+        final Specification<PurchaseOrderItem> specification = createSpecification(criteria);
+        ScrollPosition position = page.getOffset() == 0 ? ScrollPosition.offset() : ScrollPosition.offset(page.getOffset() - 1);
+        Window<PurchaseOrderItem> window = purchaseOrderItemRepository.findBy(specification, query ->
+            query.sortBy(page.getSort()).limit(page.getPageSize()).scroll(position)
+        );
+        return new SliceImpl<>(window.getContent(), page, window.hasNext());
+    }
+
+    /**
+     * Return a {@link Window} of {@link PurchaseOrderItem} which matches the criteria from the database,
+     * seeking after the given keyset position instead of skipping rows with an offset.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param position The keyset position after which the window starts.
+     * @param page The size and sort of the window, the page number is ignored.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Window<PurchaseOrderItem> findByCriteria(PurchaseOrderItemCriteria criteria, KeysetScrollPosition position, Pageable page) {
+        LOG.debug("find by criteria : {}, position: {}, page: {}", criteria, position, page);
+        final Specification<PurchaseOrderItem> specification = createSpecification(criteria);
+        return purchaseOrderItemRepository.findBy(specification, query ->
+            query.sortBy(page.getSort()).limit(page.getPageSize()).scroll(position)
+        );
+    }
+
+    /**
+     * Return a {@link Page} of read-only rows of the {@link PurchaseOrderItem} which match the criteria from the database,
+     * holding only the requested fields, without loading the entities in the persistence context.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param fields The comma-separated names of the fields of the rows, all of them if blank.
+     * @param page The page, which should be returned.
+     * @return the rows of the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> findRowsByCriteria(PurchaseOrderItemCriteria criteria, String fields, Pageable page) {
+        LOG.debug("find rows by criteria : {}, fields: {}, page: {}", criteria, fields, page);
+        final Specification<PurchaseOrderItem> specification = createSpecification(criteria);
+        return entityProjector.findPage(
+            PurchaseOrderItem.class,
+            specification,
+            EntityProjector.select(COLUMNS, fields, PurchaseOrderItem.class),
+            page
+        );
+    }
+
+    /**
+     * Return a {@link Slice} of read-only rows of the {@link PurchaseOrderItem} which match the criteria from the database,
+     * holding only the requested fields, without running the count query needed to build a {@link Page}.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param fields The comma-separated names of the fields of the rows, all of them if blank.
+     * @param page The page, which should be returned.
+     * @return the rows of the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Slice<Map<String, Object>> findRowSliceByCriteria(PurchaseOrderItemCriteria criteria, String fields, Pageable page) {
+        LOG.debug("find row slice by criteria : {}, fields: {}, page: {}", criteria, fields, page);
+        final Specification<PurchaseOrderItem> specification = createSpecification(criteria);
+        return entityProjector.findSlice(
+            PurchaseOrderItem.class,
+            specification,
+            EntityProjector.select(COLUMNS, fields, PurchaseOrderItem.class),
+            page
+        );
+    }
+
     /**
      * Return the number of matching entities in the database.
      * @param criteria The object which holds all the filters, which the entities should match.
@@ -57,6 +168,33 @@ public class PurchaseOrderItemQueryService extends QueryService<PurchaseOrderIte
         return purchaseOrderItemRepository.count(specification);
     }
 
+    /**
+     * Return the number of matching entities, cached for a short while so that it may be stale.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the approximate number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = APPROXIMATE_COUNT_CACHE)
+    public long approximateCountByCriteria(PurchaseOrderItemCriteria criteria) {
+        LOG.debug("approximate count by criteria : {}", criteria);
+        return countByCriteria(criteria);
+    }
+
+    /**
+     * Stream the entities which match the criteria from the database, ordered by id.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param format The format the entities are written in.
+     * @param outputStream The stream the entities are written to.
+     * @return the number of exported entities.
+     * @throws IOException if the entities could not be written.
+     */
+    @Transactional(readOnly = true)
+    public long exportByCriteria(PurchaseOrderItemCriteria criteria, ExportFormat format, OutputStream outputStream) throws IOException {
+        LOG.debug("export by criteria : {}, format: {}", criteria, format);
+        final Specification<PurchaseOrderItem> specification = createSpecification(criteria);
+        return entityExporter.export(PurchaseOrderItem.class, specification, COLUMNS, format, outputStream);
+    }
+
     /**
      * Function to convert {@link PurchaseOrderItemCriteria} to a {@link Specification}
      * @param criteria The object which holds all the filters, which the entities should match.
@@ -69,6 +207,9 @@ public class PurchaseOrderItemQueryService extends QueryService<PurchaseOrderIte
             if (criteria.getDistinct() != null) {
                 specification = specification.and(distinct(criteria.getDistinct()));
             }
+            if (criteria.getFetch() != null) {
+                specification = specification.and(FetchSpecification.fetch(PurchaseOrderItem_.class_, criteria.getFetch()));
+            }
             if (criteria.getId() != null) {
                 specification = specification.and(buildRangeSpecification(criteria.getId(), PurchaseOrderItem_.id));
             }
@@ -84,6 +225,11 @@ public class PurchaseOrderItemQueryService extends QueryService<PurchaseOrderIte
             if (criteria.getTotalAmount() != null) {
                 specification = specification.and(buildRangeSpecification(criteria.getTotalAmount(), PurchaseOrderItem_.totalAmount));
             }
+            if (criteria.getFinancialYearId() != null) {
+                specification = specification.and(
+                    buildRangeSpecification(criteria.getFinancialYearId(), PurchaseOrderItem_.financialYearId)
+                );
+            }
             if (criteria.getPurchaseOrderId() != null) {
                 specification = specification.and(
                     buildSpecification(criteria.getPurchaseOrderId(), root ->
@@ -4,11 +4,25 @@ import com.crat.budget.domain.*; // for static metamodels
 import com.crat.budget.domain.PurchaseOrder;
 import com.crat.budget.repository.PurchaseOrderRepository;
 import com.crat.budget.service.criteria.PurchaseOrderCriteria;
+import com.crat.budget.service.export.EntityExporter;
+import com.crat.budget.service.export.ExportFormat;
+import com.crat.budget.service.projection.EntityProjector;
+import com.crat.budget.service.projection.ProjectionColumn;
 import jakarta.persistence.criteria.JoinType;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,12 +38,44 @@ import tech.jhipster.service.QueryService;
 @Transactional(readOnly = true)
 public class PurchaseOrderQueryService extends QueryService<PurchaseOrder> {
 
+    public static final String APPROXIMATE_COUNT_CACHE = "purchaseOrderApproximateCount";
+
     private static final Logger LOG = LoggerFactory.getLogger(PurchaseOrderQueryService.class);
 
+    private static final List<ProjectionColumn<PurchaseOrder>> COLUMNS = List.of(
+        ProjectionColumn.of("id", PurchaseOrder_.id),
+        ProjectionColumn.of("nameOfTheMinistry", PurchaseOrder_.nameOfTheMinistry),
+        ProjectionColumn.of("orderNumber", PurchaseOrder_.orderNumber),
+        ProjectionColumn.of("orderDate", PurchaseOrder_.orderDate),
+        ProjectionColumn.of("totalAmountWithoutTax", PurchaseOrder_.totalAmountWithoutTax),
+        ProjectionColumn.of("taxRate", PurchaseOrder_.taxRate),
+        ProjectionColumn.of("totalTaxAmount", PurchaseOrder_.totalTaxAmount),
+        ProjectionColumn.of("prepaidTaxAmount", PurchaseOrder_.prepaidTaxAmount),
+        ProjectionColumn.of("totalAmountWithTax", PurchaseOrder_.totalAmountWithTax),
+        ProjectionColumn.of("authExpenditureNumber", PurchaseOrder_.authExpenditureNumber),
+        ProjectionColumn.of("allocatedCredits", PurchaseOrder_.allocatedCredits),
+        ProjectionColumn.of("committedExpenditures", PurchaseOrder_.committedExpenditures),
+        ProjectionColumn.of("availableBalance", PurchaseOrder_.availableBalance),
+        ProjectionColumn.of("financialYearId", PurchaseOrder_.financialYearId),
+        ProjectionColumn.of("annexDecisionId", PurchaseOrder_.annexDecision, AnnexDecision_.id),
+        ProjectionColumn.of("supplierId", PurchaseOrder_.supplier, Supplier_.id),
+        ProjectionColumn.of("engagementId", PurchaseOrder_.engagement, Engagement_.id)
+    );
+
     private final PurchaseOrderRepository purchaseOrderRepository;
 
-    public PurchaseOrderQueryService(PurchaseOrderRepository purchaseOrderRepository) {
+    private final EntityExporter entityExporter;
+
+    private final EntityProjector entityProjector;
+
+    public PurchaseOrderQueryService(
+        PurchaseOrderRepository purchaseOrderRepository,
+        EntityExporter entityExporter,
+        EntityProjector entityProjector
+    ) {
         this.purchaseOrderRepository = purchaseOrderRepository;
+        this.entityExporter = entityExporter;
+        this.entityProjector = entityProjector;
     }
 
     /**
@@ -45,6 +91,81 @@ public class PurchaseOrderQueryService extends QueryService<PurchaseOrder> {
         return purchaseOrderRepository.findAll(specification, page);
     }
 
+    /**
+     * Return a {@link Slice} of {@link PurchaseOrder} which matches the criteria from the database,
+     * without running the count query needed to build a {@link Page}.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Slice<PurchaseOrder> findSliceByCriteria(PurchaseOrderCriteria criteria, Pageable page) {
+        LOG.debug("find slice by criteria : {}, page: {}", criteria, page);
+        final Specification<PurchaseOrder> specification = createSpecification(criteria);
+        ScrollPosition position = page.getOffset() == 0 ? ScrollPosition.offset() : ScrollPosition.offset(page.getOffset() - 1);
+        Window<PurchaseOrder> window = purchaseOrderRepository.findBy(specification, query ->
+            query.sortBy(page.getSort()).limit(page.getPageSize()).scroll(position)
+        );
+        return new SliceImpl<>(window.getContent(), page, window.hasNext());
+    }
+
+    /**
+     * Return a {@link Window} of {@link PurchaseOrder} which matches the criteria from the database,
+     * seeking after the given keyset position instead of skipping rows with an offset.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param position The keyset position after which the window starts.
+     * @param page The size and sort of the window, the page number is ignored.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Window<PurchaseOrder> findByCriteria(PurchaseOrderCriteria criteria, KeysetScrollPosition position, Pageable page) {
+        LOG.debug("find by criteria : {}, position: {}, page: {}", criteria, position, page);
+        final Specification<PurchaseOrder> specification = createSpecification(criteria);
+        return purchaseOrderRepository.findBy(specification, query ->
+            query.sortBy(page.getSort()).limit(page.getPageSize()).scroll(position)
+        );
+    }
+
+    /**
+     * Return a {@link Page} of read-only rows of the {@link PurchaseOrder} which match the criteria from the database,
+     * holding only the requested fields, without loading the entities in the persistence context.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param fields The comma-separated names of the fields of the rows, all of them if blank.
+     * @param page The page, which should be returned.
+     * @return the rows of the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> findRowsByCriteria(PurchaseOrderCriteria criteria, String fields, Pageable page) {
+        LOG.debug("find rows by criteria : {}, fields: {}, page: {}", criteria, fields, page);
+        final Specification<PurchaseOrder> specification = createSpecification(criteria);
+        return entityProjector.findPage(
+            PurchaseOrder.class,
+            specification,
+            EntityProjector.select(COLUMNS, fields, PurchaseOrder.class),
+            page
+        );
+    }
+
+    /**
+     * Return a {@link Slice} of read-only rows of the {@link PurchaseOrder} which match the criteria from the database,
+     * holding only the requested fields, without running the count query needed to build a {@link Page}.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param fields The comma-separated names of the fields of the rows, all of them if blank.
+     * @param page The page, which should be returned.
+     * @return the rows of the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Slice<Map<String, Object>> findRowSliceByCriteria(PurchaseOrderCriteria criteria, String fields, Pageable page) {
+        LOG.debug("find row slice by criteria : {}, fields: {}, page: {}", criteria, fields, page);
+        final Specification<PurchaseOrder> specification = createSpecification(criteria);
+        return entityProjector.findSlice(
+            PurchaseOrder.class,
+            specification,
+            EntityProjector.select(COLUMNS, fields, PurchaseOrder.class),
+            page
+        );
+    }
+
     /**
      * Return the number of matching entities in the database.
      * @param criteria The object which holds all the filters, which the entities should match.
@@ -57,6 +178,33 @@ public class PurchaseOrderQueryService extends QueryService<PurchaseOrder> {
         return purchaseOrderRepository.count(specification);
     }
 
+    /**
+     * Return the number of matching entities, cached for a short while so that it may be stale.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the approximate number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = APPROXIMATE_COUNT_CACHE)
+    public long approximateCountByCriteria(PurchaseOrderCriteria criteria) {
+        LOG.debug("approximate count by criteria : {}", criteria);
+        return countByCriteria(criteria);
+    }
+
+    /**
+     * Stream the entities which match the criteria from the database, ordered by id.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param format The format the entities are written in.
+     * @param outputStream The stream the entities are written to.
+     * @return the number of exported entities.
+     * @throws IOException if the entities could not be written.
+     */
+    @Transactional(readOnly = true)
+    public long exportByCriteria(PurchaseOrderCriteria criteria, ExportFormat format, OutputStream outputStream) throws IOException {
+        LOG.debug("export by criteria : {}, format: {}", criteria, format);
+        final Specification<PurchaseOrder> specification = createSpecification(criteria);
+        return entityExporter.export(PurchaseOrder.class, specification, COLUMNS, format, outputStream);
+    }
+
     /**
      * Function to convert {@link PurchaseOrderCriteria} to a {@link Specification}
      * @param criteria The object which holds all the filters, which the entities should match.
@@ -69,6 +217,9 @@ public class PurchaseOrderQueryService extends QueryService<PurchaseOrder> {
             if (criteria.getDistinct() != null) {
                 specification = specification.and(distinct(criteria.getDistinct()));
             }
+            if (criteria.getFetch() != null) {
+                specification = specification.and(FetchSpecification.fetch(PurchaseOrder_.class_, criteria.getFetch()));
+            }
             if (criteria.getId() != null) {
                 specification = specification.and(buildRangeSpecification(criteria.getId(), PurchaseOrder_.id));
             }
@@ -118,6 +269,9 @@ public class PurchaseOrderQueryService extends QueryService<PurchaseOrder> {
             if (criteria.getAvailableBalance() != null) {
                 specification = specification.and(buildRangeSpecification(criteria.getAvailableBalance(), PurchaseOrder_.availableBalance));
             }
+            if (criteria.getFinancialYearId() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getFinancialYearId(), PurchaseOrder_.financialYearId));
+            }
             if (criteria.getAnnexDecisionId() != null) {
                 specification = specification.and(
                     buildSpecification(criteria.getAnnexDecisionId(), root ->
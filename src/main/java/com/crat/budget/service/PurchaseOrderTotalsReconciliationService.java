@@ -0,0 +1,104 @@
+package com.crat.budget.service;
+
+import com.crat.budget.config.ApplicationProperties;
+import com.crat.budget.config.BackgroundJobConfiguration;
+import com.crat.budget.repository.PurchaseOrderItemRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service checking the totals of all the purchase orders having items against their items, and fixing those which
+ * drifted, for instance by writes which did not go through the application.
+ * <p>
+ * The ids of the purchase orders are split in chunks of {@code application.purchase-order-totals.reconciliation.chunk-size}
+ * ids, recomputed by {@link PurchaseOrderTotalsService#recompute(java.util.Collection)} in a transaction each, several
+ * chunks at a time on the {@link BackgroundJobConfiguration#PURCHASE_ORDER_TOTALS_EXECUTOR} executor. A single
+ * reconciliation runs at a time.
+ */
+@Service
+public class PurchaseOrderTotalsReconciliationService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PurchaseOrderTotalsReconciliationService.class);
+
+    private final PurchaseOrderItemRepository purchaseOrderItemRepository;
+
+    private final PurchaseOrderTotalsService purchaseOrderTotalsService;
+
+    private final ApplicationProperties applicationProperties;
+
+    private final Executor executor;
+
+    private volatile CompletableFuture<Long> running;
+
+    public PurchaseOrderTotalsReconciliationService(
+        PurchaseOrderItemRepository purchaseOrderItemRepository,
+        PurchaseOrderTotalsService purchaseOrderTotalsService,
+        ApplicationProperties applicationProperties,
+        @Qualifier(BackgroundJobConfiguration.PURCHASE_ORDER_TOTALS_EXECUTOR) Executor executor
+    ) {
+        this.purchaseOrderItemRepository = purchaseOrderItemRepository;
+        this.purchaseOrderTotalsService = purchaseOrderTotalsService;
+        this.applicationProperties = applicationProperties;
+        this.executor = executor;
+    }
+
+    @Scheduled(cron = "${application.purchase-order-totals.reconciliation.cron:0 30 2 * * ?}")
+    public void scheduledReconciliation() {
+        if (applicationProperties.getPurchaseOrderTotals().getReconciliation().isEnabled()) {
+            reconcile().join();
+        }
+    }
+
+    /**
+     * Start checking the totals of all the purchase orders having items, in the background.
+     *
+     * @return the number of purchase orders whose totals were fixed, the running reconciliation if there is one; failed if
+     * a chunk failed, the other chunks being committed.
+     */
+    public synchronized CompletableFuture<Long> reconcile() {
+        if (running != null && !running.isDone()) {
+            LOG.debug("A reconciliation of the PurchaseOrder totals is already running");
+            return running;
+        }
+        ApplicationProperties.PurchaseOrderTotals.Reconciliation properties = applicationProperties
+            .getPurchaseOrderTotals()
+            .getReconciliation();
+        long start = System.nanoTime();
+        int chunkSize = Math.max(1, properties.getChunkSize());
+        AtomicLong checked = new AtomicLong();
+        AtomicLong fixed = new AtomicLong();
+        running = CompletableFuture.supplyAsync(purchaseOrderItemRepository::findItemizedPurchaseOrderIds, executor)
+            .thenCompose(ids -> {
+                List<CompletableFuture<Void>> chunks = new ArrayList<>();
+                for (int from = 0; from < ids.size(); from += chunkSize) {
+                    List<Long> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+                    chunks.add(CompletableFuture.runAsync(() -> reconcile(chunk, ids.size(), checked, fixed), executor));
+                }
+                return CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new));
+            })
+            .whenComplete((result, failure) -> {
+                long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                if (failure == null) {
+                    LOG.info("Checked the totals of {} PurchaseOrders in {} ms, {} fixed", checked.get(), elapsed, fixed.get());
+                } else {
+                    LOG.warn("Totals reconciliation failed after {} ms, {} fixed: {}", elapsed, fixed.get(), failure.toString());
+                }
+            })
+            .thenApply(result -> fixed.get());
+        return running;
+    }
+
+    private void reconcile(List<Long> chunk, int total, AtomicLong checked, AtomicLong fixed) {
+        fixed.addAndGet(purchaseOrderTotalsService.recompute(chunk));
+        LOG.debug("Checked {}/{} PurchaseOrder totals", checked.addAndGet(chunk.size()), total);
+    }
+}
@@ -0,0 +1,231 @@
+package com.crat.budget.service;
+
+import com.crat.budget.domain.PurchaseOrder;
+import com.crat.budget.repository.PurchaseOrderItemRepository;
+import com.crat.budget.repository.PurchaseOrderItemRepository.ItemTotals;
+import com.crat.budget.repository.PurchaseOrderRepository;
+import com.crat.budget.service.CommitmentLedgerService.Commitment;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Service computing the totals of the {@link PurchaseOrder}s from their {@link com.crat.budget.domain.PurchaseOrderItem}s.
+ * <p>
+ * The writes of the items and of the purchase orders mark their purchase order as changed, and the marked purchase orders
+ * are recomputed once, just before the transaction commits: however many items a transaction writes, each purchase order
+ * is locked, summed and updated a single time, the sums of all of them being read by one aggregate query. A purchase
+ * order without items keeps the totals it was given, unless its last item was removed.
+ * <p>
+ * The amount without tax is the sum of the items, the tax amount applies the tax rate (a percentage) to it, and the
+ * prepaid tax is the {@link #PREPAID_TAX_RATE} share of the tax withheld at payment. When the amount with tax changes,
+ * the difference is recorded in the ledger of the annex decision.
+ */
+@Service
+@Transactional
+public class PurchaseOrderTotalsService {
+
+    /**
+     * Share of the tax amount prepaid by withholding, the precompte.
+     */
+    public static final BigDecimal PREPAID_TAX_RATE = new BigDecimal("0.40");
+
+    private static final BigDecimal PERCENT = BigDecimal.valueOf(100);
+
+    private static final int SCALE = 2;
+
+    private static final int CHUNK_SIZE = 500;
+
+    private static final Logger LOG = LoggerFactory.getLogger(PurchaseOrderTotalsService.class);
+
+    private final PurchaseOrderRepository purchaseOrderRepository;
+
+    private final PurchaseOrderItemRepository purchaseOrderItemRepository;
+
+    private final CommitmentLedgerService commitmentLedgerService;
+
+    public PurchaseOrderTotalsService(
+        PurchaseOrderRepository purchaseOrderRepository,
+        PurchaseOrderItemRepository purchaseOrderItemRepository,
+        CommitmentLedgerService commitmentLedgerService
+    ) {
+        this.purchaseOrderRepository = purchaseOrderRepository;
+        this.purchaseOrderItemRepository = purchaseOrderItemRepository;
+        this.commitmentLedgerService = commitmentLedgerService;
+    }
+
+    /**
+     * Mark a purchase order whose items were written, to recompute its totals before the transaction commits.
+     *
+     * @param purchaseOrderId the id of the purchase order, ignored if {@code null}.
+     */
+    public void markItemsChanged(Long purchaseOrderId) {
+        mark(purchaseOrderId, true);
+    }
+
+    /**
+     * Mark a written purchase order, to recompute its totals before the transaction commits if it has items.
+     *
+     * @param purchaseOrderId the id of the purchase order, ignored if {@code null}.
+     */
+    public void markOrderChanged(Long purchaseOrderId) {
+        mark(purchaseOrderId, false);
+    }
+
+    /**
+     * Recompute the totals of the purchase orders marked by the current transaction now, instead of before it commits.
+     *
+     * @return the number of purchase orders whose totals changed.
+     */
+    public int recomputePending() {
+        PendingRecomputes pending = (PendingRecomputes) TransactionSynchronizationManager.getResource(this);
+        if (pending == null || pending.purchaseOrders.isEmpty()) {
+            return 0;
+        }
+        Map<Long, Boolean> purchaseOrders = new TreeMap<>(pending.purchaseOrders);
+        pending.purchaseOrders.clear();
+        return recompute(purchaseOrders);
+    }
+
+    /**
+     * Recompute the totals of the purchase orders having items.
+     *
+     * @param purchaseOrderIds the ids of the purchase orders.
+     * @return the number of purchase orders whose totals changed.
+     */
+    public int recompute(Collection<Long> purchaseOrderIds) {
+        Map<Long, Boolean> purchaseOrders = new TreeMap<>();
+        purchaseOrderIds.forEach(id -> purchaseOrders.put(id, false));
+        return recompute(purchaseOrders);
+    }
+
+    /**
+     * Compute the totals of a purchase order.
+     *
+     * @param itemsAmount the sum of the amounts of its items.
+     * @param taxRate its tax rate, as a percentage, no tax if {@code null}.
+     * @return the totals.
+     */
+    public static Totals computeTotals(BigDecimal itemsAmount, BigDecimal taxRate) {
+        BigDecimal amountWithoutTax = itemsAmount.setScale(SCALE, RoundingMode.HALF_UP);
+        BigDecimal taxAmount = taxRate == null
+            ? BigDecimal.ZERO.setScale(SCALE)
+            : amountWithoutTax.multiply(taxRate).divide(PERCENT, SCALE, RoundingMode.HALF_UP);
+        BigDecimal prepaidTaxAmount = taxAmount.multiply(PREPAID_TAX_RATE).setScale(SCALE, RoundingMode.HALF_UP);
+        return new Totals(amountWithoutTax, taxAmount, prepaidTaxAmount, amountWithoutTax.add(taxAmount));
+    }
+
+    private void mark(Long purchaseOrderId, boolean itemsChanged) {
+        if (purchaseOrderId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recompute(new TreeMap<>(Map.of(purchaseOrderId, itemsChanged)));
+            return;
+        }
+        PendingRecomputes pending = (PendingRecomputes) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingRecomputes();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.purchaseOrders.merge(purchaseOrderId, itemsChanged, Boolean::logicalOr);
+    }
+
+    private int recompute(Map<Long, Boolean> purchaseOrders) {
+        List<Long> ids = new ArrayList<>(purchaseOrders.keySet());
+        int changed = 0;
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            changed += recomputeChunk(ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size())), purchaseOrders);
+        }
+        return changed;
+    }
+
+    private int recomputeChunk(List<Long> ids, Map<Long, Boolean> itemsChanged) {
+        // lock the purchase orders before summing their items, so that concurrent recomputes see each other's items
+        List<PurchaseOrder> purchaseOrders = purchaseOrderRepository.findAllByIdForUpdate(ids);
+        Map<Long, BigDecimal> itemsAmounts = new HashMap<>();
+        for (ItemTotals itemTotals : purchaseOrderItemRepository.findItemTotals(ids)) {
+            itemsAmounts.put(itemTotals.purchaseOrderId(), itemTotals.totalAmount());
+        }
+        Map<Long, BigDecimal> commitments = new HashMap<>();
+        List<PurchaseOrder> changed = new ArrayList<>();
+        for (PurchaseOrder purchaseOrder : purchaseOrders) {
+            BigDecimal itemsAmount = itemsAmounts.get(purchaseOrder.getId());
+            if (itemsAmount == null && !Boolean.TRUE.equals(itemsChanged.get(purchaseOrder.getId()))) {
+                continue;
+            }
+            Commitment before = Commitment.of(purchaseOrder);
+            Totals totals = computeTotals(itemsAmount == null ? BigDecimal.ZERO : itemsAmount, purchaseOrder.getTaxRate());
+            if (totals.applyTo(purchaseOrder)) {
+                changed.add(purchaseOrder);
+                BigDecimal delta = Commitment.of(purchaseOrder).amount().subtract(before.amount());
+                if (before.annexDecisionId() != null && delta.signum() != 0) {
+                    commitments.merge(before.annexDecisionId(), delta, BigDecimal::add);
+                }
+            }
+        }
+        if (!commitments.isEmpty()) {
+            commitmentLedgerService.record(commitments, Map.of());
+        }
+        changed.forEach(commitmentLedgerService::refreshBalances);
+        LOG.debug("Recomputed the totals of {} PurchaseOrders, {} changed", ids.size(), changed.size());
+        return changed.size();
+    }
+
+    /**
+     * The totals of a purchase order computed from its items.
+     */
+    public record Totals(BigDecimal amountWithoutTax, BigDecimal taxAmount, BigDecimal prepaidTaxAmount, BigDecimal amountWithTax) {
+        boolean applyTo(PurchaseOrder purchaseOrder) {
+            boolean changed =
+                !sameAmount(amountWithoutTax, purchaseOrder.getTotalAmountWithoutTax()) ||
+                !sameAmount(taxAmount, purchaseOrder.getTotalTaxAmount()) ||
+                !sameAmount(prepaidTaxAmount, purchaseOrder.getPrepaidTaxAmount()) ||
+                !sameAmount(amountWithTax, purchaseOrder.getTotalAmountWithTax());
+            if (changed) {
+                purchaseOrder.setTotalAmountWithoutTax(amountWithoutTax);
+                purchaseOrder.setTotalTaxAmount(taxAmount);
+                purchaseOrder.setPrepaidTaxAmount(prepaidTaxAmount);
+                purchaseOrder.setTotalAmountWithTax(amountWithTax);
+            }
+            return changed;
+        }
+
+        private static boolean sameAmount(BigDecimal computed, BigDecimal stored) {
+            return stored != null && computed.compareTo(stored) == 0;
+        }
+    }
+
+    /**
+     * The purchase orders marked by a transaction, recomputed before it commits.
+     */
+    private final class PendingRecomputes implements TransactionSynchronization {
+
+        /**
+         * Whether the items of each marked purchase order were written, by id.
+         */
+        private final Map<Long, Boolean> purchaseOrders = new HashMap<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            recomputePending();
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(PurchaseOrderTotalsService.this);
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package com.crat.budget.service;
+
+import com.crat.budget.config.ApplicationProperties;
+import com.crat.budget.config.BackgroundJobConfiguration;
+import com.crat.budget.domain.YearEndRollover;
+import com.crat.budget.domain.enumeration.YearEndRolloverStep;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service running the {@link YearEndRollover}s in the background, from their checkpoint.
+ * <p>
+ * The steps of a rollover run one after the other. The article ids of a step are split in chunks of
+ * {@code application.year-end-rollover.chunk-size} ids, whose links are copied by
+ * {@link YearEndRolloverService#relinkArticles(Long, Long, Long)} in a transaction each, several chunks at a time on
+ * the {@link BackgroundJobConfiguration#YEAR_END_ROLLOVER_EXECUTOR} executor. Once all the chunks up to one are
+ * committed, the checkpoint of the step moves to its last article id: after a stop, the rollovers not completed are
+ * resumed on startup, the chunks after the checkpoint being copied again without creating a link twice. A single run
+ * of rollovers runs at a time.
+ * <p>
+ * Each instance of the application claims the lease of a rollover before running or resuming it, and renews it at each
+ * step and checkpoint: the instances started together do not resume the same rollover, and a rollover whose instance
+ * crashed is taken over by another one once the lease of {@code application.year-end-rollover.lease-duration} expired.
+ */
+@Service
+public class YearEndRolloverJobService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(YearEndRolloverJobService.class);
+
+    private final YearEndRolloverService yearEndRolloverService;
+
+    private final ApplicationProperties applicationProperties;
+
+    private final Executor executor;
+
+    private final String leaseOwner = UUID.randomUUID().toString();
+
+    private volatile CompletableFuture<Void> running;
+
+    private volatile List<Long> runningFinancialYearIds = List.of();
+
+    public YearEndRolloverJobService(
+        YearEndRolloverService yearEndRolloverService,
+        ApplicationProperties applicationProperties,
+        @Qualifier(BackgroundJobConfiguration.YEAR_END_ROLLOVER_EXECUTOR) Executor executor
+    ) {
+        this.yearEndRolloverService = yearEndRolloverService;
+        this.applicationProperties = applicationProperties;
+        this.executor = executor;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (applicationProperties.getYearEndRollover().isResumeOnStartup()) {
+            resume();
+        }
+    }
+
+    /**
+     * Start opening a financial year from the previous one, in the background, or resume it from its checkpoint.
+     *
+     * @param previousFinancialYearId the id of the financial year rolled over.
+     * @param financialYearId the id of the financial year opened.
+     * @return the completion of the rollover, the running one if it is running; failed if a step failed, the rollover
+     * staying at its checkpoint.
+     * @throws InvalidYearEndRolloverException if the rollover cannot be opened, another rollover is running, or another
+     * instance runs this one.
+     */
+    public synchronized CompletableFuture<Void> start(Long previousFinancialYearId, Long financialYearId) {
+        if (running != null && !running.isDone()) {
+            if (runningFinancialYearIds.contains(financialYearId)) {
+                return running;
+            }
+            throw new InvalidYearEndRolloverException("The rollover of FinancialYear " + runningFinancialYearIds + " is running");
+        }
+        YearEndRollover rollover = yearEndRolloverService.open(previousFinancialYearId, financialYearId);
+        if (rollover.getStep() == YearEndRolloverStep.COMPLETED) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (!claimLease(financialYearId)) {
+            throw new InvalidYearEndRolloverException(
+                "The rollover of FinancialYear " + financialYearId + " is running on another instance"
+            );
+        }
+        return run(List.of(financialYearId));
+    }
+
+    /**
+     * Resume the rollovers not completed and not run by another instance, in the background, one after the other.
+     *
+     * @return the completion of the rollovers, the running ones if there are.
+     */
+    public synchronized CompletableFuture<Void> resume() {
+        if (running != null && !running.isDone()) {
+            return running;
+        }
+        List<Long> financialYearIds = yearEndRolloverService
+            .findUnfinished()
+            .stream()
+            .map(YearEndRollover::getFinancialYearId)
+            .filter(financialYearId -> {
+                if (claimLease(financialYearId)) {
+                    return true;
+                }
+                LOG.debug("Not resuming the rollover of FinancialYear {}: running on another instance", financialYearId);
+                return false;
+            })
+            .toList();
+        if (financialYearIds.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        LOG.info("Resuming the rollover of FinancialYears {}", financialYearIds);
+        return run(financialYearIds);
+    }
+
+    private CompletableFuture<Void> run(List<Long> financialYearIds) {
+        runningFinancialYearIds = financialYearIds;
+        int chunkSize = Math.max(1, applicationProperties.getYearEndRollover().getChunkSize());
+        running = CompletableFuture.runAsync(
+            () -> financialYearIds.forEach(financialYearId -> rollOver(financialYearId, chunkSize)),
+            executor
+        ).whenComplete((result, failure) -> {
+            financialYearIds.forEach(this::releaseLease);
+            if (failure != null) {
+                LOG.warn("Rollover of FinancialYears {} failed, to be resumed: {}", financialYearIds, failure.toString());
+            }
+        });
+        return running;
+    }
+
+    private void rollOver(Long financialYearId, int chunkSize) {
+        long start = System.nanoTime();
+        YearEndRollover rollover = yearEndRolloverService.findOne(financialYearId).orElseThrow();
+        while (rollover.getStep() != YearEndRolloverStep.COMPLETED) {
+            renewLease(financialYearId);
+            YearEndRolloverStep step = rollover.getStep();
+            LOG.debug("Rollover of FinancialYear {}: step {}", financialYearId, step);
+            if (step == YearEndRolloverStep.OPEN_YEAR) {
+                yearEndRolloverService.openYear(financialYearId);
+            } else {
+                relinkArticles(financialYearId, step, chunkSize);
+                yearEndRolloverService.completeStep(financialYearId, step);
+            }
+            rollover = yearEndRolloverService.findOne(financialYearId).orElseThrow();
+        }
+        LOG.info(
+            "Rolled FinancialYear {} over to FinancialYear {} in {} ms, {} article links copied",
+            rollover.getPreviousFinancialYearId(),
+            financialYearId,
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+            rollover.getRelinkedArticles()
+        );
+    }
+
+    private void relinkArticles(Long financialYearId, YearEndRolloverStep step, int chunkSize) {
+        List<Long> articleIds = yearEndRolloverService.findArticleIdsToRelink(financialYearId);
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < articleIds.size(); from += chunkSize) {
+            chunks.add(articleIds.subList(from, Math.min(from + chunkSize, articleIds.size())));
+        }
+        Watermark watermark = new Watermark(chunks.size());
+        AtomicLong copied = new AtomicLong();
+        List<CompletableFuture<Void>> relinks = new ArrayList<>();
+        for (int index = 0; index < chunks.size(); index++) {
+            int chunkIndex = index;
+            List<Long> chunk = chunks.get(chunkIndex);
+            relinks.add(
+                CompletableFuture.runAsync(
+                    () -> {
+                        int chunkCopied = yearEndRolloverService.relinkArticles(financialYearId, chunk.get(0), chunk.get(chunk.size() - 1));
+                        copied.addAndGet(chunkCopied);
+                        // the checkpoints are written under the watermark lock, in order, each adding the links it covers
+                        synchronized (watermark) {
+                            Watermark.Advance advance = watermark.done(chunkIndex, chunkCopied);
+                            if (advance != null) {
+                                List<Long> lastChunk = chunks.get(advance.committed());
+                                yearEndRolloverService.advanceArticleCheckpoint(
+                                    financialYearId,
+                                    step,
+                                    lastChunk.get(lastChunk.size() - 1),
+                                    advance.copied()
+                                );
+                                renewLease(financialYearId);
+                                LOG.debug(
+                                    "Rollover of FinancialYear {}: step {}, {}/{} chunks committed, {} links copied",
+                                    financialYearId,
+                                    step,
+                                    advance.committed() + 1,
+                                    chunks.size(),
+                                    copied.get()
+                                );
+                            }
+                        }
+                    },
+                    executor
+                )
+            );
+        }
+        CompletableFuture.allOf(relinks.toArray(CompletableFuture[]::new)).join();
+        LOG.info("Rollover of FinancialYear {}: step {} done, {} article links copied", financialYearId, step, copied.get());
+    }
+
+    private boolean claimLease(Long financialYearId) {
+        Duration leaseDuration = applicationProperties.getYearEndRollover().getLeaseDuration();
+        return yearEndRolloverService.claimLease(financialYearId, leaseOwner, leaseDuration);
+    }
+
+    private void renewLease(Long financialYearId) {
+        if (!claimLease(financialYearId)) {
+            throw new InvalidYearEndRolloverException("The lease of the rollover of FinancialYear " + financialYearId + " was taken over");
+        }
+    }
+
+    private void releaseLease(Long financialYearId) {
+        try {
+            yearEndRolloverService.releaseLease(financialYearId, leaseOwner);
+        } catch (RuntimeException e) {
+            // the lease expires anyway
+            LOG.warn("Could not release the lease of the rollover of FinancialYear {}: {}", financialYearId, e.toString());
+        }
+    }
+
+    /**
+     * The chunks committed, the checkpoint being the last chunk of the first ones all committed: a chunk committed
+     * before one of the chunks preceding it is only covered by the checkpoint once they are, and so are its links
+     * counted.
+     */
+    private static final class Watermark {
+
+        private final boolean[] done;
+
+        private final long[] copied;
+
+        private int committed;
+
+        private Watermark(int chunks) {
+            this.done = new boolean[chunks];
+            this.copied = new long[chunks];
+        }
+
+        /**
+         * Record a committed chunk.
+         *
+         * @param chunk the index of the chunk.
+         * @param chunkCopied the number of links the chunk copied.
+         * @return the advance of the checkpoint if it moved, {@code null} otherwise.
+         */
+        private synchronized Advance done(int chunk, long chunkCopied) {
+            done[chunk] = true;
+            copied[chunk] = chunkCopied;
+            int before = committed;
+            long advanceCopied = 0;
+            while (committed < done.length && done[committed]) {
+                advanceCopied += copied[committed];
+                committed++;
+            }
+            return committed > before ? new Advance(committed - 1, advanceCopied) : null;
+        }
+
+        /**
+         * The index of the last chunk of the first ones all committed, and the links copied by the chunks it covers
+         * since the previous advance.
+         */
+        private record Advance(int committed, long copied) {}
+    }
+}
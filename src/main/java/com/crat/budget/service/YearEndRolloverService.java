@@ -0,0 +1,287 @@
+package com.crat.budget.service;
+
+import com.crat.budget.domain.AnnexDecision;
+import com.crat.budget.domain.Expense;
+import com.crat.budget.domain.FinancialYear;
+import com.crat.budget.domain.Recipe;
+import com.crat.budget.domain.YearEndRollover;
+import com.crat.budget.domain.enumeration.YearEndRolloverStep;
+import com.crat.budget.repository.AnnexDecisionRepository;
+import com.crat.budget.repository.ArticleRepository;
+import com.crat.budget.repository.ExpenseRepository;
+import com.crat.budget.repository.FinancialYearRepository;
+import com.crat.budget.repository.RecipeRepository;
+import com.crat.budget.repository.YearEndRolloverRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service doing the steps of a {@link YearEndRollover}, each unit of work in a transaction committing its checkpoint.
+ * <p>
+ * The first step opens the budget lines of the new year from those of the previous one: the recipe and the expense
+ * take the forecasts of the previous year as achievements of the past year, and the annex decision is cloned. The next
+ * steps link the articles of the previous recipe and expense to the new ones, by ranges of article ids copied by a
+ * set-based insert skipping the links already copied, see {@link YearEndRolloverJobService}.
+ */
+@Service
+@Transactional
+public class YearEndRolloverService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(YearEndRolloverService.class);
+
+    private final YearEndRolloverRepository yearEndRolloverRepository;
+
+    private final FinancialYearRepository financialYearRepository;
+
+    private final RecipeRepository recipeRepository;
+
+    private final ExpenseRepository expenseRepository;
+
+    private final AnnexDecisionRepository annexDecisionRepository;
+
+    private final ArticleRepository articleRepository;
+
+    public YearEndRolloverService(
+        YearEndRolloverRepository yearEndRolloverRepository,
+        FinancialYearRepository financialYearRepository,
+        RecipeRepository recipeRepository,
+        ExpenseRepository expenseRepository,
+        AnnexDecisionRepository annexDecisionRepository,
+        ArticleRepository articleRepository
+    ) {
+        this.yearEndRolloverRepository = yearEndRolloverRepository;
+        this.financialYearRepository = financialYearRepository;
+        this.recipeRepository = recipeRepository;
+        this.expenseRepository = expenseRepository;
+        this.annexDecisionRepository = annexDecisionRepository;
+        this.articleRepository = articleRepository;
+    }
+
+    /**
+     * Open the rollover of a financial year from the previous one, or get it if it is already open.
+     *
+     * @param previousFinancialYearId the id of the financial year rolled over.
+     * @param financialYearId the id of the financial year opened.
+     * @return the rollover.
+     * @throws InvalidYearEndRolloverException if a year does not exist, or the year is already opened from another one.
+     */
+    public YearEndRollover open(Long previousFinancialYearId, Long financialYearId) {
+        if (previousFinancialYearId == null || financialYearId == null || previousFinancialYearId.equals(financialYearId)) {
+            throw new InvalidYearEndRolloverException("A financial year is opened from another financial year");
+        }
+        if (!financialYearRepository.existsById(previousFinancialYearId) || !financialYearRepository.existsById(financialYearId)) {
+            throw new InvalidYearEndRolloverException("Financial year not found");
+        }
+        YearEndRollover existing = yearEndRolloverRepository.findById(financialYearId).orElse(null);
+        if (existing != null) {
+            if (!existing.getPreviousFinancialYearId().equals(previousFinancialYearId)) {
+                throw new InvalidYearEndRolloverException(
+                    "FinancialYear " + financialYearId + " is already opened from FinancialYear " + existing.getPreviousFinancialYearId()
+                );
+            }
+            return existing;
+        }
+        Instant now = Instant.now();
+        LOG.debug("Opening the rollover of FinancialYear {} to FinancialYear {}", previousFinancialYearId, financialYearId);
+        return yearEndRolloverRepository.save(
+            new YearEndRollover()
+                .financialYearId(financialYearId)
+                .previousFinancialYearId(previousFinancialYearId)
+                .step(YearEndRolloverStep.OPEN_YEAR)
+                .relinkedArticles(0L)
+                .startedDate(now)
+                .updatedDate(now)
+        );
+    }
+
+    /**
+     * Get the rollover of a financial year.
+     *
+     * @param financialYearId the id of the financial year opened.
+     * @return the rollover.
+     */
+    @Transactional(readOnly = true)
+    public Optional<YearEndRollover> findOne(Long financialYearId) {
+        return yearEndRolloverRepository.findById(financialYearId);
+    }
+
+    /**
+     * Get the rollovers not completed, the oldest first.
+     *
+     * @return the list of rollovers.
+     */
+    @Transactional(readOnly = true)
+    public List<YearEndRollover> findUnfinished() {
+        return yearEndRolloverRepository.findAllByStepNot(YearEndRolloverStep.COMPLETED);
+    }
+
+    /**
+     * Claim the lease of a rollover for an instance of the application, or renew it.
+     *
+     * @param financialYearId the id of the financial year opened.
+     * @param leaseOwner the instance claiming the lease.
+     * @param leaseDuration how long the lease is held if it is not renewed.
+     * @return whether the instance holds the lease, {@code false} if another instance holds it and it has not expired.
+     */
+    public boolean claimLease(Long financialYearId, String leaseOwner, Duration leaseDuration) {
+        Instant now = Instant.now();
+        return yearEndRolloverRepository.claimLease(financialYearId, leaseOwner, now, now.plus(leaseDuration)) > 0;
+    }
+
+    /**
+     * Release the lease of a rollover, if an instance still holds it.
+     *
+     * @param financialYearId the id of the financial year opened.
+     * @param leaseOwner the instance holding the lease.
+     */
+    public void releaseLease(Long financialYearId, String leaseOwner) {
+        yearEndRolloverRepository.releaseLease(financialYearId, leaseOwner);
+    }
+
+    /**
+     * Open the recipe, the expense and the annex decision of the new year from those of the previous year, and move
+     * the rollover to the next step. The lines already opened are only updated.
+     *
+     * @param financialYearId the id of the financial year opened.
+     */
+    public void openYear(Long financialYearId) {
+        YearEndRollover rollover = yearEndRolloverRepository.findById(financialYearId).orElseThrow();
+        if (rollover.getStep() != YearEndRolloverStep.OPEN_YEAR) {
+            return;
+        }
+        Long previousFinancialYearId = rollover.getPreviousFinancialYearId();
+        FinancialYear financialYear = financialYearRepository.getReferenceById(financialYearId);
+        recipeRepository
+            .findOneByFinancialYearId(previousFinancialYearId)
+            .ifPresent(previousRecipe -> {
+                Recipe recipe = recipeRepository
+                    .findOneByFinancialYearId(financialYearId)
+                    .orElseGet(() -> new Recipe().category(previousRecipe.getCategory()).financialYear(financialYear));
+                recipeRepository.save(recipe.achievementsInThePastYear(previousRecipe.getNewYearForecast()));
+            });
+        AnnexDecision annexDecision = annexDecisionRepository
+            .findOneByFinancialYearId(financialYearId)
+            .or(() ->
+                annexDecisionRepository
+                    .findOneByFinancialYearId(previousFinancialYearId)
+                    .map(previousAnnexDecision ->
+                        annexDecisionRepository.save(
+                            new AnnexDecision()
+                                .designation(previousAnnexDecision.getDesignation())
+                                .expenseAmount(previousAnnexDecision.getExpenseAmount())
+                                .financialYear(financialYear)
+                        )
+                    )
+            )
+            .orElse(null);
+        expenseRepository
+            .findOneByFinancialYearId(previousFinancialYearId)
+            .ifPresent(previousExpense -> {
+                Expense expense = expenseRepository
+                    .findOneByFinancialYearId(financialYearId)
+                    .orElseGet(() -> new Expense().category(previousExpense.getCategory()).financialYear(financialYear));
+                if (expense.getAnnexDecision() == null) {
+                    expense.setAnnexDecision(annexDecision);
+                }
+                expenseRepository.save(expense.achievementsInThePastYear(previousExpense.getNewYearForecast()));
+            });
+        completeStep(financialYearId, YearEndRolloverStep.OPEN_YEAR);
+    }
+
+    /**
+     * Get the ids of the articles whose link the current step of a rollover copies, after its checkpoint.
+     *
+     * @param financialYearId the id of the financial year opened.
+     * @return the article ids, in order; empty if the previous or the new year has no line to link.
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findArticleIdsToRelink(Long financialYearId) {
+        YearEndRollover rollover = yearEndRolloverRepository.findById(financialYearId).orElseThrow();
+        Long after = rollover.getArticleCheckpoint() == null ? Long.MIN_VALUE : rollover.getArticleCheckpoint();
+        return findLinkOwners(rollover)
+            .map(owners ->
+                rollover.getStep() == YearEndRolloverStep.RECIPE_ARTICLES
+                    ? articleRepository.findIdsByRecipeId(owners.previousId(), after)
+                    : articleRepository.findIdsByExpenseId(owners.previousId(), after)
+            )
+            .orElse(List.of());
+    }
+
+    /**
+     * Copy the links of a range of articles for the current step of a rollover, and count them. The count is not
+     * written to the rollover, whose row would stay locked until the copy commits and serialize the chunks: it is
+     * added with the checkpoint covering the range, see {@link #advanceArticleCheckpoint(Long, YearEndRolloverStep, Long, long)}.
+     *
+     * @param financialYearId the id of the financial year opened.
+     * @param fromArticleId the first article id of the range.
+     * @param toArticleId the last article id of the range.
+     * @return the number of links copied, 0 for the links already copied.
+     */
+    public int relinkArticles(Long financialYearId, Long fromArticleId, Long toArticleId) {
+        YearEndRollover rollover = yearEndRolloverRepository.findById(financialYearId).orElseThrow();
+        int copied = findLinkOwners(rollover)
+            .map(owners ->
+                rollover.getStep() == YearEndRolloverStep.RECIPE_ARTICLES
+                    ? articleRepository.copyRecipeLinks(owners.previousId(), owners.id(), fromArticleId, toArticleId)
+                    : articleRepository.copyExpenseLinks(owners.previousId(), owners.id(), fromArticleId, toArticleId)
+            )
+            .orElse(0);
+        return copied;
+    }
+
+    /**
+     * Move the article checkpoint of a step of a rollover forward, counting the links copied up to it. The links of
+     * the chunks committed after the checkpoint when the rollover stops are not counted: they are copied again, without
+     * effect, on resume.
+     *
+     * @param financialYearId the id of the financial year opened.
+     * @param step the step.
+     * @param articleId the article id below which every link of the step is copied.
+     * @param relinkedArticles the number of links copied since the previous checkpoint.
+     */
+    public void advanceArticleCheckpoint(Long financialYearId, YearEndRolloverStep step, Long articleId, long relinkedArticles) {
+        yearEndRolloverRepository.advanceArticleCheckpoint(financialYearId, step, articleId, relinkedArticles, Instant.now());
+    }
+
+    /**
+     * Move a rollover from a step to the next one, if it is still at this step.
+     *
+     * @param financialYearId the id of the financial year opened.
+     * @param step the step done.
+     */
+    public void completeStep(Long financialYearId, YearEndRolloverStep step) {
+        YearEndRolloverStep nextStep = YearEndRolloverStep.values()[step.ordinal() + 1];
+        if (yearEndRolloverRepository.completeStep(financialYearId, step, nextStep, Instant.now()) > 0) {
+            LOG.debug("Rollover of FinancialYear {} moved to step {}", financialYearId, nextStep);
+        }
+    }
+
+    private Optional<LinkOwners> findLinkOwners(YearEndRollover rollover) {
+        Long previousFinancialYearId = rollover.getPreviousFinancialYearId();
+        Long financialYearId = rollover.getFinancialYearId();
+        return switch (rollover.getStep()) {
+            case RECIPE_ARTICLES -> recipeRepository
+                .findIdByFinancialYearId(previousFinancialYearId)
+                .flatMap(previousId ->
+                    recipeRepository.findIdByFinancialYearId(financialYearId).map(id -> new LinkOwners(previousId, id))
+                );
+            case EXPENSE_ARTICLES -> expenseRepository
+                .findIdByFinancialYearId(previousFinancialYearId)
+                .flatMap(previousId ->
+                    expenseRepository.findIdByFinancialYearId(financialYearId).map(id -> new LinkOwners(previousId, id))
+                );
+            default -> Optional.empty();
+        };
+    }
+
+    /**
+     * The recipes, or expenses, of the previous and the new year, whose article links are copied.
+     */
+    private record LinkOwners(Long previousId, Long id) {}
+}
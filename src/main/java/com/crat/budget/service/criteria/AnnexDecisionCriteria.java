@@ -1,8 +1,10 @@
 package com.crat.budget.service.criteria;
 
 import java.io.Serializable;
+import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import org.springdoc.core.annotations.ParameterObject;
 import tech.jhipster.service.Criteria;
 import tech.jhipster.service.filter.*;
@@ -26,11 +28,11 @@ public class AnnexDecisionCriteria implements Serializable, Criteria {
 
     private StringFilter designation;
 
-    private StringFilter expenseAmount;
+    private BigDecimalFilter expenseAmount;
 
-    private StringFilter creditsAlreadyOpen;
+    private BigDecimalFilter creditsAlreadyOpen;
 
-    private StringFilter creditsOpen;
+    private BigDecimalFilter creditsOpen;
 
     private LongFilter financialYearId;
 
@@ -42,19 +44,22 @@ public class AnnexDecisionCriteria implements Serializable, Criteria {
 
     private Boolean distinct;
 
+    private Set<String> fetch;
+
     public AnnexDecisionCriteria() {}
 
     public AnnexDecisionCriteria(AnnexDecisionCriteria other) {
         this.id = other.optionalId().map(LongFilter::copy).orElse(null);
         this.designation = other.optionalDesignation().map(StringFilter::copy).orElse(null);
-        this.expenseAmount = other.optionalExpenseAmount().map(StringFilter::copy).orElse(null);
-        this.creditsAlreadyOpen = other.optionalCreditsAlreadyOpen().map(StringFilter::copy).orElse(null);
-        this.creditsOpen = other.optionalCreditsOpen().map(StringFilter::copy).orElse(null);
+        this.expenseAmount = other.optionalExpenseAmount().map(BigDecimalFilter::copy).orElse(null);
+        this.creditsAlreadyOpen = other.optionalCreditsAlreadyOpen().map(BigDecimalFilter::copy).orElse(null);
+        this.creditsOpen = other.optionalCreditsOpen().map(BigDecimalFilter::copy).orElse(null);
         this.financialYearId = other.optionalFinancialYearId().map(LongFilter::copy).orElse(null);
         this.expenseId = other.optionalExpenseId().map(LongFilter::copy).orElse(null);
         this.purchaseOrderId = other.optionalPurchaseOrderId().map(LongFilter::copy).orElse(null);
         this.decisionId = other.optionalDecisionId().map(LongFilter::copy).orElse(null);
         this.distinct = other.distinct;
+        this.fetch = other.optionalFetch().map(LinkedHashSet::new).orElse(null);
     }
 
     @Override
@@ -100,60 +105,60 @@ public class AnnexDecisionCriteria implements Serializable, Criteria {
         this.designation = designation;
     }
 
-    public StringFilter getExpenseAmount() {
+    public BigDecimalFilter getExpenseAmount() {
         return expenseAmount;
     }
 
-    public Optional<StringFilter> optionalExpenseAmount() {
+    public Optional<BigDecimalFilter> optionalExpenseAmount() {
         return Optional.ofNullable(expenseAmount);
     }
 
-    public StringFilter expenseAmount() {
+    public BigDecimalFilter expenseAmount() {
         if (expenseAmount == null) {
-            setExpenseAmount(new StringFilter());
+            setExpenseAmount(new BigDecimalFilter());
         }
         return expenseAmount;
     }
 
-    public void setExpenseAmount(StringFilter expenseAmount) {
+    public void setExpenseAmount(BigDecimalFilter expenseAmount) {
         this.expenseAmount = expenseAmount;
     }
 
-    public StringFilter getCreditsAlreadyOpen() {
+    public BigDecimalFilter getCreditsAlreadyOpen() {
         return creditsAlreadyOpen;
     }
 
-    public Optional<StringFilter> optionalCreditsAlreadyOpen() {
+    public Optional<BigDecimalFilter> optionalCreditsAlreadyOpen() {
         return Optional.ofNullable(creditsAlreadyOpen);
     }
 
-    public StringFilter creditsAlreadyOpen() {
+    public BigDecimalFilter creditsAlreadyOpen() {
         if (creditsAlreadyOpen == null) {
-            setCreditsAlreadyOpen(new StringFilter());
+            setCreditsAlreadyOpen(new BigDecimalFilter());
         }
         return creditsAlreadyOpen;
     }
 
-    public void setCreditsAlreadyOpen(StringFilter creditsAlreadyOpen) {
+    public void setCreditsAlreadyOpen(BigDecimalFilter creditsAlreadyOpen) {
         this.creditsAlreadyOpen = creditsAlreadyOpen;
     }
 
-    public StringFilter getCreditsOpen() {
+    public BigDecimalFilter getCreditsOpen() {
         return creditsOpen;
     }
 
-    public Optional<StringFilter> optionalCreditsOpen() {
+    public Optional<BigDecimalFilter> optionalCreditsOpen() {
         return Optional.ofNullable(creditsOpen);
     }
 
-    public StringFilter creditsOpen() {
+    public BigDecimalFilter creditsOpen() {
         if (creditsOpen == null) {
-            setCreditsOpen(new StringFilter());
+            setCreditsOpen(new BigDecimalFilter());
         }
         return creditsOpen;
     }
 
-    public void setCreditsOpen(StringFilter creditsOpen) {
+    public void setCreditsOpen(BigDecimalFilter creditsOpen) {
         this.creditsOpen = creditsOpen;
     }
 
@@ -252,6 +257,18 @@ public class AnnexDecisionCriteria implements Serializable, Criteria {
         this.distinct = distinct;
     }
 
+    public Set<String> getFetch() {
+        return fetch;
+    }
+
+    public Optional<Set<String>> optionalFetch() {
+        return Optional.ofNullable(fetch);
+    }
+
+    public void setFetch(Set<String> fetch) {
+        this.fetch = fetch;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -271,7 +288,8 @@ public class AnnexDecisionCriteria implements Serializable, Criteria {
             Objects.equals(expenseId, that.expenseId) &&
             Objects.equals(purchaseOrderId, that.purchaseOrderId) &&
             Objects.equals(decisionId, that.decisionId) &&
-            Objects.equals(distinct, that.distinct)
+            Objects.equals(distinct, that.distinct) &&
+            Objects.equals(fetch, that.fetch)
         );
     }
 
@@ -287,7 +305,8 @@ public class AnnexDecisionCriteria implements Serializable, Criteria {
             expenseId,
             purchaseOrderId,
             decisionId,
-            distinct
+            distinct,
+            fetch
         );
     }
 
@@ -305,6 +324,7 @@ public class AnnexDecisionCriteria implements Serializable, Criteria {
             optionalPurchaseOrderId().map(f -> "purchaseOrderId=" + f + ", ").orElse("") +
             optionalDecisionId().map(f -> "decisionId=" + f + ", ").orElse("") +
             optionalDistinct().map(f -> "distinct=" + f + ", ").orElse("") +
+            optionalFetch().map(f -> "fetch=" + f + ", ").orElse("") +
         "}";
     }
 }
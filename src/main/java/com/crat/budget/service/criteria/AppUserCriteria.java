@@ -3,8 +3,10 @@ package com.crat.budget.service.criteria;
 import com.crat.budget.domain.enumeration.FamilySituationEnum;
 import com.crat.budget.domain.enumeration.GenderEnum;
 import java.io.Serializable;
+import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import org.springdoc.core.annotations.ParameterObject;
 import tech.jhipster.service.Criteria;
 import tech.jhipster.service.filter.*;
@@ -88,6 +90,8 @@ public class AppUserCriteria implements Serializable, Criteria {
 
     private Boolean distinct;
 
+    private Set<String> fetch;
+
     public AppUserCriteria() {}
 
     public AppUserCriteria(AppUserCriteria other) {
@@ -106,6 +110,7 @@ public class AppUserCriteria implements Serializable, Criteria {
         this.address = other.optionalAddress().map(StringFilter::copy).orElse(null);
         this.userId = other.optionalUserId().map(LongFilter::copy).orElse(null);
         this.distinct = other.distinct;
+        this.fetch = other.optionalFetch().map(LinkedHashSet::new).orElse(null);
     }
 
     @Override
@@ -398,6 +403,18 @@ public class AppUserCriteria implements Serializable, Criteria {
         this.distinct = distinct;
     }
 
+    public Set<String> getFetch() {
+        return fetch;
+    }
+
+    public Optional<Set<String>> optionalFetch() {
+        return Optional.ofNullable(fetch);
+    }
+
+    public void setFetch(Set<String> fetch) {
+        this.fetch = fetch;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -422,7 +439,8 @@ public class AppUserCriteria implements Serializable, Criteria {
             Objects.equals(position, that.position) &&
             Objects.equals(address, that.address) &&
             Objects.equals(userId, that.userId) &&
-            Objects.equals(distinct, that.distinct)
+            Objects.equals(distinct, that.distinct) &&
+            Objects.equals(fetch, that.fetch)
         );
     }
 
@@ -443,7 +461,8 @@ public class AppUserCriteria implements Serializable, Criteria {
             position,
             address,
             userId,
-            distinct
+            distinct,
+            fetch
         );
     }
 
@@ -466,6 +485,7 @@ public class AppUserCriteria implements Serializable, Criteria {
             optionalAddress().map(f -> "address=" + f + ", ").orElse("") +
             optionalUserId().map(f -> "userId=" + f + ", ").orElse("") +
             optionalDistinct().map(f -> "distinct=" + f + ", ").orElse("") +
+            optionalFetch().map(f -> "fetch=" + f + ", ").orElse("") +
         "}";
     }
 }
@@ -2,8 +2,10 @@ package com.crat.budget.service.criteria;
 
 import com.crat.budget.domain.enumeration.FinancialCategoryEnum;
 import java.io.Serializable;
+import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import org.springdoc.core.annotations.ParameterObject;
 import tech.jhipster.service.Criteria;
 import tech.jhipster.service.filter.*;
@@ -62,6 +64,8 @@ public class ArticleCriteria implements Serializable, Criteria {
 
     private Boolean distinct;
 
+    private Set<String> fetch;
+
     public ArticleCriteria() {}
 
     public ArticleCriteria(ArticleCriteria other) {
@@ -76,6 +80,7 @@ public class ArticleCriteria implements Serializable, Criteria {
         this.recipeId = other.optionalRecipeId().map(LongFilter::copy).orElse(null);
         this.expenseId = other.optionalExpenseId().map(LongFilter::copy).orElse(null);
         this.distinct = other.distinct;
+        this.fetch = other.optionalFetch().map(LinkedHashSet::new).orElse(null);
     }
 
     @Override
@@ -292,6 +297,18 @@ public class ArticleCriteria implements Serializable, Criteria {
         this.distinct = distinct;
     }
 
+    public Set<String> getFetch() {
+        return fetch;
+    }
+
+    public Optional<Set<String>> optionalFetch() {
+        return Optional.ofNullable(fetch);
+    }
+
+    public void setFetch(Set<String> fetch) {
+        this.fetch = fetch;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -312,13 +329,27 @@ public class ArticleCriteria implements Serializable, Criteria {
             Objects.equals(chapterId, that.chapterId) &&
             Objects.equals(recipeId, that.recipeId) &&
             Objects.equals(expenseId, that.expenseId) &&
-            Objects.equals(distinct, that.distinct)
+            Objects.equals(distinct, that.distinct) &&
+            Objects.equals(fetch, that.fetch)
         );
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, category, code, designation, accountDiv, codeEnd, paragraph, chapterId, recipeId, expenseId, distinct);
+        return Objects.hash(
+            id,
+            category,
+            code,
+            designation,
+            accountDiv,
+            codeEnd,
+            paragraph,
+            chapterId,
+            recipeId,
+            expenseId,
+            distinct,
+            fetch
+        );
     }
 
     // prettier-ignore
@@ -336,6 +367,7 @@ public class ArticleCriteria implements Serializable, Criteria {
             optionalRecipeId().map(f -> "recipeId=" + f + ", ").orElse("") +
             optionalExpenseId().map(f -> "expenseId=" + f + ", ").orElse("") +
             optionalDistinct().map(f -> "distinct=" + f + ", ").orElse("") +
+            optionalFetch().map(f -> "fetch=" + f + ", ").orElse("") +
         "}";
     }
 }
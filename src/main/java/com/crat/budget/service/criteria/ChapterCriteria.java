@@ -1,8 +1,10 @@
 package com.crat.budget.service.criteria;
 
 import java.io.Serializable;
+import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import org.springdoc.core.annotations.ParameterObject;
 import tech.jhipster.service.Criteria;
 import tech.jhipster.service.filter.*;
@@ -34,6 +36,8 @@ public class ChapterCriteria implements Serializable, Criteria {
 
     private Boolean distinct;
 
+    private Set<String> fetch;
+
     public ChapterCriteria() {}
 
     public ChapterCriteria(ChapterCriteria other) {
@@ -43,6 +47,7 @@ public class ChapterCriteria implements Serializable, Criteria {
         this.subTitleId = other.optionalSubTitleId().map(LongFilter::copy).orElse(null);
         this.articleId = other.optionalArticleId().map(LongFilter::copy).orElse(null);
         this.distinct = other.distinct;
+        this.fetch = other.optionalFetch().map(LinkedHashSet::new).orElse(null);
     }
 
     @Override
@@ -164,6 +169,18 @@ public class ChapterCriteria implements Serializable, Criteria {
         this.distinct = distinct;
     }
 
+    public Set<String> getFetch() {
+        return fetch;
+    }
+
+    public Optional<Set<String>> optionalFetch() {
+        return Optional.ofNullable(fetch);
+    }
+
+    public void setFetch(Set<String> fetch) {
+        this.fetch = fetch;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -179,13 +196,14 @@ public class ChapterCriteria implements Serializable, Criteria {
             Objects.equals(designation, that.designation) &&
             Objects.equals(subTitleId, that.subTitleId) &&
             Objects.equals(articleId, that.articleId) &&
-            Objects.equals(distinct, that.distinct)
+            Objects.equals(distinct, that.distinct) &&
+            Objects.equals(fetch, that.fetch)
         );
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, code, designation, subTitleId, articleId, distinct);
+        return Objects.hash(id, code, designation, subTitleId, articleId, distinct, fetch);
     }
 
     // prettier-ignore
@@ -198,6 +216,7 @@ public class ChapterCriteria implements Serializable, Criteria {
             optionalSubTitleId().map(f -> "subTitleId=" + f + ", ").orElse("") +
             optionalArticleId().map(f -> "articleId=" + f + ", ").orElse("") +
             optionalDistinct().map(f -> "distinct=" + f + ", ").orElse("") +
+            optionalFetch().map(f -> "fetch=" + f + ", ").orElse("") +
         "}";
     }
 }
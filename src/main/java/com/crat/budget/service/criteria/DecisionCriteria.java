@@ -1,8 +1,10 @@
 package com.crat.budget.service.criteria;
 
 import java.io.Serializable;
+import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import org.springdoc.core.annotations.ParameterObject;
 import tech.jhipster.service.Criteria;
 import tech.jhipster.service.filter.*;
@@ -28,6 +30,8 @@ public class DecisionCriteria implements Serializable, Criteria {
 
     private InstantFilter decisionDate;
 
+    private LongFilter financialYearId;
+
     private LongFilter engagementId;
 
     private LongFilter annexDecisionId;
@@ -36,16 +40,20 @@ public class DecisionCriteria implements Serializable, Criteria {
 
     private Boolean distinct;
 
+    private Set<String> fetch;
+
     public DecisionCriteria() {}
 
     public DecisionCriteria(DecisionCriteria other) {
         this.id = other.optionalId().map(LongFilter::copy).orElse(null);
         this.decisionNumber = other.optionalDecisionNumber().map(StringFilter::copy).orElse(null);
         this.decisionDate = other.optionalDecisionDate().map(InstantFilter::copy).orElse(null);
+        this.financialYearId = other.optionalFinancialYearId().map(LongFilter::copy).orElse(null);
         this.engagementId = other.optionalEngagementId().map(LongFilter::copy).orElse(null);
         this.annexDecisionId = other.optionalAnnexDecisionId().map(LongFilter::copy).orElse(null);
         this.decisionItemId = other.optionalDecisionItemId().map(LongFilter::copy).orElse(null);
         this.distinct = other.distinct;
+        this.fetch = other.optionalFetch().map(LinkedHashSet::new).orElse(null);
     }
 
     @Override
@@ -110,6 +118,25 @@ public class DecisionCriteria implements Serializable, Criteria {
         this.decisionDate = decisionDate;
     }
 
+    public LongFilter getFinancialYearId() {
+        return financialYearId;
+    }
+
+    public Optional<LongFilter> optionalFinancialYearId() {
+        return Optional.ofNullable(financialYearId);
+    }
+
+    public LongFilter financialYearId() {
+        if (financialYearId == null) {
+            setFinancialYearId(new LongFilter());
+        }
+        return financialYearId;
+    }
+
+    public void setFinancialYearId(LongFilter financialYearId) {
+        this.financialYearId = financialYearId;
+    }
+
     public LongFilter getEngagementId() {
         return engagementId;
     }
@@ -186,6 +213,18 @@ public class DecisionCriteria implements Serializable, Criteria {
         this.distinct = distinct;
     }
 
+    public Set<String> getFetch() {
+        return fetch;
+    }
+
+    public Optional<Set<String>> optionalFetch() {
+        return Optional.ofNullable(fetch);
+    }
+
+    public void setFetch(Set<String> fetch) {
+        this.fetch = fetch;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -199,16 +238,28 @@ public class DecisionCriteria implements Serializable, Criteria {
             Objects.equals(id, that.id) &&
             Objects.equals(decisionNumber, that.decisionNumber) &&
             Objects.equals(decisionDate, that.decisionDate) &&
+            Objects.equals(financialYearId, that.financialYearId) &&
             Objects.equals(engagementId, that.engagementId) &&
             Objects.equals(annexDecisionId, that.annexDecisionId) &&
             Objects.equals(decisionItemId, that.decisionItemId) &&
-            Objects.equals(distinct, that.distinct)
+            Objects.equals(distinct, that.distinct) &&
+            Objects.equals(fetch, that.fetch)
         );
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, decisionNumber, decisionDate, engagementId, annexDecisionId, decisionItemId, distinct);
+        return Objects.hash(
+            id,
+            decisionNumber,
+            decisionDate,
+            financialYearId,
+            engagementId,
+            annexDecisionId,
+            decisionItemId,
+            distinct,
+            fetch
+        );
     }
 
     // prettier-ignore
@@ -218,10 +269,12 @@ public class DecisionCriteria implements Serializable, Criteria {
             optionalId().map(f -> "id=" + f + ", ").orElse("") +
             optionalDecisionNumber().map(f -> "decisionNumber=" + f + ", ").orElse("") +
             optionalDecisionDate().map(f -> "decisionDate=" + f + ", ").orElse("") +
+            optionalFinancialYearId().map(f -> "financialYearId=" + f + ", ").orElse("") +
             optionalEngagementId().map(f -> "engagementId=" + f + ", ").orElse("") +
             optionalAnnexDecisionId().map(f -> "annexDecisionId=" + f + ", ").orElse("") +
             optionalDecisionItemId().map(f -> "decisionItemId=" + f + ", ").orElse("") +
             optionalDistinct().map(f -> "distinct=" + f + ", ").orElse("") +
+            optionalFetch().map(f -> "fetch=" + f + ", ").orElse("") +
         "}";
     }
 }
@@ -1,8 +1,10 @@
 package com.crat.budget.service.criteria;
 
 import java.io.Serializable;
+import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import org.springdoc.core.annotations.ParameterObject;
 import tech.jhipster.service.Criteria;
 import tech.jhipster.service.filter.*;
@@ -30,10 +32,14 @@ public class DecisionItemCriteria implements Serializable, Criteria {
 
     private BigDecimalFilter observation;
 
+    private LongFilter financialYearId;
+
     private LongFilter decisionId;
 
     private Boolean distinct;
 
+    private Set<String> fetch;
+
     public DecisionItemCriteria() {}
 
     public DecisionItemCriteria(DecisionItemCriteria other) {
@@ -41,8 +47,10 @@ public class DecisionItemCriteria implements Serializable, Criteria {
         this.beneficiary = other.optionalBeneficiary().map(StringFilter::copy).orElse(null);
         this.amount = other.optionalAmount().map(IntegerFilter::copy).orElse(null);
         this.observation = other.optionalObservation().map(BigDecimalFilter::copy).orElse(null);
+        this.financialYearId = other.optionalFinancialYearId().map(LongFilter::copy).orElse(null);
         this.decisionId = other.optionalDecisionId().map(LongFilter::copy).orElse(null);
         this.distinct = other.distinct;
+        this.fetch = other.optionalFetch().map(LinkedHashSet::new).orElse(null);
     }
 
     @Override
@@ -126,6 +134,25 @@ public class DecisionItemCriteria implements Serializable, Criteria {
         this.observation = observation;
     }
 
+    public LongFilter getFinancialYearId() {
+        return financialYearId;
+    }
+
+    public Optional<LongFilter> optionalFinancialYearId() {
+        return Optional.ofNullable(financialYearId);
+    }
+
+    public LongFilter financialYearId() {
+        if (financialYearId == null) {
+            setFinancialYearId(new LongFilter());
+        }
+        return financialYearId;
+    }
+
+    public void setFinancialYearId(LongFilter financialYearId) {
+        this.financialYearId = financialYearId;
+    }
+
     public LongFilter getDecisionId() {
         return decisionId;
     }
@@ -164,6 +191,18 @@ public class DecisionItemCriteria implements Serializable, Criteria {
         this.distinct = distinct;
     }
 
+    public Set<String> getFetch() {
+        return fetch;
+    }
+
+    public Optional<Set<String>> optionalFetch() {
+        return Optional.ofNullable(fetch);
+    }
+
+    public void setFetch(Set<String> fetch) {
+        this.fetch = fetch;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -178,14 +217,16 @@ public class DecisionItemCriteria implements Serializable, Criteria {
             Objects.equals(beneficiary, that.beneficiary) &&
             Objects.equals(amount, that.amount) &&
             Objects.equals(observation, that.observation) &&
+            Objects.equals(financialYearId, that.financialYearId) &&
             Objects.equals(decisionId, that.decisionId) &&
-            Objects.equals(distinct, that.distinct)
+            Objects.equals(distinct, that.distinct) &&
+            Objects.equals(fetch, that.fetch)
         );
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, beneficiary, amount, observation, decisionId, distinct);
+        return Objects.hash(id, beneficiary, amount, observation, financialYearId, decisionId, distinct, fetch);
     }
 
     // prettier-ignore
@@ -196,8 +237,10 @@ public class DecisionItemCriteria implements Serializable, Criteria {
             optionalBeneficiary().map(f -> "beneficiary=" + f + ", ").orElse("") +
             optionalAmount().map(f -> "amount=" + f + ", ").orElse("") +
             optionalObservation().map(f -> "observation=" + f + ", ").orElse("") +
+            optionalFinancialYearId().map(f -> "financialYearId=" + f + ", ").orElse("") +
             optionalDecisionId().map(f -> "decisionId=" + f + ", ").orElse("") +
             optionalDistinct().map(f -> "distinct=" + f + ", ").orElse("") +
+            optionalFetch().map(f -> "fetch=" + f + ", ").orElse("") +
         "}";
     }
 }
@@ -1,8 +1,10 @@
 package com.crat.budget.service.criteria;
 
 import java.io.Serializable;
+import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import org.springdoc.core.annotations.ParameterObject;
 import tech.jhipster.service.Criteria;
 import tech.jhipster.service.filter.*;
@@ -30,13 +32,13 @@ public class EngagementCriteria implements Serializable, Criteria {
 
     private StringFilter objectOfExpense;
 
-    private StringFilter notifiedCredits;
+    private BigDecimalFilter notifiedCredits;
 
-    private StringFilter creditCommitted;
+    private BigDecimalFilter creditCommitted;
 
-    private StringFilter creditsAvailable;
+    private BigDecimalFilter creditsAvailable;
 
-    private StringFilter amountProposedCommitment;
+    private BigDecimalFilter amountProposedCommitment;
 
     private StringFilter headDaf;
 
@@ -44,6 +46,8 @@ public class EngagementCriteria implements Serializable, Criteria {
 
     private StringFilter generalManager;
 
+    private LongFilter financialYearId;
+
     private LongFilter decisionId;
 
     private LongFilter mandateId;
@@ -52,6 +56,8 @@ public class EngagementCriteria implements Serializable, Criteria {
 
     private Boolean distinct;
 
+    private Set<String> fetch;
+
     public EngagementCriteria() {}
 
     public EngagementCriteria(EngagementCriteria other) {
@@ -59,17 +65,19 @@ public class EngagementCriteria implements Serializable, Criteria {
         this.engagementNumber = other.optionalEngagementNumber().map(StringFilter::copy).orElse(null);
         this.engagementDate = other.optionalEngagementDate().map(InstantFilter::copy).orElse(null);
         this.objectOfExpense = other.optionalObjectOfExpense().map(StringFilter::copy).orElse(null);
-        this.notifiedCredits = other.optionalNotifiedCredits().map(StringFilter::copy).orElse(null);
-        this.creditCommitted = other.optionalCreditCommitted().map(StringFilter::copy).orElse(null);
-        this.creditsAvailable = other.optionalCreditsAvailable().map(StringFilter::copy).orElse(null);
-        this.amountProposedCommitment = other.optionalAmountProposedCommitment().map(StringFilter::copy).orElse(null);
+        this.notifiedCredits = other.optionalNotifiedCredits().map(BigDecimalFilter::copy).orElse(null);
+        this.creditCommitted = other.optionalCreditCommitted().map(BigDecimalFilter::copy).orElse(null);
+        this.creditsAvailable = other.optionalCreditsAvailable().map(BigDecimalFilter::copy).orElse(null);
+        this.amountProposedCommitment = other.optionalAmountProposedCommitment().map(BigDecimalFilter::copy).orElse(null);
         this.headDaf = other.optionalHeadDaf().map(StringFilter::copy).orElse(null);
         this.financialController = other.optionalFinancialController().map(StringFilter::copy).orElse(null);
         this.generalManager = other.optionalGeneralManager().map(StringFilter::copy).orElse(null);
+        this.financialYearId = other.optionalFinancialYearId().map(LongFilter::copy).orElse(null);
         this.decisionId = other.optionalDecisionId().map(LongFilter::copy).orElse(null);
         this.mandateId = other.optionalMandateId().map(LongFilter::copy).orElse(null);
         this.purchaseOrderId = other.optionalPurchaseOrderId().map(LongFilter::copy).orElse(null);
         this.distinct = other.distinct;
+        this.fetch = other.optionalFetch().map(LinkedHashSet::new).orElse(null);
     }
 
     @Override
@@ -153,79 +161,79 @@ public class EngagementCriteria implements Serializable, Criteria {
         this.objectOfExpense = objectOfExpense;
     }
 
-    public StringFilter getNotifiedCredits() {
+    public BigDecimalFilter getNotifiedCredits() {
         return notifiedCredits;
     }
 
-    public Optional<StringFilter> optionalNotifiedCredits() {
+    public Optional<BigDecimalFilter> optionalNotifiedCredits() {
         return Optional.ofNullable(notifiedCredits);
     }
 
-    public StringFilter notifiedCredits() {
+    public BigDecimalFilter notifiedCredits() {
         if (notifiedCredits == null) {
-            setNotifiedCredits(new StringFilter());
+            setNotifiedCredits(new BigDecimalFilter());
         }
         return notifiedCredits;
     }
 
-    public void setNotifiedCredits(StringFilter notifiedCredits) {
+    public void setNotifiedCredits(BigDecimalFilter notifiedCredits) {
         this.notifiedCredits = notifiedCredits;
     }
 
-    public StringFilter getCreditCommitted() {
+    public BigDecimalFilter getCreditCommitted() {
         return creditCommitted;
     }
 
-    public Optional<StringFilter> optionalCreditCommitted() {
+    public Optional<BigDecimalFilter> optionalCreditCommitted() {
         return Optional.ofNullable(creditCommitted);
     }
 
-    public StringFilter creditCommitted() {
+    public BigDecimalFilter creditCommitted() {
         if (creditCommitted == null) {
-            setCreditCommitted(new StringFilter());
+            setCreditCommitted(new BigDecimalFilter());
         }
         return creditCommitted;
     }
 
-    public void setCreditCommitted(StringFilter creditCommitted) {
+    public void setCreditCommitted(BigDecimalFilter creditCommitted) {
         this.creditCommitted = creditCommitted;
     }
 
-    public StringFilter getCreditsAvailable() {
+    public BigDecimalFilter getCreditsAvailable() {
         return creditsAvailable;
     }
 
-    public Optional<StringFilter> optionalCreditsAvailable() {
+    public Optional<BigDecimalFilter> optionalCreditsAvailable() {
         return Optional.ofNullable(creditsAvailable);
     }
 
-    public StringFilter creditsAvailable() {
+    public BigDecimalFilter creditsAvailable() {
         if (creditsAvailable == null) {
-            setCreditsAvailable(new StringFilter());
+            setCreditsAvailable(new BigDecimalFilter());
         }
         return creditsAvailable;
     }
 
-    public void setCreditsAvailable(StringFilter creditsAvailable) {
+    public void setCreditsAvailable(BigDecimalFilter creditsAvailable) {
         this.creditsAvailable = creditsAvailable;
     }
 
-    public StringFilter getAmountProposedCommitment() {
+    public BigDecimalFilter getAmountProposedCommitment() {
         return amountProposedCommitment;
     }
 
-    public Optional<StringFilter> optionalAmountProposedCommitment() {
+    public Optional<BigDecimalFilter> optionalAmountProposedCommitment() {
         return Optional.ofNullable(amountProposedCommitment);
     }
 
-    public StringFilter amountProposedCommitment() {
+    public BigDecimalFilter amountProposedCommitment() {
         if (amountProposedCommitment == null) {
-            setAmountProposedCommitment(new StringFilter());
+            setAmountProposedCommitment(new BigDecimalFilter());
         }
         return amountProposedCommitment;
     }
 
-    public void setAmountProposedCommitment(StringFilter amountProposedCommitment) {
+    public void setAmountProposedCommitment(BigDecimalFilter amountProposedCommitment) {
         this.amountProposedCommitment = amountProposedCommitment;
     }
 
@@ -286,6 +294,25 @@ public class EngagementCriteria implements Serializable, Criteria {
         this.generalManager = generalManager;
     }
 
+    public LongFilter getFinancialYearId() {
+        return financialYearId;
+    }
+
+    public Optional<LongFilter> optionalFinancialYearId() {
+        return Optional.ofNullable(financialYearId);
+    }
+
+    public LongFilter financialYearId() {
+        if (financialYearId == null) {
+            setFinancialYearId(new LongFilter());
+        }
+        return financialYearId;
+    }
+
+    public void setFinancialYearId(LongFilter financialYearId) {
+        this.financialYearId = financialYearId;
+    }
+
     public LongFilter getDecisionId() {
         return decisionId;
     }
@@ -362,6 +389,18 @@ public class EngagementCriteria implements Serializable, Criteria {
         this.distinct = distinct;
     }
 
+    public Set<String> getFetch() {
+        return fetch;
+    }
+
+    public Optional<Set<String>> optionalFetch() {
+        return Optional.ofNullable(fetch);
+    }
+
+    public void setFetch(Set<String> fetch) {
+        this.fetch = fetch;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -383,10 +422,12 @@ public class EngagementCriteria implements Serializable, Criteria {
             Objects.equals(headDaf, that.headDaf) &&
             Objects.equals(financialController, that.financialController) &&
             Objects.equals(generalManager, that.generalManager) &&
+            Objects.equals(financialYearId, that.financialYearId) &&
             Objects.equals(decisionId, that.decisionId) &&
             Objects.equals(mandateId, that.mandateId) &&
             Objects.equals(purchaseOrderId, that.purchaseOrderId) &&
-            Objects.equals(distinct, that.distinct)
+            Objects.equals(distinct, that.distinct) &&
+            Objects.equals(fetch, that.fetch)
         );
     }
 
@@ -404,10 +445,12 @@ public class EngagementCriteria implements Serializable, Criteria {
             headDaf,
             financialController,
             generalManager,
+            financialYearId,
             decisionId,
             mandateId,
             purchaseOrderId,
-            distinct
+            distinct,
+            fetch
         );
     }
 
@@ -426,10 +469,12 @@ public class EngagementCriteria implements Serializable, Criteria {
             optionalHeadDaf().map(f -> "headDaf=" + f + ", ").orElse("") +
             optionalFinancialController().map(f -> "financialController=" + f + ", ").orElse("") +
             optionalGeneralManager().map(f -> "generalManager=" + f + ", ").orElse("") +
+            optionalFinancialYearId().map(f -> "financialYearId=" + f + ", ").orElse("") +
             optionalDecisionId().map(f -> "decisionId=" + f + ", ").orElse("") +
             optionalMandateId().map(f -> "mandateId=" + f + ", ").orElse("") +
             optionalPurchaseOrderId().map(f -> "purchaseOrderId=" + f + ", ").orElse("") +
             optionalDistinct().map(f -> "distinct=" + f + ", ").orElse("") +
+            optionalFetch().map(f -> "fetch=" + f + ", ").orElse("") +
         "}";
     }
 }
@@ -2,8 +2,10 @@ package com.crat.budget.service.criteria;
 
 import com.crat.budget.domain.enumeration.FinancialCategoryEnum;
 import java.io.Serializable;
+import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import org.springdoc.core.annotations.ParameterObject;
 import tech.jhipster.service.Criteria;
 import tech.jhipster.service.filter.*;
@@ -56,6 +58,8 @@ public class ExpenseCriteria implements Serializable, Criteria {
 
     private Boolean distinct;
 
+    private Set<String> fetch;
+
     public ExpenseCriteria() {}
 
     public ExpenseCriteria(ExpenseCriteria other) {
@@ -67,6 +71,7 @@ public class ExpenseCriteria implements Serializable, Criteria {
         this.annexDecisionId = other.optionalAnnexDecisionId().map(LongFilter::copy).orElse(null);
         this.articleId = other.optionalArticleId().map(LongFilter::copy).orElse(null);
         this.distinct = other.distinct;
+        this.fetch = other.optionalFetch().map(LinkedHashSet::new).orElse(null);
     }
 
     @Override
@@ -226,6 +231,18 @@ public class ExpenseCriteria implements Serializable, Criteria {
         this.distinct = distinct;
     }
 
+    public Set<String> getFetch() {
+        return fetch;
+    }
+
+    public Optional<Set<String>> optionalFetch() {
+        return Optional.ofNullable(fetch);
+    }
+
+    public void setFetch(Set<String> fetch) {
+        this.fetch = fetch;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -243,7 +260,8 @@ public class ExpenseCriteria implements Serializable, Criteria {
             Objects.equals(financialYearId, that.financialYearId) &&
             Objects.equals(annexDecisionId, that.annexDecisionId) &&
             Objects.equals(articleId, that.articleId) &&
-            Objects.equals(distinct, that.distinct)
+            Objects.equals(distinct, that.distinct) &&
+            Objects.equals(fetch, that.fetch)
         );
     }
 
@@ -257,7 +275,8 @@ public class ExpenseCriteria implements Serializable, Criteria {
             financialYearId,
             annexDecisionId,
             articleId,
-            distinct
+            distinct,
+            fetch
         );
     }
 
@@ -273,6 +292,7 @@ public class ExpenseCriteria implements Serializable, Criteria {
             optionalAnnexDecisionId().map(f -> "annexDecisionId=" + f + ", ").orElse("") +
             optionalArticleId().map(f -> "articleId=" + f + ", ").orElse("") +
             optionalDistinct().map(f -> "distinct=" + f + ", ").orElse("") +
+            optionalFetch().map(f -> "fetch=" + f + ", ").orElse("") +
         "}";
     }
 }
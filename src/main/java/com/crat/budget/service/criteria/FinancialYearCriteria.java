@@ -1,8 +1,10 @@
 package com.crat.budget.service.criteria;
 
 import java.io.Serializable;
+import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import org.springdoc.core.annotations.ParameterObject;
 import tech.jhipster.service.Criteria;
 import tech.jhipster.service.filter.*;
@@ -34,6 +36,8 @@ public class FinancialYearCriteria implements Serializable, Criteria {
 
     private Boolean distinct;
 
+    private Set<String> fetch;
+
     public FinancialYearCriteria() {}
 
     public FinancialYearCriteria(FinancialYearCriteria other) {
@@ -43,6 +47,7 @@ public class FinancialYearCriteria implements Serializable, Criteria {
         this.expenseId = other.optionalExpenseId().map(LongFilter::copy).orElse(null);
         this.annexDecisionId = other.optionalAnnexDecisionId().map(LongFilter::copy).orElse(null);
         this.distinct = other.distinct;
+        this.fetch = other.optionalFetch().map(LinkedHashSet::new).orElse(null);
     }
 
     @Override
@@ -164,6 +169,18 @@ public class FinancialYearCriteria implements Serializable, Criteria {
         this.distinct = distinct;
     }
 
+    public Set<String> getFetch() {
+        return fetch;
+    }
+
+    public Optional<Set<String>> optionalFetch() {
+        return Optional.ofNullable(fetch);
+    }
+
+    public void setFetch(Set<String> fetch) {
+        this.fetch = fetch;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -179,13 +196,14 @@ public class FinancialYearCriteria implements Serializable, Criteria {
             Objects.equals(recipeId, that.recipeId) &&
             Objects.equals(expenseId, that.expenseId) &&
             Objects.equals(annexDecisionId, that.annexDecisionId) &&
-            Objects.equals(distinct, that.distinct)
+            Objects.equals(distinct, that.distinct) &&
+            Objects.equals(fetch, that.fetch)
         );
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, year, recipeId, expenseId, annexDecisionId, distinct);
+        return Objects.hash(id, year, recipeId, expenseId, annexDecisionId, distinct, fetch);
     }
 
     // prettier-ignore
@@ -198,6 +216,7 @@ public class FinancialYearCriteria implements Serializable, Criteria {
             optionalExpenseId().map(f -> "expenseId=" + f + ", ").orElse("") +
             optionalAnnexDecisionId().map(f -> "annexDecisionId=" + f + ", ").orElse("") +
             optionalDistinct().map(f -> "distinct=" + f + ", ").orElse("") +
+            optionalFetch().map(f -> "fetch=" + f + ", ").orElse("") +
         "}";
     }
 }
@@ -1,8 +1,10 @@
 package com.crat.budget.service.criteria;
 
 import java.io.Serializable;
+import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import org.springdoc.core.annotations.ParameterObject;
 import tech.jhipster.service.Criteria;
 import tech.jhipster.service.filter.*;
@@ -34,10 +36,14 @@ public class MandateCriteria implements Serializable, Criteria {
 
     private StringFilter supportingDocuments;
 
+    private LongFilter financialYearId;
+
     private LongFilter engagementId;
 
     private Boolean distinct;
 
+    private Set<String> fetch;
+
     public MandateCriteria() {}
 
     public MandateCriteria(MandateCriteria other) {
@@ -47,8 +53,10 @@ public class MandateCriteria implements Serializable, Criteria {
         this.issueSlipNumber = other.optionalIssueSlipNumber().map(StringFilter::copy).orElse(null);
         this.monthAndYearOfIssue = other.optionalMonthAndYearOfIssue().map(StringFilter::copy).orElse(null);
         this.supportingDocuments = other.optionalSupportingDocuments().map(StringFilter::copy).orElse(null);
+        this.financialYearId = other.optionalFinancialYearId().map(LongFilter::copy).orElse(null);
         this.engagementId = other.optionalEngagementId().map(LongFilter::copy).orElse(null);
         this.distinct = other.distinct;
+        this.fetch = other.optionalFetch().map(LinkedHashSet::new).orElse(null);
     }
 
     @Override
@@ -170,6 +178,25 @@ public class MandateCriteria implements Serializable, Criteria {
         this.supportingDocuments = supportingDocuments;
     }
 
+    public LongFilter getFinancialYearId() {
+        return financialYearId;
+    }
+
+    public Optional<LongFilter> optionalFinancialYearId() {
+        return Optional.ofNullable(financialYearId);
+    }
+
+    public LongFilter financialYearId() {
+        if (financialYearId == null) {
+            setFinancialYearId(new LongFilter());
+        }
+        return financialYearId;
+    }
+
+    public void setFinancialYearId(LongFilter financialYearId) {
+        this.financialYearId = financialYearId;
+    }
+
     public LongFilter getEngagementId() {
         return engagementId;
     }
@@ -208,6 +235,18 @@ public class MandateCriteria implements Serializable, Criteria {
         this.distinct = distinct;
     }
 
+    public Set<String> getFetch() {
+        return fetch;
+    }
+
+    public Optional<Set<String>> optionalFetch() {
+        return Optional.ofNullable(fetch);
+    }
+
+    public void setFetch(Set<String> fetch) {
+        this.fetch = fetch;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -224,8 +263,10 @@ public class MandateCriteria implements Serializable, Criteria {
             Objects.equals(issueSlipNumber, that.issueSlipNumber) &&
             Objects.equals(monthAndYearOfIssue, that.monthAndYearOfIssue) &&
             Objects.equals(supportingDocuments, that.supportingDocuments) &&
+            Objects.equals(financialYearId, that.financialYearId) &&
             Objects.equals(engagementId, that.engagementId) &&
-            Objects.equals(distinct, that.distinct)
+            Objects.equals(distinct, that.distinct) &&
+            Objects.equals(fetch, that.fetch)
         );
     }
 
@@ -238,8 +279,10 @@ public class MandateCriteria implements Serializable, Criteria {
             issueSlipNumber,
             monthAndYearOfIssue,
             supportingDocuments,
+            financialYearId,
             engagementId,
-            distinct
+            distinct,
+            fetch
         );
     }
 
@@ -253,8 +296,10 @@ public class MandateCriteria implements Serializable, Criteria {
             optionalIssueSlipNumber().map(f -> "issueSlipNumber=" + f + ", ").orElse("") +
             optionalMonthAndYearOfIssue().map(f -> "monthAndYearOfIssue=" + f + ", ").orElse("") +
             optionalSupportingDocuments().map(f -> "supportingDocuments=" + f + ", ").orElse("") +
+            optionalFinancialYearId().map(f -> "financialYearId=" + f + ", ").orElse("") +
             optionalEngagementId().map(f -> "engagementId=" + f + ", ").orElse("") +
             optionalDistinct().map(f -> "distinct=" + f + ", ").orElse("") +
+            optionalFetch().map(f -> "fetch=" + f + ", ").orElse("") +
         "}";
     }
 }
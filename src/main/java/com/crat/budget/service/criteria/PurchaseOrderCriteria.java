@@ -1,8 +1,10 @@
 package com.crat.budget.service.criteria;
 
 import java.io.Serializable;
+import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import org.springdoc.core.annotations.ParameterObject;
 import tech.jhipster.service.Criteria;
 import tech.jhipster.service.filter.*;
@@ -48,6 +50,8 @@ public class PurchaseOrderCriteria implements Serializable, Criteria {
 
     private BigDecimalFilter availableBalance;
 
+    private LongFilter financialYearId;
+
     private LongFilter annexDecisionId;
 
     private LongFilter supplierId;
@@ -58,6 +62,8 @@ public class PurchaseOrderCriteria implements Serializable, Criteria {
 
     private Boolean distinct;
 
+    private Set<String> fetch;
+
     public PurchaseOrderCriteria() {}
 
     public PurchaseOrderCriteria(PurchaseOrderCriteria other) {
@@ -74,11 +80,13 @@ public class PurchaseOrderCriteria implements Serializable, Criteria {
         this.allocatedCredits = other.optionalAllocatedCredits().map(BigDecimalFilter::copy).orElse(null);
         this.committedExpenditures = other.optionalCommittedExpenditures().map(BigDecimalFilter::copy).orElse(null);
         this.availableBalance = other.optionalAvailableBalance().map(BigDecimalFilter::copy).orElse(null);
+        this.financialYearId = other.optionalFinancialYearId().map(LongFilter::copy).orElse(null);
         this.annexDecisionId = other.optionalAnnexDecisionId().map(LongFilter::copy).orElse(null);
         this.supplierId = other.optionalSupplierId().map(LongFilter::copy).orElse(null);
         this.engagementId = other.optionalEngagementId().map(LongFilter::copy).orElse(null);
         this.purchaseOrderItemId = other.optionalPurchaseOrderItemId().map(LongFilter::copy).orElse(null);
         this.distinct = other.distinct;
+        this.fetch = other.optionalFetch().map(LinkedHashSet::new).orElse(null);
     }
 
     @Override
@@ -333,6 +341,25 @@ public class PurchaseOrderCriteria implements Serializable, Criteria {
         this.availableBalance = availableBalance;
     }
 
+    public LongFilter getFinancialYearId() {
+        return financialYearId;
+    }
+
+    public Optional<LongFilter> optionalFinancialYearId() {
+        return Optional.ofNullable(financialYearId);
+    }
+
+    public LongFilter financialYearId() {
+        if (financialYearId == null) {
+            setFinancialYearId(new LongFilter());
+        }
+        return financialYearId;
+    }
+
+    public void setFinancialYearId(LongFilter financialYearId) {
+        this.financialYearId = financialYearId;
+    }
+
     public LongFilter getAnnexDecisionId() {
         return annexDecisionId;
     }
@@ -428,6 +455,18 @@ public class PurchaseOrderCriteria implements Serializable, Criteria {
         this.distinct = distinct;
     }
 
+    public Set<String> getFetch() {
+        return fetch;
+    }
+
+    public Optional<Set<String>> optionalFetch() {
+        return Optional.ofNullable(fetch);
+    }
+
+    public void setFetch(Set<String> fetch) {
+        this.fetch = fetch;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -451,11 +490,13 @@ public class PurchaseOrderCriteria implements Serializable, Criteria {
             Objects.equals(allocatedCredits, that.allocatedCredits) &&
             Objects.equals(committedExpenditures, that.committedExpenditures) &&
             Objects.equals(availableBalance, that.availableBalance) &&
+            Objects.equals(financialYearId, that.financialYearId) &&
             Objects.equals(annexDecisionId, that.annexDecisionId) &&
             Objects.equals(supplierId, that.supplierId) &&
             Objects.equals(engagementId, that.engagementId) &&
             Objects.equals(purchaseOrderItemId, that.purchaseOrderItemId) &&
-            Objects.equals(distinct, that.distinct)
+            Objects.equals(distinct, that.distinct) &&
+            Objects.equals(fetch, that.fetch)
         );
     }
 
@@ -475,11 +516,13 @@ public class PurchaseOrderCriteria implements Serializable, Criteria {
             allocatedCredits,
             committedExpenditures,
             availableBalance,
+            financialYearId,
             annexDecisionId,
             supplierId,
             engagementId,
             purchaseOrderItemId,
-            distinct
+            distinct,
+            fetch
         );
     }
 
@@ -500,11 +543,13 @@ public class PurchaseOrderCriteria implements Serializable, Criteria {
             optionalAllocatedCredits().map(f -> "allocatedCredits=" + f + ", ").orElse("") +
             optionalCommittedExpenditures().map(f -> "committedExpenditures=" + f + ", ").orElse("") +
             optionalAvailableBalance().map(f -> "availableBalance=" + f + ", ").orElse("") +
+            optionalFinancialYearId().map(f -> "financialYearId=" + f + ", ").orElse("") +
             optionalAnnexDecisionId().map(f -> "annexDecisionId=" + f + ", ").orElse("") +
             optionalSupplierId().map(f -> "supplierId=" + f + ", ").orElse("") +
             optionalEngagementId().map(f -> "engagementId=" + f + ", ").orElse("") +
             optionalPurchaseOrderItemId().map(f -> "purchaseOrderItemId=" + f + ", ").orElse("") +
             optionalDistinct().map(f -> "distinct=" + f + ", ").orElse("") +
+            optionalFetch().map(f -> "fetch=" + f + ", ").orElse("") +
         "}";
     }
 }
@@ -1,8 +1,10 @@
 package com.crat.budget.service.criteria;
 
 import java.io.Serializable;
+import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import org.springdoc.core.annotations.ParameterObject;
 import tech.jhipster.service.Criteria;
 import tech.jhipster.service.filter.*;
@@ -32,10 +34,14 @@ public class PurchaseOrderItemCriteria implements Serializable, Criteria {
 
     private BigDecimalFilter totalAmount;
 
+    private LongFilter financialYearId;
+
     private LongFilter purchaseOrderId;
 
     private Boolean distinct;
 
+    private Set<String> fetch;
+
     public PurchaseOrderItemCriteria() {}
 
     public PurchaseOrderItemCriteria(PurchaseOrderItemCriteria other) {
@@ -44,8 +50,10 @@ public class PurchaseOrderItemCriteria implements Serializable, Criteria {
         this.quantity = other.optionalQuantity().map(IntegerFilter::copy).orElse(null);
         this.unitPrice = other.optionalUnitPrice().map(BigDecimalFilter::copy).orElse(null);
         this.totalAmount = other.optionalTotalAmount().map(BigDecimalFilter::copy).orElse(null);
+        this.financialYearId = other.optionalFinancialYearId().map(LongFilter::copy).orElse(null);
         this.purchaseOrderId = other.optionalPurchaseOrderId().map(LongFilter::copy).orElse(null);
         this.distinct = other.distinct;
+        this.fetch = other.optionalFetch().map(LinkedHashSet::new).orElse(null);
     }
 
     @Override
@@ -148,6 +156,25 @@ public class PurchaseOrderItemCriteria implements Serializable, Criteria {
         this.totalAmount = totalAmount;
     }
 
+    public LongFilter getFinancialYearId() {
+        return financialYearId;
+    }
+
+    public Optional<LongFilter> optionalFinancialYearId() {
+        return Optional.ofNullable(financialYearId);
+    }
+
+    public LongFilter financialYearId() {
+        if (financialYearId == null) {
+            setFinancialYearId(new LongFilter());
+        }
+        return financialYearId;
+    }
+
+    public void setFinancialYearId(LongFilter financialYearId) {
+        this.financialYearId = financialYearId;
+    }
+
     public LongFilter getPurchaseOrderId() {
         return purchaseOrderId;
     }
@@ -186,6 +213,18 @@ public class PurchaseOrderItemCriteria implements Serializable, Criteria {
         this.distinct = distinct;
     }
 
+    public Set<String> getFetch() {
+        return fetch;
+    }
+
+    public Optional<Set<String>> optionalFetch() {
+        return Optional.ofNullable(fetch);
+    }
+
+    public void setFetch(Set<String> fetch) {
+        this.fetch = fetch;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -201,14 +240,16 @@ public class PurchaseOrderItemCriteria implements Serializable, Criteria {
             Objects.equals(quantity, that.quantity) &&
             Objects.equals(unitPrice, that.unitPrice) &&
             Objects.equals(totalAmount, that.totalAmount) &&
+            Objects.equals(financialYearId, that.financialYearId) &&
             Objects.equals(purchaseOrderId, that.purchaseOrderId) &&
-            Objects.equals(distinct, that.distinct)
+            Objects.equals(distinct, that.distinct) &&
+            Objects.equals(fetch, that.fetch)
         );
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, productName, quantity, unitPrice, totalAmount, purchaseOrderId, distinct);
+        return Objects.hash(id, productName, quantity, unitPrice, totalAmount, financialYearId, purchaseOrderId, distinct, fetch);
     }
 
     // prettier-ignore
@@ -220,8 +261,10 @@ public class PurchaseOrderItemCriteria implements Serializable, Criteria {
             optionalQuantity().map(f -> "quantity=" + f + ", ").orElse("") +
             optionalUnitPrice().map(f -> "unitPrice=" + f + ", ").orElse("") +
             optionalTotalAmount().map(f -> "totalAmount=" + f + ", ").orElse("") +
+            optionalFinancialYearId().map(f -> "financialYearId=" + f + ", ").orElse("") +
             optionalPurchaseOrderId().map(f -> "purchaseOrderId=" + f + ", ").orElse("") +
             optionalDistinct().map(f -> "distinct=" + f + ", ").orElse("") +
+            optionalFetch().map(f -> "fetch=" + f + ", ").orElse("") +
         "}";
     }
 }
@@ -2,8 +2,10 @@ package com.crat.budget.service.criteria;
 
 import com.crat.budget.domain.enumeration.FinancialCategoryEnum;
 import java.io.Serializable;
+import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import org.springdoc.core.annotations.ParameterObject;
 import tech.jhipster.service.Criteria;
 import tech.jhipster.service.filter.*;
@@ -54,6 +56,8 @@ public class RecipeCriteria implements Serializable, Criteria {
 
     private Boolean distinct;
 
+    private Set<String> fetch;
+
     public RecipeCriteria() {}
 
     public RecipeCriteria(RecipeCriteria other) {
@@ -64,6 +68,7 @@ public class RecipeCriteria implements Serializable, Criteria {
         this.financialYearId = other.optionalFinancialYearId().map(LongFilter::copy).orElse(null);
         this.articleId = other.optionalArticleId().map(LongFilter::copy).orElse(null);
         this.distinct = other.distinct;
+        this.fetch = other.optionalFetch().map(LinkedHashSet::new).orElse(null);
     }
 
     @Override
@@ -204,6 +209,18 @@ public class RecipeCriteria implements Serializable, Criteria {
         this.distinct = distinct;
     }
 
+    public Set<String> getFetch() {
+        return fetch;
+    }
+
+    public Optional<Set<String>> optionalFetch() {
+        return Optional.ofNullable(fetch);
+    }
+
+    public void setFetch(Set<String> fetch) {
+        this.fetch = fetch;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -220,13 +237,14 @@ public class RecipeCriteria implements Serializable, Criteria {
             Objects.equals(category, that.category) &&
             Objects.equals(financialYearId, that.financialYearId) &&
             Objects.equals(articleId, that.articleId) &&
-            Objects.equals(distinct, that.distinct)
+            Objects.equals(distinct, that.distinct) &&
+            Objects.equals(fetch, that.fetch)
         );
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, achievementsInThePastYear, newYearForecast, category, financialYearId, articleId, distinct);
+        return Objects.hash(id, achievementsInThePastYear, newYearForecast, category, financialYearId, articleId, distinct, fetch);
     }
 
     // prettier-ignore
@@ -240,6 +258,7 @@ public class RecipeCriteria implements Serializable, Criteria {
             optionalFinancialYearId().map(f -> "financialYearId=" + f + ", ").orElse("") +
             optionalArticleId().map(f -> "articleId=" + f + ", ").orElse("") +
             optionalDistinct().map(f -> "distinct=" + f + ", ").orElse("") +
+            optionalFetch().map(f -> "fetch=" + f + ", ").orElse("") +
         "}";
     }
 }
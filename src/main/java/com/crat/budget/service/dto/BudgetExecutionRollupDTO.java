@@ -0,0 +1,206 @@
+package com.crat.budget.service.dto;
+
+import com.crat.budget.domain.enumeration.FinancialCategoryEnum;
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A DTO representing the recipe and expense totals of one node of the budget
+ * (the whole budget, a sub-title, a chapter or an article) for one financial year and category.
+ */
+public class BudgetExecutionRollupDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Level of the budget hierarchy a rollup belongs to.
+     */
+    public enum Level {
+        BUDGET,
+        SUB_TITLE,
+        CHAPTER,
+        ARTICLE,
+    }
+
+    private Level level;
+
+    private Long id;
+
+    private String code;
+
+    private String designation;
+
+    private Long parentId;
+
+    private Integer financialYear;
+
+    private FinancialCategoryEnum category;
+
+    private long recipeAchievementsInThePastYear;
+
+    private long recipeNewYearForecast;
+
+    private long expenseAchievementsInThePastYear;
+
+    private long expenseNewYearForecast;
+
+    public BudgetExecutionRollupDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public BudgetExecutionRollupDTO(
+        Level level,
+        Long id,
+        String code,
+        String designation,
+        Long parentId,
+        Integer financialYear,
+        FinancialCategoryEnum category
+    ) {
+        this.level = level;
+        this.id = id;
+        this.code = code;
+        this.designation = designation;
+        this.parentId = parentId;
+        this.financialYear = financialYear;
+        this.category = category;
+    }
+
+    public BudgetExecutionRollupDTO(BudgetExecutionRollupDTO rollup) {
+        this(rollup.level, rollup.id, rollup.code, rollup.designation, rollup.parentId, rollup.financialYear, rollup.category);
+        this.recipeAchievementsInThePastYear = rollup.recipeAchievementsInThePastYear;
+        this.recipeNewYearForecast = rollup.recipeNewYearForecast;
+        this.expenseAchievementsInThePastYear = rollup.expenseAchievementsInThePastYear;
+        this.expenseNewYearForecast = rollup.expenseNewYearForecast;
+    }
+
+    public Level getLevel() {
+        return level;
+    }
+
+    public void setLevel(Level level) {
+        this.level = level;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    public String getDesignation() {
+        return designation;
+    }
+
+    public void setDesignation(String designation) {
+        this.designation = designation;
+    }
+
+    public Long getParentId() {
+        return parentId;
+    }
+
+    public void setParentId(Long parentId) {
+        this.parentId = parentId;
+    }
+
+    public Integer getFinancialYear() {
+        return financialYear;
+    }
+
+    public void setFinancialYear(Integer financialYear) {
+        this.financialYear = financialYear;
+    }
+
+    public FinancialCategoryEnum getCategory() {
+        return category;
+    }
+
+    public void setCategory(FinancialCategoryEnum category) {
+        this.category = category;
+    }
+
+    public long getRecipeAchievementsInThePastYear() {
+        return recipeAchievementsInThePastYear;
+    }
+
+    public void setRecipeAchievementsInThePastYear(long recipeAchievementsInThePastYear) {
+        this.recipeAchievementsInThePastYear = recipeAchievementsInThePastYear;
+    }
+
+    public long getRecipeNewYearForecast() {
+        return recipeNewYearForecast;
+    }
+
+    public void setRecipeNewYearForecast(long recipeNewYearForecast) {
+        this.recipeNewYearForecast = recipeNewYearForecast;
+    }
+
+    public long getExpenseAchievementsInThePastYear() {
+        return expenseAchievementsInThePastYear;
+    }
+
+    public void setExpenseAchievementsInThePastYear(long expenseAchievementsInThePastYear) {
+        this.expenseAchievementsInThePastYear = expenseAchievementsInThePastYear;
+    }
+
+    public long getExpenseNewYearForecast() {
+        return expenseNewYearForecast;
+    }
+
+    public void setExpenseNewYearForecast(long expenseNewYearForecast) {
+        this.expenseNewYearForecast = expenseNewYearForecast;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof BudgetExecutionRollupDTO)) {
+            return false;
+        }
+        BudgetExecutionRollupDTO that = (BudgetExecutionRollupDTO) o;
+        return (
+            level == that.level &&
+            Objects.equals(id, that.id) &&
+            Objects.equals(financialYear, that.financialYear) &&
+            category == that.category &&
+            recipeAchievementsInThePastYear == that.recipeAchievementsInThePastYear &&
+            recipeNewYearForecast == that.recipeNewYearForecast &&
+            expenseAchievementsInThePastYear == that.expenseAchievementsInThePastYear &&
+            expenseNewYearForecast == that.expenseNewYearForecast
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(level, id, financialYear, category);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "BudgetExecutionRollupDTO{" +
+            "level=" + level +
+            ", id=" + id +
+            ", code='" + code + "'" +
+            ", financialYear=" + financialYear +
+            ", category=" + category +
+            ", recipeAchievementsInThePastYear=" + recipeAchievementsInThePastYear +
+            ", recipeNewYearForecast=" + recipeNewYearForecast +
+            ", expenseAchievementsInThePastYear=" + expenseAchievementsInThePastYear +
+            ", expenseNewYearForecast=" + expenseNewYearForecast +
+            "}";
+    }
+}
@@ -0,0 +1,116 @@
+package com.crat.budget.service.dto;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * A DTO representing the credits of an {@link com.crat.budget.domain.AnnexDecision}: the open credits, the part of them
+ * committed by its {@link com.crat.budget.domain.PurchaseOrder}s and what remains available.
+ */
+public class CreditAvailabilityDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long annexDecisionId;
+
+    private String designation;
+
+    private BigDecimal creditsOpen;
+
+    private BigDecimal creditsCommitted;
+
+    private BigDecimal creditsAvailable;
+
+    public CreditAvailabilityDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public CreditAvailabilityDTO(
+        Long annexDecisionId,
+        String designation,
+        BigDecimal creditsOpen,
+        BigDecimal creditsCommitted,
+        BigDecimal creditsAvailable
+    ) {
+        this.annexDecisionId = annexDecisionId;
+        this.designation = designation;
+        this.creditsOpen = creditsOpen;
+        this.creditsCommitted = creditsCommitted;
+        this.creditsAvailable = creditsAvailable;
+    }
+
+    public Long getAnnexDecisionId() {
+        return annexDecisionId;
+    }
+
+    public void setAnnexDecisionId(Long annexDecisionId) {
+        this.annexDecisionId = annexDecisionId;
+    }
+
+    public String getDesignation() {
+        return designation;
+    }
+
+    public void setDesignation(String designation) {
+        this.designation = designation;
+    }
+
+    public BigDecimal getCreditsOpen() {
+        return creditsOpen;
+    }
+
+    public void setCreditsOpen(BigDecimal creditsOpen) {
+        this.creditsOpen = creditsOpen;
+    }
+
+    public BigDecimal getCreditsCommitted() {
+        return creditsCommitted;
+    }
+
+    public void setCreditsCommitted(BigDecimal creditsCommitted) {
+        this.creditsCommitted = creditsCommitted;
+    }
+
+    public BigDecimal getCreditsAvailable() {
+        return creditsAvailable;
+    }
+
+    public void setCreditsAvailable(BigDecimal creditsAvailable) {
+        this.creditsAvailable = creditsAvailable;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CreditAvailabilityDTO)) {
+            return false;
+        }
+        CreditAvailabilityDTO that = (CreditAvailabilityDTO) o;
+        return (
+            Objects.equals(annexDecisionId, that.annexDecisionId) &&
+            Objects.equals(creditsOpen, that.creditsOpen) &&
+            Objects.equals(creditsCommitted, that.creditsCommitted) &&
+            Objects.equals(creditsAvailable, that.creditsAvailable)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(annexDecisionId);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "CreditAvailabilityDTO{" +
+            "annexDecisionId=" + annexDecisionId +
+            ", designation='" + designation + "'" +
+            ", creditsOpen=" + creditsOpen +
+            ", creditsCommitted=" + creditsCommitted +
+            ", creditsAvailable=" + creditsAvailable +
+            "}";
+    }
+}
@@ -0,0 +1,150 @@
+package com.crat.budget.service.dto;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A DTO reporting the outcome of a bulk import of {@link com.crat.budget.domain.PurchaseOrder}s: what was imported
+ * and why the rejected rows were rejected.
+ */
+public class PurchaseOrderImportResultDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private int received;
+
+    private int imported;
+
+    private int importedItems;
+
+    private List<RowError> errors = new ArrayList<>();
+
+    public PurchaseOrderImportResultDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public int getReceived() {
+        return received;
+    }
+
+    public void setReceived(int received) {
+        this.received = received;
+    }
+
+    public int getImported() {
+        return imported;
+    }
+
+    public void setImported(int imported) {
+        this.imported = imported;
+    }
+
+    public int getImportedItems() {
+        return importedItems;
+    }
+
+    public void setImportedItems(int importedItems) {
+        this.importedItems = importedItems;
+    }
+
+    public List<RowError> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<RowError> errors) {
+        this.errors = errors;
+    }
+
+    public void addError(int row, String field, String message) {
+        this.errors.add(new RowError(row, field, message));
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "PurchaseOrderImportResultDTO{" +
+            "received=" + getReceived() +
+            ", imported=" + getImported() +
+            ", importedItems=" + getImportedItems() +
+            ", errors=" + getErrors().size() +
+            "}";
+    }
+
+    /**
+     * Why a row was rejected. The row is the 1-based position of the purchase order in a JSON import, or the line of its
+     * first record in a CSV import.
+     */
+    public static class RowError implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private int row;
+
+        private String field;
+
+        private String message;
+
+        public RowError() {
+            // Empty constructor needed for Jackson.
+        }
+
+        public RowError(int row, String field, String message) {
+            this.row = row;
+            this.field = field;
+            this.message = message;
+        }
+
+        public int getRow() {
+            return row;
+        }
+
+        public void setRow(int row) {
+            this.row = row;
+        }
+
+        public String getField() {
+            return field;
+        }
+
+        public void setField(String field) {
+            this.field = field;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public void setMessage(String message) {
+            this.message = message;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof RowError)) {
+                return false;
+            }
+            RowError rowError = (RowError) o;
+            return row == rowError.row && Objects.equals(field, rowError.field) && Objects.equals(message, rowError.message);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(row, field, message);
+        }
+
+        // prettier-ignore
+        @Override
+        public String toString() {
+            return "RowError{" +
+                "row=" + getRow() +
+                ", field='" + getField() + "'" +
+                ", message='" + getMessage() + "'" +
+                "}";
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.crat.budget.service.export;
+
+import com.crat.budget.config.ApplicationProperties;
+import com.crat.budget.service.projection.EntityProjector;
+import com.crat.budget.service.projection.ProjectionColumn;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.Tuple;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.query.Query;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+/**
+ * Streams the entities matching a {@link Specification} to an {@link OutputStream}, one row at a time.
+ * <p>
+ * The rows are projected by the {@link EntityProjector} and read through a forward-only cursor: no entity is loaded
+ * in the persistence context, so the memory used does not depend on the number of exported entities. It must be
+ * called within a transaction, for the cursor to stay open while the rows are written.
+ */
+@Component
+public class EntityExporter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(EntityExporter.class);
+
+    private static final Sort BY_ID = Sort.by("id");
+
+    private final EntityProjector entityProjector;
+
+    private final ObjectMapper objectMapper;
+
+    private final ApplicationProperties applicationProperties;
+
+    public EntityExporter(EntityProjector entityProjector, ObjectMapper objectMapper, ApplicationProperties applicationProperties) {
+        this.entityProjector = entityProjector;
+        this.objectMapper = objectMapper;
+        this.applicationProperties = applicationProperties;
+    }
+
+    /**
+     * Export the matching entities, ordered by id.
+     *
+     * @param entityClass the class of the exported entities.
+     * @param specification the filters the exported entities must match.
+     * @param columns the exported columns.
+     * @param format the format to write the rows in.
+     * @param outputStream the stream the rows are written to, left open.
+     * @param <E> the exported entity type.
+     * @return the number of exported entities.
+     * @throws IOException if the rows could not be written.
+     */
+    public <E> long export(
+        Class<E> entityClass,
+        Specification<E> specification,
+        List<ProjectionColumn<E>> columns,
+        ExportFormat format,
+        OutputStream outputStream
+    ) throws IOException {
+        LOG.debug("Exporting {} as {}", entityClass.getSimpleName(), format);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        RowWriter rowWriter = format == ExportFormat.CSV ? new CsvRowWriter(writer, columns) : new NdjsonRowWriter(writer, columns);
+        long count = 0;
+        try (ScrollableResults<Tuple> results = createQuery(entityClass, specification, columns).scroll(ScrollMode.FORWARD_ONLY)) {
+            rowWriter.writeHeader();
+            while (results.next()) {
+                rowWriter.writeRow(results.get());
+                count++;
+            }
+        }
+        rowWriter.finish();
+        writer.flush();
+        LOG.debug("Exported {} {} as {}", count, entityClass.getSimpleName(), format);
+        return count;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <E> Query<Tuple> createQuery(Class<E> entityClass, Specification<E> specification, List<ProjectionColumn<E>> columns) {
+        return entityProjector
+            .createQuery(entityClass, specification, columns, BY_ID)
+            .unwrap(Query.class)
+            .setFetchSize(applicationProperties.getExport().getFetchSize());
+    }
+
+    private interface RowWriter {
+        void writeHeader() throws IOException;
+
+        void writeRow(Tuple row) throws IOException;
+
+        void finish() throws IOException;
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+
+        private static final String LINE_SEPARATOR = "\r\n";
+
+        private final Writer writer;
+
+        private final List<? extends ProjectionColumn<?>> columns;
+
+        CsvRowWriter(Writer writer, List<? extends ProjectionColumn<?>> columns) {
+            this.writer = writer;
+            this.columns = columns;
+        }
+
+        @Override
+        public void writeHeader() throws IOException {
+            for (int i = 0; i < columns.size(); i++) {
+                writeField(i, columns.get(i).name());
+            }
+            writer.write(LINE_SEPARATOR);
+        }
+
+        @Override
+        public void writeRow(Tuple row) throws IOException {
+            for (int i = 0; i < columns.size(); i++) {
+                Object value = row.get(i);
+                writeField(i, value instanceof BigDecimal decimal ? decimal.toPlainString() : value == null ? "" : value.toString());
+            }
+            writer.write(LINE_SEPARATOR);
+        }
+
+        @Override
+        public void finish() {
+            // nothing to close
+        }
+
+        private void writeField(int index, String value) throws IOException {
+            if (index > 0) {
+                writer.write(',');
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"') {
+                    writer.write('"');
+                }
+                writer.write(c);
+            }
+            writer.write('"');
+        }
+    }
+
+    private final class NdjsonRowWriter implements RowWriter {
+
+        private final JsonGenerator generator;
+
+        private final List<? extends ProjectionColumn<?>> columns;
+
+        NdjsonRowWriter(Writer writer, List<? extends ProjectionColumn<?>> columns) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(writer).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // rows are separated by the new line written after each of them
+            this.generator.setRootValueSeparator(null);
+            this.columns = columns;
+        }
+
+        @Override
+        public void writeHeader() {
+            // every row carries its field names
+        }
+
+        @Override
+        public void writeRow(Tuple row) throws IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < columns.size(); i++) {
+                generator.writeFieldName(columns.get(i).name());
+                generator.writeObject(row.get(i));
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            generator.close();
+        }
+    }
+}
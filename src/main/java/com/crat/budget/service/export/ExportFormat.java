@@ -0,0 +1,40 @@
+package com.crat.budget.service.export;
+
+import java.util.Locale;
+import org.springframework.http.MediaType;
+
+/**
+ * Formats an export can be streamed in.
+ */
+public enum ExportFormat {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final MediaType mediaType;
+
+    private final String extension;
+
+    ExportFormat(String mediaType, String extension) {
+        this.mediaType = MediaType.parseMediaType(mediaType);
+        this.extension = extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Resolve a format from its case insensitive name.
+     *
+     * @param name the name of the format, {@code csv} or {@code ndjson}.
+     * @return the format.
+     * @throws IllegalArgumentException if the name is not a known format.
+     */
+    public static ExportFormat fromName(String name) {
+        return valueOf(name.toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Streaming export of entities.
+ */
+package com.crat.budget.service.export;
@@ -3,6 +3,7 @@ package com.crat.budget.service.impl;
 import com.crat.budget.domain.AnnexDecision;
 import com.crat.budget.repository.AnnexDecisionRepository;
 import com.crat.budget.service.AnnexDecisionService;
+import com.crat.budget.service.FinancialYearPartitionService;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.StreamSupport;
@@ -13,6 +14,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Service Implementation for managing {@link com.crat.budget.domain.AnnexDecision}.
+ * <p>
+ * An update moving the annex decision to another financial year moves its purchase orders and decisions with it.
  */
 @Service
 @Transactional
@@ -22,8 +25,14 @@ public class AnnexDecisionServiceImpl implements AnnexDecisionService {
 
     private final AnnexDecisionRepository annexDecisionRepository;
 
-    public AnnexDecisionServiceImpl(AnnexDecisionRepository annexDecisionRepository) {
+    private final FinancialYearPartitionService financialYearPartitionService;
+
+    public AnnexDecisionServiceImpl(
+        AnnexDecisionRepository annexDecisionRepository,
+        FinancialYearPartitionService financialYearPartitionService
+    ) {
         this.annexDecisionRepository = annexDecisionRepository;
+        this.financialYearPartitionService = financialYearPartitionService;
     }
 
     @Override
@@ -35,7 +44,10 @@ public class AnnexDecisionServiceImpl implements AnnexDecisionService {
     @Override
     public AnnexDecision update(AnnexDecision annexDecision) {
         LOG.debug("Request to update AnnexDecision : {}", annexDecision);
-        return annexDecisionRepository.save(annexDecision);
+        Long previousFinancialYearId = financialYearPartitionService.findFinancialYearIdOfAnnexDecision(annexDecision.getId());
+        AnnexDecision result = annexDecisionRepository.save(annexDecision);
+        financialYearPartitionService.annexDecisionSaved(result, previousFinancialYearId);
+        return result;
     }
 
     @Override
@@ -3,6 +3,7 @@ package com.crat.budget.service.impl;
 import com.crat.budget.domain.DecisionItem;
 import com.crat.budget.repository.DecisionItemRepository;
 import com.crat.budget.service.DecisionItemService;
+import com.crat.budget.service.FinancialYearPartitionService;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,19 +21,27 @@ public class DecisionItemServiceImpl implements DecisionItemService {
 
     private final DecisionItemRepository decisionItemRepository;
 
-    public DecisionItemServiceImpl(DecisionItemRepository decisionItemRepository) {
+    private final FinancialYearPartitionService financialYearPartitionService;
+
+    public DecisionItemServiceImpl(
+        DecisionItemRepository decisionItemRepository,
+        FinancialYearPartitionService financialYearPartitionService
+    ) {
         this.decisionItemRepository = decisionItemRepository;
+        this.financialYearPartitionService = financialYearPartitionService;
     }
 
     @Override
     public DecisionItem save(DecisionItem decisionItem) {
         LOG.debug("Request to save DecisionItem : {}", decisionItem);
+        financialYearPartitionService.assign(decisionItem);
         return decisionItemRepository.save(decisionItem);
     }
 
     @Override
     public DecisionItem update(DecisionItem decisionItem) {
         LOG.debug("Request to update DecisionItem : {}", decisionItem);
+        financialYearPartitionService.assign(decisionItem);
         return decisionItemRepository.save(decisionItem);
     }
 
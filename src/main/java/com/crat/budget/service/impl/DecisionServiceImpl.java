@@ -1,8 +1,10 @@
 package com.crat.budget.service.impl;
 
 import com.crat.budget.domain.Decision;
+import com.crat.budget.domain.Engagement;
 import com.crat.budget.repository.DecisionRepository;
 import com.crat.budget.service.DecisionService;
+import com.crat.budget.service.FinancialYearPartitionService;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -11,6 +13,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Service Implementation for managing {@link com.crat.budget.domain.Decision}.
+ * <p>
+ * A decision takes the financial year of its annex decision, and gives it to its items and its engagement.
  */
 @Service
 @Transactional
@@ -20,20 +24,33 @@ public class DecisionServiceImpl implements DecisionService {
 
     private final DecisionRepository decisionRepository;
 
-    public DecisionServiceImpl(DecisionRepository decisionRepository) {
+    private final FinancialYearPartitionService financialYearPartitionService;
+
+    public DecisionServiceImpl(DecisionRepository decisionRepository, FinancialYearPartitionService financialYearPartitionService) {
         this.decisionRepository = decisionRepository;
+        this.financialYearPartitionService = financialYearPartitionService;
     }
 
     @Override
     public Decision save(Decision decision) {
         LOG.debug("Request to save Decision : {}", decision);
-        return decisionRepository.save(decision);
+        financialYearPartitionService.assign(decision);
+        Decision result = decisionRepository.save(decision);
+        // a new decision has no items to move, only its engagement
+        financialYearPartitionService.decisionSaved(result, result.getFinancialYearId(), null);
+        return result;
     }
 
     @Override
     public Decision update(Decision decision) {
         LOG.debug("Request to update Decision : {}", decision);
-        return decisionRepository.save(decision);
+        Optional<Decision> existingDecision = decisionRepository.findById(decision.getId());
+        Long previousFinancialYearId = existingDecision.map(Decision::getFinancialYearId).orElse(null);
+        Long previousEngagementId = existingDecision.map(Decision::getEngagement).map(Engagement::getId).orElse(null);
+        financialYearPartitionService.assign(decision);
+        Decision result = decisionRepository.save(decision);
+        financialYearPartitionService.decisionSaved(result, previousFinancialYearId, previousEngagementId);
+        return result;
     }
 
     @Override
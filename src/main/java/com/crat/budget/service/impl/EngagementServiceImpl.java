@@ -3,6 +3,7 @@ package com.crat.budget.service.impl;
 import com.crat.budget.domain.Engagement;
 import com.crat.budget.repository.EngagementRepository;
 import com.crat.budget.service.EngagementService;
+import com.crat.budget.service.FinancialYearPartitionService;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.StreamSupport;
@@ -22,20 +23,28 @@ public class EngagementServiceImpl implements EngagementService {
 
     private final EngagementRepository engagementRepository;
 
-    public EngagementServiceImpl(EngagementRepository engagementRepository) {
+    private final FinancialYearPartitionService financialYearPartitionService;
+
+    public EngagementServiceImpl(EngagementRepository engagementRepository, FinancialYearPartitionService financialYearPartitionService) {
         this.engagementRepository = engagementRepository;
+        this.financialYearPartitionService = financialYearPartitionService;
     }
 
     @Override
     public Engagement save(Engagement engagement) {
         LOG.debug("Request to save Engagement : {}", engagement);
+        financialYearPartitionService.assign(engagement);
         return engagementRepository.save(engagement);
     }
 
     @Override
     public Engagement update(Engagement engagement) {
         LOG.debug("Request to update Engagement : {}", engagement);
-        return engagementRepository.save(engagement);
+        Long previousFinancialYearId = engagementRepository.findFinancialYearId(engagement.getId()).orElse(null);
+        financialYearPartitionService.assign(engagement);
+        Engagement result = engagementRepository.save(engagement);
+        financialYearPartitionService.engagementSaved(result, previousFinancialYearId);
+        return result;
     }
 
     @Override
@@ -60,9 +69,6 @@ public class EngagementServiceImpl implements EngagementService {
                 if (engagement.getCreditCommitted() != null) {
                     existingEngagement.setCreditCommitted(engagement.getCreditCommitted());
                 }
-                if (engagement.getCreditsAvailable() != null) {
-                    existingEngagement.setCreditsAvailable(engagement.getCreditsAvailable());
-                }
                 if (engagement.getAmountProposedCommitment() != null) {
                     existingEngagement.setAmountProposedCommitment(engagement.getAmountProposedCommitment());
                 }
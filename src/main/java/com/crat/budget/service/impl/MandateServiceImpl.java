@@ -3,6 +3,7 @@ package com.crat.budget.service.impl;
 import com.crat.budget.domain.Mandate;
 import com.crat.budget.repository.MandateRepository;
 import com.crat.budget.service.MandateService;
+import com.crat.budget.service.FinancialYearPartitionService;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,19 +21,24 @@ public class MandateServiceImpl implements MandateService {
 
     private final MandateRepository mandateRepository;
 
-    public MandateServiceImpl(MandateRepository mandateRepository) {
+    private final FinancialYearPartitionService financialYearPartitionService;
+
+    public MandateServiceImpl(MandateRepository mandateRepository, FinancialYearPartitionService financialYearPartitionService) {
         this.mandateRepository = mandateRepository;
+        this.financialYearPartitionService = financialYearPartitionService;
     }
 
     @Override
     public Mandate save(Mandate mandate) {
         LOG.debug("Request to save Mandate : {}", mandate);
+        financialYearPartitionService.assign(mandate);
         return mandateRepository.save(mandate);
     }
 
     @Override
     public Mandate update(Mandate mandate) {
         LOG.debug("Request to update Mandate : {}", mandate);
+        financialYearPartitionService.assign(mandate);
         return mandateRepository.save(mandate);
     }
 
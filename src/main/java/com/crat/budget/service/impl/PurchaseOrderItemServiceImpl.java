@@ -2,7 +2,9 @@ package com.crat.budget.service.impl;
 
 import com.crat.budget.domain.PurchaseOrderItem;
 import com.crat.budget.repository.PurchaseOrderItemRepository;
+import com.crat.budget.service.FinancialYearPartitionService;
 import com.crat.budget.service.PurchaseOrderItemService;
+import com.crat.budget.service.PurchaseOrderTotalsService;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -11,6 +13,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Service Implementation for managing {@link com.crat.budget.domain.PurchaseOrderItem}.
+ * <p>
+ * Every write marks the purchase orders of the item, before and after it, for the recompute of their totals.
  */
 @Service
 @Transactional
@@ -20,20 +24,40 @@ public class PurchaseOrderItemServiceImpl implements PurchaseOrderItemService {
 
     private final PurchaseOrderItemRepository purchaseOrderItemRepository;
 
-    public PurchaseOrderItemServiceImpl(PurchaseOrderItemRepository purchaseOrderItemRepository) {
+    private final PurchaseOrderTotalsService purchaseOrderTotalsService;
+
+    private final FinancialYearPartitionService financialYearPartitionService;
+
+    public PurchaseOrderItemServiceImpl(
+        PurchaseOrderItemRepository purchaseOrderItemRepository,
+        PurchaseOrderTotalsService purchaseOrderTotalsService,
+        FinancialYearPartitionService financialYearPartitionService
+    ) {
         this.purchaseOrderItemRepository = purchaseOrderItemRepository;
+        this.purchaseOrderTotalsService = purchaseOrderTotalsService;
+        this.financialYearPartitionService = financialYearPartitionService;
     }
 
     @Override
     public PurchaseOrderItem save(PurchaseOrderItem purchaseOrderItem) {
         LOG.debug("Request to save PurchaseOrderItem : {}", purchaseOrderItem);
-        return purchaseOrderItemRepository.save(purchaseOrderItem);
+        financialYearPartitionService.assign(purchaseOrderItem);
+        PurchaseOrderItem result = purchaseOrderItemRepository.save(purchaseOrderItem);
+        purchaseOrderTotalsService.markItemsChanged(purchaseOrderId(result));
+        return result;
     }
 
     @Override
     public PurchaseOrderItem update(PurchaseOrderItem purchaseOrderItem) {
         LOG.debug("Request to update PurchaseOrderItem : {}", purchaseOrderItem);
-        return purchaseOrderItemRepository.save(purchaseOrderItem);
+        purchaseOrderItemRepository
+            .findById(purchaseOrderItem.getId())
+            .map(PurchaseOrderItemServiceImpl::purchaseOrderId)
+            .ifPresent(purchaseOrderTotalsService::markItemsChanged);
+        financialYearPartitionService.assign(purchaseOrderItem);
+        PurchaseOrderItem result = purchaseOrderItemRepository.save(purchaseOrderItem);
+        purchaseOrderTotalsService.markItemsChanged(purchaseOrderId(result));
+        return result;
     }
 
     @Override
@@ -56,6 +80,7 @@ public class PurchaseOrderItemServiceImpl implements PurchaseOrderItemService {
                     existingPurchaseOrderItem.setTotalAmount(purchaseOrderItem.getTotalAmount());
                 }
 
+                purchaseOrderTotalsService.markItemsChanged(purchaseOrderId(existingPurchaseOrderItem));
                 return existingPurchaseOrderItem;
             })
             .map(purchaseOrderItemRepository::save);
@@ -71,6 +96,14 @@ public class PurchaseOrderItemServiceImpl implements PurchaseOrderItemService {
     @Override
     public void delete(Long id) {
         LOG.debug("Request to delete PurchaseOrderItem : {}", id);
+        purchaseOrderItemRepository
+            .findById(id)
+            .map(PurchaseOrderItemServiceImpl::purchaseOrderId)
+            .ifPresent(purchaseOrderTotalsService::markItemsChanged);
         purchaseOrderItemRepository.deleteById(id);
     }
+
+    private static Long purchaseOrderId(PurchaseOrderItem purchaseOrderItem) {
+        return purchaseOrderItem.getPurchaseOrder() == null ? null : purchaseOrderItem.getPurchaseOrder().getId();
+    }
 }
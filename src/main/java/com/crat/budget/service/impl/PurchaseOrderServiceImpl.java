@@ -2,7 +2,11 @@ package com.crat.budget.service.impl;
 
 import com.crat.budget.domain.PurchaseOrder;
 import com.crat.budget.repository.PurchaseOrderRepository;
+import com.crat.budget.service.CommitmentLedgerService;
+import com.crat.budget.service.CommitmentLedgerService.Commitment;
+import com.crat.budget.service.FinancialYearPartitionService;
 import com.crat.budget.service.PurchaseOrderService;
+import com.crat.budget.service.PurchaseOrderTotalsService;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -11,6 +15,10 @@ import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Service Implementation for managing {@link com.crat.budget.domain.PurchaseOrder}.
+ * <p>
+ * Every write is recorded in the commitment ledger of the annex decisions of the purchase order, before and after it.
+ * An update marks the purchase order for the recompute of its totals, the tax rate being one of their terms.
+ * A purchase order takes the financial year of its annex decision, and gives it to its items.
  */
 @Service
 @Transactional
@@ -20,20 +28,45 @@ public class PurchaseOrderServiceImpl implements PurchaseOrderService {
 
     private final PurchaseOrderRepository purchaseOrderRepository;
 
-    public PurchaseOrderServiceImpl(PurchaseOrderRepository purchaseOrderRepository) {
+    private final CommitmentLedgerService commitmentLedgerService;
+
+    private final PurchaseOrderTotalsService purchaseOrderTotalsService;
+
+    private final FinancialYearPartitionService financialYearPartitionService;
+
+    public PurchaseOrderServiceImpl(
+        PurchaseOrderRepository purchaseOrderRepository,
+        CommitmentLedgerService commitmentLedgerService,
+        PurchaseOrderTotalsService purchaseOrderTotalsService,
+        FinancialYearPartitionService financialYearPartitionService
+    ) {
         this.purchaseOrderRepository = purchaseOrderRepository;
+        this.commitmentLedgerService = commitmentLedgerService;
+        this.purchaseOrderTotalsService = purchaseOrderTotalsService;
+        this.financialYearPartitionService = financialYearPartitionService;
     }
 
     @Override
     public PurchaseOrder save(PurchaseOrder purchaseOrder) {
         LOG.debug("Request to save PurchaseOrder : {}", purchaseOrder);
-        return purchaseOrderRepository.save(purchaseOrder);
+        financialYearPartitionService.assign(purchaseOrder);
+        PurchaseOrder result = purchaseOrderRepository.save(purchaseOrder);
+        commitmentLedgerService.record(Commitment.NONE, Commitment.of(result), result);
+        return result;
     }
 
     @Override
     public PurchaseOrder update(PurchaseOrder purchaseOrder) {
         LOG.debug("Request to update PurchaseOrder : {}", purchaseOrder);
-        return purchaseOrderRepository.save(purchaseOrder);
+        Optional<PurchaseOrder> existingPurchaseOrder = purchaseOrderRepository.findById(purchaseOrder.getId());
+        Commitment before = existingPurchaseOrder.map(Commitment::of).orElse(Commitment.NONE);
+        Long previousFinancialYearId = existingPurchaseOrder.map(PurchaseOrder::getFinancialYearId).orElse(null);
+        financialYearPartitionService.assign(purchaseOrder);
+        PurchaseOrder result = purchaseOrderRepository.save(purchaseOrder);
+        commitmentLedgerService.record(before, Commitment.of(result), result);
+        financialYearPartitionService.purchaseOrderSaved(result, previousFinancialYearId);
+        purchaseOrderTotalsService.markOrderChanged(result.getId());
+        return result;
     }
 
     @Override
@@ -43,6 +76,7 @@ public class PurchaseOrderServiceImpl implements PurchaseOrderService {
         return purchaseOrderRepository
             .findById(purchaseOrder.getId())
             .map(existingPurchaseOrder -> {
+                Commitment before = Commitment.of(existingPurchaseOrder);
                 if (purchaseOrder.getNameOfTheMinistry() != null) {
                     existingPurchaseOrder.setNameOfTheMinistry(purchaseOrder.getNameOfTheMinistry());
                 }
@@ -80,9 +114,11 @@ public class PurchaseOrderServiceImpl implements PurchaseOrderService {
                     existingPurchaseOrder.setAvailableBalance(purchaseOrder.getAvailableBalance());
                 }
 
-                return existingPurchaseOrder;
-            })
-            .map(purchaseOrderRepository::save);
+                PurchaseOrder result = purchaseOrderRepository.save(existingPurchaseOrder);
+                commitmentLedgerService.record(before, Commitment.of(result), result);
+                purchaseOrderTotalsService.markOrderChanged(result.getId());
+                return result;
+            });
     }
 
     @Override
@@ -95,6 +131,8 @@ public class PurchaseOrderServiceImpl implements PurchaseOrderService {
     @Override
     public void delete(Long id) {
         LOG.debug("Request to delete PurchaseOrder : {}", id);
+        Commitment before = purchaseOrderRepository.findById(id).map(Commitment::of).orElse(Commitment.NONE);
         purchaseOrderRepository.deleteById(id);
+        commitmentLedgerService.record(before, Commitment.NONE, null);
     }
 }
@@ -0,0 +1,83 @@
+package com.crat.budget.service.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal RFC 4180 reader: comma separated fields, optionally quoted with {@code "}, a quote inside a quoted field being
+ * doubled. Quoted fields may span several lines.
+ */
+public class CsvRecordReader {
+
+    private final BufferedReader reader;
+
+    private int line;
+
+    private int recordLine;
+
+    public CsvRecordReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader bufferedReader ? bufferedReader : new BufferedReader(reader);
+    }
+
+    /**
+     * Read the next record.
+     *
+     * @return the fields of the record, or {@code null} at the end of the input.
+     * @throws IOException if the input could not be read, or ends inside a quoted field.
+     */
+    public List<String> readRecord() throws IOException {
+        String current = reader.readLine();
+        if (current == null) {
+            return null;
+        }
+        recordLine = ++line;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int i = 0;
+        while (true) {
+            if (i == current.length()) {
+                if (!quoted) {
+                    fields.add(field.toString());
+                    return fields;
+                }
+                current = reader.readLine();
+                if (current == null) {
+                    throw new IOException("Unterminated quoted field starting line " + recordLine);
+                }
+                line++;
+                field.append('\n');
+                i = 0;
+                continue;
+            }
+            char c = current.charAt(i++);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i < current.length() && current.charAt(i) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+    }
+
+    /**
+     * @return the 1-based line the last read record starts on.
+     */
+    public int getRecordLine() {
+        return recordLine;
+    }
+}
@@ -0,0 +1,503 @@
+package com.crat.budget.service.importer;
+
+import com.crat.budget.domain.AnnexDecision;
+import com.crat.budget.domain.Engagement;
+import com.crat.budget.domain.PurchaseOrder;
+import com.crat.budget.domain.PurchaseOrderItem;
+import com.crat.budget.domain.Supplier;
+import com.crat.budget.service.CommitmentLedgerService;
+import com.crat.budget.service.CommitmentLedgerService.Commitment;
+import com.crat.budget.service.FinancialYearPartitionService;
+import com.crat.budget.service.PurchaseOrderTotalsService;
+import com.crat.budget.service.dto.PurchaseOrderImportResultDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.hibernate.exception.ConstraintViolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service for importing {@link PurchaseOrder}s and their {@link PurchaseOrderItem}s in bulk.
+ * <p>
+ * Every row is validated first, then the {@link Supplier}, {@link Engagement} and {@link AnnexDecision} references of the
+ * valid rows are checked with one query per type and chunk of ids. The remaining rows are inserted by batches of
+ * {@code hibernate.jdbc.batch_size} purchase orders, each batch in a transaction of its own so that its inserts are sent
+ * as JDBC batches. A batch failing at flush or commit, on a database constraint, is rolled back and its purchase orders
+ * are inserted again one by one, so that only the failing ones are rejected. Rejected rows are reported and do not
+ * prevent the others from being imported. The purchase orders of a batch are recorded in the commitment ledgers, with one
+ * update per annex decision, and the totals of those having items are recomputed from them, in the transaction of the
+ * batch. The purchase orders and their items take the financial year of their annex decision.
+ */
+@Service
+public class PurchaseOrderImportService {
+
+    /**
+     * Columns of a CSV import. A record holds a purchase order and optionally one of its items: the consecutive records
+     * sharing the same {@code orderNumber} hold the items of the same purchase order, whose columns are read from the first
+     * of them.
+     */
+    public static final List<String> CSV_COLUMNS = List.of(
+        "nameOfTheMinistry",
+        "orderNumber",
+        "orderDate",
+        "totalAmountWithoutTax",
+        "taxRate",
+        "totalTaxAmount",
+        "prepaidTaxAmount",
+        "totalAmountWithTax",
+        "authExpenditureNumber",
+        "allocatedCredits",
+        "committedExpenditures",
+        "availableBalance",
+        "annexDecisionId",
+        "supplierId",
+        "engagementId",
+        "itemProductName",
+        "itemQuantity",
+        "itemUnitPrice",
+        "itemTotalAmount"
+    );
+
+    private static final Logger LOG = LoggerFactory.getLogger(PurchaseOrderImportService.class);
+
+    private static final int REFERENCE_CHUNK_SIZE = 1000;
+
+    private static final List<Reference<?>> REFERENCES = List.of(
+        new Reference<>(
+            "annexDecision",
+            AnnexDecision.class,
+            PurchaseOrder::getAnnexDecision,
+            PurchaseOrder::setAnnexDecision,
+            AnnexDecision::getId
+        ),
+        new Reference<>("supplier", Supplier.class, PurchaseOrder::getSupplier, PurchaseOrder::setSupplier, Supplier::getId),
+        new Reference<>("engagement", Engagement.class, PurchaseOrder::getEngagement, PurchaseOrder::setEngagement, Engagement::getId)
+    );
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final Validator validator;
+
+    private final CommitmentLedgerService commitmentLedgerService;
+
+    private final PurchaseOrderTotalsService purchaseOrderTotalsService;
+
+    private final FinancialYearPartitionService financialYearPartitionService;
+
+    private final int batchSize;
+
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    private final TransactionTemplate importTransactionTemplate;
+
+    public PurchaseOrderImportService(
+        PlatformTransactionManager transactionManager,
+        Validator validator,
+        CommitmentLedgerService commitmentLedgerService,
+        PurchaseOrderTotalsService purchaseOrderTotalsService,
+        FinancialYearPartitionService financialYearPartitionService,
+        @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:25}") int batchSize
+    ) {
+        this.validator = validator;
+        this.commitmentLedgerService = commitmentLedgerService;
+        this.purchaseOrderTotalsService = purchaseOrderTotalsService;
+        this.financialYearPartitionService = financialYearPartitionService;
+        this.batchSize = batchSize;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.importTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.importTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Import purchase orders, with their items.
+     *
+     * @param purchaseOrders the purchase orders to import, without ids.
+     * @return the outcome of the import.
+     */
+    public PurchaseOrderImportResultDTO importPurchaseOrders(List<PurchaseOrder> purchaseOrders) {
+        LOG.debug("Request to import {} PurchaseOrders", purchaseOrders.size());
+        int[] rows = new int[purchaseOrders.size()];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = i + 1;
+        }
+        PurchaseOrderImportResultDTO result = new PurchaseOrderImportResultDTO();
+        result.setReceived(purchaseOrders.size());
+        importRows(purchaseOrders, rows, result);
+        return result;
+    }
+
+    /**
+     * Import purchase orders, with their items, from CSV records with a header line naming some of the {@link #CSV_COLUMNS}.
+     *
+     * @param csv the CSV input.
+     * @return the outcome of the import.
+     * @throws IOException if the input could not be read.
+     */
+    public PurchaseOrderImportResultDTO importPurchaseOrders(Reader csv) throws IOException {
+        LOG.debug("Request to import PurchaseOrders from CSV");
+        PurchaseOrderImportResultDTO result = new PurchaseOrderImportResultDTO();
+        CsvRecordReader reader = new CsvRecordReader(csv);
+        List<String> header = reader.readRecord();
+        if (header == null) {
+            return result;
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String column = header.get(i).strip();
+            if (!CSV_COLUMNS.contains(column)) {
+                result.addError(reader.getRecordLine(), column, "unknown column");
+                return result;
+            }
+            columns.put(column, i);
+        }
+
+        List<PurchaseOrder> purchaseOrders = new ArrayList<>();
+        List<Integer> rows = new ArrayList<>();
+        CsvRow current = null;
+        List<String> record;
+        while ((record = reader.readRecord()) != null) {
+            CsvRow row = new CsvRow(record, columns, reader.getRecordLine(), result);
+            String orderNumber = row.string("orderNumber");
+            if (orderNumber == null) {
+                // the records of a purchase order are grouped by order number: a record without one belongs to none
+                result.setReceived(result.getReceived() + 1);
+                result.addError(row.line, "orderNumber", "must not be null");
+                continue;
+            }
+            if (current == null || !orderNumber.equals(current.purchaseOrder.getOrderNumber())) {
+                if (current != null && !current.rejected) {
+                    purchaseOrders.add(current.purchaseOrder);
+                    rows.add(current.line);
+                }
+                result.setReceived(result.getReceived() + 1);
+                row.readPurchaseOrder();
+                current = row;
+            }
+            row.readItem(current);
+        }
+        if (current != null && !current.rejected) {
+            purchaseOrders.add(current.purchaseOrder);
+            rows.add(current.line);
+        }
+        importRows(purchaseOrders, rows.stream().mapToInt(Integer::intValue).toArray(), result);
+        return result;
+    }
+
+    private void importRows(List<PurchaseOrder> purchaseOrders, int[] rows, PurchaseOrderImportResultDTO result) {
+        boolean[] rejected = new boolean[purchaseOrders.size()];
+        for (int i = 0; i < rejected.length; i++) {
+            rejected[i] = !validate(purchaseOrders.get(i), rows[i], result);
+        }
+        // read the financial years before the inserts start, so that they are not flushed in the middle of a batch
+        Map<Long, Long> financialYearIds = new HashMap<>();
+        readOnlyTransactionTemplate.executeWithoutResult(status -> {
+            for (Reference<?> reference : REFERENCES) {
+                checkReferences(reference, purchaseOrders, rows, rejected, result);
+            }
+            for (int i = 0; i < rejected.length; i++) {
+                AnnexDecision annexDecision = purchaseOrders.get(i).getAnnexDecision();
+                if (!rejected[i] && annexDecision != null && !financialYearIds.containsKey(annexDecision.getId())) {
+                    Long annexDecisionId = annexDecision.getId();
+                    financialYearIds.put(
+                        annexDecisionId,
+                        financialYearPartitionService.findFinancialYearIdOfAnnexDecision(annexDecisionId)
+                    );
+                }
+            }
+        });
+
+        List<Integer> valid = new ArrayList<>(rejected.length);
+        for (int i = 0; i < rejected.length; i++) {
+            if (!rejected[i]) {
+                valid.add(i);
+            }
+        }
+        for (int from = 0; from < valid.size(); from += batchSize) {
+            List<Integer> batch = valid.subList(from, Math.min(from + batchSize, valid.size()));
+            RuntimeException failure = insert(batch.stream().map(purchaseOrders::get).toList(), financialYearIds, result);
+            if (failure != null && batch.size() == 1) {
+                result.addError(rows[batch.get(0)], "purchaseOrder", failureMessage(failure));
+            } else if (failure != null) {
+                // insert the purchase orders of the batch one by one, to report the failing ones and keep the others
+                for (int i : batch) {
+                    RuntimeException rowFailure = insert(List.of(purchaseOrders.get(i)), financialYearIds, result);
+                    if (rowFailure != null) {
+                        result.addError(rows[i], "purchaseOrder", failureMessage(rowFailure));
+                    }
+                }
+            }
+        }
+        LOG.debug("Imported PurchaseOrders : {}", result);
+    }
+
+    /**
+     * Insert purchase orders, with their items, in a transaction of their own, and count them in the result once it has
+     * committed. The totals of those having items are recomputed, and the commitment ledgers updated, with one update per
+     * annex decision, in the same transaction.
+     *
+     * @return {@code null} if the purchase orders are inserted, the failure otherwise, none of them being inserted.
+     */
+    private RuntimeException insert(
+        List<PurchaseOrder> purchaseOrders,
+        Map<Long, Long> financialYearIds,
+        PurchaseOrderImportResultDTO result
+    ) {
+        try {
+            int importedItems = importTransactionTemplate.execute(status -> {
+                Session session = entityManager.unwrap(Session.class);
+                // imported rows are not read back: do not fill the second-level cache with them
+                session.setCacheMode(CacheMode.IGNORE);
+                int items = 0;
+                Map<Long, BigDecimal> committedAmounts = new HashMap<>();
+                Map<Long, Long> committedCounts = new HashMap<>();
+                for (PurchaseOrder purchaseOrder : purchaseOrders) {
+                    // ids and collection wrapper left by a rolled back attempt
+                    purchaseOrder.setId(null);
+                    purchaseOrder.setPurchaseOrderItems(new HashSet<>(purchaseOrder.getPurchaseOrderItems()));
+                    for (Reference<?> reference : REFERENCES) {
+                        reference.replaceByProxy(purchaseOrder, entityManager);
+                    }
+                    Commitment commitment = Commitment.of(purchaseOrder);
+                    purchaseOrder.setFinancialYearId(financialYearIds.get(commitment.annexDecisionId()));
+                    entityManager.persist(purchaseOrder);
+                    if (commitment.annexDecisionId() != null) {
+                        committedAmounts.merge(commitment.annexDecisionId(), commitment.amount(), BigDecimal::add);
+                        committedCounts.merge(commitment.annexDecisionId(), 1L, Long::sum);
+                    }
+                    for (PurchaseOrderItem purchaseOrderItem : purchaseOrder.getPurchaseOrderItems()) {
+                        purchaseOrderItem.setId(null);
+                        purchaseOrderItem.setFinancialYearId(purchaseOrder.getFinancialYearId());
+                        entityManager.persist(purchaseOrderItem);
+                        items++;
+                    }
+                    if (!purchaseOrder.getPurchaseOrderItems().isEmpty()) {
+                        purchaseOrderTotalsService.markItemsChanged(purchaseOrder.getId());
+                    }
+                }
+                entityManager.flush();
+                commitmentLedgerService.record(committedAmounts, committedCounts);
+                return items;
+            });
+            result.setImported(result.getImported() + purchaseOrders.size());
+            result.setImportedItems(result.getImportedItems() + importedItems);
+            return null;
+        } catch (PersistenceException | DataAccessException | TransactionException e) {
+            LOG.debug("Could not import {} PurchaseOrders: {}", purchaseOrders.size(), e.toString());
+            return e;
+        }
+    }
+
+    private static String failureMessage(RuntimeException failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return "violates constraint " + violation.getConstraintName();
+            }
+        }
+        return "could not be saved";
+    }
+
+    private boolean validate(PurchaseOrder purchaseOrder, int row, PurchaseOrderImportResultDTO result) {
+        boolean valid = true;
+        if (purchaseOrder.getId() != null) {
+            result.addError(row, "id", "A new purchaseOrder cannot already have an ID");
+            valid = false;
+        }
+        for (ConstraintViolation<PurchaseOrder> violation : validator.validate(purchaseOrder)) {
+            result.addError(row, violation.getPropertyPath().toString(), violation.getMessage());
+            valid = false;
+        }
+        for (PurchaseOrderItem purchaseOrderItem : purchaseOrder.getPurchaseOrderItems()) {
+            if (purchaseOrderItem.getId() != null) {
+                result.addError(row, "purchaseOrderItems.id", "A new purchaseOrderItem cannot already have an ID");
+                valid = false;
+            }
+            for (ConstraintViolation<PurchaseOrderItem> violation : validator.validate(purchaseOrderItem)) {
+                result.addError(row, "purchaseOrderItems." + violation.getPropertyPath(), violation.getMessage());
+                valid = false;
+            }
+        }
+        return valid;
+    }
+
+    private <T> void checkReferences(
+        Reference<T> reference,
+        List<PurchaseOrder> purchaseOrders,
+        int[] rows,
+        boolean[] rejected,
+        PurchaseOrderImportResultDTO result
+    ) {
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < rejected.length; i++) {
+            Long id = reference.id(purchaseOrders.get(i));
+            if (!rejected[i] && id != null) {
+                ids.add(id);
+            }
+        }
+        Set<Long> missing = findMissingIds(reference.type(), ids);
+        for (int i = 0; i < rejected.length; i++) {
+            PurchaseOrder purchaseOrder = purchaseOrders.get(i);
+            if (rejected[i] || reference.getter().apply(purchaseOrder) == null) {
+                continue;
+            }
+            Long id = reference.id(purchaseOrder);
+            if (id == null || missing.contains(id)) {
+                result.addError(rows[i], reference.field(), reference.type().getSimpleName() + " " + id + " not found");
+                rejected[i] = true;
+            }
+        }
+    }
+
+    private Set<Long> findMissingIds(Class<?> entityClass, Set<Long> ids) {
+        Set<Long> missing = new HashSet<>(ids);
+        List<Long> chunks = new ArrayList<>(ids);
+        for (int from = 0; from < chunks.size(); from += REFERENCE_CHUNK_SIZE) {
+            List<Long> chunk = chunks.subList(from, Math.min(from + REFERENCE_CHUNK_SIZE, chunks.size()));
+            entityManager
+                .createQuery("select entity.id from " + entityClass.getSimpleName() + " entity where entity.id in :ids", Long.class)
+                .setParameter("ids", chunk)
+                .getResultList()
+                .forEach(missing::remove);
+        }
+        return missing;
+    }
+
+    /**
+     * A to-one association of a purchase order which must reference an existing entity.
+     */
+    private record Reference<T>(
+        String field,
+        Class<T> type,
+        Function<PurchaseOrder, T> getter,
+        BiConsumer<PurchaseOrder, T> setter,
+        Function<T, Long> idGetter
+    ) {
+        Long id(PurchaseOrder purchaseOrder) {
+            T value = getter.apply(purchaseOrder);
+            return value == null ? null : idGetter.apply(value);
+        }
+
+        void replaceByProxy(PurchaseOrder purchaseOrder, EntityManager entityManager) {
+            Long id = id(purchaseOrder);
+            if (id != null) {
+                setter.accept(purchaseOrder, entityManager.getReference(type, id));
+            }
+        }
+    }
+
+    /**
+     * A CSV record being read into a purchase order and one of its items.
+     */
+    private static final class CsvRow {
+
+        private final List<String> record;
+
+        private final Map<String, Integer> columns;
+
+        private final int line;
+
+        private final PurchaseOrderImportResultDTO result;
+
+        private PurchaseOrder purchaseOrder;
+
+        private boolean rejected;
+
+        CsvRow(List<String> record, Map<String, Integer> columns, int line, PurchaseOrderImportResultDTO result) {
+            this.record = record;
+            this.columns = columns;
+            this.line = line;
+            this.result = result;
+        }
+
+        void readPurchaseOrder() {
+            purchaseOrder = new PurchaseOrder()
+                .nameOfTheMinistry(string("nameOfTheMinistry"))
+                .orderNumber(string("orderNumber"))
+                .orderDate(parse("orderDate", Instant::parse))
+                .totalAmountWithoutTax(parse("totalAmountWithoutTax", BigDecimal::new))
+                .taxRate(parse("taxRate", BigDecimal::new))
+                .totalTaxAmount(parse("totalTaxAmount", BigDecimal::new))
+                .prepaidTaxAmount(parse("prepaidTaxAmount", BigDecimal::new))
+                .totalAmountWithTax(parse("totalAmountWithTax", BigDecimal::new))
+                .authExpenditureNumber(string("authExpenditureNumber"))
+                .allocatedCredits(parse("allocatedCredits", BigDecimal::new))
+                .committedExpenditures(parse("committedExpenditures", BigDecimal::new))
+                .availableBalance(parse("availableBalance", BigDecimal::new));
+            Long annexDecisionId = parse("annexDecisionId", Long::valueOf);
+            if (annexDecisionId != null) {
+                purchaseOrder.setAnnexDecision(new AnnexDecision().id(annexDecisionId));
+            }
+            Long supplierId = parse("supplierId", Long::valueOf);
+            if (supplierId != null) {
+                purchaseOrder.setSupplier(new Supplier().id(supplierId));
+            }
+            Long engagementId = parse("engagementId", Long::valueOf);
+            if (engagementId != null) {
+                purchaseOrder.setEngagement(new Engagement().id(engagementId));
+            }
+        }
+
+        void readItem(CsvRow order) {
+            String productName = string("itemProductName");
+            Integer quantity = parse("itemQuantity", Integer::valueOf);
+            BigDecimal unitPrice = parse("itemUnitPrice", BigDecimal::new);
+            BigDecimal totalAmount = parse("itemTotalAmount", BigDecimal::new);
+            if (rejected) {
+                order.rejected = true;
+            }
+            if (productName != null || quantity != null || unitPrice != null || totalAmount != null) {
+                order.purchaseOrder.addPurchaseOrderItem(
+                    new PurchaseOrderItem().productName(productName).quantity(quantity).unitPrice(unitPrice).totalAmount(totalAmount)
+                );
+            }
+        }
+
+        String string(String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= record.size() || record.get(index).isEmpty()) {
+                return null;
+            }
+            return record.get(index);
+        }
+
+        <T> T parse(String column, Function<String, T> parser) {
+            String value = string(column);
+            if (value == null) {
+                return null;
+            }
+            try {
+                return parser.apply(value.strip());
+            } catch (NumberFormatException | DateTimeParseException e) {
+                result.addError(line, column, "invalid value '" + value + "'");
+                rejected = true;
+                return null;
+            }
+        }
+    }
+}
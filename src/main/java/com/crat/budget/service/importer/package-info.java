@@ -0,0 +1,4 @@
+/**
+ * Bulk import of entities.
+ */
+package com.crat.budget.service.importer;
@@ -0,0 +1,201 @@
+package com.crat.budget.service.projection;
+
+import com.crat.budget.service.InvalidFieldException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import java.beans.Introspector;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reads the entities matching a {@link Specification} as read-only rows of {@link ProjectionColumn}s instead of managed
+ * entities.
+ * <p>
+ * Only the columns are selected, as tuples: no entity is instantiated, put in the persistence context nor snapshotted
+ * for dirty checking, and the to-one associations are read from their foreign keys. The list endpoints return these
+ * rows when the {@code fields} request parameter is present, the exports write them.
+ */
+@Component
+public class EntityProjector {
+
+    public static final String ALL_FIELDS = "*";
+
+    private static final String FIELD_SEPARATOR = ",";
+
+    private static final String ID = "id";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Select the columns named by the {@code fields} request parameter.
+     *
+     * @param columns the columns of the entity.
+     * @param fields the comma-separated names of the columns, all of them if blank or {@value #ALL_FIELDS}.
+     * @param entityClass the class of the entity.
+     * @param <E> the projected entity type.
+     * @return the selected columns, in the requested order.
+     * @throws InvalidFieldException if a name is not a column of the entity.
+     */
+    public static <E> List<ProjectionColumn<E>> select(List<ProjectionColumn<E>> columns, String fields, Class<E> entityClass) {
+        if (fields == null || fields.isBlank() || ALL_FIELDS.equals(fields.trim())) {
+            return columns;
+        }
+        List<ProjectionColumn<E>> selected = new ArrayList<>();
+        for (String field : fields.split(FIELD_SEPARATOR)) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            selected.add(
+                columns
+                    .stream()
+                    .filter(column -> column.name().equals(name))
+                    .findFirst()
+                    .orElseThrow(() -> new InvalidFieldException(Introspector.decapitalize(entityClass.getSimpleName()), name))
+            );
+        }
+        return selected;
+    }
+
+    /**
+     * Return a {@link Page} of the rows matching the specification, counted only when the page is not the last one.
+     *
+     * @param entityClass the class of the entity.
+     * @param specification the filters the rows must match.
+     * @param columns the columns of the rows.
+     * @param pageable the page, which should be returned.
+     * @param <E> the projected entity type.
+     * @return the matching rows, each of them mapping the column names to their values.
+     */
+    public <E> Page<Map<String, Object>> findPage(
+        Class<E> entityClass,
+        Specification<E> specification,
+        List<ProjectionColumn<E>> columns,
+        Pageable pageable
+    ) {
+        List<Map<String, Object>> content = toRows(createQuery(entityClass, specification, columns, pageable, 0).getResultList(), columns);
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(entityClass, specification));
+    }
+
+    /**
+     * Return a {@link Slice} of the rows matching the specification, without counting them.
+     *
+     * @param entityClass the class of the entity.
+     * @param specification the filters the rows must match.
+     * @param columns the columns of the rows.
+     * @param pageable the page, which should be returned.
+     * @param <E> the projected entity type.
+     * @return the matching rows, each of them mapping the column names to their values.
+     */
+    public <E> Slice<Map<String, Object>> findSlice(
+        Class<E> entityClass,
+        Specification<E> specification,
+        List<ProjectionColumn<E>> columns,
+        Pageable pageable
+    ) {
+        List<Tuple> tuples = createQuery(entityClass, specification, columns, pageable, 1).getResultList();
+        boolean hasNext = pageable.isPaged() && tuples.size() > pageable.getPageSize();
+        List<Map<String, Object>> content = toRows(hasNext ? tuples.subList(0, pageable.getPageSize()) : tuples, columns);
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    /**
+     * Create the query selecting the columns of the entities matching the specification.
+     *
+     * @param entityClass the class of the entity.
+     * @param specification the filters the rows must match.
+     * @param columns the selected columns, the first tuple elements.
+     * @param sort the order of the rows.
+     * @param <E> the projected entity type.
+     * @return the query, which the caller may scroll or page.
+     */
+    public <E> TypedQuery<Tuple> createQuery(
+        Class<E> entityClass,
+        Specification<E> specification,
+        List<ProjectionColumn<E>> columns,
+        Sort sort
+    ) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<E> root = query.from(entityClass);
+        Predicate predicate = specification.toPredicate(root, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        List<Order> orders = QueryUtils.toOrders(sort, root, builder);
+        List<Selection<?>> selections = new ArrayList<>(columns.size() + orders.size() + 1);
+        columns.forEach(column -> selections.add(column.expression().apply(root)));
+        if (query.isDistinct()) {
+            // the rows of distinct entities having the same values must not be merged, and the order must be selected
+            selections.add(root.get(ID));
+            orders.forEach(order -> selections.add(order.getExpression()));
+        }
+        query.multiselect(selections).orderBy(orders);
+        return entityManager.createQuery(query);
+    }
+
+    private <E> TypedQuery<Tuple> createQuery(
+        Class<E> entityClass,
+        Specification<E> specification,
+        List<ProjectionColumn<E>> columns,
+        Pageable pageable,
+        int extraRows
+    ) {
+        TypedQuery<Tuple> query = createQuery(entityClass, specification, columns, pageable.getSort());
+        if (pageable.isPaged()) {
+            query.setFirstResult(Math.toIntExact(pageable.getOffset())).setMaxResults(pageable.getPageSize() + extraRows);
+        }
+        return query;
+    }
+
+    private <E> long count(Class<E> entityClass, Specification<E> specification) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = builder.createQuery(Long.class);
+        Root<E> root = query.from(entityClass);
+        Predicate predicate = specification.toPredicate(root, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(query.isDistinct() ? builder.countDistinct(root) : builder.count(root));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static <E> List<Map<String, Object>> toRows(List<Tuple> tuples, List<ProjectionColumn<E>> columns) {
+        List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            rows.add(toRow(tuple, columns));
+        }
+        return rows;
+    }
+
+    /**
+     * The row of a tuple selected by {@link #createQuery(Class, Specification, List, Sort)}.
+     */
+    public static <E> Map<String, Object> toRow(Tuple tuple, List<ProjectionColumn<E>> columns) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            row.put(columns.get(i).name(), tuple.get(i));
+        }
+        return row;
+    }
+}
@@ -0,0 +1,33 @@
+package com.crat.budget.service.projection;
+
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.metamodel.SingularAttribute;
+import java.util.function.Function;
+
+/**
+ * A column of the rows projected from an entity: its name, the field of the rows and the header of the exports, and
+ * the expression selecting its value, so that only the columns are read instead of the entity.
+ *
+ * @param <E> the projected entity type.
+ */
+public record ProjectionColumn<E>(String name, Function<Path<E>, Expression<?>> expression) {
+    /**
+     * Column of an attribute of the entity.
+     */
+    public static <E> ProjectionColumn<E> of(String name, SingularAttribute<? super E, ?> attribute) {
+        return new ProjectionColumn<>(name, path -> path.get(attribute));
+    }
+
+    /**
+     * Column of an attribute of a to-one association, the identifier of which is read from the foreign key, without a
+     * join.
+     */
+    public static <E, A> ProjectionColumn<E> of(
+        String name,
+        SingularAttribute<? super E, A> association,
+        SingularAttribute<? super A, ?> attribute
+    ) {
+        return new ProjectionColumn<>(name, path -> path.get(association).get(attribute));
+    }
+}
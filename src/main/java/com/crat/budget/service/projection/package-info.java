@@ -0,0 +1,4 @@
+/**
+ * Read-only projections of entities, selected as rows of columns.
+ */
+package com.crat.budget.service.projection;
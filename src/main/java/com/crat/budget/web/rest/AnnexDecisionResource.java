@@ -6,6 +6,8 @@ import com.crat.budget.service.AnnexDecisionQueryService;
 import com.crat.budget.service.AnnexDecisionService;
 import com.crat.budget.service.criteria.AnnexDecisionCriteria;
 import com.crat.budget.web.rest.errors.BadRequestAlertException;
+import com.crat.budget.web.rest.util.KeysetPaginationUtil;
+import com.crat.budget.web.rest.util.SlicePaginationUtil;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
@@ -14,8 +16,11 @@ import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -147,15 +152,44 @@ public class AnnexDecisionResource {
      *
      * @param pageable the pagination information.
      * @param criteria the criteria which the requested entities should match.
+     * @param cursor the keyset cursor, switches to keyset pagination when present (empty for the first window).
+     * @param total {@code approximate} or {@code none} to skip the count query and send a cached total or no total.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of annexDecisions in body.
      */
     @GetMapping("")
     public ResponseEntity<List<AnnexDecision>> getAllAnnexDecisions(
         AnnexDecisionCriteria criteria,
-        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(name = KeysetPaginationUtil.CURSOR_PARAMETER, required = false) String cursor,
+        @RequestParam(name = SlicePaginationUtil.TOTAL_PARAMETER, required = false) String total
     ) {
         LOG.debug("REST request to get AnnexDecisions by criteria: {}", criteria);
 
+        if (cursor != null) {
+            KeysetScrollPosition position = KeysetPaginationUtil.parseCursor(
+                cursor,
+                pageable.getSort(),
+                AnnexDecision.class,
+                ENTITY_NAME
+            );
+            Window<AnnexDecision> window = annexDecisionQueryService.findByCriteria(criteria, position, pageable);
+            HttpHeaders headers = KeysetPaginationUtil.generateKeysetHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), window);
+            return ResponseEntity.ok().headers(headers).body(window.getContent());
+        }
+
+        if (SlicePaginationUtil.isSliceRequested(total)) {
+            Slice<AnnexDecision> slice = annexDecisionQueryService.findSliceByCriteria(criteria, pageable);
+            Long approximateTotal = SlicePaginationUtil.isApproximateTotalRequested(total)
+                ? annexDecisionQueryService.approximateCountByCriteria(criteria)
+                : null;
+            HttpHeaders headers = SlicePaginationUtil.generateSliceHttpHeaders(
+                ServletUriComponentsBuilder.fromCurrentRequest(),
+                slice,
+                approximateTotal
+            );
+            return ResponseEntity.ok().headers(headers).body(slice.getContent());
+        }
+
         Page<AnnexDecision> page = annexDecisionQueryService.findByCriteria(criteria, pageable);
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
         return ResponseEntity.ok().headers(headers).body(page.getContent());
@@ -3,8 +3,12 @@ package com.crat.budget.web.rest;
 import static com.crat.budget.security.SecurityUtils.AUTHORITIES_KEY;
 import static com.crat.budget.security.SecurityUtils.JWT_ALGORITHM;
 
+import com.crat.budget.management.SecurityMetersService;
+import com.crat.budget.security.LoginRateLimiter;
+import com.crat.budget.web.rest.errors.TooManyRequestsException;
 import com.crat.budget.web.rest.vm.LoginVM;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.security.Principal;
 import java.time.Instant;
@@ -47,19 +51,37 @@ public class AuthenticateController {
 
     private final AuthenticationManagerBuilder authenticationManagerBuilder;
 
-    public AuthenticateController(JwtEncoder jwtEncoder, AuthenticationManagerBuilder authenticationManagerBuilder) {
+    private final SecurityMetersService metersService;
+
+    private final LoginRateLimiter loginRateLimiter;
+
+    public AuthenticateController(
+        JwtEncoder jwtEncoder,
+        AuthenticationManagerBuilder authenticationManagerBuilder,
+        SecurityMetersService metersService,
+        LoginRateLimiter loginRateLimiter
+    ) {
         this.jwtEncoder = jwtEncoder;
         this.authenticationManagerBuilder = authenticationManagerBuilder;
+        this.metersService = metersService;
+        this.loginRateLimiter = loginRateLimiter;
     }
 
     @PostMapping("/authenticate")
-    public ResponseEntity<JWTToken> authorize(@Valid @RequestBody LoginVM loginVM) {
+    public ResponseEntity<JWTToken> authorize(@Valid @RequestBody LoginVM loginVM, HttpServletRequest request) {
+        // before the password is hashed, for the rejected attempts to cost nothing
+        long retryAfterSeconds = loginRateLimiter.tryAcquire(loginVM.getUsername(), request.getRemoteAddr());
+        if (retryAfterSeconds > 0) {
+            throw new TooManyRequestsException(retryAfterSeconds);
+        }
         UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
             loginVM.getUsername(),
             loginVM.getPassword()
         );
 
-        Authentication authentication = authenticationManagerBuilder.getObject().authenticate(authenticationToken);
+        Authentication authentication = metersService.trackLogin(() ->
+            authenticationManagerBuilder.getObject().authenticate(authenticationToken)
+        );
         SecurityContextHolder.getContext().setAuthentication(authentication);
         String jwt = this.createToken(authentication, loginVM.isRememberMe());
         HttpHeaders httpHeaders = new HttpHeaders();
@@ -80,7 +102,13 @@ public class AuthenticateController {
     }
 
     public String createToken(Authentication authentication, boolean rememberMe) {
-        String authorities = authentication.getAuthorities().stream().map(GrantedAuthority::getAuthority).collect(Collectors.joining(" "));
+        // sorted, for the tokens of all the users having the same authorities to share the same claim
+        String authorities = authentication
+            .getAuthorities()
+            .stream()
+            .map(GrantedAuthority::getAuthority)
+            .sorted()
+            .collect(Collectors.joining(" "));
 
         Instant now = Instant.now();
         Instant validity;
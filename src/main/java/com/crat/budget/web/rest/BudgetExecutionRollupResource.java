@@ -0,0 +1,44 @@
+package com.crat.budget.web.rest;
+
+import com.crat.budget.service.BudgetExecutionRollupService;
+import com.crat.budget.service.dto.BudgetExecutionRollupDTO;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for reading the budget execution rollups.
+ */
+@RestController
+@RequestMapping("/api/budget-execution-rollups")
+public class BudgetExecutionRollupResource {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BudgetExecutionRollupResource.class);
+
+    private final BudgetExecutionRollupService budgetExecutionRollupService;
+
+    public BudgetExecutionRollupResource(BudgetExecutionRollupService budgetExecutionRollupService) {
+        this.budgetExecutionRollupService = budgetExecutionRollupService;
+    }
+
+    /**
+     * {@code GET  /budget-execution-rollups} : get the recipe and expense totals of the budget, sub-titles, chapters and articles.
+     *
+     * @param financialYear the financial year to restrict the rollups to.
+     * @param level the level of the hierarchy to restrict the rollups to.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of rollups in body.
+     */
+    @GetMapping("")
+    public ResponseEntity<List<BudgetExecutionRollupDTO>> getBudgetExecutionRollups(
+        @RequestParam(name = "financialYear", required = false) Integer financialYear,
+        @RequestParam(name = "level", required = false) BudgetExecutionRollupDTO.Level level
+    ) {
+        LOG.debug("REST request to get BudgetExecutionRollups for financial year : {}, level : {}", financialYear, level);
+        return ResponseEntity.ok().body(budgetExecutionRollupService.findRollups(financialYear, level));
+    }
+}
@@ -6,6 +6,8 @@ import com.crat.budget.service.ChapterQueryService;
 import com.crat.budget.service.ChapterService;
 import com.crat.budget.service.criteria.ChapterCriteria;
 import com.crat.budget.web.rest.errors.BadRequestAlertException;
+import com.crat.budget.web.rest.util.KeysetPaginationUtil;
+import com.crat.budget.web.rest.util.SlicePaginationUtil;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import java.net.URI;
@@ -16,8 +18,11 @@ import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -145,15 +150,44 @@ public class ChapterResource {
      *
      * @param pageable the pagination information.
      * @param criteria the criteria which the requested entities should match.
+     * @param cursor the keyset cursor, switches to keyset pagination when present (empty for the first window).
+     * @param total {@code approximate} or {@code none} to skip the count query and send a cached total or no total.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of chapters in body.
      */
     @GetMapping("")
     public ResponseEntity<List<Chapter>> getAllChapters(
         ChapterCriteria criteria,
-        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(name = KeysetPaginationUtil.CURSOR_PARAMETER, required = false) String cursor,
+        @RequestParam(name = SlicePaginationUtil.TOTAL_PARAMETER, required = false) String total
     ) {
         LOG.debug("REST request to get Chapters by criteria: {}", criteria);
 
+        if (cursor != null) {
+            KeysetScrollPosition position = KeysetPaginationUtil.parseCursor(
+                cursor,
+                pageable.getSort(),
+                Chapter.class,
+                ENTITY_NAME
+            );
+            Window<Chapter> window = chapterQueryService.findByCriteria(criteria, position, pageable);
+            HttpHeaders headers = KeysetPaginationUtil.generateKeysetHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), window);
+            return ResponseEntity.ok().headers(headers).body(window.getContent());
+        }
+
+        if (SlicePaginationUtil.isSliceRequested(total)) {
+            Slice<Chapter> slice = chapterQueryService.findSliceByCriteria(criteria, pageable);
+            Long approximateTotal = SlicePaginationUtil.isApproximateTotalRequested(total)
+                ? chapterQueryService.approximateCountByCriteria(criteria)
+                : null;
+            HttpHeaders headers = SlicePaginationUtil.generateSliceHttpHeaders(
+                ServletUriComponentsBuilder.fromCurrentRequest(),
+                slice,
+                approximateTotal
+            );
+            return ResponseEntity.ok().headers(headers).body(slice.getContent());
+        }
+
         Page<Chapter> page = chapterQueryService.findByCriteria(criteria, pageable);
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
         return ResponseEntity.ok().headers(headers).body(page.getContent());
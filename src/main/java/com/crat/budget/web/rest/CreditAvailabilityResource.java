@@ -0,0 +1,57 @@
+package com.crat.budget.web.rest;
+
+import com.crat.budget.service.CreditAvailabilityService;
+import com.crat.budget.service.dto.CreditAvailabilityDTO;
+import java.math.BigDecimal;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import tech.jhipster.web.util.ResponseUtil;
+
+/**
+ * REST controller for reading the credits available on the annex decisions.
+ */
+@RestController
+@RequestMapping("/api/credit-availabilities")
+public class CreditAvailabilityResource {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CreditAvailabilityResource.class);
+
+    private final CreditAvailabilityService creditAvailabilityService;
+
+    public CreditAvailabilityResource(CreditAvailabilityService creditAvailabilityService) {
+        this.creditAvailabilityService = creditAvailabilityService;
+    }
+
+    /**
+     * {@code GET  /credit-availabilities/annex-decisions} : get the annex decisions with less credits available than a threshold.
+     *
+     * @param availableLessThan the exclusive upper bound of the available credits.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of credit availabilities in body.
+     */
+    @GetMapping("/annex-decisions")
+    public ResponseEntity<List<CreditAvailabilityDTO>> getAnnexDecisionCreditAvailabilities(
+        @RequestParam(name = "availableLessThan") BigDecimal availableLessThan
+    ) {
+        LOG.debug("REST request to get the AnnexDecisions with less than {} credits available", availableLessThan);
+        return ResponseEntity.ok().body(creditAvailabilityService.findAnnexDecisionCreditAvailabilitiesBelow(availableLessThan));
+    }
+
+    /**
+     * {@code GET  /credit-availabilities/annex-decisions/:id} : get the credits of the "id" annexDecision.
+     *
+     * @param id the id of the annexDecision.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the credit availability, or with status {@code 404 (Not Found)}.
+     */
+    @GetMapping("/annex-decisions/{id}")
+    public ResponseEntity<CreditAvailabilityDTO> getAnnexDecisionCreditAvailability(@PathVariable("id") Long id) {
+        LOG.debug("REST request to get the credit availability of AnnexDecision : {}", id);
+        return ResponseUtil.wrapOrNotFound(creditAvailabilityService.findAnnexDecisionCreditAvailability(id));
+    }
+}
@@ -5,19 +5,29 @@ import com.crat.budget.repository.PurchaseOrderItemRepository;
 import com.crat.budget.service.PurchaseOrderItemQueryService;
 import com.crat.budget.service.PurchaseOrderItemService;
 import com.crat.budget.service.criteria.PurchaseOrderItemCriteria;
+import com.crat.budget.service.export.ExportFormat;
 import com.crat.budget.web.rest.errors.BadRequestAlertException;
+import com.crat.budget.web.rest.util.ExportUtil;
+import com.crat.budget.web.rest.util.KeysetPaginationUtil;
+import com.crat.budget.web.rest.util.SlicePaginationUtil;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -150,20 +160,90 @@ public class PurchaseOrderItemResource {
      *
      * @param pageable the pagination information.
      * @param criteria the criteria which the requested entities should match.
+     * @param cursor the keyset cursor, switches to keyset pagination when present (empty for the first window).
+     * @param total {@code approximate} or {@code none} to skip the count query and send a cached total or no total.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of purchaseOrderItems in body.
      */
     @GetMapping("")
     public ResponseEntity<List<PurchaseOrderItem>> getAllPurchaseOrderItems(
         PurchaseOrderItemCriteria criteria,
-        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(name = KeysetPaginationUtil.CURSOR_PARAMETER, required = false) String cursor,
+        @RequestParam(name = SlicePaginationUtil.TOTAL_PARAMETER, required = false) String total
     ) {
         LOG.debug("REST request to get PurchaseOrderItems by criteria: {}", criteria);
 
+        if (cursor != null) {
+            KeysetScrollPosition position = KeysetPaginationUtil.parseCursor(
+                cursor,
+                pageable.getSort(),
+                PurchaseOrderItem.class,
+                ENTITY_NAME
+            );
+            Window<PurchaseOrderItem> window = purchaseOrderItemQueryService.findByCriteria(criteria, position, pageable);
+            HttpHeaders headers = KeysetPaginationUtil.generateKeysetHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), window);
+            return ResponseEntity.ok().headers(headers).body(window.getContent());
+        }
+
+        if (SlicePaginationUtil.isSliceRequested(total)) {
+            Slice<PurchaseOrderItem> slice = purchaseOrderItemQueryService.findSliceByCriteria(criteria, pageable);
+            Long approximateTotal = SlicePaginationUtil.isApproximateTotalRequested(total)
+                ? purchaseOrderItemQueryService.approximateCountByCriteria(criteria)
+                : null;
+            HttpHeaders headers = SlicePaginationUtil.generateSliceHttpHeaders(
+                ServletUriComponentsBuilder.fromCurrentRequest(),
+                slice,
+                approximateTotal
+            );
+            return ResponseEntity.ok().headers(headers).body(slice.getContent());
+        }
+
         Page<PurchaseOrderItem> page = purchaseOrderItemQueryService.findByCriteria(criteria, pageable);
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
         return ResponseEntity.ok().headers(headers).body(page.getContent());
     }
 
+    /**
+     * {@code GET  /purchase-order-items?fields=} : get the requested fields of all the purchaseOrderItems, as read-only rows.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
+     * @param fields the comma-separated names of the fields of the rows, all of them if empty.
+     * @param cursor rejected, the rows cannot be read by keyset pagination.
+     * @param total {@code approximate} or {@code none} to skip the count query and send a cached total or no total.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of rows in body.
+     */
+    @GetMapping(value = "", params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> getAllPurchaseOrderItemRows(
+        PurchaseOrderItemCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(name = "fields") String fields,
+        @RequestParam(name = KeysetPaginationUtil.CURSOR_PARAMETER, required = false) String cursor,
+        @RequestParam(name = SlicePaginationUtil.TOTAL_PARAMETER, required = false) String total
+    ) {
+        LOG.debug("REST request to get the {} fields of PurchaseOrderItems by criteria: {}", fields, criteria);
+        if (cursor != null) {
+            throw new BadRequestAlertException("Keyset pagination is not supported with fields", ENTITY_NAME, "cursorinvalid");
+        }
+
+        if (SlicePaginationUtil.isSliceRequested(total)) {
+            Slice<Map<String, Object>> slice = purchaseOrderItemQueryService.findRowSliceByCriteria(criteria, fields, pageable);
+            Long approximateTotal = SlicePaginationUtil.isApproximateTotalRequested(total)
+                ? purchaseOrderItemQueryService.approximateCountByCriteria(criteria)
+                : null;
+            HttpHeaders headers = SlicePaginationUtil.generateSliceHttpHeaders(
+                ServletUriComponentsBuilder.fromCurrentRequest(),
+                slice,
+                approximateTotal
+            );
+            return ResponseEntity.ok().headers(headers).body(slice.getContent());
+        }
+
+        Page<Map<String, Object>> page = purchaseOrderItemQueryService.findRowsByCriteria(criteria, fields, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
     /**
      * {@code GET  /purchase-order-items/count} : count all the purchaseOrderItems.
      *
@@ -176,6 +256,26 @@ public class PurchaseOrderItemResource {
         return ResponseEntity.ok().body(purchaseOrderItemQueryService.countByCriteria(criteria));
     }
 
+    /**
+     * {@code GET  /purchase-order-items/export} : stream all the purchaseOrderItems matching the criteria, ordered by id.
+     *
+     * @param criteria the criteria which the exported entities should match.
+     * @param format the format of the export, {@code csv} or {@code ndjson}.
+     * @param response the response the purchaseOrderItems are streamed to.
+     * @throws IOException if the purchaseOrderItems could not be written.
+     */
+    @GetMapping("/export")
+    public void exportPurchaseOrderItems(
+        PurchaseOrderItemCriteria criteria,
+        @RequestParam(name = ExportUtil.FORMAT_PARAMETER, defaultValue = ExportUtil.DEFAULT_FORMAT) String format,
+        HttpServletResponse response
+    ) throws IOException {
+        LOG.debug("REST request to export PurchaseOrderItems by criteria: {}, format: {}", criteria, format);
+        ExportFormat exportFormat = ExportUtil.parseFormat(format, ENTITY_NAME);
+        ExportUtil.prepareExportResponse(response, exportFormat, "purchaseOrderItems");
+        purchaseOrderItemQueryService.exportByCriteria(criteria, exportFormat, response.getOutputStream());
+    }
+
     /**
      * {@code GET  /purchase-order-items/:id} : get the "id" purchaseOrderItem.
      *
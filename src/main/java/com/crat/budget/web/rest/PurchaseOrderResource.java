@@ -5,20 +5,34 @@ import com.crat.budget.repository.PurchaseOrderRepository;
 import com.crat.budget.service.PurchaseOrderQueryService;
 import com.crat.budget.service.PurchaseOrderService;
 import com.crat.budget.service.criteria.PurchaseOrderCriteria;
+import com.crat.budget.service.dto.PurchaseOrderImportResultDTO;
+import com.crat.budget.service.export.ExportFormat;
+import com.crat.budget.service.importer.PurchaseOrderImportService;
 import com.crat.budget.web.rest.errors.BadRequestAlertException;
+import com.crat.budget.web.rest.util.ExportUtil;
+import com.crat.budget.web.rest.util.KeysetPaginationUtil;
+import com.crat.budget.web.rest.util.SlicePaginationUtil;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
+import java.io.Reader;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
@@ -46,14 +60,18 @@ public class PurchaseOrderResource {
 
     private final PurchaseOrderQueryService purchaseOrderQueryService;
 
+    private final PurchaseOrderImportService purchaseOrderImportService;
+
     public PurchaseOrderResource(
         PurchaseOrderService purchaseOrderService,
         PurchaseOrderRepository purchaseOrderRepository,
-        PurchaseOrderQueryService purchaseOrderQueryService
+        PurchaseOrderQueryService purchaseOrderQueryService,
+        PurchaseOrderImportService purchaseOrderImportService
     ) {
         this.purchaseOrderService = purchaseOrderService;
         this.purchaseOrderRepository = purchaseOrderRepository;
         this.purchaseOrderQueryService = purchaseOrderQueryService;
+        this.purchaseOrderImportService = purchaseOrderImportService;
     }
 
     /**
@@ -75,6 +93,37 @@ public class PurchaseOrderResource {
             .body(purchaseOrder);
     }
 
+    /**
+     * {@code POST  /purchase-orders/import} : Import purchase orders, with their items, from a JSON array.
+     *
+     * @param purchaseOrders the purchaseOrders to import.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the outcome of the import, listing the rejected rows.
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<PurchaseOrderImportResultDTO> importPurchaseOrders(@RequestBody List<PurchaseOrder> purchaseOrders) {
+        LOG.debug("REST request to import {} PurchaseOrders", purchaseOrders.size());
+        return importResponse(purchaseOrderImportService.importPurchaseOrders(purchaseOrders));
+    }
+
+    /**
+     * {@code POST  /purchase-orders/import} : Import purchase orders, with their items, from CSV records.
+     *
+     * @param csv the CSV body, see {@link PurchaseOrderImportService#CSV_COLUMNS} for its columns.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the outcome of the import, listing the rejected rows.
+     * @throws IOException if the body could not be read.
+     */
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<PurchaseOrderImportResultDTO> importPurchaseOrdersCsv(Reader csv) throws IOException {
+        LOG.debug("REST request to import PurchaseOrders from CSV");
+        return importResponse(purchaseOrderImportService.importPurchaseOrders(csv));
+    }
+
+    private ResponseEntity<PurchaseOrderImportResultDTO> importResponse(PurchaseOrderImportResultDTO result) {
+        String message = applicationName + "." + ENTITY_NAME + ".imported";
+        HttpHeaders headers = HeaderUtil.createAlert(applicationName, message, String.valueOf(result.getImported()));
+        return ResponseEntity.ok().headers(headers).body(result);
+    }
+
     /**
      * {@code PUT  /purchase-orders/:id} : Updates an existing purchaseOrder.
      *
@@ -149,20 +198,90 @@ public class PurchaseOrderResource {
      *
      * @param pageable the pagination information.
      * @param criteria the criteria which the requested entities should match.
+     * @param cursor the keyset cursor, switches to keyset pagination when present (empty for the first window).
+     * @param total {@code approximate} or {@code none} to skip the count query and send a cached total or no total.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of purchaseOrders in body.
      */
     @GetMapping("")
     public ResponseEntity<List<PurchaseOrder>> getAllPurchaseOrders(
         PurchaseOrderCriteria criteria,
-        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(name = KeysetPaginationUtil.CURSOR_PARAMETER, required = false) String cursor,
+        @RequestParam(name = SlicePaginationUtil.TOTAL_PARAMETER, required = false) String total
     ) {
         LOG.debug("REST request to get PurchaseOrders by criteria: {}", criteria);
 
+        if (cursor != null) {
+            KeysetScrollPosition position = KeysetPaginationUtil.parseCursor(
+                cursor,
+                pageable.getSort(),
+                PurchaseOrder.class,
+                ENTITY_NAME
+            );
+            Window<PurchaseOrder> window = purchaseOrderQueryService.findByCriteria(criteria, position, pageable);
+            HttpHeaders headers = KeysetPaginationUtil.generateKeysetHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), window);
+            return ResponseEntity.ok().headers(headers).body(window.getContent());
+        }
+
+        if (SlicePaginationUtil.isSliceRequested(total)) {
+            Slice<PurchaseOrder> slice = purchaseOrderQueryService.findSliceByCriteria(criteria, pageable);
+            Long approximateTotal = SlicePaginationUtil.isApproximateTotalRequested(total)
+                ? purchaseOrderQueryService.approximateCountByCriteria(criteria)
+                : null;
+            HttpHeaders headers = SlicePaginationUtil.generateSliceHttpHeaders(
+                ServletUriComponentsBuilder.fromCurrentRequest(),
+                slice,
+                approximateTotal
+            );
+            return ResponseEntity.ok().headers(headers).body(slice.getContent());
+        }
+
         Page<PurchaseOrder> page = purchaseOrderQueryService.findByCriteria(criteria, pageable);
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
         return ResponseEntity.ok().headers(headers).body(page.getContent());
     }
 
+    /**
+     * {@code GET  /purchase-orders?fields=} : get the requested fields of all the purchaseOrders, as read-only rows.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
+     * @param fields the comma-separated names of the fields of the rows, all of them if empty.
+     * @param cursor rejected, the rows cannot be read by keyset pagination.
+     * @param total {@code approximate} or {@code none} to skip the count query and send a cached total or no total.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of rows in body.
+     */
+    @GetMapping(value = "", params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> getAllPurchaseOrderRows(
+        PurchaseOrderCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(name = "fields") String fields,
+        @RequestParam(name = KeysetPaginationUtil.CURSOR_PARAMETER, required = false) String cursor,
+        @RequestParam(name = SlicePaginationUtil.TOTAL_PARAMETER, required = false) String total
+    ) {
+        LOG.debug("REST request to get the {} fields of PurchaseOrders by criteria: {}", fields, criteria);
+        if (cursor != null) {
+            throw new BadRequestAlertException("Keyset pagination is not supported with fields", ENTITY_NAME, "cursorinvalid");
+        }
+
+        if (SlicePaginationUtil.isSliceRequested(total)) {
+            Slice<Map<String, Object>> slice = purchaseOrderQueryService.findRowSliceByCriteria(criteria, fields, pageable);
+            Long approximateTotal = SlicePaginationUtil.isApproximateTotalRequested(total)
+                ? purchaseOrderQueryService.approximateCountByCriteria(criteria)
+                : null;
+            HttpHeaders headers = SlicePaginationUtil.generateSliceHttpHeaders(
+                ServletUriComponentsBuilder.fromCurrentRequest(),
+                slice,
+                approximateTotal
+            );
+            return ResponseEntity.ok().headers(headers).body(slice.getContent());
+        }
+
+        Page<Map<String, Object>> page = purchaseOrderQueryService.findRowsByCriteria(criteria, fields, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
     /**
      * {@code GET  /purchase-orders/count} : count all the purchaseOrders.
      *
@@ -175,6 +294,26 @@ public class PurchaseOrderResource {
         return ResponseEntity.ok().body(purchaseOrderQueryService.countByCriteria(criteria));
     }
 
+    /**
+     * {@code GET  /purchase-orders/export} : stream all the purchaseOrders matching the criteria, ordered by id.
+     *
+     * @param criteria the criteria which the exported entities should match.
+     * @param format the format of the export, {@code csv} or {@code ndjson}.
+     * @param response the response the purchaseOrders are streamed to.
+     * @throws IOException if the purchaseOrders could not be written.
+     */
+    @GetMapping("/export")
+    public void exportPurchaseOrders(
+        PurchaseOrderCriteria criteria,
+        @RequestParam(name = ExportUtil.FORMAT_PARAMETER, defaultValue = ExportUtil.DEFAULT_FORMAT) String format,
+        HttpServletResponse response
+    ) throws IOException {
+        LOG.debug("REST request to export PurchaseOrders by criteria: {}, format: {}", criteria, format);
+        ExportFormat exportFormat = ExportUtil.parseFormat(format, ENTITY_NAME);
+        ExportUtil.prepareExportResponse(response, exportFormat, "purchaseOrders");
+        purchaseOrderQueryService.exportByCriteria(criteria, exportFormat, response.getOutputStream());
+    }
+
     /**
      * {@code GET  /purchase-orders/:id} : get the "id" purchaseOrder.
      *
@@ -0,0 +1,66 @@
+package com.crat.budget.web.rest;
+
+import com.crat.budget.domain.YearEndRollover;
+import com.crat.budget.service.YearEndRolloverJobService;
+import com.crat.budget.service.YearEndRolloverService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import tech.jhipster.web.util.ResponseUtil;
+
+/**
+ * REST controller for rolling a financial year over to the next one.
+ */
+@RestController
+@RequestMapping("/api/year-end-rollovers")
+public class YearEndRolloverResource {
+
+    private static final Logger LOG = LoggerFactory.getLogger(YearEndRolloverResource.class);
+
+    private final YearEndRolloverService yearEndRolloverService;
+
+    private final YearEndRolloverJobService yearEndRolloverJobService;
+
+    public YearEndRolloverResource(YearEndRolloverService yearEndRolloverService, YearEndRolloverJobService yearEndRolloverJobService) {
+        this.yearEndRolloverService = yearEndRolloverService;
+        this.yearEndRolloverJobService = yearEndRolloverJobService;
+    }
+
+    /**
+     * {@code POST  /year-end-rollovers} : start opening a financial year from the previous one, or resume it.
+     *
+     * @param previousFinancialYearId the id of the financial year rolled over.
+     * @param financialYearId the id of the financial year opened.
+     * @return the {@link ResponseEntity} with status {@code 202 (Accepted)} and with body the rollover, or with status {@code 400 (Bad Request)} if the rollover cannot be opened or another one is running.
+     */
+    @PostMapping("")
+    @PreAuthorize("hasAnyAuthority('ROLE_ADMIN')")
+    public ResponseEntity<YearEndRollover> startYearEndRollover(
+        @RequestParam(name = "previousFinancialYearId") Long previousFinancialYearId,
+        @RequestParam(name = "financialYearId") Long financialYearId
+    ) {
+        LOG.debug("REST request to roll FinancialYear {} over to FinancialYear {}", previousFinancialYearId, financialYearId);
+        yearEndRolloverJobService.start(previousFinancialYearId, financialYearId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(yearEndRolloverService.findOne(financialYearId).orElseThrow());
+    }
+
+    /**
+     * {@code GET  /year-end-rollovers/:financialYearId} : get the progress of the rollover opening a financial year.
+     *
+     * @param financialYearId the id of the financial year opened.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the rollover, or with status {@code 404 (Not Found)}.
+     */
+    @GetMapping("/{financialYearId}")
+    public ResponseEntity<YearEndRollover> getYearEndRollover(@PathVariable("financialYearId") Long financialYearId) {
+        LOG.debug("REST request to get the rollover of FinancialYear : {}", financialYearId);
+        return ResponseUtil.wrapOrNotFound(yearEndRolloverService.findOne(financialYearId));
+    }
+}
@@ -88,6 +88,27 @@ public class ExceptionTranslator extends ResponseEntityExceptionHandler {
             .getBody();
         if (ex instanceof com.crat.budget.service.InvalidPasswordException) return (ProblemDetailWithCause) new InvalidPasswordException()
             .getBody();
+        if (
+            ex instanceof com.crat.budget.service.InvalidFetchException invalidFetchException
+        ) return (ProblemDetailWithCause) new BadRequestAlertException(
+            invalidFetchException.getMessage(),
+            invalidFetchException.getEntityName(),
+            "fetchinvalid"
+        ).getBody();
+        if (
+            ex instanceof com.crat.budget.service.InvalidFieldException invalidFieldException
+        ) return (ProblemDetailWithCause) new BadRequestAlertException(
+            invalidFieldException.getMessage(),
+            invalidFieldException.getEntityName(),
+            "fieldsinvalid"
+        ).getBody();
+        if (
+            ex instanceof com.crat.budget.service.InvalidYearEndRolloverException invalidYearEndRolloverException
+        ) return (ProblemDetailWithCause) new BadRequestAlertException(
+            invalidYearEndRolloverException.getMessage(),
+            "yearEndRollover",
+            "rolloverinvalid"
+        ).getBody();
 
         if (
             ex instanceof ErrorResponseException exp && exp.getBody() instanceof ProblemDetailWithCause problemDetailWithCause
@@ -220,15 +241,16 @@ public class ExceptionTranslator extends ResponseEntityExceptionHandler {
     }
 
     private HttpHeaders buildHeaders(Throwable err) {
-        return err instanceof BadRequestAlertException badRequestAlertException
-            ? HeaderUtil.createFailureAlert(
+        if (err instanceof BadRequestAlertException badRequestAlertException) {
+            return HeaderUtil.createFailureAlert(
                 applicationName,
                 true,
                 badRequestAlertException.getEntityName(),
                 badRequestAlertException.getErrorKey(),
                 badRequestAlertException.getMessage()
-            )
-            : null;
+            );
+        }
+        return err instanceof TooManyRequestsException tooManyRequestsException ? tooManyRequestsException.getHeaders() : null;
     }
 
     public Optional<ProblemDetailWithCause> buildCause(final Throwable throwable, NativeWebRequest request) {
@@ -0,0 +1,52 @@
+package com.crat.budget.web.rest.util;
+
+import com.crat.budget.service.export.ExportFormat;
+import com.crat.budget.web.rest.errors.BadRequestAlertException;
+import jakarta.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Utility class for the endpoints streaming an export of entities.
+ */
+public final class ExportUtil {
+
+    public static final String FORMAT_PARAMETER = "format";
+
+    public static final String DEFAULT_FORMAT = "csv";
+
+    private ExportUtil() {}
+
+    /**
+     * Resolve the export format requested by the client.
+     *
+     * @param format the requested format, {@code csv} or {@code ndjson}.
+     * @param entityName the name of the exported entity, for the error message.
+     * @return the export format.
+     * @throws BadRequestAlertException if the format is unknown.
+     */
+    public static ExportFormat parseFormat(String format, String entityName) {
+        try {
+            return ExportFormat.fromName(format);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException("Invalid export format", entityName, "formatinvalid");
+        }
+    }
+
+    /**
+     * Set the content type and attachment file name of an export response, before its body is streamed.
+     *
+     * @param response the response.
+     * @param format the export format.
+     * @param fileName the file name, without extension.
+     */
+    public static void prepareExportResponse(HttpServletResponse response, ExportFormat format, String fileName) {
+        response.setContentType(format.getMediaType().toString());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(
+            HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment().filename(fileName + "." + format.getExtension()).build().toString()
+        );
+    }
+}
@@ -0,0 +1,209 @@
+package com.crat.budget.web.rest.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.crat.budget.web.rest.errors.BadRequestAlertException;
+import jakarta.persistence.Column;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToOne;
+import jakarta.validation.constraints.NotNull;
+import java.lang.reflect.Field;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.function.Function;
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.mapping.PropertyPath;
+import org.springframework.data.mapping.PropertyReferenceException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Utility class for handling keyset (seek) pagination.
+ * <p>
+ * Keyset pagination is opt-in: a list endpoint switches to it when the {@code cursor} request parameter is present,
+ * an empty value requesting the first window. The next window is selected with a predicate on the sort keys of the
+ * last returned row plus its {@code id} instead of an {@code OFFSET}, so a deep window costs the same as the first one.
+ * No total count is computed in this mode.
+ * <p>
+ * The cursor is an opaque, URL-safe token; the cursor of the next window is sent in the {@code Link} header
+ * ({@code rel="next"}) and in the {@code X-Next-Cursor} header. Its date and time keys are written in ISO-8601, whatever
+ * the locale of the server.
+ * <p>
+ * The seek predicate cannot compare a {@code null} key, so only the properties which cannot be {@code null} may be
+ * sorted on in this mode.
+ */
+public final class KeysetPaginationUtil {
+
+    public static final String CURSOR_PARAMETER = "cursor";
+
+    public static final String HEADER_X_NEXT_CURSOR = "X-Next-Cursor";
+
+    private static final ConversionService conversionService = DefaultConversionService.getSharedInstance();
+
+    private static final Map<Class<?>, Function<String, Object>> temporalParsers = Map.of(
+        Instant.class,
+        Instant::parse,
+        LocalDate.class,
+        LocalDate::parse,
+        LocalDateTime.class,
+        LocalDateTime::parse,
+        LocalTime.class,
+        LocalTime::parse,
+        OffsetDateTime.class,
+        OffsetDateTime::parse,
+        ZonedDateTime.class,
+        ZonedDateTime::parse
+    );
+
+    private KeysetPaginationUtil() {}
+
+    /**
+     * Parse a cursor token sent by the client.
+     *
+     * @param cursor the cursor token, {@code null} or empty for the first window.
+     * @param sort the sort of the window, whose properties must not be nullable.
+     * @param entityClass the entity the keys belong to, used to restore the type of each key.
+     * @param entityName the entity name used in the error sent back for an invalid cursor.
+     * @return the keyset position to seek after.
+     */
+    public static KeysetScrollPosition parseCursor(String cursor, Sort sort, Class<?> entityClass, String entityName) {
+        for (Sort.Order order : sort) {
+            if (isNullable(order.getProperty(), entityClass, entityName)) {
+                throw new BadRequestAlertException(
+                    "Keyset pagination cannot sort on the nullable property " + order.getProperty(),
+                    entityName,
+                    "sortinvalid"
+                );
+            }
+        }
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), UTF_8);
+            Map<String, Object> keys = new LinkedHashMap<>();
+            for (String pair : decoded.split("&")) {
+                int separator = pair.indexOf('=');
+                if (separator < 0) {
+                    throw new IllegalArgumentException("Missing key value: " + pair);
+                }
+                String property = URLDecoder.decode(pair.substring(0, separator), UTF_8);
+                Class<?> type = PropertyPath.from(property, entityClass).getLeafProperty().getType();
+                keys.put(property, parseKey(URLDecoder.decode(pair.substring(separator + 1), UTF_8), type));
+            }
+            return ScrollPosition.forward(keys);
+        } catch (IllegalArgumentException | ConversionException | PropertyReferenceException | DateTimeException e) {
+            throw new BadRequestAlertException("Invalid pagination cursor", entityName, "cursorinvalid");
+        }
+    }
+
+    /**
+     * Format a keyset position as a cursor token.
+     *
+     * @param position the keyset position.
+     * @return the cursor token.
+     */
+    public static String formatCursor(KeysetScrollPosition position) {
+        StringJoiner pairs = new StringJoiner("&");
+        position
+            .getKeys()
+            .forEach((property, value) -> {
+                if (value == null) {
+                    throw new IllegalStateException("The keyset key " + property + " is null");
+                }
+                pairs.add(URLEncoder.encode(property, UTF_8) + "=" + URLEncoder.encode(formatKey(value), UTF_8));
+            });
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(pairs.toString().getBytes(UTF_8));
+    }
+
+    /**
+     * Generate keyset pagination headers for a Spring Data {@link Window} object.
+     *
+     * @param uriBuilder The URI builder.
+     * @param window The window.
+     * @param <T> The type of object.
+     * @return http header.
+     */
+    public static <T> HttpHeaders generateKeysetHttpHeaders(UriComponentsBuilder uriBuilder, Window<T> window) {
+        HttpHeaders headers = new HttpHeaders();
+        List<String> links = new ArrayList<>();
+        if (window.hasNext() && !window.isEmpty()) {
+            String nextCursor = formatCursor((KeysetScrollPosition) window.positionAt(window.size() - 1));
+            headers.add(HEADER_X_NEXT_CURSOR, nextCursor);
+            links.add(prepareLink(uriBuilder, nextCursor, "next"));
+        }
+        links.add(prepareLink(uriBuilder, "", "first"));
+        headers.add(HttpHeaders.LINK, String.join(",", links));
+        return headers;
+    }
+
+    private static String formatKey(Object value) {
+        // the java.time types print themselves in ISO-8601
+        return value instanceof TemporalAccessor ? value.toString() : conversionService.convert(value, String.class);
+    }
+
+    private static Object parseKey(String value, Class<?> type) {
+        Function<String, Object> temporalParser = temporalParsers.get(type);
+        return temporalParser != null ? temporalParser.apply(value) : conversionService.convert(value, type);
+    }
+
+    private static boolean isNullable(String property, Class<?> entityClass, String entityName) {
+        PropertyPath path;
+        try {
+            path = PropertyPath.from(property, entityClass);
+        } catch (PropertyReferenceException e) {
+            throw new BadRequestAlertException("Unknown sort property " + property, entityName, "sortinvalid");
+        }
+        for (PropertyPath segment : path) {
+            Field field = ReflectionUtils.findField(segment.getOwningType().getType(), segment.getSegment());
+            if (field == null || !isNotNull(field)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isNotNull(Field field) {
+        Column column = field.getAnnotation(Column.class);
+        JoinColumn joinColumn = field.getAnnotation(JoinColumn.class);
+        ManyToOne manyToOne = field.getAnnotation(ManyToOne.class);
+        OneToOne oneToOne = field.getAnnotation(OneToOne.class);
+        return (
+            field.getType().isPrimitive() ||
+            field.isAnnotationPresent(Id.class) ||
+            field.isAnnotationPresent(NotNull.class) ||
+            (column != null && !column.nullable()) ||
+            (joinColumn != null && !joinColumn.nullable()) ||
+            (manyToOne != null && !manyToOne.optional()) ||
+            (oneToOne != null && !oneToOne.optional())
+        );
+    }
+
+    private static String prepareLink(UriComponentsBuilder uriBuilder, String cursor, String relType) {
+        String uri = uriBuilder.replaceQueryParam("page").replaceQueryParam(CURSOR_PARAMETER, cursor).toUriString();
+        return "<" + uri.replace(",", "%2C").replace(";", "%3B") + ">; rel=\"" + relType + "\"";
+    }
+}
@@ -0,0 +1,87 @@
+package com.crat.budget.web.rest.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Utility class for handling pagination without an exact total.
+ * <p>
+ * A list endpoint returns a {@link Slice} instead of a {@code Page} when the {@code total} request parameter is
+ * {@code approximate} or {@code none}, so the {@code count(*)} query run for every page is skipped. The {@code Link}
+ * header then only points to the neighbouring pages. With {@code approximate}, {@code X-Total-Count} carries a cached
+ * count which may be stale, flagged by {@code X-Total-Count-Approximate}; with {@code none} no total is sent.
+ */
+public final class SlicePaginationUtil {
+
+    public static final String TOTAL_PARAMETER = "total";
+
+    public static final String TOTAL_APPROXIMATE = "approximate";
+
+    public static final String TOTAL_NONE = "none";
+
+    public static final String HEADER_X_TOTAL_COUNT_APPROXIMATE = "X-Total-Count-Approximate";
+
+    private static final String HEADER_X_TOTAL_COUNT = "X-Total-Count";
+
+    private SlicePaginationUtil() {}
+
+    /**
+     * Tell whether the client asked for a page without an exact total.
+     *
+     * @param total the value of the {@code total} request parameter.
+     * @return true if the count query must be skipped.
+     */
+    public static boolean isSliceRequested(String total) {
+        return TOTAL_APPROXIMATE.equals(total) || TOTAL_NONE.equals(total);
+    }
+
+    /**
+     * Tell whether the client asked for an approximate total.
+     *
+     * @param total the value of the {@code total} request parameter.
+     * @return true if a cached count must be sent.
+     */
+    public static boolean isApproximateTotalRequested(String total) {
+        return TOTAL_APPROXIMATE.equals(total);
+    }
+
+    /**
+     * Generate pagination headers for a Spring Data {@link Slice} object.
+     *
+     * @param uriBuilder The URI builder.
+     * @param slice The slice.
+     * @param approximateTotal The cached total, or {@code null} not to send any.
+     * @param <T> The type of object.
+     * @return http header.
+     */
+    public static <T> HttpHeaders generateSliceHttpHeaders(UriComponentsBuilder uriBuilder, Slice<T> slice, Long approximateTotal) {
+        HttpHeaders headers = new HttpHeaders();
+        if (approximateTotal != null) {
+            headers.add(HEADER_X_TOTAL_COUNT, Long.toString(approximateTotal));
+            headers.add(HEADER_X_TOTAL_COUNT_APPROXIMATE, Boolean.TRUE.toString());
+        }
+        int pageNumber = slice.getNumber();
+        int pageSize = slice.getSize();
+        List<String> links = new ArrayList<>();
+        if (slice.hasNext()) {
+            links.add(prepareLink(uriBuilder, pageNumber + 1, pageSize, "next"));
+        }
+        if (slice.hasPrevious()) {
+            links.add(prepareLink(uriBuilder, pageNumber - 1, pageSize, "prev"));
+        }
+        links.add(prepareLink(uriBuilder, 0, pageSize, "first"));
+        headers.add(HttpHeaders.LINK, String.join(",", links));
+        return headers;
+    }
+
+    private static String prepareLink(UriComponentsBuilder uriBuilder, int pageNumber, int pageSize, String relType) {
+        String uri = uriBuilder
+            .replaceQueryParam("page", Integer.toString(pageNumber))
+            .replaceQueryParam("size", Integer.toString(pageSize))
+            .toUriString();
+        return "<" + uri.replace(",", "%2C").replace(";", "%3B") + ">; rel=\"" + relType + "\"";
+    }
+}
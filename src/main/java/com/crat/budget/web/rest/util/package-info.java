@@ -0,0 +1,4 @@
+/**
+ * Rest layer utilities.
+ */
+package com.crat.budget.web.rest.util;
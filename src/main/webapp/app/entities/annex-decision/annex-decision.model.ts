@@ -3,9 +3,9 @@ import { IFinancialYear } from 'app/entities/financial-year/financial-year.model
 export interface IAnnexDecision {
   id: number;
   designation?: string | null;
-  expenseAmount?: string | null;
-  creditsAlreadyOpen?: string | null;
-  creditsOpen?: string | null;
+  expenseAmount?: number | null;
+  creditsAlreadyOpen?: number | null;
+  creditsOpen?: number | null;
   financialYear?: IFinancialYear | null;
 }
 
@@ -7,15 +7,15 @@ export const sampleWithRequiredData: IAnnexDecision = {
 export const sampleWithPartialData: IAnnexDecision = {
   id: 22527,
   designation: 'moderne désormais',
-  creditsAlreadyOpen: 'ouah',
+  creditsAlreadyOpen: 26834.01,
 };
 
 export const sampleWithFullData: IAnnexDecision = {
   id: 24619,
   designation: 'adepte',
-  expenseAmount: 'alors que',
-  creditsAlreadyOpen: "d'avec invoquer toc-toc",
-  creditsOpen: 'du fait que triangulaire',
+  expenseAmount: 18286.31,
+  creditsAlreadyOpen: 1462.48,
+  creditsOpen: 31565.75,
 };
 
 export const sampleWithNewData: NewAnnexDecision = {
@@ -5,10 +5,10 @@ export interface IEngagement {
   engagementNumber?: string | null;
   engagementDate?: dayjs.Dayjs | null;
   objectOfExpense?: string | null;
-  notifiedCredits?: string | null;
-  creditCommitted?: string | null;
-  creditsAvailable?: string | null;
-  amountProposedCommitment?: string | null;
+  notifiedCredits?: number | null;
+  creditCommitted?: number | null;
+  creditsAvailable?: number | null;
+  amountProposedCommitment?: number | null;
   headDaf?: string | null;
   financialController?: string | null;
   generalManager?: string | null;
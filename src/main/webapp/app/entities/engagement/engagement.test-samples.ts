@@ -13,9 +13,9 @@ export const sampleWithPartialData: IEngagement = {
   engagementNumber: 'simplifier sur même si',
   engagementDate: dayjs('2025-03-02T09:23'),
   objectOfExpense: "à l'égard de afin que",
-  notifiedCredits: 'renseigner miaou chef de cuisine',
-  creditCommitted: 'souvent',
-  creditsAvailable: 'afin que au défaut de',
+  notifiedCredits: 6405.54,
+  creditCommitted: 21807.37,
+  creditsAvailable: 26973.61,
   headDaf: 'secours vaste pisser',
   financialController: 'formuler récupérer',
 };
@@ -25,10 +25,10 @@ export const sampleWithFullData: IEngagement = {
   engagementNumber: 'lorsque confirmer ronron',
   engagementDate: dayjs('2025-03-01T16:12'),
   objectOfExpense: 'sauf à',
-  notifiedCredits: 'au-dessous de sauvage',
-  creditCommitted: 'bzzz près de amorcer',
-  creditsAvailable: "à l'égard de grâce à affronter",
-  amountProposedCommitment: "pis à l'insu de",
+  notifiedCredits: 23602.54,
+  creditCommitted: 16699.28,
+  creditsAvailable: 27471.66,
+  amountProposedCommitment: 7015.65,
   headDaf: 'de façon que aïe presque',
   financialController: 'membre à vie avant',
   generalManager: 'badaboum',
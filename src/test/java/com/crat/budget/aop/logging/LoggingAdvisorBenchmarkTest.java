@@ -0,0 +1,120 @@
+package com.crat.budget.aop.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.aop.aspectj.MethodInvocationProceedingJoinPoint;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.stereotype.Service;
+
+/**
+ * Per-call overhead of the logging of a service method whose logger is not enabled, the production case: through the
+ * {@link LoggingAspect}, and through the {@link LoggingAdvisor} in debug and sampled modes. The time spent writing the
+ * logs is left out.
+ * <p>
+ * Run with {@code ./mvnw test -Dtest=LoggingAdvisorBenchmarkTest -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class LoggingAdvisorBenchmarkTest {
+
+    private static final int WARM_UP_ITERATIONS = 5;
+
+    private static final int ITERATIONS = 10;
+
+    private static final int CALLS = 1_000_000;
+
+    private Logger logger;
+
+    @BeforeEach
+    void setUp() {
+        logger = (Logger) LoggerFactory.getLogger(BenchmarkedService.class);
+        logger.setLevel(Level.WARN);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.setLevel(null);
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.MINUTES)
+    void benchmark() {
+        LoggingAspect aspect = new LoggingAspect(new MockEnvironment());
+        LoggingAdvisor debugAdvisor = LoggingAdvisor.debugEnabled(LoggingAdvisorTest.FIXTURES_POINTCUT);
+        LoggingAdvisor sampledAdvisor = LoggingAdvisor.sampled(LoggingAdvisorTest.FIXTURES_POINTCUT);
+        // DEBUG is disabled: the auto-proxy creator would not proxy the bean, the direct calls are measured instead
+        assertThat(AopUtils.canApply((Advisor) debugAdvisor, BenchmarkedService.class)).isFalse();
+        assertThat(AopUtils.canApply((Advisor) sampledAdvisor, BenchmarkedService.class)).isTrue();
+
+        Map<String, BenchmarkedService> services = new LinkedHashMap<>();
+        services.put("LoggingAspect", proxy(factory -> factory.addAdvice(aspectAdvice(aspect))));
+        services.put("proxy without advice", proxy(factory -> factory.addAdvice((MethodInterceptor) MethodInvocation::proceed)));
+        services.put("LoggingAdvisor sampled mode, not sampled", proxy(factory -> factory.addAdvisor(sampledAdvisor)));
+        services.put("LoggingAdvisor debug mode, not proxied", new BenchmarkedService());
+
+        // the variants take turns, for the call site to be as polymorphic for each of them
+        Map<String, Long> best = new LinkedHashMap<>();
+        for (int iteration = 0; iteration < WARM_UP_ITERATIONS + ITERATIONS; iteration++) {
+            for (Map.Entry<String, BenchmarkedService> service : services.entrySet()) {
+                long elapsed = measure(service.getValue(), iteration);
+                if (iteration >= WARM_UP_ITERATIONS) {
+                    best.merge(service.getKey(), elapsed, Math::min);
+                }
+            }
+        }
+        best.forEach((name, elapsed) -> System.out.printf(Locale.ROOT, "%-45s %6.1f ns/call%n", name, (double) elapsed / CALLS));
+    }
+
+    private static MethodInterceptor aspectAdvice(LoggingAspect aspect) {
+        // as the Spring AOP around advice of the aspect
+        return invocation -> aspect.logAround(new MethodInvocationProceedingJoinPoint((ProxyMethodInvocation) invocation));
+    }
+
+    private static BenchmarkedService proxy(Consumer<ProxyFactory> advice) {
+        ProxyFactory proxyFactory = new ProxyFactory(new BenchmarkedService());
+        proxyFactory.setProxyTargetClass(true);
+        advice.accept(proxyFactory);
+        return (BenchmarkedService) proxyFactory.getProxy();
+    }
+
+    /**
+     * Time taken by the calls of an iteration, in nanoseconds.
+     */
+    private static long measure(BenchmarkedService service, int iteration) {
+        long sink = 0;
+        long start = System.nanoTime();
+        for (int call = 0; call < CALLS; call++) {
+            sink += service.add(call, iteration);
+        }
+        long elapsed = System.nanoTime() - start;
+        assertThat(sink).isNotZero();
+        return elapsed;
+    }
+
+    @Service
+    public static class BenchmarkedService {
+
+        @LogSampled(rate = 0.01)
+        public long add(long first, long second) {
+            return first + second;
+        }
+    }
+}
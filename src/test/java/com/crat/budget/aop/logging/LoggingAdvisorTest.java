@@ -0,0 +1,160 @@
+package com.crat.budget.aop.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.tuple;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.stereotype.Service;
+
+/**
+ * Test class for the {@link LoggingAdvisor}.
+ */
+class LoggingAdvisorTest {
+
+    static final String FIXTURES_POINTCUT =
+        "within(com.crat.budget.aop.logging..*) && within(@org.springframework.stereotype.Service *)";
+
+    private Logger debugLogger;
+
+    private Logger infoLogger;
+
+    private ListAppender<ILoggingEvent> appender;
+
+    @BeforeEach
+    void setUp() {
+        appender = new ListAppender<>();
+        appender.start();
+        debugLogger = (Logger) LoggerFactory.getLogger(DebugService.class);
+        debugLogger.setLevel(Level.DEBUG);
+        debugLogger.addAppender(appender);
+        infoLogger = (Logger) LoggerFactory.getLogger(SampledService.class);
+        infoLogger.setLevel(Level.INFO);
+        infoLogger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        debugLogger.detachAppender(appender);
+        debugLogger.setLevel(null);
+        infoLogger.detachAppender(appender);
+        infoLogger.setLevel(null);
+    }
+
+    @Test
+    void testDebugModeOnlyProxiesTheBeansLoggingAtDebugLevel() {
+        LoggingAdvisor advisor = LoggingAdvisor.debugEnabled(FIXTURES_POINTCUT);
+
+        assertThat(AopUtils.canApply((Advisor) advisor, DebugService.class)).isTrue();
+        assertThat(AopUtils.canApply((Advisor) advisor, SampledService.class)).isFalse();
+        assertThat(AopUtils.canApply((Advisor) advisor, NotAService.class)).isFalse();
+
+        DebugService service = proxy(new DebugService(), advisor);
+        assertThat(service.greet("world")).isEqualTo("Hello world");
+        assertThat(appender.list)
+            .extracting(ILoggingEvent::getFormattedMessage)
+            .containsExactly("Enter: greet() with argument[s] = [world]", "Exit: greet() with result = Hello world");
+    }
+
+    @Test
+    void testDebugModeStopsLoggingWhenDebugIsDisabled() {
+        DebugService service = proxy(new DebugService(), LoggingAdvisor.debugEnabled(FIXTURES_POINTCUT));
+        debugLogger.setLevel(Level.INFO);
+
+        service.greet("world");
+
+        assertThat(appender.list).isEmpty();
+    }
+
+    @Test
+    void testSampledModeOnlyAdvisesTheAnnotatedMethods() throws NoSuchMethodException {
+        LoggingAdvisor advisor = LoggingAdvisor.sampled(FIXTURES_POINTCUT);
+
+        assertThat(AopUtils.canApply((Advisor) advisor, SampledService.class)).isTrue();
+        assertThat(AopUtils.canApply((Advisor) advisor, DebugService.class)).isFalse();
+        assertThat(advisor.matches(SampledService.class.getMethod("always", String.class), SampledService.class)).isTrue();
+        assertThat(advisor.matches(SampledService.class.getMethod("never", String.class), SampledService.class)).isFalse();
+        assertThat(advisor.matches(SampledService.class.getMethod("notAnnotated", String.class), SampledService.class)).isFalse();
+
+        SampledService service = proxy(new SampledService(), advisor);
+        service.always("a");
+        service.never("b");
+        service.notAnnotated("c");
+        assertThat(appender.list)
+            .extracting(ILoggingEvent::getLevel, ILoggingEvent::getFormattedMessage)
+            .containsExactly(
+                tuple(Level.INFO, "Enter: always() with argument[s] = [a]"),
+                tuple(Level.INFO, "Exit: always() with result = a")
+            );
+    }
+
+    @Test
+    void testIllegalArgumentsAreLogged() {
+        DebugService service = proxy(new DebugService(), LoggingAdvisor.debugEnabled(FIXTURES_POINTCUT));
+        debugLogger.setLevel(Level.INFO);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> service.greet(null));
+
+        assertThat(appender.list)
+            .extracting(ILoggingEvent::getLevel, ILoggingEvent::getFormattedMessage)
+            .containsExactly(tuple(Level.ERROR, "Illegal argument: [null] in greet()"));
+    }
+
+    /**
+     * Proxy a target as the auto-proxy creator does, the join points being matched when the proxy is created.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(T target, LoggingAdvisor advisor) {
+        assertThat(AopUtils.canApply((Advisor) advisor, target.getClass())).isTrue();
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvisor(advisor);
+        return (T) proxyFactory.getProxy();
+    }
+
+    @Service
+    public static class DebugService {
+
+        public String greet(String name) {
+            if (name == null) {
+                throw new IllegalArgumentException("name");
+            }
+            return "Hello " + name;
+        }
+    }
+
+    @Service
+    public static class SampledService {
+
+        @LogSampled
+        public String always(String value) {
+            return value;
+        }
+
+        @LogSampled(rate = 0)
+        public String never(String value) {
+            return value;
+        }
+
+        public String notAnnotated(String value) {
+            return value;
+        }
+    }
+
+    public static class NotAService {
+
+        public String greet(String name) {
+            return "Hello " + name;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.crat.budget.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.crat.budget.config.ApplicationProperties.Cache.Region;
+import com.crat.budget.management.CacheRegionMetrics;
+import com.crat.budget.security.JCacheRateLimitStore;
+import java.time.Duration;
+import javax.cache.Caching;
+import org.ehcache.config.ResourceType;
+import org.ehcache.config.SizedResourcePool;
+import org.ehcache.expiry.ExpiryPolicy;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import tech.jhipster.config.JHipsterProperties;
+
+/**
+ * Test class for the per region settings of the {@link CacheConfiguration}.
+ */
+class CacheConfigurationTest {
+
+    private ApplicationProperties applicationProperties;
+
+    private Region defaults;
+
+    private javax.cache.CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = Caching.getCachingProvider(EhcacheCachingProvider.class.getName()).getCacheManager();
+        applicationProperties = new ApplicationProperties();
+        defaults = new Region();
+        defaults.setHeapEntries(100L);
+        defaults.setTimeToLive(Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        cacheManager.close();
+    }
+
+    @Test
+    void unconfiguredRegionUsesTheDefaults() {
+        org.ehcache.config.CacheConfiguration<?, ?> configuration = ehcacheConfiguration("unconfigured");
+
+        assertThat(heapEntries(configuration)).isEqualTo(100);
+        assertThat(configuration.getResourcePools().getPoolForResource(ResourceType.Core.OFFHEAP)).isNull();
+        assertThat(expiryForCreation(configuration)).isEqualTo(Duration.ofHours(1));
+    }
+
+    @Test
+    void configuredRegionIsTieredAndCompletedByTheDefaults() {
+        Region region = new Region();
+        region.setOffHeapSize(DataSize.ofMegabytes(16));
+        region.setTimeToIdle(Duration.ofMinutes(5));
+        applicationProperties.getCache().getRegions().put("large", region);
+
+        org.ehcache.config.CacheConfiguration<?, ?> configuration = ehcacheConfiguration("large");
+
+        assertThat(heapEntries(configuration)).isEqualTo(100);
+        SizedResourcePool offHeap = configuration.getResourcePools().getPoolForResource(ResourceType.Core.OFFHEAP);
+        assertThat(offHeap.getSize()).isEqualTo(16);
+        assertThat(expiryForCreation(configuration)).isEqualTo(Duration.ofMinutes(5));
+    }
+
+    @Test
+    void eternalRegionNeverExpires() {
+        Region region = new Region();
+        region.setHeapEntries(5000L);
+        region.setEternal(true);
+        applicationProperties.getCache().getRegions().put("reference", region);
+
+        org.ehcache.config.CacheConfiguration<?, ?> configuration = ehcacheConfiguration("reference");
+
+        assertThat(heapEntries(configuration)).isEqualTo(5000);
+        assertThat(expiryForCreation(configuration)).isEqualTo(ExpiryPolicy.INFINITE);
+    }
+
+    @Test
+    void loginRateLimitRegionHoldsTheBucketsForTheLongestPeriod() {
+        applicationProperties.getSecurity().getLoginRateLimit().setMaximumKeys(500);
+        applicationProperties.getSecurity().getLoginRateLimit().getPerLogin().setPeriod(Duration.ofMinutes(5));
+        applicationProperties.getSecurity().getLoginRateLimit().getPerIp().setPeriod(Duration.ofMinutes(1));
+
+        new CacheConfiguration(new JHipsterProperties(), applicationProperties)
+            .cacheManagerCustomizer(new CacheRegionMetrics())
+            .customize(cacheManager);
+        org.ehcache.config.CacheConfiguration<?, ?> configuration = ehcacheConfiguration(
+            cacheManager.getCache(JCacheRateLimitStore.CACHE_NAME)
+        );
+
+        assertThat(heapEntries(configuration)).isEqualTo(500);
+        assertThat(expiryForCreation(configuration)).isEqualTo(Duration.ofMinutes(5));
+    }
+
+    private org.ehcache.config.CacheConfiguration<?, ?> ehcacheConfiguration(String cacheName) {
+        javax.cache.configuration.Configuration<Object, Object> configuration = new CacheConfiguration(
+            new JHipsterProperties(),
+            applicationProperties
+        ).cacheConfiguration(cacheName, defaults);
+        return ehcacheConfiguration(cacheManager.createCache(cacheName, configuration));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static org.ehcache.config.CacheConfiguration<?, ?> ehcacheConfiguration(javax.cache.Cache<Object, Object> cache) {
+        Eh107Configuration<Object, Object> eh107Configuration = cache.getConfiguration(Eh107Configuration.class);
+        return eh107Configuration.unwrap(org.ehcache.config.CacheConfiguration.class);
+    }
+
+    private static long heapEntries(org.ehcache.config.CacheConfiguration<?, ?> configuration) {
+        return configuration.getResourcePools().getPoolForResource(ResourceType.Core.HEAP).getSize();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Duration expiryForCreation(org.ehcache.config.CacheConfiguration<?, ?> configuration) {
+        return ((ExpiryPolicy<Object, Object>) configuration.getExpiryPolicy()).getExpiryForCreation("key", "value");
+    }
+}
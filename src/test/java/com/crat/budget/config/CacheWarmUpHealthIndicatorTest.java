@@ -0,0 +1,54 @@
+package com.crat.budget.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.crat.budget.service.CacheWarmUpService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+class CacheWarmUpHealthIndicatorTest {
+
+    private CacheWarmUpService cacheWarmUpService;
+
+    private CacheWarmUpHealthIndicator healthIndicator;
+
+    @BeforeEach
+    void setUp() {
+        cacheWarmUpService = mock(CacheWarmUpService.class);
+        healthIndicator = new CacheWarmUpHealthIndicator(cacheWarmUpService);
+    }
+
+    @Test
+    void outOfServiceWhileRunning() {
+        when(cacheWarmUpService.isRunning()).thenReturn(true);
+        when(cacheWarmUpService.getState()).thenReturn(CacheWarmUpService.State.RUNNING);
+        when(cacheWarmUpService.getLoadedEntries()).thenReturn(500L);
+        when(cacheWarmUpService.getTotalEntries()).thenReturn(1200L);
+
+        Health health = healthIndicator.health();
+
+        assertThat(health.getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+        assertThat(health.getDetails()).containsEntry("loadedEntries", 500L).containsEntry("totalEntries", 1200L);
+    }
+
+    @Test
+    void upWhenDone() {
+        when(cacheWarmUpService.getState()).thenReturn(CacheWarmUpService.State.DONE);
+
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    void upWhenFailed() {
+        when(cacheWarmUpService.getState()).thenReturn(CacheWarmUpService.State.FAILED);
+
+        Health health = healthIndicator.health();
+
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails()).containsEntry("state", CacheWarmUpService.State.FAILED);
+    }
+}
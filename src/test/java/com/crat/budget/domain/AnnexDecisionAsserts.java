@@ -1,5 +1,6 @@
 package com.crat.budget.domain;
 
+import static com.crat.budget.domain.AssertUtils.bigDecimalCompareTo;
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class AnnexDecisionAsserts {
@@ -48,10 +49,24 @@ public class AnnexDecisionAsserts {
         assertThat(actual)
             .as("Verify AnnexDecision relevant properties")
             .satisfies(a -> assertThat(a.getDesignation()).as("check designation").isEqualTo(expected.getDesignation()))
-            .satisfies(a -> assertThat(a.getExpenseAmount()).as("check expenseAmount").isEqualTo(expected.getExpenseAmount()))
-            .satisfies(a -> assertThat(a.getCreditsAlreadyOpen()).as("check creditsAlreadyOpen").isEqualTo(expected.getCreditsAlreadyOpen())
+            .satisfies(a ->
+                assertThat(a.getExpenseAmount())
+                    .as("check expenseAmount")
+                    .usingComparator(bigDecimalCompareTo)
+                    .isEqualTo(expected.getExpenseAmount())
             )
-            .satisfies(a -> assertThat(a.getCreditsOpen()).as("check creditsOpen").isEqualTo(expected.getCreditsOpen()));
+            .satisfies(a ->
+                assertThat(a.getCreditsAlreadyOpen())
+                    .as("check creditsAlreadyOpen")
+                    .usingComparator(bigDecimalCompareTo)
+                    .isEqualTo(expected.getCreditsAlreadyOpen())
+            )
+            .satisfies(a ->
+                assertThat(a.getCreditsOpen())
+                    .as("check creditsOpen")
+                    .usingComparator(bigDecimalCompareTo)
+                    .isEqualTo(expected.getCreditsOpen())
+            );
     }
 
     /**
@@ -1,5 +1,6 @@
 package com.crat.budget.domain;
 
+import static com.crat.budget.domain.AssertUtils.bigDecimalCompareTo;
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class EngagementAsserts {
@@ -50,12 +51,28 @@ public class EngagementAsserts {
             .satisfies(a -> assertThat(a.getEngagementNumber()).as("check engagementNumber").isEqualTo(expected.getEngagementNumber()))
             .satisfies(a -> assertThat(a.getEngagementDate()).as("check engagementDate").isEqualTo(expected.getEngagementDate()))
             .satisfies(a -> assertThat(a.getObjectOfExpense()).as("check objectOfExpense").isEqualTo(expected.getObjectOfExpense()))
-            .satisfies(a -> assertThat(a.getNotifiedCredits()).as("check notifiedCredits").isEqualTo(expected.getNotifiedCredits()))
-            .satisfies(a -> assertThat(a.getCreditCommitted()).as("check creditCommitted").isEqualTo(expected.getCreditCommitted()))
-            .satisfies(a -> assertThat(a.getCreditsAvailable()).as("check creditsAvailable").isEqualTo(expected.getCreditsAvailable()))
+            .satisfies(a ->
+                assertThat(a.getNotifiedCredits())
+                    .as("check notifiedCredits")
+                    .usingComparator(bigDecimalCompareTo)
+                    .isEqualTo(expected.getNotifiedCredits())
+            )
+            .satisfies(a ->
+                assertThat(a.getCreditCommitted())
+                    .as("check creditCommitted")
+                    .usingComparator(bigDecimalCompareTo)
+                    .isEqualTo(expected.getCreditCommitted())
+            )
+            .satisfies(a ->
+                assertThat(a.getCreditsAvailable())
+                    .as("check creditsAvailable")
+                    .usingComparator(bigDecimalCompareTo)
+                    .isEqualTo(expected.getCreditsAvailable())
+            )
             .satisfies(a ->
                 assertThat(a.getAmountProposedCommitment())
                     .as("check amountProposedCommitment")
+                    .usingComparator(bigDecimalCompareTo)
                     .isEqualTo(expected.getAmountProposedCommitment())
             )
             .satisfies(a -> assertThat(a.getHeadDaf()).as("check headDaf").isEqualTo(expected.getHeadDaf()))
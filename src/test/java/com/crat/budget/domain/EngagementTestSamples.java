@@ -14,10 +14,6 @@ public class EngagementTestSamples {
             .id(1L)
             .engagementNumber("engagementNumber1")
             .objectOfExpense("objectOfExpense1")
-            .notifiedCredits("notifiedCredits1")
-            .creditCommitted("creditCommitted1")
-            .creditsAvailable("creditsAvailable1")
-            .amountProposedCommitment("amountProposedCommitment1")
             .headDaf("headDaf1")
             .financialController("financialController1")
             .generalManager("generalManager1");
@@ -28,10 +24,6 @@ public class EngagementTestSamples {
             .id(2L)
             .engagementNumber("engagementNumber2")
             .objectOfExpense("objectOfExpense2")
-            .notifiedCredits("notifiedCredits2")
-            .creditCommitted("creditCommitted2")
-            .creditsAvailable("creditsAvailable2")
-            .amountProposedCommitment("amountProposedCommitment2")
             .headDaf("headDaf2")
             .financialController("financialController2")
             .generalManager("generalManager2");
@@ -42,10 +34,6 @@ public class EngagementTestSamples {
             .id(longCount.incrementAndGet())
             .engagementNumber(UUID.randomUUID().toString())
             .objectOfExpense(UUID.randomUUID().toString())
-            .notifiedCredits(UUID.randomUUID().toString())
-            .creditCommitted(UUID.randomUUID().toString())
-            .creditsAvailable(UUID.randomUUID().toString())
-            .amountProposedCommitment(UUID.randomUUID().toString())
             .headDaf(UUID.randomUUID().toString())
             .financialController(UUID.randomUUID().toString())
             .generalManager(UUID.randomUUID().toString());
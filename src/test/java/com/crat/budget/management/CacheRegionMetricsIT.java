@@ -0,0 +1,28 @@
+package com.crat.budget.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.crat.budget.IntegrationTest;
+import com.crat.budget.domain.Authority;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Integration tests for the {@link CacheRegionMetrics} of the cache manager of the application.
+ */
+@IntegrationTest
+class CacheRegionMetricsIT {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void testRegionsAreMeasuredWithTheirTiers() {
+        String region = Authority.class.getName();
+
+        assertThat(meterRegistry.find("cache.region.gets").tag("region", region).functionCounters()).hasSize(2);
+        assertThat(meterRegistry.find("cache.region.expirations").tag("region", region).functionCounter()).isNotNull();
+        assertThat(meterRegistry.find("cache.region.size").tags("region", region, "tier", "onheap").gauge()).isNotNull();
+    }
+}
@@ -0,0 +1,171 @@
+package com.crat.budget.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import java.util.UUID;
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.time.Duration;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.config.units.MemoryUnit;
+import org.ehcache.core.config.DefaultConfiguration;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CacheRegionMetricsTest {
+
+    private static final String ENTITY_REGION = "com.crat.budget.domain.PurchaseOrder";
+
+    private CacheManager cacheManager;
+
+    private MeterRegistry meterRegistry;
+
+    private CacheRegionMetrics cacheRegionMetrics;
+
+    @BeforeEach
+    void setUp() {
+        // a cache manager of its own: the default one is shared with the other tests of the JVM
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        cacheManager = provider.getCacheManager(
+            URI.create("urn:cache-region-metrics-test:" + UUID.randomUUID()),
+            ConfigurationBuilder.newConfigurationBuilder()
+                .withClassLoader(provider.getDefaultClassLoader())
+                .withService(CacheRegionMetrics.tierStatistics())
+                .build()
+        );
+        meterRegistry = new SimpleMeterRegistry();
+        cacheRegionMetrics = new CacheRegionMetrics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cacheManager.close();
+    }
+
+    @Test
+    void regionsHeldWhenBindingAreMeasured() {
+        cacheRegionMetrics.monitor(cacheManager);
+        Cache<Object, Object> application = createCache("application", ResourcePoolsBuilder.heap(10));
+        Cache<Object, Object> entity = createCache(ENTITY_REGION, ResourcePoolsBuilder.heap(10).offheap(1, MemoryUnit.MB));
+        cacheRegionMetrics.bindTo(meterRegistry);
+
+        application.put(1L, "one");
+        application.get(1L);
+        application.get(2L);
+        for (long i = 0; i < 20; i++) {
+            entity.put(i, "value " + i);
+        }
+        entity.remove(0L);
+
+        assertThat(count("cache.region.gets", "application", "result", "hit")).isEqualTo(1);
+        assertThat(count("cache.region.gets", "application", "result", "miss")).isEqualTo(1);
+        assertThat(count("cache.region.puts", "application", "type", "application")).isEqualTo(1);
+        assertThat(count("cache.region.puts", ENTITY_REGION, "type", "entity")).isEqualTo(20);
+        assertThat(count("cache.region.removals", ENTITY_REGION)).isEqualTo(1);
+        assertThat(gauge("cache.region.size", "application", "tier", "onheap")).isEqualTo(1);
+        assertThat(gauge("cache.region.size", ENTITY_REGION, "tier", "offheap")).isEqualTo(19);
+        assertThat(gauge("cache.region.off-heap.size", ENTITY_REGION)).isPositive();
+        assertThat(meterRegistry.find("cache.region.off-heap.size").tag("region", "application").gauge()).isNull();
+    }
+
+    @Test
+    void expirationsAreCounted() throws InterruptedException {
+        Cache<Object, Object> cache = cacheManager.createCache(
+            "expiring",
+            Eh107Configuration.fromEhcacheCacheConfiguration(
+                CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(10))
+                    .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(Duration.ofMillis(10)))
+                    .build()
+            )
+        );
+        cacheRegionMetrics.monitor(cacheManager);
+        cacheRegionMetrics.bindTo(meterRegistry);
+
+        cache.put(1L, "one");
+        Thread.sleep(50);
+
+        assertThat(cache.get(1L)).isNull();
+        assertThat(count("cache.region.expirations", "expiring")).isEqualTo(1);
+    }
+
+    @Test
+    void tierStatisticsAreOnlyMeasuredWhenConfigured() {
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        CacheManager unconfigured = provider.getCacheManager(
+            URI.create("urn:cache-region-metrics-test:" + UUID.randomUUID()),
+            new DefaultConfiguration(provider.getDefaultClassLoader())
+        );
+        try {
+            createCache(unconfigured, "unconfigured", ResourcePoolsBuilder.heap(2));
+            cacheRegionMetrics.monitor(unconfigured);
+            cacheRegionMetrics.bindTo(meterRegistry);
+
+            assertThat(meterRegistry.find("cache.region.puts").tag("region", "unconfigured").functionCounter()).isNotNull();
+            assertThat(meterRegistry.find("cache.region.size").tag("region", "unconfigured").gauge()).isNull();
+            assertThat(meterRegistry.find("cache.region.expirations").tag("region", "unconfigured").functionCounter()).isNull();
+        } finally {
+            unconfigured.close();
+        }
+    }
+
+    @Test
+    void evictionsAreCounted() {
+        Cache<Object, Object> cache = createCache("small", ResourcePoolsBuilder.heap(2));
+        cacheRegionMetrics.monitor(cacheManager);
+        cacheRegionMetrics.bindTo(meterRegistry);
+
+        for (long i = 0; i < 10; i++) {
+            cache.put(i, "value " + i);
+        }
+
+        assertThat(count("cache.region.evictions", "small")).isEqualTo(8);
+    }
+
+    @Test
+    void regionsAreBoundOnce() {
+        createCache("once", ResourcePoolsBuilder.heap(2));
+        cacheRegionMetrics.monitor(cacheManager);
+        cacheRegionMetrics.bindTo(meterRegistry);
+        cacheRegionMetrics.bindTo(meterRegistry);
+
+        assertThat(meterRegistry.find("cache.region.puts").tag("region", "once").functionCounters()).hasSize(1);
+    }
+
+    @Test
+    void regionTypeIsDerivedFromTheRegionName() {
+        assertThat(CacheRegionMetrics.regionType("com.crat.budget.domain.Article")).isEqualTo("entity");
+        assertThat(CacheRegionMetrics.regionType("com.crat.budget.domain.Article.recipes")).isEqualTo("collection");
+        assertThat(CacheRegionMetrics.regionType("usersByLogin")).isEqualTo("application");
+    }
+
+    private double count(String name, String region, String... tags) {
+        return meterRegistry.get(name).tag("region", region).tags(tags).functionCounter().count();
+    }
+
+    private double gauge(String name, String region, String... tags) {
+        return meterRegistry.get(name).tag("region", region).tags(tags).gauge().value();
+    }
+
+    private Cache<Object, Object> createCache(String name, ResourcePoolsBuilder resourcePools) {
+        return createCache(cacheManager, name, resourcePools);
+    }
+
+    private static Cache<Object, Object> createCache(CacheManager cacheManager, String name, ResourcePoolsBuilder resourcePools) {
+        return cacheManager.createCache(
+            name,
+            Eh107Configuration.fromEhcacheCacheConfiguration(
+                CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class, resourcePools).build()
+            )
+        );
+    }
+}
@@ -0,0 +1,71 @@
+package com.crat.budget.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.crat.budget.IntegrationTest;
+import com.crat.budget.domain.Authority;
+import com.crat.budget.repository.AuthorityRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Integration tests for the {@link HibernateStatisticsEndpoint}.
+ */
+@IntegrationTest
+class HibernateStatisticsEndpointIT {
+
+    private static final String AUTHORITY_ENTITY = Authority.class.getName();
+
+    @Autowired
+    private HibernateStatisticsEndpoint endpoint;
+
+    @Autowired
+    private AuthorityRepository authorityRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void initTest() {
+        endpoint.clear();
+    }
+
+    @AfterEach
+    void cleanup() {
+        endpoint.toggle(false);
+        endpoint.clear();
+    }
+
+    @Test
+    void testStatisticsAreOnlyCollectedWhileEnabled() {
+        assertThat(endpoint.statistics().enabled()).isFalse();
+        Authority authority = authorityRepository.saveAndFlush(new Authority().name(UUID.randomUUID().toString()));
+
+        assertThat(endpoint.statistics().entities().get(AUTHORITY_ENTITY).inserts()).isZero();
+
+        assertThat(endpoint.toggle(true).enabled()).isTrue();
+        long authorities = authorityRepository.findAll().size();
+        authorityRepository.delete(authority);
+
+        HibernateStatisticsEndpoint.HibernateStatistics statistics = endpoint.statistics();
+        // the delete loads the authority again, in its own session
+        assertThat(statistics.entities().get(AUTHORITY_ENTITY).loads()).isEqualTo(authorities + 1);
+        assertThat(statistics.entities().get(AUTHORITY_ENTITY).deletes()).isEqualTo(1);
+        assertThat(statistics.queries()).anySatisfy(query -> {
+            assertThat(query.query()).contains("jhi_authority");
+            assertThat(query.rows()).isEqualTo(authorities);
+        });
+        assertThat(meterRegistry.get("hibernate.statistics.enabled").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("hibernate.entity.deletes").tag("entity", AUTHORITY_ENTITY).functionCounter().count()).isEqualTo(1);
+
+        endpoint.toggle(false);
+        authorityRepository.findAll();
+
+        assertThat(endpoint.statistics().entities().get(AUTHORITY_ENTITY).loads()).isEqualTo(authorities + 1);
+        assertThat(meterRegistry.get("hibernate.statistics.enabled").gauge().value()).isZero();
+    }
+}
@@ -0,0 +1,124 @@
+package com.crat.budget.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.crat.budget.config.ApplicationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.List;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the {@link InstrumentedDataSource}.
+ */
+class InstrumentedDataSourceTest {
+
+    private JdbcDataSource target;
+
+    private InstrumentedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        target = new JdbcDataSource();
+        target.setURL("jdbc:h2:mem:query-statistics;DB_CLOSE_DELAY=-1");
+        dataSource = new InstrumentedDataSource(target);
+        try (Connection connection = target.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("create table item (id bigint primary key)");
+            statement.execute("insert into item values (1), (2), (3)");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        QueryStatistics.stop();
+        try (Connection connection = target.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("drop table item");
+        }
+    }
+
+    @Test
+    void testCountsStatementsAndRows() throws Exception {
+        QueryStatistics statistics = QueryStatistics.start();
+        try (Connection connection = dataSource.getConnection()) {
+            try (PreparedStatement statement = connection.prepareStatement("select id from item where id > ?")) {
+                statement.setLong(1, 1);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        assertThat(resultSet.getLong(1)).isGreaterThan(1);
+                    }
+                }
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.executeUpdate("update item set id = id + 10 where id = 3");
+            }
+        }
+
+        assertThat(statistics.getStatements()).isEqualTo(2);
+        assertThat(statistics.getRows()).isEqualTo(2);
+    }
+
+    @Test
+    void testCountsNothingWithoutStatistics() throws Exception {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.executeQuery("select id from item").next();
+        }
+        QueryStatistics statistics = QueryStatistics.start();
+
+        assertThat(statistics.getStatements()).isZero();
+        assertThat(statistics.getRows()).isZero();
+    }
+
+    @Test
+    void testLogsSlowQueriesWithParametersRowsAndOrigin() throws Exception {
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getSlowQuery().setThreshold(Duration.ZERO);
+        applicationProperties.getSlowQuery().setCaptureParameters(true);
+        applicationProperties.getSlowQuery().setMaximumParameterLength(3);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SlowQueryLog slowQueryLog = new SlowQueryLog(applicationProperties, meterRegistry);
+        InstrumentedDataSource slowDataSource = new InstrumentedDataSource(target, slowQueryLog);
+        try (Connection connection = slowDataSource.getConnection()) {
+            try (PreparedStatement statement = connection.prepareStatement("select id from item where id > ? and ? is not null")) {
+                statement.setLong(1, 1);
+                statement.setString(2, "truncated");
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        assertThat(resultSet.getLong(1)).isGreaterThan(1);
+                    }
+                }
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.executeUpdate("update item set id = id + 10 where id < 3");
+            }
+        }
+
+        assertThat(slowQueryLog.getSlowQueries())
+            .extracting(SlowQuery::sql, SlowQuery::parameters, SlowQuery::rows)
+            .containsExactlyInAnyOrder(
+                tuple("select id from item where id > ? and ? is not null", List.of("1", "tru..."), 2L),
+                tuple("update item set id = id + 10 where id < 3", List.of(), 2L)
+            );
+        assertThat(slowQueryLog.getSlowQueries())
+            .extracting(SlowQuery::origin)
+            .allMatch(origin -> origin.startsWith(InstrumentedDataSourceTest.class.getName() + "."));
+        assertThat(meterRegistry.get(SlowQueryLog.METER_NAME).counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void testUnwrapsToTheTargetDataSource() throws Exception {
+        assertThat(dataSource.isWrapperFor(JdbcDataSource.class)).isTrue();
+        assertThat(dataSource.unwrap(JdbcDataSource.class)).isSameAs(target);
+        try (Connection connection = dataSource.getConnection()) {
+            assertThat(connection).isEqualTo(connection).isNotInstanceOf(org.h2.jdbc.JdbcConnection.class);
+            assertThat(connection.isWrapperFor(org.h2.jdbc.JdbcConnection.class)).isTrue();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.crat.budget.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.crat.budget.IntegrationTest;
+import com.crat.budget.domain.Authority;
+import com.crat.budget.repository.AuthorityRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.search.Search;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Integration tests for the {@link QueryStatisticsInterceptor}.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser(authorities = { "ROLE_ADMIN" })
+class QueryStatisticsIT {
+
+    private static final String LIST_HANDLER = "AuthorityResource#getAllAuthorities";
+    private static final String GET_HANDLER = "AuthorityResource#getAuthority";
+
+    @Autowired
+    private AuthorityRepository authorityRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private Authority authority;
+
+    @BeforeEach
+    void initTest() {
+        authority = authorityRepository.saveAndFlush(new Authority().name(UUID.randomUUID().toString()));
+    }
+
+    @AfterEach
+    void cleanup() {
+        authorityRepository.delete(authority);
+    }
+
+    @Test
+    void testRequestStatisticsAreRecordedByHandler() throws Exception {
+        long requests = count("jdbc.statements", LIST_HANDLER);
+        double statements = total("jdbc.statements", LIST_HANDLER);
+        double rows = total("jdbc.rows", LIST_HANDLER);
+        double entities = total("entities.loaded", LIST_HANDLER);
+
+        mockMvc.perform(get("/api/authorities")).andExpect(status().isOk());
+
+        long authorities = authorityRepository.count();
+        assertThat(count("jdbc.statements", LIST_HANDLER)).isEqualTo(requests + 1);
+        assertThat(total("jdbc.statements", LIST_HANDLER)).isEqualTo(statements + 1);
+        assertThat(total("jdbc.rows", LIST_HANDLER)).isEqualTo(rows + authorities);
+        assertThat(total("entities.loaded", LIST_HANDLER)).isEqualTo(entities + authorities);
+    }
+
+    @Test
+    void testSecondLevelCacheLookupsAreRecordedByResult() throws Exception {
+        long hits = count("cache.gets", GET_HANDLER, "hit");
+        long misses = count("cache.gets", GET_HANDLER, "miss");
+
+        mockMvc.perform(get("/api/authorities/{name}", authority.getName())).andExpect(status().isOk());
+        mockMvc.perform(get("/api/authorities/{name}", authority.getName())).andExpect(status().isOk());
+
+        // the second-level cache is disabled in the tests: the lookups of each request are recorded, as none
+        assertThat(count("cache.gets", GET_HANDLER, "hit")).isEqualTo(hits + 2);
+        assertThat(count("cache.gets", GET_HANDLER, "miss")).isEqualTo(misses + 2);
+    }
+
+    @Test
+    void testCacheLookupsAreCountedInTheStatistics() {
+        QueryStatistics statistics = QueryStatistics.start();
+        try {
+            QueryStatisticsListener listener = new QueryStatisticsListener();
+            listener.cacheGetEnd(true);
+            listener.cacheGetEnd(false);
+            listener.cacheGetEnd(true);
+        } finally {
+            QueryStatistics.stop();
+        }
+
+        assertThat(statistics.getCacheHits()).isEqualTo(2);
+        assertThat(statistics.getCacheMisses()).isEqualTo(1);
+    }
+
+    private Search search(String name, String handler) {
+        return meterRegistry
+            .find(QueryStatisticsInterceptor.METER_NAME_PREFIX + name)
+            .tag(QueryStatisticsInterceptor.HANDLER_DIMENSION, handler);
+    }
+
+    private long count(String name, String handler) {
+        DistributionSummary summary = search(name, handler).summary();
+        return summary == null ? 0 : summary.count();
+    }
+
+    private double total(String name, String handler) {
+        DistributionSummary summary = search(name, handler).summary();
+        return summary == null ? 0 : summary.totalAmount();
+    }
+
+    private long count(String name, String handler, String result) {
+        DistributionSummary summary = search(name, handler).tag(QueryStatisticsInterceptor.RESULT_DIMENSION, result).summary();
+        return summary == null ? 0 : summary.count();
+    }
+}
@@ -1,6 +1,7 @@
 package com.crat.budget.management;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -67,4 +68,28 @@ class SecurityMetersServiceTests {
 
         assertThat(meterRegistry.get(INVALID_TOKENS_METER_EXPECTED_NAME).tag("cause", "malformed").counter().count()).isEqualTo(1);
     }
+
+    @Test
+    void testTokenCacheCountersAreBoundToCorrectResults() {
+        securityMetersService.trackTokenCacheHit();
+        securityMetersService.trackTokenCacheHit();
+        securityMetersService.trackTokenCacheMiss();
+
+        assertThat(meterRegistry.get("security.authentication.token-cache").tag("result", "hit").counter().count()).isEqualTo(2);
+
+        assertThat(meterRegistry.get("security.authentication.token-cache").tag("result", "miss").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testLoginIsTimedByOutcome() {
+        assertThat(securityMetersService.trackLogin(() -> "authenticated")).isEqualTo("authenticated");
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() ->
+            securityMetersService.trackLogin(() -> {
+                throw new IllegalStateException("bad credentials");
+            })
+        );
+
+        assertThat(meterRegistry.get("security.authentication.login").tag("outcome", "success").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("security.authentication.login").tag("outcome", "failure").timer().count()).isEqualTo(1);
+    }
 }
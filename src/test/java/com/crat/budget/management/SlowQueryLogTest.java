@@ -0,0 +1,56 @@
+package com.crat.budget.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.crat.budget.config.ApplicationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the {@link SlowQueryLog}.
+ */
+class SlowQueryLogTest {
+
+    private SlowQueryLog slowQueryLog;
+
+    @BeforeEach
+    void setUp() {
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getSlowQuery().setThreshold(Duration.ofMillis(100));
+        applicationProperties.getSlowQuery().setCapacity(3);
+        slowQueryLog = new SlowQueryLog(applicationProperties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void testIsSlowFromTheThreshold() {
+        assertThat(slowQueryLog.isSlow(Duration.ofMillis(99).toNanos())).isFalse();
+        assertThat(slowQueryLog.isSlow(Duration.ofMillis(100).toNanos())).isTrue();
+    }
+
+    @Test
+    void testKeepsTheSlowestQueriesSlowestFirst() {
+        for (long duration : new long[] { 400, 100, 300, 200, 150 }) {
+            slowQueryLog.record(slowQuery(duration));
+        }
+
+        assertThat(slowQueryLog.getSlowQueries()).extracting(SlowQuery::durationMillis).containsExactly(400L, 300L, 200L);
+
+        slowQueryLog.clear();
+
+        assertThat(slowQueryLog.getSlowQueries()).isEmpty();
+    }
+
+    @Test
+    void testCountsJoins() {
+        assertThat(SlowQueryLog.countJoins("select a.id from a a left join b b on b.id = a.b_id JOIN c c on c.id = b.c_id")).isEqualTo(2);
+        assertThat(SlowQueryLog.countJoins("select id from a")).isZero();
+    }
+
+    private static SlowQuery slowQuery(long durationMillis) {
+        return new SlowQuery("select 1", List.of(), durationMillis, 1, 0, null, Instant.now());
+    }
+}
@@ -0,0 +1,84 @@
+package com.crat.budget.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.crat.budget.domain.Article;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+import java.util.List;
+import org.hibernate.Cache;
+import org.hibernate.collection.spi.PersistentSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Test class for the {@link ArticleRepositoryWithBagRelationshipsImpl}.
+ */
+class ArticleRepositoryWithBagRelationshipsImplTest {
+
+    private TypedQuery<Article> query;
+
+    private ArticleRepositoryWithBagRelationshipsImpl repository;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        EntityManager entityManager = mock(EntityManager.class);
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        jakarta.persistence.Cache cache = mock(jakarta.persistence.Cache.class);
+        when(entityManager.getEntityManagerFactory()).thenReturn(entityManagerFactory);
+        when(entityManagerFactory.getCache()).thenReturn(cache);
+        when(cache.unwrap(Cache.class)).thenReturn(mock(Cache.class));
+        query = mock(TypedQuery.class);
+        when(entityManager.createQuery(anyString(), eq(Article.class))).thenReturn(query);
+        when(query.setParameter(anyString(), any())).thenReturn(query);
+        repository = new ArticleRepositoryWithBagRelationshipsImpl();
+        ReflectionTestUtils.setField(repository, "entityManager", entityManager);
+    }
+
+    @Test
+    void mergesTheFetchedArticlesInTheInputOrder() {
+        Article third = lazyArticle(30L);
+        Article first = lazyArticle(10L);
+        Article second = lazyArticle(20L);
+        // the fetched articles come back in id order, as other instances
+        List<Article> fetched = List.of(fetchedArticle(10L), fetchedArticle(20L), fetchedArticle(30L));
+        when(query.getResultList()).thenReturn(fetched);
+
+        List<Article> result = repository.fetchBagRelationships(List.of(third, first, second, first));
+
+        assertThat(result).extracting(Article::getId).containsExactly(30L, 10L, 20L, 10L);
+        assertThat(result).containsExactly(fetched.get(2), fetched.get(0), fetched.get(1), fetched.get(0));
+    }
+
+    @Test
+    void keepsTheArticlesWhichWereNotFetched() {
+        Article first = lazyArticle(10L);
+        Article second = lazyArticle(20L);
+        List<Article> fetched = List.of(fetchedArticle(20L));
+        when(query.getResultList()).thenReturn(fetched);
+
+        List<Article> result = repository.fetchBagRelationships(List.of(first, second));
+
+        assertThat(result).containsExactly(first, fetched.get(0));
+    }
+
+    private static Article lazyArticle(Long id) {
+        Article article = new Article().id(id);
+        // bags not loaded yet, as on an article read without them
+        ReflectionTestUtils.setField(article, "recipes", new PersistentSet<>());
+        ReflectionTestUtils.setField(article, "expenses", new PersistentSet<>());
+        return article;
+    }
+
+    private static Article fetchedArticle(Long id) {
+        return new Article().id(id);
+    }
+}
@@ -0,0 +1,258 @@
+package com.crat.budget.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.crat.budget.IntegrationTest;
+import com.crat.budget.domain.Mandate;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.EnabledIf;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for the tables partitioned by financial year, which are only partitioned on PostgreSQL: they run
+ * with the {@code prod} profile of the build, against the PostgreSQL test container.
+ */
+@IntegrationTest
+@EnabledIf(expression = "#{environment.acceptsProfiles('testprod')}", loadContext = true)
+class FinancialYearPartitionsIT {
+
+    private static final List<String> PARTITIONED_TABLES = List.of("purchase_order_item", "decision_item", "mandate");
+
+    private static final AtomicLong ids = new AtomicLong(9_100_000L);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MandateRepository mandateRepository;
+
+    private TransactionTemplate transactionTemplate;
+
+    private final List<Long> financialYearIds = new ArrayList<>();
+
+    private final List<Long> engagementIds = new ArrayList<>();
+
+    @BeforeEach
+    void initTest() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void cleanup() {
+        inTransaction(() -> {
+            for (Long financialYearId : financialYearIds) {
+                jdbcTemplate.update("delete from mandate where financial_year_id = ?", financialYearId);
+                jdbcTemplate.update("delete from purchase_order_item where financial_year_id = ?", financialYearId);
+                jdbcTemplate.update("delete from decision_item where financial_year_id = ?", financialYearId);
+                jdbcTemplate.queryForList("select detach_financial_year_partitions(?)", financialYearId);
+                for (String table : PARTITIONED_TABLES) {
+                    jdbcTemplate.execute("drop table if exists " + table + "_fy_" + financialYearId);
+                }
+            }
+            engagementIds.forEach(engagementId -> jdbcTemplate.update("delete from engagement where id = ?", engagementId));
+            financialYearIds.forEach(financialYearId -> jdbcTemplate.update("delete from financial_year where id = ?", financialYearId));
+        });
+    }
+
+    @Test
+    void testTablesArePartitionedByFinancialYear() {
+        List<String> partitionedTables = jdbcTemplate.queryForList(
+            "select c.relname from pg_partitioned_table p join pg_class c on c.oid = p.partrelid",
+            String.class
+        );
+
+        assertThat(partitionedTables).containsAll(PARTITIONED_TABLES);
+        PARTITIONED_TABLES.forEach(table -> assertThat(partitionsOf(table)).contains(table + "_fy_default"));
+    }
+
+    @Test
+    void testNewFinancialYearGetsItsPartitions() {
+        long financialYearId = createFinancialYear(2025);
+
+        for (String table : PARTITIONED_TABLES) {
+            assertThat(partitionsOf(table)).contains(table + "_fy_" + financialYearId);
+        }
+        // the primary key and the unique engagement of each partition
+        assertThat(constraintsOf("purchase_order_item_fy_" + financialYearId)).isEqualTo(1);
+        assertThat(constraintsOf("decision_item_fy_" + financialYearId)).isEqualTo(1);
+        assertThat(constraintsOf("mandate_fy_" + financialYearId)).isEqualTo(2);
+    }
+
+    @Test
+    void testPartitionedTableKeepsItsColumnsAndForeignKeys() {
+        long financialYearId = createFinancialYear(2025);
+        long engagementId = createEngagement();
+
+        Mandate mandate = transactionTemplate.execute(status ->
+            mandateRepository.save(
+                new Mandate()
+                    .mandateNumber("AAAAAAAAAA")
+                    .mandateDate(Instant.ofEpochMilli(0L))
+                    .issueSlipNumber("BBBBBBBBBB")
+                    .financialYearId(financialYearId)
+            )
+        );
+
+        Mandate savedMandate = transactionTemplate.execute(status -> mandateRepository.findById(mandate.getId()).orElseThrow());
+        assertThat(savedMandate.getMandateNumber()).isEqualTo("AAAAAAAAAA");
+        assertThat(savedMandate.getIssueSlipNumber()).isEqualTo("BBBBBBBBBB");
+        assertThat(savedMandate.getFinancialYearId()).isEqualTo(financialYearId);
+        assertThat(countRows("mandate_fy_" + financialYearId, mandate.getId())).isEqualTo(1);
+
+        // the foreign keys were added back to the partitioned table
+        assertThatThrownBy(() -> insertMandate(ids.incrementAndGet(), ids.incrementAndGet(), null)).isInstanceOf(
+            DataIntegrityViolationException.class
+        );
+        assertThatThrownBy(() -> insertMandate(ids.incrementAndGet(), financialYearId, engagementId + 1_000_000L)).isInstanceOf(
+            DataIntegrityViolationException.class
+        );
+    }
+
+    @Test
+    void testKeysAreUniqueAcrossTheFinancialYears() {
+        long financialYearId = createFinancialYear(2025);
+        long nextFinancialYearId = createFinancialYear(2026);
+        long engagementId = createEngagement();
+        long mandateId = ids.incrementAndGet();
+        insertMandate(mandateId, financialYearId, engagementId);
+
+        assertThatThrownBy(() -> insertMandate(mandateId, nextFinancialYearId, null)).isInstanceOf(DuplicateKeyException.class);
+        assertThatThrownBy(() -> insertMandate(ids.incrementAndGet(), nextFinancialYearId, engagementId)).isInstanceOf(
+            DuplicateKeyException.class
+        );
+
+        long purchaseOrderItemId = ids.incrementAndGet();
+        insertPurchaseOrderItem(purchaseOrderItemId, financialYearId);
+        assertThatThrownBy(() -> insertPurchaseOrderItem(purchaseOrderItemId, nextFinancialYearId)).isInstanceOf(
+            DuplicateKeyException.class
+        );
+        long decisionItemId = ids.incrementAndGet();
+        insertDecisionItem(decisionItemId, financialYearId);
+        assertThatThrownBy(() -> insertDecisionItem(decisionItemId, nextFinancialYearId)).isInstanceOf(DuplicateKeyException.class);
+
+        // a mandate moved to another year keeps its keys
+        inTransaction(() -> jdbcTemplate.update("update mandate set financial_year_id = ? where id = ?", nextFinancialYearId, mandateId));
+        assertThat(countRows("mandate_fy_" + nextFinancialYearId, mandateId)).isEqualTo(1);
+        assertThatThrownBy(() -> insertMandate(mandateId, financialYearId, null)).isInstanceOf(DuplicateKeyException.class);
+        assertThatThrownBy(() -> insertMandate(ids.incrementAndGet(), financialYearId, engagementId)).isInstanceOf(
+            DuplicateKeyException.class
+        );
+
+        // and releases them when it is deleted
+        inTransaction(() -> jdbcTemplate.update("delete from mandate where id = ?", mandateId));
+        insertMandate(mandateId, financialYearId, engagementId);
+        assertThat(countRows("mandate_fy_" + financialYearId, mandateId)).isEqualTo(1);
+    }
+
+    @Test
+    void testClosedFinancialYearPartitionsAreDetached() {
+        long financialYearId = createFinancialYear(2025);
+        long nextFinancialYearId = createFinancialYear(2026);
+        long engagementId = createEngagement();
+        long mandateId = ids.incrementAndGet();
+        insertMandate(mandateId, financialYearId, engagementId);
+
+        inTransaction(() -> jdbcTemplate.queryForList("select detach_financial_year_partitions(?)", financialYearId));
+
+        for (String table : PARTITIONED_TABLES) {
+            assertThat(partitionsOf(table)).doesNotContain(table + "_fy_" + financialYearId);
+        }
+        assertThat(countRows("mandate", mandateId)).isZero();
+        assertThat(countRows("mandate_fy_" + financialYearId, mandateId)).isEqualTo(1);
+
+        // the keys of the detached rows are released
+        insertMandate(mandateId, nextFinancialYearId, engagementId);
+        assertThat(countRows("mandate", mandateId)).isEqualTo(1);
+    }
+
+    private long createFinancialYear(int year) {
+        long id = ids.incrementAndGet();
+        inTransaction(() -> jdbcTemplate.update("insert into financial_year (id, year) values (?, ?)", id, year));
+        financialYearIds.add(id);
+        return id;
+    }
+
+    private long createEngagement() {
+        long id = ids.incrementAndGet();
+        inTransaction(() ->
+            jdbcTemplate.update(
+                "insert into engagement (id, engagement_number, engagement_date) values (?, 'AAAAAAAAAA', current_timestamp)",
+                id
+            )
+        );
+        engagementIds.add(id);
+        return id;
+    }
+
+    private void insertMandate(long id, long financialYearId, Long engagementId) {
+        inTransaction(() ->
+            jdbcTemplate.update(
+                "insert into mandate (id, mandate_number, mandate_date, engagement_id, financial_year_id) " +
+                "values (?, 'AAAAAAAAAA', current_timestamp, ?, ?)",
+                id,
+                engagementId,
+                financialYearId
+            )
+        );
+    }
+
+    private void insertPurchaseOrderItem(long id, long financialYearId) {
+        inTransaction(() ->
+            jdbcTemplate.update(
+                "insert into purchase_order_item (id, product_name, quantity, unit_price, total_amount, financial_year_id) " +
+                "values (?, 'AAAAAAAAAA', 1, 10, 10, ?)",
+                id,
+                financialYearId
+            )
+        );
+    }
+
+    private void insertDecisionItem(long id, long financialYearId) {
+        inTransaction(() ->
+            jdbcTemplate.update(
+                "insert into decision_item (id, beneficiary, financial_year_id) values (?, 'AAAAAAAAAA', ?)",
+                id,
+                financialYearId
+            )
+        );
+    }
+
+    private List<String> partitionsOf(String table) {
+        return jdbcTemplate.queryForList(
+            "select inhrelid::regclass::text from pg_inherits where inhparent = ?::regclass",
+            String.class,
+            table
+        );
+    }
+
+    private Integer constraintsOf(String table) {
+        return jdbcTemplate.queryForObject(
+            "select count(*) from pg_constraint where conrelid = ?::regclass and contype in ('p', 'u')",
+            Integer.class,
+            table
+        );
+    }
+
+    private Integer countRows(String table, long id) {
+        return jdbcTemplate.queryForObject("select count(*) from " + table + " where id = ?", Integer.class, id);
+    }
+
+    private void inTransaction(Runnable action) {
+        transactionTemplate.executeWithoutResult(status -> action.run());
+    }
+}
@@ -0,0 +1,71 @@
+package com.crat.budget.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+/**
+ * Test class for the {@link AuthoritySetRegistry}.
+ */
+class AuthoritySetRegistryTest {
+
+    private final AuthoritySetRegistry registry = new AuthoritySetRegistry(SecurityUtils.AUTHORITIES_KEY, 4);
+
+    @Test
+    void sameClaimGetsTheSameImmutableSet() {
+        Set<GrantedAuthority> first = registry.getAuthorities(new String("ROLE_ADMIN ROLE_USER"));
+        Set<GrantedAuthority> second = registry.getAuthorities(new String("ROLE_ADMIN ROLE_USER"));
+
+        assertThat(second).isSameAs(first);
+        assertThat(first).extracting(GrantedAuthority::getAuthority).containsExactly(AuthoritiesConstants.ADMIN, AuthoritiesConstants.USER);
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(first::clear);
+    }
+
+    @Test
+    void authoritiesAreSharedBetweenSets() {
+        GrantedAuthority fromPair = registry.getAuthorities("ROLE_ADMIN ROLE_USER").iterator().next();
+        GrantedAuthority alone = registry.getAuthorities("ROLE_ADMIN").iterator().next();
+
+        assertThat(alone).isSameAs(fromPair);
+    }
+
+    @Test
+    void collectionClaimIsSupported() {
+        assertThat(registry.getAuthorities(List.of("ROLE_CUSTOM", "ROLE_USER")))
+            .extracting(GrantedAuthority::getAuthority)
+            .containsExactly("ROLE_CUSTOM", AuthoritiesConstants.USER);
+    }
+
+    @Test
+    void missingOrEmptyClaimHasNoAuthority() {
+        assertThat(registry.getAuthorities(null)).isEmpty();
+        assertThat(registry.getAuthorities("")).isEmpty();
+    }
+
+    @Test
+    void claimsBeyondTheMaximumSizeAreNotRegistered() {
+        registry.getAuthorities("ROLE_A");
+        Set<GrantedAuthority> first = registry.getAuthorities("ROLE_B");
+        Set<GrantedAuthority> second = registry.getAuthorities("ROLE_B");
+
+        assertThat(second).isNotSameAs(first).isEqualTo(first);
+    }
+
+    @Test
+    void convertReadsTheAuthoritiesClaim() {
+        Jwt jwt = Jwt.withTokenValue("token")
+            .header("alg", "HS512")
+            .subject("admin")
+            .issuedAt(Instant.now())
+            .claim(SecurityUtils.AUTHORITIES_KEY, "ROLE_ADMIN ROLE_USER")
+            .build();
+
+        assertThat(registry.convert(jwt)).isSameAs(registry.getAuthorities("ROLE_ADMIN ROLE_USER"));
+    }
+}
@@ -0,0 +1,236 @@
+package com.crat.budget.security;
+
+import static com.crat.budget.security.SecurityUtils.JWT_ALGORITHM;
+import static com.crat.budget.security.jwt.JwtAuthenticationTestUtils.createExpiredToken;
+import static com.crat.budget.security.jwt.JwtAuthenticationTestUtils.createInvalidToken;
+import static com.crat.budget.security.jwt.JwtAuthenticationTestUtils.createTokenWithDifferentSignature;
+import static com.crat.budget.security.jwt.JwtAuthenticationTestUtils.createValidToken;
+import static com.crat.budget.security.jwt.JwtAuthenticationTestUtils.createValidTokenForUser;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import com.crat.budget.management.SecurityMetersService;
+import com.nimbusds.jose.util.Base64;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+/**
+ * Test class for the {@link CachingJwtDecoder}.
+ */
+class CachingJwtDecoderTest {
+
+    private static final String JWT_KEY =
+        "fd54a45s65fds737b9aafcb3412e07ed99b267f33413274720ddbb7f6c5e64e9f14075f2d7ed041592f0b7657baf8";
+
+    private MeterRegistry meterRegistry;
+
+    private SecurityMetersService metersService;
+
+    private AtomicInteger verifications;
+
+    private JwtDecoder delegate;
+
+    private MutableClock clock;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metersService = new SecurityMetersService(meterRegistry);
+        verifications = new AtomicInteger();
+        byte[] keyBytes = Base64.from(JWT_KEY).decode();
+        NimbusJwtDecoder nimbusJwtDecoder = NimbusJwtDecoder.withSecretKey(
+            new SecretKeySpec(keyBytes, 0, keyBytes.length, JWT_ALGORITHM.getName())
+        )
+            .macAlgorithm(JWT_ALGORITHM)
+            .build();
+        delegate = token -> {
+            verifications.incrementAndGet();
+            return nimbusJwtDecoder.decode(token);
+        };
+        clock = new MutableClock(Instant.now());
+    }
+
+    @Test
+    void repeatedTokenIsVerifiedOnce() {
+        CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, metersService, 10, clock);
+        String token = createValidToken(JWT_KEY);
+
+        Jwt first = decoder.decode(token);
+        Jwt second = decoder.decode(token);
+
+        assertThat(second).isSameAs(first);
+        assertThat(verifications).hasValue(1);
+        assertThat(tokenCacheCount("hit")).isEqualTo(1);
+        assertThat(tokenCacheCount("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void tokenIsNotServedFromTheCacheAfterItsExpiry() {
+        CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, metersService, 10, clock);
+        String token = createValidToken(JWT_KEY);
+        decoder.decode(token);
+
+        clock.advance(Duration.ofSeconds(61));
+        decoder.decode(token);
+
+        assertThat(verifications).hasValue(2);
+        assertThat(tokenCacheCount("hit")).isZero();
+        assertThat(decoder.size()).isZero();
+    }
+
+    @Test
+    void cacheIsBounded() {
+        CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, metersService, 2, clock);
+
+        for (int i = 0; i < 5; i++) {
+            decoder.decode(createValidTokenForUser(JWT_KEY, "user-" + i));
+        }
+
+        assertThat(decoder.size()).isEqualTo(2);
+    }
+
+    @Test
+    void expiredTokensAreEvictedFirst() {
+        // tokens named after their lifetime, verified without signature
+        JwtDecoder lifetimes = token -> {
+            verifications.incrementAndGet();
+            return Jwt.withTokenValue(token)
+                .header("alg", JWT_ALGORITHM.getName())
+                .subject(token)
+                .expiresAt(clock.instant().plus(token.startsWith("short") ? Duration.ofSeconds(60) : Duration.ofHours(1)))
+                .build();
+        };
+        CachingJwtDecoder decoder = new CachingJwtDecoder(lifetimes, metersService, 2, clock);
+        decoder.decode("short-1");
+        decoder.decode("long-1");
+
+        clock.advance(Duration.ofSeconds(61));
+        decoder.decode("long-2");
+        decoder.decode("long-1");
+
+        assertThat(decoder.size()).isEqualTo(2);
+        assertThat(verifications).hasValue(3);
+        assertThat(tokenCacheCount("hit")).isEqualTo(1);
+    }
+
+    @Test
+    void tokensAreDecodedConcurrently() throws Exception {
+        CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, metersService, 50, clock);
+        List<String> tokens = IntStream.range(0, 100).mapToObj(i -> createValidTokenForUser(JWT_KEY, "user-" + i)).toList();
+        int threads = 8;
+        int decodesPerThread = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> decodes = new ArrayList<>();
+            for (int thread = 0; thread < threads; thread++) {
+                int offset = thread;
+                decodes.add(
+                    executor.submit(() -> {
+                        start.await();
+                        for (int i = 0; i < decodesPerThread; i++) {
+                            int index = (offset * 7 + i) % tokens.size();
+                            assertThat(decoder.decode(tokens.get(index)).getSubject()).isEqualTo("user-" + index);
+                        }
+                        return null;
+                    })
+                );
+            }
+            start.countDown();
+            for (Future<?> decode : decodes) {
+                decode.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(tokenCacheCount("hit") + tokenCacheCount("miss")).isEqualTo(threads * decodesPerThread);
+        assertThat(verifications.get()).isEqualTo((int) tokenCacheCount("miss"));
+        assertThat(tokenCacheCount("hit")).isPositive();
+        // bounded, give or take the tokens inserted at the same time
+        assertThat(decoder.size()).isLessThanOrEqualTo(50 + threads);
+    }
+
+    @Test
+    void noTokenIsCachedWhenDisabled() {
+        CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, metersService, 0, clock);
+        String token = createValidToken(JWT_KEY);
+
+        decoder.decode(token);
+        decoder.decode(token);
+
+        assertThat(verifications).hasValue(2);
+        assertThat(decoder.size()).isZero();
+    }
+
+    @Test
+    void rejectedTokensAreCountedByCause() {
+        CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, metersService, 10, clock);
+
+        assertThatExceptionOfType(JwtException.class).isThrownBy(() -> decoder.decode(createExpiredToken(JWT_KEY)));
+        assertThatExceptionOfType(JwtException.class).isThrownBy(() -> decoder.decode(createTokenWithDifferentSignature()));
+        assertThatExceptionOfType(JwtException.class).isThrownBy(() -> decoder.decode(createInvalidToken(JWT_KEY)));
+
+        assertThat(invalidTokenCount("expired")).isEqualTo(1);
+        assertThat(invalidTokenCount("invalid-signature")).isEqualTo(1);
+        assertThat(invalidTokenCount("malformed")).isEqualTo(1);
+        assertThat(decoder.size()).isZero();
+    }
+
+    private double tokenCacheCount(String result) {
+        return meterRegistry.get(SecurityMetersService.TOKEN_CACHE_METER_NAME).tag("result", result).counter().count();
+    }
+
+    private double invalidTokenCount(String cause) {
+        return meterRegistry.get(SecurityMetersService.INVALID_TOKENS_METER_NAME).tag("cause", cause).counter().count();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
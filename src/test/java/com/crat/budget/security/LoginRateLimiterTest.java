@@ -0,0 +1,143 @@
+package com.crat.budget.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.crat.budget.config.ApplicationProperties;
+import com.crat.budget.management.SecurityMetersService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the {@link LoginRateLimiter} and its {@link RateLimitStore}s.
+ */
+class LoginRateLimiterTest {
+
+    private MeterRegistry meterRegistry;
+
+    private ApplicationProperties.Security.LoginRateLimit properties;
+
+    private InMemoryRateLimitStore store;
+
+    private MutableClock clock;
+
+    private LoginRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new ApplicationProperties.Security.LoginRateLimit();
+        properties.getPerLogin().setCapacity(3);
+        properties.getPerLogin().setPeriod(Duration.ofSeconds(30));
+        properties.getPerIp().setCapacity(5);
+        properties.getPerIp().setPeriod(Duration.ofSeconds(60));
+        store = new InMemoryRateLimitStore();
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        limiter = new LoginRateLimiter(properties, store, new SecurityMetersService(meterRegistry), clock);
+    }
+
+    @Test
+    void testBurstThenRefillPerLogin() {
+        for (int attempt = 0; attempt < 3; attempt++) {
+            assertThat(limiter.tryAcquire("admin", "10.0.0.1")).isZero();
+        }
+        assertThat(limiter.tryAcquire("admin", "10.0.0.2")).isEqualTo(10);
+        // the login is case insensitive, like the authentication
+        assertThat(limiter.tryAcquire("ADMIN", "10.0.0.2")).isEqualTo(10);
+        assertThat(limiter.tryAcquire("user", "10.0.0.2")).isZero();
+
+        clock.advance(Duration.ofSeconds(10));
+        assertThat(limiter.tryAcquire("admin", "10.0.0.3")).isZero();
+        assertThat(limiter.tryAcquire("admin", "10.0.0.3")).isEqualTo(10);
+        assertThat(meterRegistry.get("security.authentication.rate-limited").tag("key", "login").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    void testIpIsLimitedAcrossLogins() {
+        for (int attempt = 0; attempt < 5; attempt++) {
+            assertThat(limiter.tryAcquire("user" + attempt, "10.0.0.1")).isZero();
+        }
+        assertThat(limiter.tryAcquire("other", "10.0.0.1")).isEqualTo(12);
+        // rejected by IP before the login bucket is touched
+        assertThat(limiter.tryAcquire("other", "10.0.0.2")).isZero();
+        assertThat(meterRegistry.get("security.authentication.rate-limited").tag("key", "ip").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("security.authentication.rate-limited").tag("key", "login").counter().count()).isZero();
+    }
+
+    @Test
+    void testDisabled() {
+        properties.setEnabled(false);
+        for (int attempt = 0; attempt < 10; attempt++) {
+            assertThat(limiter.tryAcquire("admin", "10.0.0.1")).isZero();
+        }
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    void testInMemoryStoreEvictsFullBucketsFirst() {
+        InMemoryRateLimitStore smallStore = new InMemoryRateLimitStore(2);
+        long now = clock.millis();
+        assertThat(smallStore.tryAcquire("first", 1000, 10000, now)).isZero();
+        assertThat(smallStore.tryAcquire("second", 1000, 10000, now + 5000)).isZero();
+        // the first bucket is full again, the second one is not
+        assertThat(smallStore.tryAcquire("third", 1000, 10000, now + 5000)).isZero();
+        assertThat(smallStore.size()).isEqualTo(2);
+        for (int attempt = 0; attempt < 9; attempt++) {
+            assertThat(smallStore.tryAcquire("second", 1000, 10000, now + 5000)).isZero();
+        }
+        assertThat(smallStore.tryAcquire("second", 1000, 10000, now + 5000)).isEqualTo(1000);
+    }
+
+    @Test
+    void testInMemoryStoreRefusesNewKeysWhileNoBucketIsFull() {
+        InMemoryRateLimitStore smallStore = new InMemoryRateLimitStore(2);
+        long now = clock.millis();
+        assertThat(smallStore.tryAcquire("first", 1000, 10000, now)).isZero();
+        assertThat(smallStore.tryAcquire("second", 1000, 10000, now + 500)).isZero();
+
+        // no bucket is full: the first one will be in 500 ms
+        assertThat(smallStore.tryAcquire("third", 1000, 10000, now + 500)).isEqualTo(500);
+        assertThat(smallStore.tryAcquire("fourth", 1000, 10000, now + 600)).isEqualTo(400);
+        assertThat(smallStore.tryAcquire("first", 1000, 10000, now + 600)).isZero();
+        assertThat(smallStore.size()).isEqualTo(2);
+
+        // the second bucket is full again, the first one is not
+        assertThat(smallStore.tryAcquire("third", 1000, 10000, now + 1500)).isZero();
+        assertThat(smallStore.tryAcquire("first", 1000, 10000, now + 1500)).isZero();
+        assertThat(smallStore.size()).isEqualTo(2);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
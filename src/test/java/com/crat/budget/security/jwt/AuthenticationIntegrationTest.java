@@ -1,9 +1,11 @@
 package com.crat.budget.security.jwt;
 
+import com.crat.budget.config.ApplicationProperties;
 import com.crat.budget.config.SecurityConfiguration;
 import com.crat.budget.config.SecurityJwtConfiguration;
 import com.crat.budget.config.WebConfigurer;
 import com.crat.budget.management.SecurityMetersService;
+import com.crat.budget.security.LoginRateLimiter;
 import com.crat.budget.web.rest.AuthenticateController;
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
@@ -21,10 +23,12 @@ import tech.jhipster.config.JHipsterProperties;
     },
     classes = {
         JHipsterProperties.class,
+        ApplicationProperties.class,
         WebConfigurer.class,
         SecurityConfiguration.class,
         SecurityJwtConfiguration.class,
         SecurityMetersService.class,
+        LoginRateLimiter.class,
         AuthenticateController.class,
         JwtAuthenticationTestUtils.class,
     }
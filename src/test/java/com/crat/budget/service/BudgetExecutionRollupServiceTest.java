@@ -0,0 +1,110 @@
+package com.crat.budget.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.crat.budget.domain.enumeration.FinancialCategoryEnum;
+import com.crat.budget.repository.ArticleRepository;
+import com.crat.budget.repository.ArticleRepositoryWithBudgetAggregates;
+import com.crat.budget.repository.ArticleRepositoryWithBudgetAggregates.BudgetLineAggregate;
+import com.crat.budget.service.dto.BudgetExecutionRollupDTO;
+import com.crat.budget.service.dto.BudgetExecutionRollupDTO.Level;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+/**
+ * Test class for the {@link BudgetExecutionRollupService}.
+ */
+class BudgetExecutionRollupServiceTest {
+
+    private ArticleRepository articleRepository;
+
+    private BudgetExecutionRollupService budgetExecutionRollupService;
+
+    @BeforeEach
+    void setUp() {
+        articleRepository = mock(ArticleRepository.class);
+        budgetExecutionRollupService = new BudgetExecutionRollupService(
+            articleRepository,
+            new ConcurrentMapCacheManager(BudgetExecutionRollupService.BUDGET_EXECUTION_ROLLUP_CACHE)
+        );
+        when(articleRepository.aggregateBudgetLines()).thenReturn(
+            List.of(
+                line(ArticleRepositoryWithBudgetAggregates.RECIPE_SOURCE, 1L, 10L, FinancialCategoryEnum.OPERATING_RECIPE, 2024, 100, 120),
+                line(ArticleRepositoryWithBudgetAggregates.RECIPE_SOURCE, 2L, 10L, FinancialCategoryEnum.OPERATING_RECIPE, 2024, 50, 60),
+                line(ArticleRepositoryWithBudgetAggregates.EXPENSE_SOURCE, 2L, 10L, FinancialCategoryEnum.OPERATING_EXPENSE, 2024, 30, 40),
+                line(ArticleRepositoryWithBudgetAggregates.RECIPE_SOURCE, 3L, 20L, FinancialCategoryEnum.OPERATING_RECIPE, 2025, 7, 8)
+            )
+        );
+    }
+
+    @Test
+    void rollsUpArticlesIntoChaptersSubTitleAndBudget() {
+        List<BudgetExecutionRollupDTO> chapters = budgetExecutionRollupService.findRollups(2024, Level.CHAPTER);
+
+        assertThat(chapters).hasSize(2);
+        BudgetExecutionRollupDTO recipes = chapters.get(0).getCategory() == FinancialCategoryEnum.OPERATING_RECIPE
+            ? chapters.get(0)
+            : chapters.get(1);
+        assertThat(recipes.getId()).isEqualTo(10L);
+        assertThat(recipes.getParentId()).isEqualTo(100L);
+        assertThat(recipes.getRecipeAchievementsInThePastYear()).isEqualTo(150);
+        assertThat(recipes.getRecipeNewYearForecast()).isEqualTo(180);
+        assertThat(recipes.getExpenseNewYearForecast()).isZero();
+
+        List<BudgetExecutionRollupDTO> subTitles = budgetExecutionRollupService.findRollups(null, Level.SUB_TITLE);
+        assertThat(subTitles).extracting(BudgetExecutionRollupDTO::getFinancialYear).containsExactly(2024, 2024, 2025);
+        assertThat(subTitles)
+            .filteredOn(rollup -> rollup.getFinancialYear() == 2025)
+            .singleElement()
+            .extracting(BudgetExecutionRollupDTO::getRecipeNewYearForecast)
+            .isEqualTo(8L);
+
+        List<BudgetExecutionRollupDTO> budget = budgetExecutionRollupService.findRollups(2024, Level.BUDGET);
+        assertThat(budget).extracting(BudgetExecutionRollupDTO::getId).containsOnlyNulls();
+        assertThat(budget).extracting(BudgetExecutionRollupDTO::getExpenseAchievementsInThePastYear).contains(30L);
+    }
+
+    @Test
+    void computesRollupsOnceUntilTheCacheIsCleared() {
+        budgetExecutionRollupService.findRollups(null, null);
+        budgetExecutionRollupService.findRollups(2024, Level.ARTICLE);
+        verify(articleRepository, times(1)).aggregateBudgetLines();
+
+        budgetExecutionRollupService.clearRollupCache();
+        budgetExecutionRollupService.findRollups(null, null);
+        verify(articleRepository, times(2)).aggregateBudgetLines();
+    }
+
+    private static BudgetLineAggregate line(
+        String source,
+        Long articleId,
+        Long chapterId,
+        FinancialCategoryEnum category,
+        Integer year,
+        long achievements,
+        long forecast
+    ) {
+        return new BudgetLineAggregate(
+            source,
+            articleId,
+            "A" + articleId,
+            "Article " + articleId,
+            chapterId,
+            "C" + chapterId,
+            "Chapter " + chapterId,
+            100L,
+            "S100",
+            "Sub-title 100",
+            category,
+            year,
+            achievements,
+            forecast
+        );
+    }
+}
@@ -0,0 +1,182 @@
+package com.crat.budget.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.crat.budget.IntegrationTest;
+import com.crat.budget.domain.AnnexDecision;
+import com.crat.budget.domain.CommitmentLedger;
+import com.crat.budget.domain.PurchaseOrder;
+import com.crat.budget.repository.AnnexDecisionRepository;
+import com.crat.budget.repository.CommitmentLedgerRepository;
+import com.crat.budget.repository.PurchaseOrderRepository;
+import com.crat.budget.service.importer.PurchaseOrderImportService;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for {@link CommitmentLedgerService}.
+ */
+@IntegrationTest
+class CommitmentLedgerServiceIT {
+
+    private static final String IMPORTED_ORDER_NUMBER = "IMPORTED";
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private PurchaseOrderService purchaseOrderService;
+
+    @Autowired
+    private PurchaseOrderImportService purchaseOrderImportService;
+
+    @Autowired
+    private PurchaseOrderRepository purchaseOrderRepository;
+
+    @Autowired
+    private AnnexDecisionRepository annexDecisionRepository;
+
+    @Autowired
+    private CommitmentLedgerRepository commitmentLedgerRepository;
+
+    @Test
+    @Transactional
+    void testPurchaseOrderWritesAreRecordedByDelta() {
+        AnnexDecision annexDecision = createAnnexDecision();
+        AnnexDecision otherAnnexDecision = createAnnexDecision();
+        em.persist(annexDecision);
+        em.persist(otherAnnexDecision);
+
+        PurchaseOrder first = purchaseOrderService.save(
+            createPurchaseOrder()
+                .totalAmountWithTax(new BigDecimal("100.00"))
+                .allocatedCredits(new BigDecimal("1000.00"))
+                .annexDecision(annexDecision)
+        );
+        PurchaseOrder second = purchaseOrderService.save(
+            createPurchaseOrder()
+                .totalAmountWithTax(new BigDecimal("50.00"))
+                .allocatedCredits(new BigDecimal("1000.00"))
+                .annexDecision(annexDecision)
+        );
+        assertLedger(annexDecision, "150.00", 2);
+        assertThat(second.getCommittedExpenditures()).isEqualByComparingTo("150.00");
+        assertThat(second.getAvailableBalance()).isEqualByComparingTo("850.00");
+
+        // a full update replaces the previous amount
+        em.flush();
+        em.detach(first);
+        purchaseOrderService.update(first.totalAmountWithTax(new BigDecimal("120.00")));
+        assertLedger(annexDecision, "170.00", 2);
+
+        // a partial update only changes the amount it sets
+        purchaseOrderService.partialUpdate(new PurchaseOrder().id(second.getId()).totalAmountWithTax(new BigDecimal("30.00")));
+        assertLedger(annexDecision, "150.00", 2);
+
+        // moving a purchase order moves its amount to the other ledger
+        em.flush();
+        em.detach(second);
+        purchaseOrderService.update(second.annexDecision(otherAnnexDecision));
+        assertLedger(annexDecision, "120.00", 1);
+        assertLedger(otherAnnexDecision, "30.00", 1);
+
+        purchaseOrderService.delete(first.getId());
+        assertLedger(annexDecision, "0.00", 0);
+        assertThat(purchaseOrderRepository.findById(second.getId())).isPresent();
+    }
+
+    @Test
+    void testImportedPurchaseOrdersAreRecorded() {
+        // the import commits a transaction per batch: the annex decision must be committed before
+        AnnexDecision annexDecision = annexDecisionRepository.saveAndFlush(createAnnexDecision());
+        List<Long> purchaseOrderIds = new ArrayList<>();
+        try {
+            PurchaseOrder saved = purchaseOrderService.save(
+                createPurchaseOrder().totalAmountWithTax(new BigDecimal("5.00")).annexDecision(annexDecision)
+            );
+            purchaseOrderIds.add(saved.getId());
+
+            AnnexDecision imported = new AnnexDecision().id(annexDecision.getId());
+            purchaseOrderImportService.importPurchaseOrders(
+                List.of(
+                    importedPurchaseOrder("10.00").annexDecision(imported),
+                    importedPurchaseOrder("20.00").annexDecision(imported),
+                    importedPurchaseOrder("40.00")
+                )
+            );
+
+            CommitmentLedger ledger = commitmentLedgerRepository.findById(annexDecision.getId()).orElseThrow();
+            assertThat(ledger.getCommittedAmount()).isEqualByComparingTo("35.00");
+            assertThat(ledger.getPurchaseOrderCount()).isEqualTo(3);
+        } finally {
+            purchaseOrderRepository
+                .findAll()
+                .stream()
+                .filter(purchaseOrder -> IMPORTED_ORDER_NUMBER.equals(purchaseOrder.getOrderNumber()))
+                .forEach(purchaseOrder -> purchaseOrderIds.add(purchaseOrder.getId()));
+            purchaseOrderRepository.deleteAllById(purchaseOrderIds);
+            annexDecisionRepository.deleteById(annexDecision.getId());
+        }
+    }
+
+    @Test
+    void testConcurrentWritersDoNotLoseDeltas() throws Exception {
+        AnnexDecision annexDecision = annexDecisionRepository.saveAndFlush(createAnnexDecision());
+        List<Long> purchaseOrderIds = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<PurchaseOrder>> futures = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                futures.add(
+                    executor.submit(() ->
+                        purchaseOrderService.save(
+                            createPurchaseOrder().totalAmountWithTax(new BigDecimal("10.50")).annexDecision(annexDecision)
+                        )
+                    )
+                );
+            }
+            for (Future<PurchaseOrder> future : futures) {
+                purchaseOrderIds.add(future.get().getId());
+            }
+
+            CommitmentLedger ledger = commitmentLedgerRepository.findById(annexDecision.getId()).orElseThrow();
+            assertThat(ledger.getCommittedAmount()).isEqualByComparingTo("210.00");
+            assertThat(ledger.getPurchaseOrderCount()).isEqualTo(20);
+        } finally {
+            executor.shutdownNow();
+            purchaseOrderRepository.deleteAllById(purchaseOrderIds);
+            annexDecisionRepository.deleteById(annexDecision.getId());
+        }
+    }
+
+    private static AnnexDecision createAnnexDecision() {
+        return new AnnexDecision().designation("AAAAAAAAAA").creditsOpen(new BigDecimal("1000.00"));
+    }
+
+    private static PurchaseOrder createPurchaseOrder() {
+        return new PurchaseOrder().nameOfTheMinistry("AAAAAAAAAA").orderNumber("AAAAAAAAAA").orderDate(Instant.ofEpochMilli(0L));
+    }
+
+    private static PurchaseOrder importedPurchaseOrder(String totalAmountWithTax) {
+        return createPurchaseOrder().orderNumber(IMPORTED_ORDER_NUMBER).totalAmountWithTax(new BigDecimal(totalAmountWithTax));
+    }
+
+    private void assertLedger(AnnexDecision annexDecision, String committedAmount, long purchaseOrderCount) {
+        CommitmentLedger ledger = em
+            .createQuery("select ledger from CommitmentLedger ledger where ledger.annexDecisionId = :id", CommitmentLedger.class)
+            .setParameter("id", annexDecision.getId())
+            .getSingleResult();
+        em.detach(ledger);
+        assertThat(ledger.getCommittedAmount()).isEqualByComparingTo(committedAmount);
+        assertThat(ledger.getPurchaseOrderCount()).isEqualTo(purchaseOrderCount);
+    }
+}
@@ -0,0 +1,201 @@
+package com.crat.budget.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.crat.budget.IntegrationTest;
+import com.crat.budget.domain.AnnexDecision;
+import com.crat.budget.domain.Decision;
+import com.crat.budget.domain.DecisionItem;
+import com.crat.budget.domain.Engagement;
+import com.crat.budget.domain.FinancialYear;
+import com.crat.budget.domain.Mandate;
+import com.crat.budget.domain.PurchaseOrder;
+import com.crat.budget.domain.PurchaseOrderItem;
+import com.crat.budget.service.criteria.PurchaseOrderCriteria;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for {@link FinancialYearPartitionService}.
+ */
+@IntegrationTest
+class FinancialYearPartitionServiceIT {
+
+    private static final AtomicLong financialYearIds = new AtomicLong(9_000_000L);
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private AnnexDecisionService annexDecisionService;
+
+    @Autowired
+    private PurchaseOrderService purchaseOrderService;
+
+    @Autowired
+    private PurchaseOrderItemService purchaseOrderItemService;
+
+    @Autowired
+    private DecisionService decisionService;
+
+    @Autowired
+    private DecisionItemService decisionItemService;
+
+    @Autowired
+    private EngagementService engagementService;
+
+    @Autowired
+    private MandateService mandateService;
+
+    @Autowired
+    private PurchaseOrderQueryService purchaseOrderQueryService;
+
+    @Test
+    @Transactional
+    void testRowsFollowTheFinancialYearOfTheirAnnexDecision() {
+        FinancialYear financialYear = createFinancialYear(2025);
+        FinancialYear nextFinancialYear = createFinancialYear(2026);
+        AnnexDecision annexDecision = new AnnexDecision().designation("AAAAAAAAAA").financialYear(financialYear);
+        em.persist(annexDecision);
+
+        PurchaseOrder purchaseOrder = purchaseOrderService.save(createPurchaseOrder().annexDecision(annexDecision));
+        PurchaseOrderItem purchaseOrderItem = purchaseOrderItemService.save(createPurchaseOrderItem().purchaseOrder(purchaseOrder));
+        Engagement engagement = engagementService.save(createEngagement());
+        Mandate mandate = mandateService.save(createMandate().engagement(engagement));
+        assertThat(engagement.getFinancialYearId()).isNull();
+        Decision decision = decisionService.save(createDecision().annexDecision(annexDecision).engagement(engagement));
+        DecisionItem decisionItem = decisionItemService.save(new DecisionItem().beneficiary("AAAAAAAAAA").decision(decision));
+
+        // every row takes the year of the annex decision, the engagement and its mandate through the decision
+        em.flush();
+        em.clear();
+        assertFinancialYear(financialYear, purchaseOrder, purchaseOrderItem, decision, decisionItem, engagement, mandate);
+
+        // moving the annex decision to another year moves all of them
+        AnnexDecision updatedAnnexDecision = em.find(AnnexDecision.class, annexDecision.getId());
+        em.detach(updatedAnnexDecision);
+        annexDecisionService.update(updatedAnnexDecision.financialYear(nextFinancialYear));
+        em.flush();
+        em.clear();
+        assertFinancialYear(nextFinancialYear, purchaseOrder, purchaseOrderItem, decision, decisionItem, engagement, mandate);
+
+        // an engagement unlinked from its decision leaves the year, with its mandate
+        Engagement otherEngagement = engagementService.save(createEngagement());
+        Decision updatedDecision = em.find(Decision.class, decision.getId());
+        em.detach(updatedDecision);
+        decisionService.update(updatedDecision.engagement(otherEngagement));
+        em.flush();
+        em.clear();
+        assertThat(em.find(Engagement.class, engagement.getId()).getFinancialYearId()).isNull();
+        assertThat(em.find(Mandate.class, mandate.getId()).getFinancialYearId()).isNull();
+        assertThat(em.find(Engagement.class, otherEngagement.getId()).getFinancialYearId()).isEqualTo(nextFinancialYear.getId());
+    }
+
+    @Test
+    @Transactional
+    void testRowsManagedByTheTransactionAreNotLeftInTheirPreviousYear() {
+        FinancialYear financialYear = createFinancialYear(2025);
+        FinancialYear nextFinancialYear = createFinancialYear(2026);
+        AnnexDecision annexDecision = new AnnexDecision().designation("AAAAAAAAAA").financialYear(financialYear);
+        em.persist(annexDecision);
+        PurchaseOrder purchaseOrder = purchaseOrderService.save(createPurchaseOrder().annexDecision(annexDecision));
+        em.flush();
+        em.clear();
+
+        // the purchase order is managed by the transaction when its annex decision moves to the next year
+        em.find(PurchaseOrder.class, purchaseOrder.getId());
+        AnnexDecision updatedAnnexDecision = em.find(AnnexDecision.class, annexDecision.getId());
+        em.detach(updatedAnnexDecision);
+        annexDecisionService.update(updatedAnnexDecision.financialYear(nextFinancialYear));
+
+        // it is read again in its new year, and a later change does not write the previous year back
+        PurchaseOrder updatedPurchaseOrder = em.find(PurchaseOrder.class, purchaseOrder.getId());
+        assertThat(updatedPurchaseOrder.getFinancialYearId()).isEqualTo(nextFinancialYear.getId());
+        updatedPurchaseOrder.setOrderNumber("BBBBBBBBBB");
+        em.flush();
+        em.clear();
+        assertThat(em.find(PurchaseOrder.class, purchaseOrder.getId()).getFinancialYearId()).isEqualTo(nextFinancialYear.getId());
+    }
+
+    @Test
+    @Transactional
+    void testCriteriaFilterByFinancialYear() {
+        FinancialYear financialYear = createFinancialYear(2025);
+        FinancialYear nextFinancialYear = createFinancialYear(2026);
+        AnnexDecision annexDecision = new AnnexDecision().designation("AAAAAAAAAA").financialYear(financialYear);
+        AnnexDecision nextAnnexDecision = new AnnexDecision().designation("BBBBBBBBBB").financialYear(nextFinancialYear);
+        em.persist(annexDecision);
+        em.persist(nextAnnexDecision);
+        PurchaseOrder purchaseOrder = purchaseOrderService.save(createPurchaseOrder().annexDecision(annexDecision));
+        PurchaseOrder nextPurchaseOrder = purchaseOrderService.save(createPurchaseOrder().annexDecision(nextAnnexDecision));
+        em.flush();
+
+        PurchaseOrderCriteria criteria = new PurchaseOrderCriteria();
+        criteria.financialYearId().setEquals(nextFinancialYear.getId());
+        assertThat(purchaseOrderQueryService.findByCriteria(criteria, PageRequest.of(0, 20)).getContent())
+            .extracting(PurchaseOrder::getId)
+            .containsExactly(nextPurchaseOrder.getId())
+            .doesNotContain(purchaseOrder.getId());
+    }
+
+    private void assertFinancialYear(
+        FinancialYear financialYear,
+        PurchaseOrder purchaseOrder,
+        PurchaseOrderItem purchaseOrderItem,
+        Decision decision,
+        DecisionItem decisionItem,
+        Engagement engagement,
+        Mandate mandate
+    ) {
+        Long financialYearId = financialYear.getId();
+        assertThat(em.find(PurchaseOrder.class, purchaseOrder.getId()).getFinancialYearId()).isEqualTo(financialYearId);
+        assertThat(em.find(PurchaseOrderItem.class, purchaseOrderItem.getId()).getFinancialYearId()).isEqualTo(financialYearId);
+        assertThat(em.find(Decision.class, decision.getId()).getFinancialYearId()).isEqualTo(financialYearId);
+        assertThat(em.find(DecisionItem.class, decisionItem.getId()).getFinancialYearId()).isEqualTo(financialYearId);
+        assertThat(em.find(Engagement.class, engagement.getId()).getFinancialYearId()).isEqualTo(financialYearId);
+        assertThat(em.find(Mandate.class, mandate.getId()).getFinancialYearId()).isEqualTo(financialYearId);
+    }
+
+    /**
+     * Insert a financial year with SQL, {@code year} being a keyword of H2 which Hibernate does not quote.
+     */
+    private FinancialYear createFinancialYear(int year) {
+        long id = financialYearIds.incrementAndGet();
+        em
+            .createNativeQuery("insert into financial_year (id, \"YEAR\") values (?, ?)")
+            .setParameter(1, id)
+            .setParameter(2, year)
+            .executeUpdate();
+        return em.getReference(FinancialYear.class, id);
+    }
+
+    private static PurchaseOrder createPurchaseOrder() {
+        return new PurchaseOrder().nameOfTheMinistry("AAAAAAAAAA").orderNumber("AAAAAAAAAA").orderDate(Instant.ofEpochMilli(0L));
+    }
+
+    private static PurchaseOrderItem createPurchaseOrderItem() {
+        return new PurchaseOrderItem()
+            .productName("AAAAAAAAAA")
+            .quantity(1)
+            .unitPrice(new BigDecimal("10.00"))
+            .totalAmount(new BigDecimal("10.00"));
+    }
+
+    private static Decision createDecision() {
+        return new Decision().decisionNumber("AAAAAAAAAA").decisionDate(Instant.ofEpochMilli(0L));
+    }
+
+    private static Engagement createEngagement() {
+        return new Engagement().engagementNumber("AAAAAAAAAA").engagementDate(Instant.ofEpochMilli(0L));
+    }
+
+    private static Mandate createMandate() {
+        return new Mandate().mandateNumber("AAAAAAAAAA").mandateDate(Instant.ofEpochMilli(0L));
+    }
+}
@@ -0,0 +1,133 @@
+package com.crat.budget.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.crat.budget.IntegrationTest;
+import com.crat.budget.domain.AnnexDecision;
+import com.crat.budget.domain.PurchaseOrder;
+import com.crat.budget.domain.PurchaseOrderItem;
+import com.crat.budget.repository.PurchaseOrderItemRepository;
+import com.crat.budget.repository.PurchaseOrderRepository;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for {@link PurchaseOrderTotalsService} and {@link PurchaseOrderTotalsReconciliationService}.
+ */
+@IntegrationTest
+class PurchaseOrderTotalsServiceIT {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private PurchaseOrderService purchaseOrderService;
+
+    @Autowired
+    private PurchaseOrderItemService purchaseOrderItemService;
+
+    @Autowired
+    private PurchaseOrderTotalsService purchaseOrderTotalsService;
+
+    @Autowired
+    private PurchaseOrderTotalsReconciliationService purchaseOrderTotalsReconciliationService;
+
+    @Autowired
+    private CommitmentLedgerService commitmentLedgerService;
+
+    @Autowired
+    private PurchaseOrderRepository purchaseOrderRepository;
+
+    @Autowired
+    private PurchaseOrderItemRepository purchaseOrderItemRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @Transactional
+    void testItemWritesRecomputeTheTotalsOnce() {
+        AnnexDecision annexDecision = new AnnexDecision().designation("AAAAAAAAAA");
+        em.persist(annexDecision);
+        PurchaseOrder purchaseOrder = purchaseOrderService.save(
+            createPurchaseOrder().taxRate(new BigDecimal("10")).totalAmountWithTax(new BigDecimal("999.00")).annexDecision(annexDecision)
+        );
+        PurchaseOrder withoutItems = purchaseOrderService.save(createPurchaseOrder().totalAmountWithTax(new BigDecimal("5.00")));
+
+        PurchaseOrderItem first = purchaseOrderItemService.save(createItem(new BigDecimal("100.00")).purchaseOrder(purchaseOrder));
+        purchaseOrderItemService.save(createItem(new BigDecimal("50.00")).purchaseOrder(purchaseOrder));
+        purchaseOrderItemService.partialUpdate(new PurchaseOrderItem().id(first.getId()).totalAmount(new BigDecimal("200.00")));
+        purchaseOrderService.partialUpdate(new PurchaseOrder().id(withoutItems.getId()).taxRate(new BigDecimal("10")));
+
+        // a single recompute of the purchase order having items
+        assertThat(purchaseOrderTotalsService.recomputePending()).isEqualTo(1);
+        assertThat(purchaseOrderTotalsService.recomputePending()).isZero();
+
+        assertThat(purchaseOrder.getTotalAmountWithoutTax()).isEqualByComparingTo("250.00");
+        assertThat(purchaseOrder.getTotalTaxAmount()).isEqualByComparingTo("25.00");
+        assertThat(purchaseOrder.getPrepaidTaxAmount()).isEqualByComparingTo("10.00");
+        assertThat(purchaseOrder.getTotalAmountWithTax()).isEqualByComparingTo("275.00");
+        assertThat(purchaseOrder.getCommittedExpenditures()).isEqualByComparingTo("275.00");
+        assertThat(commitmentLedgerService.findCommittedAmount(annexDecision.getId())).isEqualByComparingTo("275.00");
+        assertThat(withoutItems.getTotalAmountWithTax()).isEqualByComparingTo("5.00");
+
+        // removing the last items empties the totals
+        purchaseOrderItemRepository.findAll().stream().filter(item -> purchaseOrder.equals(item.getPurchaseOrder())).forEach(item ->
+            purchaseOrderItemService.delete(item.getId())
+        );
+        purchaseOrderTotalsService.recomputePending();
+        assertThat(purchaseOrder.getTotalAmountWithTax()).isZero();
+        assertThat(commitmentLedgerService.findCommittedAmount(annexDecision.getId())).isZero();
+    }
+
+    @Test
+    void testTotalsAreRecomputedOnCommitAndReconciled() throws Exception {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        PurchaseOrder purchaseOrder = purchaseOrderService.save(createPurchaseOrder().taxRate(new BigDecimal("20")));
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                purchaseOrderItemService.save(createItem(new BigDecimal("30.00")).purchaseOrder(purchaseOrder));
+                purchaseOrderItemService.save(createItem(new BigDecimal("70.00")).purchaseOrder(purchaseOrder));
+            });
+            assertThat(purchaseOrderRepository.findById(purchaseOrder.getId()).orElseThrow().getTotalAmountWithTax()).isEqualByComparingTo(
+                "120.00"
+            );
+
+            // the totals drift, behind the back of the application
+            transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.update("update purchase_order set total_tax_amount = 1 where id = ?", purchaseOrder.getId())
+            );
+
+            assertThat(purchaseOrderTotalsReconciliationService.reconcile().get(30, TimeUnit.SECONDS)).isPositive();
+            PurchaseOrder reconciled = purchaseOrderRepository.findById(purchaseOrder.getId()).orElseThrow();
+            assertThat(reconciled.getTotalTaxAmount()).isEqualByComparingTo("20.00");
+            assertThat(reconciled.getPrepaidTaxAmount()).isEqualByComparingTo("8.00");
+        } finally {
+            transactionTemplate.executeWithoutResult(status -> {
+                purchaseOrderItemRepository.deleteAll(
+                    purchaseOrderItemRepository.findAll().stream().filter(item -> purchaseOrder.equals(item.getPurchaseOrder())).toList()
+                );
+                purchaseOrderRepository.deleteById(purchaseOrder.getId());
+            });
+        }
+    }
+
+    private static PurchaseOrder createPurchaseOrder() {
+        return new PurchaseOrder().nameOfTheMinistry("AAAAAAAAAA").orderNumber("AAAAAAAAAA").orderDate(Instant.ofEpochMilli(0L));
+    }
+
+    private static PurchaseOrderItem createItem(BigDecimal totalAmount) {
+        return new PurchaseOrderItem().productName("AAAAAAAAAA").quantity(1).unitPrice(totalAmount).totalAmount(totalAmount);
+    }
+}
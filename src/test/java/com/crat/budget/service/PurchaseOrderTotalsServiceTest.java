@@ -0,0 +1,45 @@
+package com.crat.budget.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.crat.budget.domain.PurchaseOrder;
+import com.crat.budget.service.PurchaseOrderTotalsService.Totals;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the totals computed by the {@link PurchaseOrderTotalsService}.
+ */
+class PurchaseOrderTotalsServiceTest {
+
+    @Test
+    void computesTheTaxAndThePrepaidTaxFromTheItems() {
+        Totals totals = PurchaseOrderTotalsService.computeTotals(new BigDecimal("1000.005"), new BigDecimal("19.25"));
+
+        assertThat(totals.amountWithoutTax()).isEqualByComparingTo("1000.01");
+        assertThat(totals.taxAmount()).isEqualByComparingTo("192.50");
+        assertThat(totals.prepaidTaxAmount()).isEqualByComparingTo("77.00");
+        assertThat(totals.amountWithTax()).isEqualByComparingTo("1192.51");
+    }
+
+    @Test
+    void computesNoTaxWithoutTaxRate() {
+        Totals totals = PurchaseOrderTotalsService.computeTotals(new BigDecimal("250"), null);
+
+        assertThat(totals.taxAmount()).isZero();
+        assertThat(totals.prepaidTaxAmount()).isZero();
+        assertThat(totals.amountWithTax()).isEqualByComparingTo("250.00");
+    }
+
+    @Test
+    void onlyChangesThePurchaseOrdersWhichDrifted() {
+        Totals totals = PurchaseOrderTotalsService.computeTotals(new BigDecimal("100"), new BigDecimal("10"));
+        PurchaseOrder purchaseOrder = new PurchaseOrder().totalAmountWithoutTax(new BigDecimal("100"));
+
+        assertThat(totals.applyTo(purchaseOrder)).isTrue();
+        assertThat(purchaseOrder.getTotalTaxAmount()).isEqualByComparingTo("10.00");
+        assertThat(purchaseOrder.getPrepaidTaxAmount()).isEqualByComparingTo("4.00");
+        assertThat(purchaseOrder.getTotalAmountWithTax()).isEqualByComparingTo("110.00");
+        assertThat(totals.applyTo(purchaseOrder.totalAmountWithTax(new BigDecimal("110.000")))).isFalse();
+    }
+}
@@ -0,0 +1,255 @@
+package com.crat.budget.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.crat.budget.IntegrationTest;
+import com.crat.budget.config.ApplicationProperties;
+import com.crat.budget.domain.AnnexDecision;
+import com.crat.budget.domain.Article;
+import com.crat.budget.domain.Expense;
+import com.crat.budget.domain.FinancialYear;
+import com.crat.budget.domain.Recipe;
+import com.crat.budget.domain.YearEndRollover;
+import com.crat.budget.domain.enumeration.FinancialCategoryEnum;
+import com.crat.budget.domain.enumeration.YearEndRolloverStep;
+import com.crat.budget.repository.AnnexDecisionRepository;
+import com.crat.budget.repository.ExpenseRepository;
+import com.crat.budget.repository.RecipeRepository;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for {@link YearEndRolloverService} and {@link YearEndRolloverJobService}.
+ */
+@IntegrationTest
+class YearEndRolloverServiceIT {
+
+    private static final AtomicLong financialYearIds = new AtomicLong(9_100_000L);
+
+    private static final int RECIPE_ARTICLES = 7;
+
+    private static final int EXPENSE_ARTICLES = 4;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private YearEndRolloverService yearEndRolloverService;
+
+    @Autowired
+    private YearEndRolloverJobService yearEndRolloverJobService;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private AnnexDecisionRepository annexDecisionRepository;
+
+    @Autowired
+    private ApplicationProperties applicationProperties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    private int chunkSize;
+
+    private Long previousFinancialYearId;
+
+    private Long financialYearId;
+
+    private final List<Long> articleIds = new ArrayList<>();
+
+    @BeforeEach
+    void initTest() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        chunkSize = applicationProperties.getYearEndRollover().getChunkSize();
+        applicationProperties.getYearEndRollover().setChunkSize(2);
+        previousFinancialYearId = financialYearIds.incrementAndGet();
+        financialYearId = financialYearIds.incrementAndGet();
+        transactionTemplate.executeWithoutResult(status -> {
+            FinancialYear previousFinancialYear = createFinancialYear(previousFinancialYearId, 2025);
+            createFinancialYear(financialYearId, 2026);
+            Recipe recipe = new Recipe()
+                .category(FinancialCategoryEnum.OPERATING_RECIPE)
+                .achievementsInThePastYear(90)
+                .newYearForecast(120)
+                .financialYear(previousFinancialYear);
+            em.persist(recipe);
+            AnnexDecision annexDecision = new AnnexDecision()
+                .designation("AAAAAAAAAA")
+                .expenseAmount(new BigDecimal("1000.00"))
+                .creditsOpen(new BigDecimal("800.00"))
+                .financialYear(previousFinancialYear);
+            em.persist(annexDecision);
+            Expense expense = new Expense()
+                .category(FinancialCategoryEnum.OPERATING_EXPENSE)
+                .achievementsInThePastYear(60)
+                .newYearForecast(80)
+                .financialYear(previousFinancialYear)
+                .annexDecision(annexDecision);
+            em.persist(expense);
+            for (int i = 0; i < RECIPE_ARTICLES; i++) {
+                Article article = new Article().code("AAAAAAAAAA").designation("AAAAAAAAAA").addRecipe(recipe);
+                // the last articles are linked to both
+                if (i >= RECIPE_ARTICLES - EXPENSE_ARTICLES) {
+                    article.addExpense(expense);
+                }
+                em.persist(article);
+                articleIds.add(article.getId());
+            }
+        });
+    }
+
+    @AfterEach
+    void cleanup() {
+        applicationProperties.getYearEndRollover().setChunkSize(chunkSize);
+        transactionTemplate.executeWithoutResult(status -> {
+            for (Long articleId : articleIds) {
+                jdbcTemplate.update("delete from rel_article__recipe where article_id = ?", articleId);
+                jdbcTemplate.update("delete from rel_article__expense where article_id = ?", articleId);
+                jdbcTemplate.update("delete from article where id = ?", articleId);
+            }
+            for (Long id : List.of(financialYearId, previousFinancialYearId)) {
+                jdbcTemplate.update("delete from year_end_rollover where financial_year_id = ?", id);
+                jdbcTemplate.update("delete from recipe where financial_year_id = ?", id);
+                jdbcTemplate.update("delete from expense where financial_year_id = ?", id);
+                jdbcTemplate.update("delete from annex_decision where financial_year_id = ?", id);
+                jdbcTemplate.update("delete from financial_year where id = ?", id);
+            }
+        });
+    }
+
+    @Test
+    void testRolloverOpensTheYearAndRelinksTheArticles() throws Exception {
+        yearEndRolloverJobService.start(previousFinancialYearId, financialYearId).get(30, TimeUnit.SECONDS);
+
+        // the new year starts from the forecasts of the previous one
+        Recipe recipe = recipeRepository.findOneByFinancialYearId(financialYearId).orElseThrow();
+        assertThat(recipe.getAchievementsInThePastYear()).isEqualTo(120);
+        assertThat(recipe.getCategory()).isEqualTo(FinancialCategoryEnum.OPERATING_RECIPE);
+        Expense expense = expenseRepository.findOneByFinancialYearId(financialYearId).orElseThrow();
+        assertThat(expense.getAchievementsInThePastYear()).isEqualTo(80);
+        AnnexDecision annexDecision = annexDecisionRepository.findOneByFinancialYearId(financialYearId).orElseThrow();
+        assertThat(annexDecision.getDesignation()).isEqualTo("AAAAAAAAAA");
+        assertThat(annexDecision.getExpenseAmount()).isEqualByComparingTo("1000.00");
+        assertThat(annexDecision.getCreditsOpen()).isNull();
+        assertThat(queryForLong("select annex_decision_id from expense where id = ?", expense.getId())).isEqualTo(annexDecision.getId());
+        assertLinks(recipe.getId(), expense.getId());
+        assertCompleted(RECIPE_ARTICLES + EXPENSE_ARTICLES);
+
+        // rolling over again does nothing more
+        yearEndRolloverJobService.start(previousFinancialYearId, financialYearId).get(30, TimeUnit.SECONDS);
+        assertLinks(recipe.getId(), expense.getId());
+        assertCompleted(RECIPE_ARTICLES + EXPENSE_ARTICLES);
+        assertThat(queryForLong("select count(*) from annex_decision where financial_year_id = ?", financialYearId)).isEqualTo(1L);
+
+        assertThatThrownBy(() -> yearEndRolloverJobService.start(financialYearId, financialYearId)).isInstanceOf(
+            InvalidYearEndRolloverException.class
+        );
+    }
+
+    @Test
+    void testInterruptedRolloverResumesFromItsCheckpoint() throws Exception {
+        // a rollover stopped while copying the recipe links: the first chunk is checkpointed, the third one committed
+        yearEndRolloverService.open(previousFinancialYearId, financialYearId);
+        yearEndRolloverService.openYear(financialYearId);
+        int checkpointed = yearEndRolloverService.relinkArticles(financialYearId, articleIds.get(0), articleIds.get(1));
+        yearEndRolloverService.advanceArticleCheckpoint(
+            financialYearId,
+            YearEndRolloverStep.RECIPE_ARTICLES,
+            articleIds.get(1),
+            checkpointed
+        );
+        yearEndRolloverService.relinkArticles(financialYearId, articleIds.get(4), articleIds.get(5));
+        YearEndRollover interrupted = yearEndRolloverService.findOne(financialYearId).orElseThrow();
+        assertThat(interrupted.getStep()).isEqualTo(YearEndRolloverStep.RECIPE_ARTICLES);
+        assertThat(interrupted.getArticleCheckpoint()).isEqualTo(articleIds.get(1));
+        assertThat(interrupted.getRelinkedArticles()).isEqualTo(2L);
+        assertThat(yearEndRolloverService.findArticleIdsToRelink(financialYearId)).containsExactlyElementsOf(
+            articleIds.subList(2, RECIPE_ARTICLES)
+        );
+
+        yearEndRolloverJobService.resume().get(30, TimeUnit.SECONDS);
+
+        Long recipeId = recipeRepository.findIdByFinancialYearId(financialYearId).orElseThrow();
+        Long expenseId = expenseRepository.findIdByFinancialYearId(financialYearId).orElseThrow();
+        assertLinks(recipeId, expenseId);
+        // the links of the third chunk, committed after the checkpoint, are copied again without being counted
+        assertCompleted(RECIPE_ARTICLES + EXPENSE_ARTICLES - 2);
+    }
+
+    @Test
+    void testRolloverLeasedByAnotherInstanceIsNotRun() throws Exception {
+        yearEndRolloverService.open(previousFinancialYearId, financialYearId);
+        assertThat(yearEndRolloverService.claimLease(financialYearId, "another-instance", Duration.ofHours(1))).isTrue();
+
+        yearEndRolloverJobService.resume().get(30, TimeUnit.SECONDS);
+
+        assertThat(yearEndRolloverService.findOne(financialYearId).orElseThrow().getStep()).isEqualTo(YearEndRolloverStep.OPEN_YEAR);
+        assertThatThrownBy(() -> yearEndRolloverJobService.start(previousFinancialYearId, financialYearId)).isInstanceOf(
+            InvalidYearEndRolloverException.class
+        );
+
+        // the other instance stopped without releasing its lease, which expired
+        assertThat(yearEndRolloverService.claimLease(financialYearId, "another-instance", Duration.ofSeconds(-1))).isTrue();
+
+        yearEndRolloverJobService.resume().get(30, TimeUnit.SECONDS);
+
+        Long recipeId = recipeRepository.findIdByFinancialYearId(financialYearId).orElseThrow();
+        Long expenseId = expenseRepository.findIdByFinancialYearId(financialYearId).orElseThrow();
+        assertLinks(recipeId, expenseId);
+        assertCompleted(RECIPE_ARTICLES + EXPENSE_ARTICLES);
+        YearEndRollover completed = yearEndRolloverService.findOne(financialYearId).orElseThrow();
+        assertThat(completed.getLeaseOwner()).isNull();
+        assertThat(completed.getLeaseExpiresAt()).isNull();
+    }
+
+    private void assertLinks(Long recipeId, Long expenseId) {
+        assertThat(queryForLong("select count(*) from rel_article__recipe where recipe_id = ?", recipeId)).isEqualTo(RECIPE_ARTICLES);
+        assertThat(queryForLong("select count(*) from rel_article__expense where expense_id = ?", expenseId)).isEqualTo(EXPENSE_ARTICLES);
+    }
+
+    private long queryForLong(String sql, Long id) {
+        return jdbcTemplate.queryForObject(sql, Long.class, id);
+    }
+
+    private void assertCompleted(long relinkedArticles) {
+        YearEndRollover rollover = yearEndRolloverService.findOne(financialYearId).orElseThrow();
+        assertThat(rollover.getStep()).isEqualTo(YearEndRolloverStep.COMPLETED);
+        assertThat(rollover.getArticleCheckpoint()).isNull();
+        assertThat(rollover.getRelinkedArticles()).isEqualTo(relinkedArticles);
+    }
+
+    /**
+     * Insert a financial year with SQL, {@code year} being a keyword of H2 which Hibernate does not quote.
+     */
+    private FinancialYear createFinancialYear(long id, int year) {
+        em
+            .createNativeQuery("insert into financial_year (id, \"YEAR\") values (?, ?)")
+            .setParameter(1, id)
+            .setParameter(2, year)
+            .executeUpdate();
+        return em.getReference(FinancialYear.class, id);
+    }
+}
@@ -3,6 +3,7 @@ package com.crat.budget.service.criteria;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import org.assertj.core.api.Condition;
@@ -85,6 +86,7 @@ class AnnexDecisionCriteriaTest {
         annexDecisionCriteria.purchaseOrderId();
         annexDecisionCriteria.decisionId();
         annexDecisionCriteria.distinct();
+        annexDecisionCriteria.setFetch(Set.of("association"));
     }
 
     private static Condition<AnnexDecisionCriteria> criteriaFiltersAre(Function<Object, Boolean> condition) {
@@ -99,7 +101,8 @@ class AnnexDecisionCriteriaTest {
                 condition.apply(criteria.getExpenseId()) &&
                 condition.apply(criteria.getPurchaseOrderId()) &&
                 condition.apply(criteria.getDecisionId()) &&
-                condition.apply(criteria.getDistinct()),
+                condition.apply(criteria.getDistinct()) &&
+                condition.apply(criteria.getFetch()),
             "every filter matches"
         );
     }
@@ -119,7 +122,8 @@ class AnnexDecisionCriteriaTest {
                 condition.apply(criteria.getExpenseId(), copy.getExpenseId()) &&
                 condition.apply(criteria.getPurchaseOrderId(), copy.getPurchaseOrderId()) &&
                 condition.apply(criteria.getDecisionId(), copy.getDecisionId()) &&
-                condition.apply(criteria.getDistinct(), copy.getDistinct()),
+                condition.apply(criteria.getDistinct(), copy.getDistinct()) &&
+                condition.apply(criteria.getFetch(), copy.getFetch()),
             "every filter matches"
         );
     }
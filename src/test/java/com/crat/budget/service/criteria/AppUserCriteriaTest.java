@@ -3,6 +3,7 @@ package com.crat.budget.service.criteria;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import org.assertj.core.api.Condition;
@@ -90,6 +91,7 @@ class AppUserCriteriaTest {
         appUserCriteria.address();
         appUserCriteria.userId();
         appUserCriteria.distinct();
+        appUserCriteria.setFetch(Set.of("association"));
     }
 
     private static Condition<AppUserCriteria> criteriaFiltersAre(Function<Object, Boolean> condition) {
@@ -109,7 +111,8 @@ class AppUserCriteriaTest {
                 condition.apply(criteria.getPosition()) &&
                 condition.apply(criteria.getAddress()) &&
                 condition.apply(criteria.getUserId()) &&
-                condition.apply(criteria.getDistinct()),
+                condition.apply(criteria.getDistinct()) &&
+                condition.apply(criteria.getFetch()),
             "every filter matches"
         );
     }
@@ -131,7 +134,8 @@ class AppUserCriteriaTest {
                 condition.apply(criteria.getPosition(), copy.getPosition()) &&
                 condition.apply(criteria.getAddress(), copy.getAddress()) &&
                 condition.apply(criteria.getUserId(), copy.getUserId()) &&
-                condition.apply(criteria.getDistinct(), copy.getDistinct()),
+                condition.apply(criteria.getDistinct(), copy.getDistinct()) &&
+                condition.apply(criteria.getFetch(), copy.getFetch()),
             "every filter matches"
         );
     }
@@ -3,6 +3,7 @@ package com.crat.budget.service.criteria;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import org.assertj.core.api.Condition;
@@ -86,6 +87,7 @@ class ArticleCriteriaTest {
         articleCriteria.recipeId();
         articleCriteria.expenseId();
         articleCriteria.distinct();
+        articleCriteria.setFetch(Set.of("association"));
     }
 
     private static Condition<ArticleCriteria> criteriaFiltersAre(Function<Object, Boolean> condition) {
@@ -101,7 +103,8 @@ class ArticleCriteriaTest {
                 condition.apply(criteria.getChapterId()) &&
                 condition.apply(criteria.getRecipeId()) &&
                 condition.apply(criteria.getExpenseId()) &&
-                condition.apply(criteria.getDistinct()),
+                condition.apply(criteria.getDistinct()) &&
+                condition.apply(criteria.getFetch()),
             "every filter matches"
         );
     }
@@ -119,7 +122,8 @@ class ArticleCriteriaTest {
                 condition.apply(criteria.getChapterId(), copy.getChapterId()) &&
                 condition.apply(criteria.getRecipeId(), copy.getRecipeId()) &&
                 condition.apply(criteria.getExpenseId(), copy.getExpenseId()) &&
-                condition.apply(criteria.getDistinct(), copy.getDistinct()),
+                condition.apply(criteria.getDistinct(), copy.getDistinct()) &&
+                condition.apply(criteria.getFetch(), copy.getFetch()),
             "every filter matches"
         );
     }
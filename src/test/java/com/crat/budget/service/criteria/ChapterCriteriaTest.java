@@ -3,6 +3,7 @@ package com.crat.budget.service.criteria;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import org.assertj.core.api.Condition;
@@ -81,6 +82,7 @@ class ChapterCriteriaTest {
         chapterCriteria.subTitleId();
         chapterCriteria.articleId();
         chapterCriteria.distinct();
+        chapterCriteria.setFetch(Set.of("association"));
     }
 
     private static Condition<ChapterCriteria> criteriaFiltersAre(Function<Object, Boolean> condition) {
@@ -91,7 +93,8 @@ class ChapterCriteriaTest {
                 condition.apply(criteria.getDesignation()) &&
                 condition.apply(criteria.getSubTitleId()) &&
                 condition.apply(criteria.getArticleId()) &&
-                condition.apply(criteria.getDistinct()),
+                condition.apply(criteria.getDistinct()) &&
+                condition.apply(criteria.getFetch()),
             "every filter matches"
         );
     }
@@ -104,7 +107,8 @@ class ChapterCriteriaTest {
                 condition.apply(criteria.getDesignation(), copy.getDesignation()) &&
                 condition.apply(criteria.getSubTitleId(), copy.getSubTitleId()) &&
                 condition.apply(criteria.getArticleId(), copy.getArticleId()) &&
-                condition.apply(criteria.getDistinct(), copy.getDistinct()),
+                condition.apply(criteria.getDistinct(), copy.getDistinct()) &&
+                condition.apply(criteria.getFetch(), copy.getFetch()),
             "every filter matches"
         );
     }
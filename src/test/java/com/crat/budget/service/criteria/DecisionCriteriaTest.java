@@ -3,6 +3,7 @@ package com.crat.budget.service.criteria;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import org.assertj.core.api.Condition;
@@ -78,10 +79,12 @@ class DecisionCriteriaTest {
         decisionCriteria.id();
         decisionCriteria.decisionNumber();
         decisionCriteria.decisionDate();
+        decisionCriteria.financialYearId();
         decisionCriteria.engagementId();
         decisionCriteria.annexDecisionId();
         decisionCriteria.decisionItemId();
         decisionCriteria.distinct();
+        decisionCriteria.setFetch(Set.of("association"));
     }
 
     private static Condition<DecisionCriteria> criteriaFiltersAre(Function<Object, Boolean> condition) {
@@ -90,10 +93,12 @@ class DecisionCriteriaTest {
                 condition.apply(criteria.getId()) &&
                 condition.apply(criteria.getDecisionNumber()) &&
                 condition.apply(criteria.getDecisionDate()) &&
+                condition.apply(criteria.getFinancialYearId()) &&
                 condition.apply(criteria.getEngagementId()) &&
                 condition.apply(criteria.getAnnexDecisionId()) &&
                 condition.apply(criteria.getDecisionItemId()) &&
-                condition.apply(criteria.getDistinct()),
+                condition.apply(criteria.getDistinct()) &&
+                condition.apply(criteria.getFetch()),
             "every filter matches"
         );
     }
@@ -104,10 +109,12 @@ class DecisionCriteriaTest {
                 condition.apply(criteria.getId(), copy.getId()) &&
                 condition.apply(criteria.getDecisionNumber(), copy.getDecisionNumber()) &&
                 condition.apply(criteria.getDecisionDate(), copy.getDecisionDate()) &&
+                condition.apply(criteria.getFinancialYearId(), copy.getFinancialYearId()) &&
                 condition.apply(criteria.getEngagementId(), copy.getEngagementId()) &&
                 condition.apply(criteria.getAnnexDecisionId(), copy.getAnnexDecisionId()) &&
                 condition.apply(criteria.getDecisionItemId(), copy.getDecisionItemId()) &&
-                condition.apply(criteria.getDistinct(), copy.getDistinct()),
+                condition.apply(criteria.getDistinct(), copy.getDistinct()) &&
+                condition.apply(criteria.getFetch(), copy.getFetch()),
             "every filter matches"
         );
     }
@@ -3,6 +3,7 @@ package com.crat.budget.service.criteria;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import org.assertj.core.api.Condition;
@@ -79,8 +80,10 @@ class DecisionItemCriteriaTest {
         decisionItemCriteria.beneficiary();
         decisionItemCriteria.amount();
         decisionItemCriteria.observation();
+        decisionItemCriteria.financialYearId();
         decisionItemCriteria.decisionId();
         decisionItemCriteria.distinct();
+        decisionItemCriteria.setFetch(Set.of("association"));
     }
 
     private static Condition<DecisionItemCriteria> criteriaFiltersAre(Function<Object, Boolean> condition) {
@@ -90,8 +93,10 @@ class DecisionItemCriteriaTest {
                 condition.apply(criteria.getBeneficiary()) &&
                 condition.apply(criteria.getAmount()) &&
                 condition.apply(criteria.getObservation()) &&
+                condition.apply(criteria.getFinancialYearId()) &&
                 condition.apply(criteria.getDecisionId()) &&
-                condition.apply(criteria.getDistinct()),
+                condition.apply(criteria.getDistinct()) &&
+                condition.apply(criteria.getFetch()),
             "every filter matches"
         );
     }
@@ -106,8 +111,10 @@ class DecisionItemCriteriaTest {
                 condition.apply(criteria.getBeneficiary(), copy.getBeneficiary()) &&
                 condition.apply(criteria.getAmount(), copy.getAmount()) &&
                 condition.apply(criteria.getObservation(), copy.getObservation()) &&
+                condition.apply(criteria.getFinancialYearId(), copy.getFinancialYearId()) &&
                 condition.apply(criteria.getDecisionId(), copy.getDecisionId()) &&
-                condition.apply(criteria.getDistinct(), copy.getDistinct()),
+                condition.apply(criteria.getDistinct(), copy.getDistinct()) &&
+                condition.apply(criteria.getFetch(), copy.getFetch()),
             "every filter matches"
         );
     }
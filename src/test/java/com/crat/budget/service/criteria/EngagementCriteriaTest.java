@@ -3,6 +3,7 @@ package com.crat.budget.service.criteria;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import org.assertj.core.api.Condition;
@@ -86,10 +87,12 @@ class EngagementCriteriaTest {
         engagementCriteria.headDaf();
         engagementCriteria.financialController();
         engagementCriteria.generalManager();
+        engagementCriteria.financialYearId();
         engagementCriteria.decisionId();
         engagementCriteria.mandateId();
         engagementCriteria.purchaseOrderId();
         engagementCriteria.distinct();
+        engagementCriteria.setFetch(Set.of("association"));
     }
 
     private static Condition<EngagementCriteria> criteriaFiltersAre(Function<Object, Boolean> condition) {
@@ -106,10 +109,12 @@ class EngagementCriteriaTest {
                 condition.apply(criteria.getHeadDaf()) &&
                 condition.apply(criteria.getFinancialController()) &&
                 condition.apply(criteria.getGeneralManager()) &&
+                condition.apply(criteria.getFinancialYearId()) &&
                 condition.apply(criteria.getDecisionId()) &&
                 condition.apply(criteria.getMandateId()) &&
                 condition.apply(criteria.getPurchaseOrderId()) &&
-                condition.apply(criteria.getDistinct()),
+                condition.apply(criteria.getDistinct()) &&
+                condition.apply(criteria.getFetch()),
             "every filter matches"
         );
     }
@@ -128,10 +133,12 @@ class EngagementCriteriaTest {
                 condition.apply(criteria.getHeadDaf(), copy.getHeadDaf()) &&
                 condition.apply(criteria.getFinancialController(), copy.getFinancialController()) &&
                 condition.apply(criteria.getGeneralManager(), copy.getGeneralManager()) &&
+                condition.apply(criteria.getFinancialYearId(), copy.getFinancialYearId()) &&
                 condition.apply(criteria.getDecisionId(), copy.getDecisionId()) &&
                 condition.apply(criteria.getMandateId(), copy.getMandateId()) &&
                 condition.apply(criteria.getPurchaseOrderId(), copy.getPurchaseOrderId()) &&
-                condition.apply(criteria.getDistinct(), copy.getDistinct()),
+                condition.apply(criteria.getDistinct(), copy.getDistinct()) &&
+                condition.apply(criteria.getFetch(), copy.getFetch()),
             "every filter matches"
         );
     }
@@ -3,6 +3,7 @@ package com.crat.budget.service.criteria;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import org.assertj.core.api.Condition;
@@ -83,6 +84,7 @@ class ExpenseCriteriaTest {
         expenseCriteria.annexDecisionId();
         expenseCriteria.articleId();
         expenseCriteria.distinct();
+        expenseCriteria.setFetch(Set.of("association"));
     }
 
     private static Condition<ExpenseCriteria> criteriaFiltersAre(Function<Object, Boolean> condition) {
@@ -95,7 +97,8 @@ class ExpenseCriteriaTest {
                 condition.apply(criteria.getFinancialYearId()) &&
                 condition.apply(criteria.getAnnexDecisionId()) &&
                 condition.apply(criteria.getArticleId()) &&
-                condition.apply(criteria.getDistinct()),
+                condition.apply(criteria.getDistinct()) &&
+                condition.apply(criteria.getFetch()),
             "every filter matches"
         );
     }
@@ -110,7 +113,8 @@ class ExpenseCriteriaTest {
                 condition.apply(criteria.getFinancialYearId(), copy.getFinancialYearId()) &&
                 condition.apply(criteria.getAnnexDecisionId(), copy.getAnnexDecisionId()) &&
                 condition.apply(criteria.getArticleId(), copy.getArticleId()) &&
-                condition.apply(criteria.getDistinct(), copy.getDistinct()),
+                condition.apply(criteria.getDistinct(), copy.getDistinct()) &&
+                condition.apply(criteria.getFetch(), copy.getFetch()),
             "every filter matches"
         );
     }
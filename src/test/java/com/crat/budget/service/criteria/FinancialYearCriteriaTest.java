@@ -3,6 +3,7 @@ package com.crat.budget.service.criteria;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import org.assertj.core.api.Condition;
@@ -81,6 +82,7 @@ class FinancialYearCriteriaTest {
         financialYearCriteria.expenseId();
         financialYearCriteria.annexDecisionId();
         financialYearCriteria.distinct();
+        financialYearCriteria.setFetch(Set.of("association"));
     }
 
     private static Condition<FinancialYearCriteria> criteriaFiltersAre(Function<Object, Boolean> condition) {
@@ -91,7 +93,8 @@ class FinancialYearCriteriaTest {
                 condition.apply(criteria.getRecipeId()) &&
                 condition.apply(criteria.getExpenseId()) &&
                 condition.apply(criteria.getAnnexDecisionId()) &&
-                condition.apply(criteria.getDistinct()),
+                condition.apply(criteria.getDistinct()) &&
+                condition.apply(criteria.getFetch()),
             "every filter matches"
         );
     }
@@ -107,7 +110,8 @@ class FinancialYearCriteriaTest {
                 condition.apply(criteria.getRecipeId(), copy.getRecipeId()) &&
                 condition.apply(criteria.getExpenseId(), copy.getExpenseId()) &&
                 condition.apply(criteria.getAnnexDecisionId(), copy.getAnnexDecisionId()) &&
-                condition.apply(criteria.getDistinct(), copy.getDistinct()),
+                condition.apply(criteria.getDistinct(), copy.getDistinct()) &&
+                condition.apply(criteria.getFetch(), copy.getFetch()),
             "every filter matches"
         );
     }
@@ -3,6 +3,7 @@ package com.crat.budget.service.criteria;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import org.assertj.core.api.Condition;
@@ -81,8 +82,10 @@ class MandateCriteriaTest {
         mandateCriteria.issueSlipNumber();
         mandateCriteria.monthAndYearOfIssue();
         mandateCriteria.supportingDocuments();
+        mandateCriteria.financialYearId();
         mandateCriteria.engagementId();
         mandateCriteria.distinct();
+        mandateCriteria.setFetch(Set.of("association"));
     }
 
     private static Condition<MandateCriteria> criteriaFiltersAre(Function<Object, Boolean> condition) {
@@ -94,8 +97,10 @@ class MandateCriteriaTest {
                 condition.apply(criteria.getIssueSlipNumber()) &&
                 condition.apply(criteria.getMonthAndYearOfIssue()) &&
                 condition.apply(criteria.getSupportingDocuments()) &&
+                condition.apply(criteria.getFinancialYearId()) &&
                 condition.apply(criteria.getEngagementId()) &&
-                condition.apply(criteria.getDistinct()),
+                condition.apply(criteria.getDistinct()) &&
+                condition.apply(criteria.getFetch()),
             "every filter matches"
         );
     }
@@ -109,8 +114,10 @@ class MandateCriteriaTest {
                 condition.apply(criteria.getIssueSlipNumber(), copy.getIssueSlipNumber()) &&
                 condition.apply(criteria.getMonthAndYearOfIssue(), copy.getMonthAndYearOfIssue()) &&
                 condition.apply(criteria.getSupportingDocuments(), copy.getSupportingDocuments()) &&
+                condition.apply(criteria.getFinancialYearId(), copy.getFinancialYearId()) &&
                 condition.apply(criteria.getEngagementId(), copy.getEngagementId()) &&
-                condition.apply(criteria.getDistinct(), copy.getDistinct()),
+                condition.apply(criteria.getDistinct(), copy.getDistinct()) &&
+                condition.apply(criteria.getFetch(), copy.getFetch()),
             "every filter matches"
         );
     }
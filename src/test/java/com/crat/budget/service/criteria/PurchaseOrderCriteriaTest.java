@@ -3,6 +3,7 @@ package com.crat.budget.service.criteria;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import org.assertj.core.api.Condition;
@@ -88,11 +89,13 @@ class PurchaseOrderCriteriaTest {
         purchaseOrderCriteria.allocatedCredits();
         purchaseOrderCriteria.committedExpenditures();
         purchaseOrderCriteria.availableBalance();
+        purchaseOrderCriteria.financialYearId();
         purchaseOrderCriteria.annexDecisionId();
         purchaseOrderCriteria.supplierId();
         purchaseOrderCriteria.engagementId();
         purchaseOrderCriteria.purchaseOrderItemId();
         purchaseOrderCriteria.distinct();
+        purchaseOrderCriteria.setFetch(Set.of("association"));
     }
 
     private static Condition<PurchaseOrderCriteria> criteriaFiltersAre(Function<Object, Boolean> condition) {
@@ -111,11 +114,13 @@ class PurchaseOrderCriteriaTest {
                 condition.apply(criteria.getAllocatedCredits()) &&
                 condition.apply(criteria.getCommittedExpenditures()) &&
                 condition.apply(criteria.getAvailableBalance()) &&
+                condition.apply(criteria.getFinancialYearId()) &&
                 condition.apply(criteria.getAnnexDecisionId()) &&
                 condition.apply(criteria.getSupplierId()) &&
                 condition.apply(criteria.getEngagementId()) &&
                 condition.apply(criteria.getPurchaseOrderItemId()) &&
-                condition.apply(criteria.getDistinct()),
+                condition.apply(criteria.getDistinct()) &&
+                condition.apply(criteria.getFetch()),
             "every filter matches"
         );
     }
@@ -139,11 +144,13 @@ class PurchaseOrderCriteriaTest {
                 condition.apply(criteria.getAllocatedCredits(), copy.getAllocatedCredits()) &&
                 condition.apply(criteria.getCommittedExpenditures(), copy.getCommittedExpenditures()) &&
                 condition.apply(criteria.getAvailableBalance(), copy.getAvailableBalance()) &&
+                condition.apply(criteria.getFinancialYearId(), copy.getFinancialYearId()) &&
                 condition.apply(criteria.getAnnexDecisionId(), copy.getAnnexDecisionId()) &&
                 condition.apply(criteria.getSupplierId(), copy.getSupplierId()) &&
                 condition.apply(criteria.getEngagementId(), copy.getEngagementId()) &&
                 condition.apply(criteria.getPurchaseOrderItemId(), copy.getPurchaseOrderItemId()) &&
-                condition.apply(criteria.getDistinct(), copy.getDistinct()),
+                condition.apply(criteria.getDistinct(), copy.getDistinct()) &&
+                condition.apply(criteria.getFetch(), copy.getFetch()),
             "every filter matches"
         );
     }
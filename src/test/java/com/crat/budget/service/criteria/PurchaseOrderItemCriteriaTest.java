@@ -3,6 +3,7 @@ package com.crat.budget.service.criteria;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import org.assertj.core.api.Condition;
@@ -80,8 +81,10 @@ class PurchaseOrderItemCriteriaTest {
         purchaseOrderItemCriteria.quantity();
         purchaseOrderItemCriteria.unitPrice();
         purchaseOrderItemCriteria.totalAmount();
+        purchaseOrderItemCriteria.financialYearId();
         purchaseOrderItemCriteria.purchaseOrderId();
         purchaseOrderItemCriteria.distinct();
+        purchaseOrderItemCriteria.setFetch(Set.of("association"));
     }
 
     private static Condition<PurchaseOrderItemCriteria> criteriaFiltersAre(Function<Object, Boolean> condition) {
@@ -92,8 +95,10 @@ class PurchaseOrderItemCriteriaTest {
                 condition.apply(criteria.getQuantity()) &&
                 condition.apply(criteria.getUnitPrice()) &&
                 condition.apply(criteria.getTotalAmount()) &&
+                condition.apply(criteria.getFinancialYearId()) &&
                 condition.apply(criteria.getPurchaseOrderId()) &&
-                condition.apply(criteria.getDistinct()),
+                condition.apply(criteria.getDistinct()) &&
+                condition.apply(criteria.getFetch()),
             "every filter matches"
         );
     }
@@ -109,8 +114,10 @@ class PurchaseOrderItemCriteriaTest {
                 condition.apply(criteria.getQuantity(), copy.getQuantity()) &&
                 condition.apply(criteria.getUnitPrice(), copy.getUnitPrice()) &&
                 condition.apply(criteria.getTotalAmount(), copy.getTotalAmount()) &&
+                condition.apply(criteria.getFinancialYearId(), copy.getFinancialYearId()) &&
                 condition.apply(criteria.getPurchaseOrderId(), copy.getPurchaseOrderId()) &&
-                condition.apply(criteria.getDistinct(), copy.getDistinct()),
+                condition.apply(criteria.getDistinct(), copy.getDistinct()) &&
+                condition.apply(criteria.getFetch(), copy.getFetch()),
             "every filter matches"
         );
     }
@@ -3,6 +3,7 @@ package com.crat.budget.service.criteria;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import org.assertj.core.api.Condition;
@@ -82,6 +83,7 @@ class RecipeCriteriaTest {
         recipeCriteria.financialYearId();
         recipeCriteria.articleId();
         recipeCriteria.distinct();
+        recipeCriteria.setFetch(Set.of("association"));
     }
 
     private static Condition<RecipeCriteria> criteriaFiltersAre(Function<Object, Boolean> condition) {
@@ -93,7 +95,8 @@ class RecipeCriteriaTest {
                 condition.apply(criteria.getCategory()) &&
                 condition.apply(criteria.getFinancialYearId()) &&
                 condition.apply(criteria.getArticleId()) &&
-                condition.apply(criteria.getDistinct()),
+                condition.apply(criteria.getDistinct()) &&
+                condition.apply(criteria.getFetch()),
             "every filter matches"
         );
     }
@@ -107,7 +110,8 @@ class RecipeCriteriaTest {
                 condition.apply(criteria.getCategory(), copy.getCategory()) &&
                 condition.apply(criteria.getFinancialYearId(), copy.getFinancialYearId()) &&
                 condition.apply(criteria.getArticleId(), copy.getArticleId()) &&
-                condition.apply(criteria.getDistinct(), copy.getDistinct()),
+                condition.apply(criteria.getDistinct(), copy.getDistinct()) &&
+                condition.apply(criteria.getFetch(), copy.getFetch()),
             "every filter matches"
         );
     }
@@ -0,0 +1,34 @@
+package com.crat.budget.service.importer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.StringReader;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the {@link CsvRecordReader}.
+ */
+class CsvRecordReaderTest {
+
+    @Test
+    void readsPlainAndQuotedFields() throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("a,b,,c\r\n\"x, y\",\"say \"\"hi\"\"\",\"two\nlines\"\nlast"));
+
+        assertThat(reader.readRecord()).containsExactly("a", "b", "", "c");
+        assertThat(reader.getRecordLine()).isEqualTo(1);
+        assertThat(reader.readRecord()).containsExactly("x, y", "say \"hi\"", "two\nlines");
+        assertThat(reader.getRecordLine()).isEqualTo(2);
+        assertThat(reader.readRecord()).containsExactly("last");
+        assertThat(reader.getRecordLine()).isEqualTo(4);
+        assertThat(reader.readRecord()).isNull();
+    }
+
+    @Test
+    void rejectsUnterminatedQuotedField() {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("\"open\nstill open"));
+
+        assertThatThrownBy(reader::readRecord).isInstanceOf(IOException.class);
+    }
+}
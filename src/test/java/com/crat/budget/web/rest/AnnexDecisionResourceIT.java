@@ -2,6 +2,7 @@ package com.crat.budget.web.rest;
 
 import static com.crat.budget.domain.AnnexDecisionAsserts.*;
 import static com.crat.budget.web.rest.TestUtil.createUpdateProxyForBean;
+import static com.crat.budget.web.rest.TestUtil.sameNumber;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasItem;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -13,6 +14,7 @@ import com.crat.budget.domain.FinancialYear;
 import com.crat.budget.repository.AnnexDecisionRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.AfterEach;
@@ -36,14 +38,17 @@ class AnnexDecisionResourceIT {
     private static final String DEFAULT_DESIGNATION = "AAAAAAAAAA";
     private static final String UPDATED_DESIGNATION = "BBBBBBBBBB";
 
-    private static final String DEFAULT_EXPENSE_AMOUNT = "AAAAAAAAAA";
-    private static final String UPDATED_EXPENSE_AMOUNT = "BBBBBBBBBB";
+    private static final BigDecimal DEFAULT_EXPENSE_AMOUNT = new BigDecimal(1);
+    private static final BigDecimal UPDATED_EXPENSE_AMOUNT = new BigDecimal(2);
+    private static final BigDecimal SMALLER_EXPENSE_AMOUNT = new BigDecimal(1 - 1);
 
-    private static final String DEFAULT_CREDITS_ALREADY_OPEN = "AAAAAAAAAA";
-    private static final String UPDATED_CREDITS_ALREADY_OPEN = "BBBBBBBBBB";
+    private static final BigDecimal DEFAULT_CREDITS_ALREADY_OPEN = new BigDecimal(1);
+    private static final BigDecimal UPDATED_CREDITS_ALREADY_OPEN = new BigDecimal(2);
+    private static final BigDecimal SMALLER_CREDITS_ALREADY_OPEN = new BigDecimal(1 - 1);
 
-    private static final String DEFAULT_CREDITS_OPEN = "AAAAAAAAAA";
-    private static final String UPDATED_CREDITS_OPEN = "BBBBBBBBBB";
+    private static final BigDecimal DEFAULT_CREDITS_OPEN = new BigDecimal(1);
+    private static final BigDecimal UPDATED_CREDITS_OPEN = new BigDecimal(2);
+    private static final BigDecimal SMALLER_CREDITS_OPEN = new BigDecimal(1 - 1);
 
     private static final String ENTITY_API_URL = "/api/annex-decisions";
     private static final String ENTITY_API_URL_ID = ENTITY_API_URL + "/{id}";
@@ -160,9 +165,9 @@ class AnnexDecisionResourceIT {
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
             .andExpect(jsonPath("$.[*].id").value(hasItem(annexDecision.getId().intValue())))
             .andExpect(jsonPath("$.[*].designation").value(hasItem(DEFAULT_DESIGNATION)))
-            .andExpect(jsonPath("$.[*].expenseAmount").value(hasItem(DEFAULT_EXPENSE_AMOUNT)))
-            .andExpect(jsonPath("$.[*].creditsAlreadyOpen").value(hasItem(DEFAULT_CREDITS_ALREADY_OPEN)))
-            .andExpect(jsonPath("$.[*].creditsOpen").value(hasItem(DEFAULT_CREDITS_OPEN)));
+            .andExpect(jsonPath("$.[*].expenseAmount").value(hasItem(sameNumber(DEFAULT_EXPENSE_AMOUNT))))
+            .andExpect(jsonPath("$.[*].creditsAlreadyOpen").value(hasItem(sameNumber(DEFAULT_CREDITS_ALREADY_OPEN))))
+            .andExpect(jsonPath("$.[*].creditsOpen").value(hasItem(sameNumber(DEFAULT_CREDITS_OPEN))));
     }
 
     @Test
@@ -178,9 +183,9 @@ class AnnexDecisionResourceIT {
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
             .andExpect(jsonPath("$.id").value(annexDecision.getId().intValue()))
             .andExpect(jsonPath("$.designation").value(DEFAULT_DESIGNATION))
-            .andExpect(jsonPath("$.expenseAmount").value(DEFAULT_EXPENSE_AMOUNT))
-            .andExpect(jsonPath("$.creditsAlreadyOpen").value(DEFAULT_CREDITS_ALREADY_OPEN))
-            .andExpect(jsonPath("$.creditsOpen").value(DEFAULT_CREDITS_OPEN));
+            .andExpect(jsonPath("$.expenseAmount").value(sameNumber(DEFAULT_EXPENSE_AMOUNT)))
+            .andExpect(jsonPath("$.creditsAlreadyOpen").value(sameNumber(DEFAULT_CREDITS_ALREADY_OPEN)))
+            .andExpect(jsonPath("$.creditsOpen").value(sameNumber(DEFAULT_CREDITS_OPEN)));
     }
 
     @Test
@@ -289,27 +294,53 @@ class AnnexDecisionResourceIT {
 
     @Test
     @Transactional
-    void getAllAnnexDecisionsByExpenseAmountContainsSomething() throws Exception {
+    void getAllAnnexDecisionsByExpenseAmountIsGreaterThanOrEqualToSomething() throws Exception {
         // Initialize the database
         insertedAnnexDecision = annexDecisionRepository.saveAndFlush(annexDecision);
 
-        // Get all the annexDecisionList where expenseAmount contains
+        // Get all the annexDecisionList where expenseAmount is greater than or equal to
         defaultAnnexDecisionFiltering(
-            "expenseAmount.contains=" + DEFAULT_EXPENSE_AMOUNT,
-            "expenseAmount.contains=" + UPDATED_EXPENSE_AMOUNT
+            "expenseAmount.greaterThanOrEqual=" + DEFAULT_EXPENSE_AMOUNT,
+            "expenseAmount.greaterThanOrEqual=" + UPDATED_EXPENSE_AMOUNT
         );
     }
 
     @Test
     @Transactional
-    void getAllAnnexDecisionsByExpenseAmountNotContainsSomething() throws Exception {
+    void getAllAnnexDecisionsByExpenseAmountIsLessThanOrEqualToSomething() throws Exception {
         // Initialize the database
         insertedAnnexDecision = annexDecisionRepository.saveAndFlush(annexDecision);
 
-        // Get all the annexDecisionList where expenseAmount does not contain
+        // Get all the annexDecisionList where expenseAmount is less than or equal to
         defaultAnnexDecisionFiltering(
-            "expenseAmount.doesNotContain=" + UPDATED_EXPENSE_AMOUNT,
-            "expenseAmount.doesNotContain=" + DEFAULT_EXPENSE_AMOUNT
+            "expenseAmount.lessThanOrEqual=" + DEFAULT_EXPENSE_AMOUNT,
+            "expenseAmount.lessThanOrEqual=" + SMALLER_EXPENSE_AMOUNT
+        );
+    }
+
+    @Test
+    @Transactional
+    void getAllAnnexDecisionsByExpenseAmountIsLessThanSomething() throws Exception {
+        // Initialize the database
+        insertedAnnexDecision = annexDecisionRepository.saveAndFlush(annexDecision);
+
+        // Get all the annexDecisionList where expenseAmount is less than
+        defaultAnnexDecisionFiltering(
+            "expenseAmount.lessThan=" + UPDATED_EXPENSE_AMOUNT,
+            "expenseAmount.lessThan=" + DEFAULT_EXPENSE_AMOUNT
+        );
+    }
+
+    @Test
+    @Transactional
+    void getAllAnnexDecisionsByExpenseAmountIsGreaterThanSomething() throws Exception {
+        // Initialize the database
+        insertedAnnexDecision = annexDecisionRepository.saveAndFlush(annexDecision);
+
+        // Get all the annexDecisionList where expenseAmount is greater than
+        defaultAnnexDecisionFiltering(
+            "expenseAmount.greaterThan=" + SMALLER_EXPENSE_AMOUNT,
+            "expenseAmount.greaterThan=" + DEFAULT_EXPENSE_AMOUNT
         );
     }
 
@@ -351,27 +382,53 @@ class AnnexDecisionResourceIT {
 
     @Test
     @Transactional
-    void getAllAnnexDecisionsByCreditsAlreadyOpenContainsSomething() throws Exception {
+    void getAllAnnexDecisionsByCreditsAlreadyOpenIsGreaterThanOrEqualToSomething() throws Exception {
+        // Initialize the database
+        insertedAnnexDecision = annexDecisionRepository.saveAndFlush(annexDecision);
+
+        // Get all the annexDecisionList where creditsAlreadyOpen is greater than or equal to
+        defaultAnnexDecisionFiltering(
+            "creditsAlreadyOpen.greaterThanOrEqual=" + DEFAULT_CREDITS_ALREADY_OPEN,
+            "creditsAlreadyOpen.greaterThanOrEqual=" + UPDATED_CREDITS_ALREADY_OPEN
+        );
+    }
+
+    @Test
+    @Transactional
+    void getAllAnnexDecisionsByCreditsAlreadyOpenIsLessThanOrEqualToSomething() throws Exception {
         // Initialize the database
         insertedAnnexDecision = annexDecisionRepository.saveAndFlush(annexDecision);
 
-        // Get all the annexDecisionList where creditsAlreadyOpen contains
+        // Get all the annexDecisionList where creditsAlreadyOpen is less than or equal to
         defaultAnnexDecisionFiltering(
-            "creditsAlreadyOpen.contains=" + DEFAULT_CREDITS_ALREADY_OPEN,
-            "creditsAlreadyOpen.contains=" + UPDATED_CREDITS_ALREADY_OPEN
+            "creditsAlreadyOpen.lessThanOrEqual=" + DEFAULT_CREDITS_ALREADY_OPEN,
+            "creditsAlreadyOpen.lessThanOrEqual=" + SMALLER_CREDITS_ALREADY_OPEN
         );
     }
 
     @Test
     @Transactional
-    void getAllAnnexDecisionsByCreditsAlreadyOpenNotContainsSomething() throws Exception {
+    void getAllAnnexDecisionsByCreditsAlreadyOpenIsLessThanSomething() throws Exception {
         // Initialize the database
         insertedAnnexDecision = annexDecisionRepository.saveAndFlush(annexDecision);
 
-        // Get all the annexDecisionList where creditsAlreadyOpen does not contain
+        // Get all the annexDecisionList where creditsAlreadyOpen is less than
         defaultAnnexDecisionFiltering(
-            "creditsAlreadyOpen.doesNotContain=" + UPDATED_CREDITS_ALREADY_OPEN,
-            "creditsAlreadyOpen.doesNotContain=" + DEFAULT_CREDITS_ALREADY_OPEN
+            "creditsAlreadyOpen.lessThan=" + UPDATED_CREDITS_ALREADY_OPEN,
+            "creditsAlreadyOpen.lessThan=" + DEFAULT_CREDITS_ALREADY_OPEN
+        );
+    }
+
+    @Test
+    @Transactional
+    void getAllAnnexDecisionsByCreditsAlreadyOpenIsGreaterThanSomething() throws Exception {
+        // Initialize the database
+        insertedAnnexDecision = annexDecisionRepository.saveAndFlush(annexDecision);
+
+        // Get all the annexDecisionList where creditsAlreadyOpen is greater than
+        defaultAnnexDecisionFiltering(
+            "creditsAlreadyOpen.greaterThan=" + SMALLER_CREDITS_ALREADY_OPEN,
+            "creditsAlreadyOpen.greaterThan=" + DEFAULT_CREDITS_ALREADY_OPEN
         );
     }
 
@@ -410,27 +467,50 @@ class AnnexDecisionResourceIT {
 
     @Test
     @Transactional
-    void getAllAnnexDecisionsByCreditsOpenContainsSomething() throws Exception {
+    void getAllAnnexDecisionsByCreditsOpenIsGreaterThanOrEqualToSomething() throws Exception {
         // Initialize the database
         insertedAnnexDecision = annexDecisionRepository.saveAndFlush(annexDecision);
 
-        // Get all the annexDecisionList where creditsOpen contains
-        defaultAnnexDecisionFiltering("creditsOpen.contains=" + DEFAULT_CREDITS_OPEN, "creditsOpen.contains=" + UPDATED_CREDITS_OPEN);
+        // Get all the annexDecisionList where creditsOpen is greater than or equal to
+        defaultAnnexDecisionFiltering(
+            "creditsOpen.greaterThanOrEqual=" + DEFAULT_CREDITS_OPEN,
+            "creditsOpen.greaterThanOrEqual=" + UPDATED_CREDITS_OPEN
+        );
     }
 
     @Test
     @Transactional
-    void getAllAnnexDecisionsByCreditsOpenNotContainsSomething() throws Exception {
+    void getAllAnnexDecisionsByCreditsOpenIsLessThanOrEqualToSomething() throws Exception {
         // Initialize the database
         insertedAnnexDecision = annexDecisionRepository.saveAndFlush(annexDecision);
 
-        // Get all the annexDecisionList where creditsOpen does not contain
+        // Get all the annexDecisionList where creditsOpen is less than or equal to
         defaultAnnexDecisionFiltering(
-            "creditsOpen.doesNotContain=" + UPDATED_CREDITS_OPEN,
-            "creditsOpen.doesNotContain=" + DEFAULT_CREDITS_OPEN
+            "creditsOpen.lessThanOrEqual=" + DEFAULT_CREDITS_OPEN,
+            "creditsOpen.lessThanOrEqual=" + SMALLER_CREDITS_OPEN
         );
     }
 
+    @Test
+    @Transactional
+    void getAllAnnexDecisionsByCreditsOpenIsLessThanSomething() throws Exception {
+        // Initialize the database
+        insertedAnnexDecision = annexDecisionRepository.saveAndFlush(annexDecision);
+
+        // Get all the annexDecisionList where creditsOpen is less than
+        defaultAnnexDecisionFiltering("creditsOpen.lessThan=" + UPDATED_CREDITS_OPEN, "creditsOpen.lessThan=" + DEFAULT_CREDITS_OPEN);
+    }
+
+    @Test
+    @Transactional
+    void getAllAnnexDecisionsByCreditsOpenIsGreaterThanSomething() throws Exception {
+        // Initialize the database
+        insertedAnnexDecision = annexDecisionRepository.saveAndFlush(annexDecision);
+
+        // Get all the annexDecisionList where creditsOpen is greater than
+        defaultAnnexDecisionFiltering("creditsOpen.greaterThan=" + SMALLER_CREDITS_OPEN, "creditsOpen.greaterThan=" + DEFAULT_CREDITS_OPEN);
+    }
+
     @Test
     @Transactional
     void getAllAnnexDecisionsByFinancialYearIsEqualToSomething() throws Exception {
@@ -468,9 +548,9 @@ class AnnexDecisionResourceIT {
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
             .andExpect(jsonPath("$.[*].id").value(hasItem(annexDecision.getId().intValue())))
             .andExpect(jsonPath("$.[*].designation").value(hasItem(DEFAULT_DESIGNATION)))
-            .andExpect(jsonPath("$.[*].expenseAmount").value(hasItem(DEFAULT_EXPENSE_AMOUNT)))
-            .andExpect(jsonPath("$.[*].creditsAlreadyOpen").value(hasItem(DEFAULT_CREDITS_ALREADY_OPEN)))
-            .andExpect(jsonPath("$.[*].creditsOpen").value(hasItem(DEFAULT_CREDITS_OPEN)));
+            .andExpect(jsonPath("$.[*].expenseAmount").value(hasItem(sameNumber(DEFAULT_EXPENSE_AMOUNT))))
+            .andExpect(jsonPath("$.[*].creditsAlreadyOpen").value(hasItem(sameNumber(DEFAULT_CREDITS_ALREADY_OPEN))))
+            .andExpect(jsonPath("$.[*].creditsOpen").value(hasItem(sameNumber(DEFAULT_CREDITS_OPEN))));
 
         // Check, that the count call also returns 1
         restAnnexDecisionMockMvc
@@ -0,0 +1,179 @@
+package com.crat.budget.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.crat.budget.IntegrationTest;
+import com.crat.budget.domain.Article;
+import com.crat.budget.domain.Expense;
+import com.crat.budget.domain.FinancialYear;
+import com.crat.budget.domain.Recipe;
+import com.crat.budget.domain.enumeration.FinancialCategoryEnum;
+import com.crat.budget.service.BudgetExecutionRollupService;
+import com.crat.budget.service.RecipeService;
+import com.crat.budget.service.dto.BudgetExecutionRollupDTO;
+import com.crat.budget.service.dto.BudgetExecutionRollupDTO.Level;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for the {@link BudgetExecutionRollupResource} REST controller.
+ * <p>
+ * The rollups are cached until a write is committed, so the rows are written in committed transactions, and removed
+ * after each test.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser
+class BudgetExecutionRollupResourceIT {
+
+    private static final String ENTITY_API_URL = "/api/budget-execution-rollups";
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private BudgetExecutionRollupService budgetExecutionRollupService;
+
+    @Autowired
+    private RecipeService recipeService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MockMvc restBudgetExecutionRollupMockMvc;
+
+    private TransactionTemplate transactionTemplate;
+
+    private int year;
+
+    private FinancialYear financialYear;
+
+    private Article article;
+
+    private Recipe recipe;
+
+    private Expense expense;
+
+    @BeforeEach
+    void initTest() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        // a year no other test uses, so that its rollups only hold the rows of this test
+        year = ThreadLocalRandom.current().nextInt(5000, 9000);
+        transactionTemplate.executeWithoutResult(status -> {
+            financialYear = new FinancialYear().year(year);
+            em.persist(financialYear);
+            recipe = RecipeResourceIT.createEntity()
+                .category(FinancialCategoryEnum.OPERATING_RECIPE)
+                .achievementsInThePastYear(100)
+                .newYearForecast(120)
+                .financialYear(financialYear);
+            em.persist(recipe);
+            expense = ExpenseResourceIT.createEntity()
+                .category(FinancialCategoryEnum.OPERATING_EXPENSE)
+                .achievementsInThePastYear(60)
+                .newYearForecast(80)
+                .financialYear(financialYear);
+            em.persist(expense);
+            article = ArticleResourceIT.createEntity().addRecipe(recipe).addExpense(expense);
+            em.persist(article);
+        });
+    }
+
+    @AfterEach
+    void cleanup() {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("delete from rel_article__recipe where article_id = ?", article.getId());
+            jdbcTemplate.update("delete from rel_article__expense where article_id = ?", article.getId());
+            jdbcTemplate.update("delete from article where id = ?", article.getId());
+            jdbcTemplate.update("delete from recipe where id = ?", recipe.getId());
+            jdbcTemplate.update("delete from expense where id = ?", expense.getId());
+            jdbcTemplate.update("delete from financial_year where id = ?", financialYear.getId());
+        });
+        budgetExecutionRollupService.clearRollupCache();
+    }
+
+    @Test
+    void getBudgetExecutionRollups() throws Exception {
+        restBudgetExecutionRollupMockMvc
+            .perform(get(ENTITY_API_URL + "?financialYear={year}&level=ARTICLE", year))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(article.getId().intValue())))
+            .andExpect(jsonPath("$.[*].level").value(hasItem("ARTICLE")))
+            .andExpect(jsonPath("$.[*].financialYear").value(hasItem(year)))
+            .andExpect(jsonPath("$.[*].recipeAchievementsInThePastYear").value(hasItem(100)))
+            .andExpect(jsonPath("$.[*].recipeNewYearForecast").value(hasItem(120)))
+            .andExpect(jsonPath("$.[*].expenseAchievementsInThePastYear").value(hasItem(60)))
+            .andExpect(jsonPath("$.[*].expenseNewYearForecast").value(hasItem(80)));
+    }
+
+    @Test
+    void aggregatesTheLinesOfTheArticles() {
+        List<BudgetExecutionRollupDTO> budget = budgetExecutionRollupService.findRollups(year, Level.BUDGET);
+
+        // a recipe and an expense of different categories: one rollup each
+        assertThat(budget).hasSize(2);
+        assertThat(budget).extracting(BudgetExecutionRollupDTO::getRecipeNewYearForecast).containsExactlyInAnyOrder(120L, 0L);
+        assertThat(budget).extracting(BudgetExecutionRollupDTO::getExpenseNewYearForecast).containsExactlyInAnyOrder(80L, 0L);
+        assertThat(budgetExecutionRollupService.findRollups(year, Level.ARTICLE))
+            .extracting(BudgetExecutionRollupDTO::getId)
+            .containsOnly(article.getId());
+    }
+
+    @Test
+    void handsOutCopiesOfTheCachedRollups() {
+        recipeRollup().setRecipeNewYearForecast(0);
+
+        assertThat(recipeRollup().getRecipeNewYearForecast()).isEqualTo(120L);
+    }
+
+    @Test
+    void evictsTheRollupsWhenARecipeIsWritten() {
+        assertThat(recipeRollup().getRecipeNewYearForecast()).isEqualTo(120L);
+        assertThat(cachedRollups()).isNotNull();
+
+        transactionTemplate.executeWithoutResult(status ->
+            recipeService.partialUpdate(new Recipe().id(recipe.getId()).newYearForecast(150))
+        );
+
+        assertThat(cachedRollups()).isNull();
+        assertThat(recipeRollup().getRecipeNewYearForecast()).isEqualTo(150L);
+    }
+
+    private BudgetExecutionRollupDTO recipeRollup() {
+        return budgetExecutionRollupService
+            .findRollups(year, Level.ARTICLE)
+            .stream()
+            .filter(rollup -> rollup.getCategory() == FinancialCategoryEnum.OPERATING_RECIPE)
+            .findFirst()
+            .orElseThrow();
+    }
+
+    private Object cachedRollups() {
+        return Objects.requireNonNull(cacheManager.getCache(BudgetExecutionRollupService.BUDGET_EXECUTION_ROLLUP_CACHE)).get("all");
+    }
+}
@@ -0,0 +1,124 @@
+package com.crat.budget.web.rest;
+
+import static com.crat.budget.web.rest.TestUtil.sameNumber;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.crat.budget.IntegrationTest;
+import com.crat.budget.domain.AnnexDecision;
+import com.crat.budget.service.PurchaseOrderService;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the {@link CreditAvailabilityResource} REST controller.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser
+class CreditAvailabilityResourceIT {
+
+    private static final String ENTITY_API_URL = "/api/credit-availabilities/annex-decisions";
+    private static final String ENTITY_API_URL_ID = ENTITY_API_URL + "/{id}";
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private PurchaseOrderService purchaseOrderService;
+
+    @Autowired
+    private MockMvc restCreditAvailabilityMockMvc;
+
+    private AnnexDecision annexDecision;
+
+    private AnnexDecision annexDecisionWithoutOrder;
+
+    @BeforeEach
+    public void initTest() {
+        annexDecision = AnnexDecisionResourceIT.createEntity().creditsOpen(new BigDecimal("1000.00"));
+        annexDecisionWithoutOrder = AnnexDecisionResourceIT.createEntity().creditsOpen(new BigDecimal("100.00"));
+    }
+
+    @Test
+    @Transactional
+    void getAnnexDecisionCreditAvailability() throws Exception {
+        // Initialize the database
+        em.persist(annexDecision);
+        purchaseOrderService.save(
+            PurchaseOrderResourceIT.createEntity().totalAmountWithTax(new BigDecimal("300.50")).annexDecision(annexDecision)
+        );
+        purchaseOrderService.save(
+            PurchaseOrderResourceIT.createEntity().totalAmountWithTax(new BigDecimal("199.50")).annexDecision(annexDecision)
+        );
+        purchaseOrderService.save(
+            PurchaseOrderResourceIT.createEntity().totalAmountWithTax(null).annexDecision(annexDecision)
+        );
+        em.flush();
+
+        // Get the credits of the annexDecision
+        restCreditAvailabilityMockMvc
+            .perform(get(ENTITY_API_URL_ID, annexDecision.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.annexDecisionId").value(annexDecision.getId().intValue()))
+            .andExpect(jsonPath("$.creditsOpen").value(sameNumber(new BigDecimal("1000"))))
+            .andExpect(jsonPath("$.creditsCommitted").value(sameNumber(new BigDecimal("500"))))
+            .andExpect(jsonPath("$.creditsAvailable").value(sameNumber(new BigDecimal("500"))));
+    }
+
+    @Test
+    @Transactional
+    void getAnnexDecisionCreditAvailabilityWithoutPurchaseOrder() throws Exception {
+        // Initialize the database
+        em.persist(annexDecisionWithoutOrder);
+        em.flush();
+
+        // Nothing is committed yet
+        restCreditAvailabilityMockMvc
+            .perform(get(ENTITY_API_URL_ID, annexDecisionWithoutOrder.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.creditsCommitted").value(sameNumber(BigDecimal.ZERO)))
+            .andExpect(jsonPath("$.creditsAvailable").value(sameNumber(new BigDecimal("100"))));
+    }
+
+    @Test
+    @Transactional
+    void getAnnexDecisionCreditAvailabilitiesBelowThreshold() throws Exception {
+        // Initialize the database
+        em.persist(annexDecision);
+        em.persist(annexDecisionWithoutOrder);
+        purchaseOrderService.save(
+            PurchaseOrderResourceIT.createEntity().totalAmountWithTax(new BigDecimal("950")).annexDecision(annexDecision)
+        );
+        em.flush();
+
+        // Both have less than 150 available, the least available first
+        restCreditAvailabilityMockMvc
+            .perform(get(ENTITY_API_URL + "?availableLessThan=150"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].annexDecisionId").value(hasItem(annexDecision.getId().intValue())))
+            .andExpect(jsonPath("$.[*].annexDecisionId").value(hasItem(annexDecisionWithoutOrder.getId().intValue())));
+
+        // Only the first one has less than 100 available
+        restCreditAvailabilityMockMvc
+            .perform(get(ENTITY_API_URL + "?availableLessThan=100"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].annexDecisionId").value(hasItem(annexDecision.getId().intValue())))
+            .andExpect(jsonPath("$.[*].annexDecisionId").value(not(hasItem(annexDecisionWithoutOrder.getId().intValue()))));
+    }
+
+    @Test
+    @Transactional
+    void getNonExistingAnnexDecisionCreditAvailability() throws Exception {
+        restCreditAvailabilityMockMvc.perform(get(ENTITY_API_URL_ID, Long.MAX_VALUE)).andExpect(status().isNotFound());
+    }
+}
@@ -2,6 +2,7 @@ package com.crat.budget.web.rest;
 
 import static com.crat.budget.domain.EngagementAsserts.*;
 import static com.crat.budget.web.rest.TestUtil.createUpdateProxyForBean;
+import static com.crat.budget.web.rest.TestUtil.sameNumber;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasItem;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -12,6 +13,7 @@ import com.crat.budget.domain.Engagement;
 import com.crat.budget.repository.EngagementRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Random;
@@ -43,17 +45,22 @@ class EngagementResourceIT {
     private static final String DEFAULT_OBJECT_OF_EXPENSE = "AAAAAAAAAA";
     private static final String UPDATED_OBJECT_OF_EXPENSE = "BBBBBBBBBB";
 
-    private static final String DEFAULT_NOTIFIED_CREDITS = "AAAAAAAAAA";
-    private static final String UPDATED_NOTIFIED_CREDITS = "BBBBBBBBBB";
+    private static final BigDecimal DEFAULT_NOTIFIED_CREDITS = new BigDecimal(2);
+    private static final BigDecimal UPDATED_NOTIFIED_CREDITS = new BigDecimal(4);
+    private static final BigDecimal SMALLER_NOTIFIED_CREDITS = new BigDecimal(2 - 1);
 
-    private static final String DEFAULT_CREDIT_COMMITTED = "AAAAAAAAAA";
-    private static final String UPDATED_CREDIT_COMMITTED = "BBBBBBBBBB";
+    private static final BigDecimal DEFAULT_CREDIT_COMMITTED = new BigDecimal(1);
+    private static final BigDecimal UPDATED_CREDIT_COMMITTED = new BigDecimal(2);
+    private static final BigDecimal SMALLER_CREDIT_COMMITTED = new BigDecimal(1 - 1);
 
-    private static final String DEFAULT_CREDITS_AVAILABLE = "AAAAAAAAAA";
-    private static final String UPDATED_CREDITS_AVAILABLE = "BBBBBBBBBB";
+    // computed by the database from the notified and committed credits
+    private static final BigDecimal DEFAULT_CREDITS_AVAILABLE = DEFAULT_NOTIFIED_CREDITS.subtract(DEFAULT_CREDIT_COMMITTED);
+    private static final BigDecimal UPDATED_CREDITS_AVAILABLE = UPDATED_NOTIFIED_CREDITS.subtract(UPDATED_CREDIT_COMMITTED);
+    private static final BigDecimal SMALLER_CREDITS_AVAILABLE = DEFAULT_CREDITS_AVAILABLE.subtract(BigDecimal.ONE);
 
-    private static final String DEFAULT_AMOUNT_PROPOSED_COMMITMENT = "AAAAAAAAAA";
-    private static final String UPDATED_AMOUNT_PROPOSED_COMMITMENT = "BBBBBBBBBB";
+    private static final BigDecimal DEFAULT_AMOUNT_PROPOSED_COMMITMENT = new BigDecimal(1);
+    private static final BigDecimal UPDATED_AMOUNT_PROPOSED_COMMITMENT = new BigDecimal(2);
+    private static final BigDecimal SMALLER_AMOUNT_PROPOSED_COMMITMENT = new BigDecimal(1 - 1);
 
     private static final String DEFAULT_HEAD_DAF = "AAAAAAAAAA";
     private static final String UPDATED_HEAD_DAF = "BBBBBBBBBB";
@@ -225,10 +232,10 @@ class EngagementResourceIT {
             .andExpect(jsonPath("$.[*].engagementNumber").value(hasItem(DEFAULT_ENGAGEMENT_NUMBER)))
             .andExpect(jsonPath("$.[*].engagementDate").value(hasItem(DEFAULT_ENGAGEMENT_DATE.toString())))
             .andExpect(jsonPath("$.[*].objectOfExpense").value(hasItem(DEFAULT_OBJECT_OF_EXPENSE)))
-            .andExpect(jsonPath("$.[*].notifiedCredits").value(hasItem(DEFAULT_NOTIFIED_CREDITS)))
-            .andExpect(jsonPath("$.[*].creditCommitted").value(hasItem(DEFAULT_CREDIT_COMMITTED)))
-            .andExpect(jsonPath("$.[*].creditsAvailable").value(hasItem(DEFAULT_CREDITS_AVAILABLE)))
-            .andExpect(jsonPath("$.[*].amountProposedCommitment").value(hasItem(DEFAULT_AMOUNT_PROPOSED_COMMITMENT)))
+            .andExpect(jsonPath("$.[*].notifiedCredits").value(hasItem(sameNumber(DEFAULT_NOTIFIED_CREDITS))))
+            .andExpect(jsonPath("$.[*].creditCommitted").value(hasItem(sameNumber(DEFAULT_CREDIT_COMMITTED))))
+            .andExpect(jsonPath("$.[*].creditsAvailable").value(hasItem(sameNumber(DEFAULT_CREDITS_AVAILABLE))))
+            .andExpect(jsonPath("$.[*].amountProposedCommitment").value(hasItem(sameNumber(DEFAULT_AMOUNT_PROPOSED_COMMITMENT))))
             .andExpect(jsonPath("$.[*].headDaf").value(hasItem(DEFAULT_HEAD_DAF)))
             .andExpect(jsonPath("$.[*].financialController").value(hasItem(DEFAULT_FINANCIAL_CONTROLLER)))
             .andExpect(jsonPath("$.[*].generalManager").value(hasItem(DEFAULT_GENERAL_MANAGER)));
@@ -249,10 +256,10 @@ class EngagementResourceIT {
             .andExpect(jsonPath("$.engagementNumber").value(DEFAULT_ENGAGEMENT_NUMBER))
             .andExpect(jsonPath("$.engagementDate").value(DEFAULT_ENGAGEMENT_DATE.toString()))
             .andExpect(jsonPath("$.objectOfExpense").value(DEFAULT_OBJECT_OF_EXPENSE))
-            .andExpect(jsonPath("$.notifiedCredits").value(DEFAULT_NOTIFIED_CREDITS))
-            .andExpect(jsonPath("$.creditCommitted").value(DEFAULT_CREDIT_COMMITTED))
-            .andExpect(jsonPath("$.creditsAvailable").value(DEFAULT_CREDITS_AVAILABLE))
-            .andExpect(jsonPath("$.amountProposedCommitment").value(DEFAULT_AMOUNT_PROPOSED_COMMITMENT))
+            .andExpect(jsonPath("$.notifiedCredits").value(sameNumber(DEFAULT_NOTIFIED_CREDITS)))
+            .andExpect(jsonPath("$.creditCommitted").value(sameNumber(DEFAULT_CREDIT_COMMITTED)))
+            .andExpect(jsonPath("$.creditsAvailable").value(sameNumber(DEFAULT_CREDITS_AVAILABLE)))
+            .andExpect(jsonPath("$.amountProposedCommitment").value(sameNumber(DEFAULT_AMOUNT_PROPOSED_COMMITMENT)))
             .andExpect(jsonPath("$.headDaf").value(DEFAULT_HEAD_DAF))
             .andExpect(jsonPath("$.financialController").value(DEFAULT_FINANCIAL_CONTROLLER))
             .andExpect(jsonPath("$.generalManager").value(DEFAULT_GENERAL_MANAGER));
@@ -468,27 +475,53 @@ class EngagementResourceIT {
 
     @Test
     @Transactional
-    void getAllEngagementsByNotifiedCreditsContainsSomething() throws Exception {
+    void getAllEngagementsByNotifiedCreditsIsGreaterThanOrEqualToSomething() throws Exception {
         // Initialize the database
         insertedEngagement = engagementRepository.saveAndFlush(engagement);
 
-        // Get all the engagementList where notifiedCredits contains
+        // Get all the engagementList where notifiedCredits is greater than or equal to
         defaultEngagementFiltering(
-            "notifiedCredits.contains=" + DEFAULT_NOTIFIED_CREDITS,
-            "notifiedCredits.contains=" + UPDATED_NOTIFIED_CREDITS
+            "notifiedCredits.greaterThanOrEqual=" + DEFAULT_NOTIFIED_CREDITS,
+            "notifiedCredits.greaterThanOrEqual=" + UPDATED_NOTIFIED_CREDITS
         );
     }
 
     @Test
     @Transactional
-    void getAllEngagementsByNotifiedCreditsNotContainsSomething() throws Exception {
+    void getAllEngagementsByNotifiedCreditsIsLessThanOrEqualToSomething() throws Exception {
         // Initialize the database
         insertedEngagement = engagementRepository.saveAndFlush(engagement);
 
-        // Get all the engagementList where notifiedCredits does not contain
+        // Get all the engagementList where notifiedCredits is less than or equal to
         defaultEngagementFiltering(
-            "notifiedCredits.doesNotContain=" + UPDATED_NOTIFIED_CREDITS,
-            "notifiedCredits.doesNotContain=" + DEFAULT_NOTIFIED_CREDITS
+            "notifiedCredits.lessThanOrEqual=" + DEFAULT_NOTIFIED_CREDITS,
+            "notifiedCredits.lessThanOrEqual=" + SMALLER_NOTIFIED_CREDITS
+        );
+    }
+
+    @Test
+    @Transactional
+    void getAllEngagementsByNotifiedCreditsIsLessThanSomething() throws Exception {
+        // Initialize the database
+        insertedEngagement = engagementRepository.saveAndFlush(engagement);
+
+        // Get all the engagementList where notifiedCredits is less than
+        defaultEngagementFiltering(
+            "notifiedCredits.lessThan=" + UPDATED_NOTIFIED_CREDITS,
+            "notifiedCredits.lessThan=" + DEFAULT_NOTIFIED_CREDITS
+        );
+    }
+
+    @Test
+    @Transactional
+    void getAllEngagementsByNotifiedCreditsIsGreaterThanSomething() throws Exception {
+        // Initialize the database
+        insertedEngagement = engagementRepository.saveAndFlush(engagement);
+
+        // Get all the engagementList where notifiedCredits is greater than
+        defaultEngagementFiltering(
+            "notifiedCredits.greaterThan=" + SMALLER_NOTIFIED_CREDITS,
+            "notifiedCredits.greaterThan=" + DEFAULT_NOTIFIED_CREDITS
         );
     }
 
@@ -530,27 +563,53 @@ class EngagementResourceIT {
 
     @Test
     @Transactional
-    void getAllEngagementsByCreditCommittedContainsSomething() throws Exception {
+    void getAllEngagementsByCreditCommittedIsGreaterThanOrEqualToSomething() throws Exception {
+        // Initialize the database
+        insertedEngagement = engagementRepository.saveAndFlush(engagement);
+
+        // Get all the engagementList where creditCommitted is greater than or equal to
+        defaultEngagementFiltering(
+            "creditCommitted.greaterThanOrEqual=" + DEFAULT_CREDIT_COMMITTED,
+            "creditCommitted.greaterThanOrEqual=" + UPDATED_CREDIT_COMMITTED
+        );
+    }
+
+    @Test
+    @Transactional
+    void getAllEngagementsByCreditCommittedIsLessThanOrEqualToSomething() throws Exception {
         // Initialize the database
         insertedEngagement = engagementRepository.saveAndFlush(engagement);
 
-        // Get all the engagementList where creditCommitted contains
+        // Get all the engagementList where creditCommitted is less than or equal to
         defaultEngagementFiltering(
-            "creditCommitted.contains=" + DEFAULT_CREDIT_COMMITTED,
-            "creditCommitted.contains=" + UPDATED_CREDIT_COMMITTED
+            "creditCommitted.lessThanOrEqual=" + DEFAULT_CREDIT_COMMITTED,
+            "creditCommitted.lessThanOrEqual=" + SMALLER_CREDIT_COMMITTED
         );
     }
 
     @Test
     @Transactional
-    void getAllEngagementsByCreditCommittedNotContainsSomething() throws Exception {
+    void getAllEngagementsByCreditCommittedIsLessThanSomething() throws Exception {
         // Initialize the database
         insertedEngagement = engagementRepository.saveAndFlush(engagement);
 
-        // Get all the engagementList where creditCommitted does not contain
+        // Get all the engagementList where creditCommitted is less than
         defaultEngagementFiltering(
-            "creditCommitted.doesNotContain=" + UPDATED_CREDIT_COMMITTED,
-            "creditCommitted.doesNotContain=" + DEFAULT_CREDIT_COMMITTED
+            "creditCommitted.lessThan=" + UPDATED_CREDIT_COMMITTED,
+            "creditCommitted.lessThan=" + DEFAULT_CREDIT_COMMITTED
+        );
+    }
+
+    @Test
+    @Transactional
+    void getAllEngagementsByCreditCommittedIsGreaterThanSomething() throws Exception {
+        // Initialize the database
+        insertedEngagement = engagementRepository.saveAndFlush(engagement);
+
+        // Get all the engagementList where creditCommitted is greater than
+        defaultEngagementFiltering(
+            "creditCommitted.greaterThan=" + SMALLER_CREDIT_COMMITTED,
+            "creditCommitted.greaterThan=" + DEFAULT_CREDIT_COMMITTED
         );
     }
 
@@ -592,30 +651,80 @@ class EngagementResourceIT {
 
     @Test
     @Transactional
-    void getAllEngagementsByCreditsAvailableContainsSomething() throws Exception {
+    void getAllEngagementsByCreditsAvailableIsGreaterThanOrEqualToSomething() throws Exception {
+        // Initialize the database
+        insertedEngagement = engagementRepository.saveAndFlush(engagement);
+
+        // Get all the engagementList where creditsAvailable is greater than or equal to
+        defaultEngagementFiltering(
+            "creditsAvailable.greaterThanOrEqual=" + DEFAULT_CREDITS_AVAILABLE,
+            "creditsAvailable.greaterThanOrEqual=" + UPDATED_CREDITS_AVAILABLE
+        );
+    }
+
+    @Test
+    @Transactional
+    void getAllEngagementsByCreditsAvailableIsLessThanOrEqualToSomething() throws Exception {
         // Initialize the database
         insertedEngagement = engagementRepository.saveAndFlush(engagement);
 
-        // Get all the engagementList where creditsAvailable contains
+        // Get all the engagementList where creditsAvailable is less than or equal to
         defaultEngagementFiltering(
-            "creditsAvailable.contains=" + DEFAULT_CREDITS_AVAILABLE,
-            "creditsAvailable.contains=" + UPDATED_CREDITS_AVAILABLE
+            "creditsAvailable.lessThanOrEqual=" + DEFAULT_CREDITS_AVAILABLE,
+            "creditsAvailable.lessThanOrEqual=" + SMALLER_CREDITS_AVAILABLE
         );
     }
 
     @Test
     @Transactional
-    void getAllEngagementsByCreditsAvailableNotContainsSomething() throws Exception {
+    void getAllEngagementsByCreditsAvailableIsLessThanSomething() throws Exception {
         // Initialize the database
         insertedEngagement = engagementRepository.saveAndFlush(engagement);
 
-        // Get all the engagementList where creditsAvailable does not contain
+        // Get all the engagementList where creditsAvailable is less than
         defaultEngagementFiltering(
-            "creditsAvailable.doesNotContain=" + UPDATED_CREDITS_AVAILABLE,
-            "creditsAvailable.doesNotContain=" + DEFAULT_CREDITS_AVAILABLE
+            "creditsAvailable.lessThan=" + UPDATED_CREDITS_AVAILABLE,
+            "creditsAvailable.lessThan=" + DEFAULT_CREDITS_AVAILABLE
         );
     }
 
+    @Test
+    @Transactional
+    void getAllEngagementsByCreditsAvailableIsGreaterThanSomething() throws Exception {
+        // Initialize the database
+        insertedEngagement = engagementRepository.saveAndFlush(engagement);
+
+        // Get all the engagementList where creditsAvailable is greater than
+        defaultEngagementFiltering(
+            "creditsAvailable.greaterThan=" + SMALLER_CREDITS_AVAILABLE,
+            "creditsAvailable.greaterThan=" + DEFAULT_CREDITS_AVAILABLE
+        );
+    }
+
+    @Test
+    @Transactional
+    void creditsAvailableAreComputedByTheDatabase() throws Exception {
+        // Initialize the database, the available credits sent by the client being ignored
+        engagement.notifiedCredits(new BigDecimal("1000.50")).creditCommitted(new BigDecimal("250.25")).creditsAvailable(BigDecimal.TEN);
+        insertedEngagement = engagementRepository.saveAndFlush(engagement);
+        assertThat(engagement.getCreditsAvailable()).isEqualByComparingTo("750.25");
+
+        // Get all the engagementList with less than 800 credits available
+        restEngagementMockMvc
+            .perform(get(ENTITY_API_URL + "?creditsAvailable.lessThan=800&id.equals=" + engagement.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].creditsAvailable").value(hasItem(sameNumber(new BigDecimal("750.25")))));
+        restEngagementMockMvc
+            .perform(get(ENTITY_API_URL + "/count?creditsAvailable.lessThan=750.25&id.equals=" + engagement.getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().string("0"));
+
+        // The available credits follow the committed credits
+        engagement.creditCommitted(null);
+        engagementRepository.saveAndFlush(engagement);
+        assertThat(engagement.getCreditsAvailable()).isEqualByComparingTo("1000.50");
+    }
+
     @Test
     @Transactional
     void getAllEngagementsByAmountProposedCommitmentIsEqualToSomething() throws Exception {
@@ -654,27 +763,53 @@ class EngagementResourceIT {
 
     @Test
     @Transactional
-    void getAllEngagementsByAmountProposedCommitmentContainsSomething() throws Exception {
+    void getAllEngagementsByAmountProposedCommitmentIsGreaterThanOrEqualToSomething() throws Exception {
+        // Initialize the database
+        insertedEngagement = engagementRepository.saveAndFlush(engagement);
+
+        // Get all the engagementList where amountProposedCommitment is greater than or equal to
+        defaultEngagementFiltering(
+            "amountProposedCommitment.greaterThanOrEqual=" + DEFAULT_AMOUNT_PROPOSED_COMMITMENT,
+            "amountProposedCommitment.greaterThanOrEqual=" + UPDATED_AMOUNT_PROPOSED_COMMITMENT
+        );
+    }
+
+    @Test
+    @Transactional
+    void getAllEngagementsByAmountProposedCommitmentIsLessThanOrEqualToSomething() throws Exception {
+        // Initialize the database
+        insertedEngagement = engagementRepository.saveAndFlush(engagement);
+
+        // Get all the engagementList where amountProposedCommitment is less than or equal to
+        defaultEngagementFiltering(
+            "amountProposedCommitment.lessThanOrEqual=" + DEFAULT_AMOUNT_PROPOSED_COMMITMENT,
+            "amountProposedCommitment.lessThanOrEqual=" + SMALLER_AMOUNT_PROPOSED_COMMITMENT
+        );
+    }
+
+    @Test
+    @Transactional
+    void getAllEngagementsByAmountProposedCommitmentIsLessThanSomething() throws Exception {
         // Initialize the database
         insertedEngagement = engagementRepository.saveAndFlush(engagement);
 
-        // Get all the engagementList where amountProposedCommitment contains
+        // Get all the engagementList where amountProposedCommitment is less than
         defaultEngagementFiltering(
-            "amountProposedCommitment.contains=" + DEFAULT_AMOUNT_PROPOSED_COMMITMENT,
-            "amountProposedCommitment.contains=" + UPDATED_AMOUNT_PROPOSED_COMMITMENT
+            "amountProposedCommitment.lessThan=" + UPDATED_AMOUNT_PROPOSED_COMMITMENT,
+            "amountProposedCommitment.lessThan=" + DEFAULT_AMOUNT_PROPOSED_COMMITMENT
         );
     }
 
     @Test
     @Transactional
-    void getAllEngagementsByAmountProposedCommitmentNotContainsSomething() throws Exception {
+    void getAllEngagementsByAmountProposedCommitmentIsGreaterThanSomething() throws Exception {
         // Initialize the database
         insertedEngagement = engagementRepository.saveAndFlush(engagement);
 
-        // Get all the engagementList where amountProposedCommitment does not contain
+        // Get all the engagementList where amountProposedCommitment is greater than
         defaultEngagementFiltering(
-            "amountProposedCommitment.doesNotContain=" + UPDATED_AMOUNT_PROPOSED_COMMITMENT,
-            "amountProposedCommitment.doesNotContain=" + DEFAULT_AMOUNT_PROPOSED_COMMITMENT
+            "amountProposedCommitment.greaterThan=" + SMALLER_AMOUNT_PROPOSED_COMMITMENT,
+            "amountProposedCommitment.greaterThan=" + DEFAULT_AMOUNT_PROPOSED_COMMITMENT
         );
     }
 
@@ -866,10 +1001,10 @@ class EngagementResourceIT {
             .andExpect(jsonPath("$.[*].engagementNumber").value(hasItem(DEFAULT_ENGAGEMENT_NUMBER)))
             .andExpect(jsonPath("$.[*].engagementDate").value(hasItem(DEFAULT_ENGAGEMENT_DATE.toString())))
             .andExpect(jsonPath("$.[*].objectOfExpense").value(hasItem(DEFAULT_OBJECT_OF_EXPENSE)))
-            .andExpect(jsonPath("$.[*].notifiedCredits").value(hasItem(DEFAULT_NOTIFIED_CREDITS)))
-            .andExpect(jsonPath("$.[*].creditCommitted").value(hasItem(DEFAULT_CREDIT_COMMITTED)))
-            .andExpect(jsonPath("$.[*].creditsAvailable").value(hasItem(DEFAULT_CREDITS_AVAILABLE)))
-            .andExpect(jsonPath("$.[*].amountProposedCommitment").value(hasItem(DEFAULT_AMOUNT_PROPOSED_COMMITMENT)))
+            .andExpect(jsonPath("$.[*].notifiedCredits").value(hasItem(sameNumber(DEFAULT_NOTIFIED_CREDITS))))
+            .andExpect(jsonPath("$.[*].creditCommitted").value(hasItem(sameNumber(DEFAULT_CREDIT_COMMITTED))))
+            .andExpect(jsonPath("$.[*].creditsAvailable").value(hasItem(sameNumber(DEFAULT_CREDITS_AVAILABLE))))
+            .andExpect(jsonPath("$.[*].amountProposedCommitment").value(hasItem(sameNumber(DEFAULT_AMOUNT_PROPOSED_COMMITMENT))))
             .andExpect(jsonPath("$.[*].headDaf").value(hasItem(DEFAULT_HEAD_DAF)))
             .andExpect(jsonPath("$.[*].financialController").value(hasItem(DEFAULT_FINANCIAL_CONTROLLER)))
             .andExpect(jsonPath("$.[*].generalManager").value(hasItem(DEFAULT_GENERAL_MANAGER)));
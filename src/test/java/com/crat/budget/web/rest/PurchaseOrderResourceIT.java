@@ -4,7 +4,11 @@ import static com.crat.budget.domain.PurchaseOrderAsserts.*;
 import static com.crat.budget.web.rest.TestUtil.createUpdateProxyForBean;
 import static com.crat.budget.web.rest.TestUtil.sameNumber;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -14,11 +18,14 @@ import com.crat.budget.domain.Engagement;
 import com.crat.budget.domain.PurchaseOrder;
 import com.crat.budget.domain.Supplier;
 import com.crat.budget.repository.PurchaseOrderRepository;
+import com.crat.budget.web.rest.util.KeysetPaginationUtil;
+import com.crat.budget.web.rest.util.SlicePaginationUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityManager;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.AfterEach;
@@ -26,10 +33,14 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Integration tests for the {@link PurchaseOrderResource} REST controller.
@@ -83,6 +94,8 @@ class PurchaseOrderResourceIT {
     private static final BigDecimal UPDATED_AVAILABLE_BALANCE = new BigDecimal(2);
     private static final BigDecimal SMALLER_AVAILABLE_BALANCE = new BigDecimal(1 - 1);
 
+    private static final String IMPORTED_ORDER_NUMBER = "IMPORT-";
+
     private static final String ENTITY_API_URL = "/api/purchase-orders";
     private static final String ENTITY_API_URL_ID = ENTITY_API_URL + "/{id}";
 
@@ -98,6 +111,12 @@ class PurchaseOrderResourceIT {
     @Autowired
     private EntityManager em;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     @Autowired
     private MockMvc restPurchaseOrderMockMvc;
 
@@ -160,6 +179,14 @@ class PurchaseOrderResourceIT {
             purchaseOrderRepository.delete(insertedPurchaseOrder);
             insertedPurchaseOrder = null;
         }
+        // the imports commit a transaction per batch
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jdbcTemplate.update(
+                "delete from purchase_order_item where purchase_order_id in (select id from purchase_order where order_number like ?)",
+                IMPORTED_ORDER_NUMBER + "%"
+            );
+            jdbcTemplate.update("delete from purchase_order where order_number like ?", IMPORTED_ORDER_NUMBER + "%");
+        });
     }
 
     @Test
@@ -184,6 +211,81 @@ class PurchaseOrderResourceIT {
         insertedPurchaseOrder = returnedPurchaseOrder;
     }
 
+    @Test
+    void importPurchaseOrders() throws Exception {
+        long databaseSizeBeforeImport = getRepositoryCount();
+        PurchaseOrder valid = createEntity().orderNumber(IMPORTED_ORDER_NUMBER + 1);
+        PurchaseOrder withoutOrderNumber = createEntity().orderNumber(null);
+        PurchaseOrder withUnknownSupplier = createEntity()
+            .orderNumber(IMPORTED_ORDER_NUMBER + 3)
+            .supplier(new Supplier().id(Long.MAX_VALUE));
+
+        // Import one valid purchaseOrder and two invalid ones
+        restPurchaseOrderMockMvc
+            .perform(
+                post(ENTITY_API_URL + "/import")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsBytes(List.of(valid, withoutOrderNumber, withUnknownSupplier)))
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.received").value(3))
+            .andExpect(jsonPath("$.imported").value(1))
+            .andExpect(jsonPath("$.errors.[*].row").value(contains(2, 3)))
+            .andExpect(jsonPath("$.errors.[*].field").value(contains("orderNumber", "supplier")));
+
+        assertIncrementedRepositoryCount(databaseSizeBeforeImport);
+    }
+
+    @Test
+    void importPurchaseOrdersRejectsTheRowsFailingInTheDatabase() throws Exception {
+        long databaseSizeBeforeImport = getRepositoryCount();
+        // valid, but longer than its column
+        PurchaseOrder tooLong = createEntity().orderNumber(IMPORTED_ORDER_NUMBER + 2).nameOfTheMinistry("A".repeat(256));
+        List<PurchaseOrder> purchaseOrders = List.of(
+            createEntity().orderNumber(IMPORTED_ORDER_NUMBER + 1),
+            tooLong,
+            createEntity().orderNumber(IMPORTED_ORDER_NUMBER + 3)
+        );
+
+        // Import the purchaseOrders in the same batch, the second one failing at flush
+        restPurchaseOrderMockMvc
+            .perform(
+                post(ENTITY_API_URL + "/import")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsBytes(purchaseOrders))
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.received").value(3))
+            .andExpect(jsonPath("$.imported").value(2))
+            .andExpect(jsonPath("$.errors.[*].row").value(contains(2)))
+            .andExpect(jsonPath("$.errors.[*].field").value(contains("purchaseOrder")));
+
+        assertThat(getRepositoryCount()).isEqualTo(databaseSizeBeforeImport + 2);
+    }
+
+    @Test
+    void importPurchaseOrdersFromCsv() throws Exception {
+        long databaseSizeBeforeImport = getRepositoryCount();
+        String csv =
+            "nameOfTheMinistry,orderNumber,orderDate,itemProductName,itemQuantity,itemUnitPrice,itemTotalAmount\n" +
+            "Ministry,IMPORT-1,2024-01-01T00:00:00Z,Paper,2,1.50,3.00\n" +
+            "Ministry,IMPORT-1,2024-01-01T00:00:00Z,\"Pens, blue\",10,0.20,2.00\n" +
+            "Ministry,,2024-01-01T00:00:00Z,Ink,1,5.00,5.00\n" +
+            "Ministry,IMPORT-2,not a date,,,,\n";
+
+        // Import two purchaseOrders, the second one having an invalid date, and a record without order number
+        restPurchaseOrderMockMvc
+            .perform(post(ENTITY_API_URL + "/import").contentType("text/csv").content(csv))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.received").value(3))
+            .andExpect(jsonPath("$.imported").value(1))
+            .andExpect(jsonPath("$.importedItems").value(2))
+            .andExpect(jsonPath("$.errors.[*].row").value(contains(4, 5)))
+            .andExpect(jsonPath("$.errors.[*].field").value(contains("orderNumber", "orderDate")));
+
+        assertIncrementedRepositoryCount(databaseSizeBeforeImport);
+    }
+
     @Test
     @Transactional
     void createPurchaseOrderWithExistingId() throws Exception {
@@ -275,6 +377,145 @@ class PurchaseOrderResourceIT {
             .andExpect(jsonPath("$.[*].availableBalance").value(hasItem(sameNumber(DEFAULT_AVAILABLE_BALANCE))));
     }
 
+    @Test
+    @Transactional
+    void getAllPurchaseOrdersWithKeysetPagination() throws Exception {
+        // Initialize the database
+        insertedPurchaseOrder = purchaseOrderRepository.saveAndFlush(purchaseOrder);
+        PurchaseOrder otherPurchaseOrder = purchaseOrderRepository.saveAndFlush(createEntity());
+        String windowParameters = "&size=1&sort=id,asc&id.in=" + purchaseOrder.getId() + "," + otherPurchaseOrder.getId();
+
+        // Get the first window of the purchaseOrderList
+        String nextCursor = restPurchaseOrderMockMvc
+            .perform(get(ENTITY_API_URL + "?cursor=" + windowParameters))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist("X-Total-Count"))
+            .andExpect(header().exists(HttpHeaders.LINK))
+            .andExpect(jsonPath("$.[*].id").value(contains(purchaseOrder.getId().intValue())))
+            .andReturn()
+            .getResponse()
+            .getHeader(KeysetPaginationUtil.HEADER_X_NEXT_CURSOR);
+        assertThat(nextCursor).isNotBlank();
+
+        // Seek to the next window
+        restPurchaseOrderMockMvc
+            .perform(get(ENTITY_API_URL + "?cursor=" + nextCursor + windowParameters))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(KeysetPaginationUtil.HEADER_X_NEXT_CURSOR))
+            .andExpect(jsonPath("$.[*].id").value(contains(otherPurchaseOrder.getId().intValue())));
+
+        // An invalid cursor is rejected
+        restPurchaseOrderMockMvc.perform(get(ENTITY_API_URL + "?cursor=bm90LWEtcHJvcGVydHk")).andExpect(status().isBadRequest());
+
+        // A nullable sort property is rejected, its null keys could not be sought after
+        restPurchaseOrderMockMvc.perform(get(ENTITY_API_URL + "?cursor=&sort=totalAmountWithTax,asc")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional
+    void getAllPurchaseOrdersWithoutTotal() throws Exception {
+        // Initialize the database
+        insertedPurchaseOrder = purchaseOrderRepository.saveAndFlush(purchaseOrder);
+        PurchaseOrder otherPurchaseOrder = purchaseOrderRepository.saveAndFlush(createEntity());
+        String pageParameters = "&size=1&sort=id,asc&id.in=" + purchaseOrder.getId() + "," + otherPurchaseOrder.getId();
+
+        // Get the first page of the purchaseOrderList without counting
+        restPurchaseOrderMockMvc
+            .perform(get(ENTITY_API_URL + "?total=none&page=0" + pageParameters))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist("X-Total-Count"))
+            .andExpect(header().string(HttpHeaders.LINK, containsString("rel=\"next\"")))
+            .andExpect(jsonPath("$.[*].id").value(contains(purchaseOrder.getId().intValue())));
+
+        // Get the last page with an approximate total
+        restPurchaseOrderMockMvc
+            .perform(get(ENTITY_API_URL + "?total=approximate&page=1" + pageParameters))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Total-Count", "2"))
+            .andExpect(header().string(SlicePaginationUtil.HEADER_X_TOTAL_COUNT_APPROXIMATE, "true"))
+            .andExpect(header().string(HttpHeaders.LINK, not(containsString("rel=\"next\""))))
+            .andExpect(jsonPath("$.[*].id").value(contains(otherPurchaseOrder.getId().intValue())));
+    }
+
+    @Test
+    @Transactional
+    void getAllPurchaseOrdersWithFetchedAssociations() throws Exception {
+        // Initialize the database
+        Supplier supplier = SupplierResourceIT.createEntity();
+        em.persist(supplier);
+        insertedPurchaseOrder = purchaseOrderRepository.saveAndFlush(purchaseOrder.supplier(supplier));
+        em.clear();
+
+        // The fetched supplier is serialized, not only its id
+        restPurchaseOrderMockMvc
+            .perform(get(ENTITY_API_URL + "?fetch=supplier,engagement&sort=id,desc&id.equals=" + purchaseOrder.getId()))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Total-Count", "1"))
+            .andExpect(jsonPath("$.[*].supplier.companyName").value(contains(supplier.getCompanyName())))
+            .andExpect(jsonPath("$.[*].engagement").value(contains((Object) null)));
+
+        // Collections and unknown associations are rejected
+        restPurchaseOrderMockMvc.perform(get(ENTITY_API_URL + "?fetch=purchaseOrderItems")).andExpect(status().isBadRequest());
+        restPurchaseOrderMockMvc.perform(get(ENTITY_API_URL + "?fetch=orderNumber")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional
+    void getAllPurchaseOrderRows() throws Exception {
+        // Initialize the database
+        Supplier supplier = SupplierResourceIT.createEntity();
+        em.persist(supplier);
+        insertedPurchaseOrder = purchaseOrderRepository.saveAndFlush(purchaseOrder.supplier(supplier));
+
+        // Only the requested fields are read, the associations as their ids
+        restPurchaseOrderMockMvc
+            .perform(get(ENTITY_API_URL + "?fields=id,orderNumber,supplierId,engagementId&sort=id,desc&id.equals=" + purchaseOrder.getId()))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Total-Count", "1"))
+            .andExpect(jsonPath("$.[0].*", hasSize(4)))
+            .andExpect(jsonPath("$.[*].id").value(contains(purchaseOrder.getId().intValue())))
+            .andExpect(jsonPath("$.[*].orderNumber").value(contains(DEFAULT_ORDER_NUMBER)))
+            .andExpect(jsonPath("$.[*].supplierId").value(contains(supplier.getId().intValue())))
+            .andExpect(jsonPath("$.[*].engagementId").value(contains((Object) null)));
+
+        // Without the count query
+        restPurchaseOrderMockMvc
+            .perform(get(ENTITY_API_URL + "?fields=&total=none&id.equals=" + purchaseOrder.getId()))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist("X-Total-Count"))
+            .andExpect(jsonPath("$.[*].nameOfTheMinistry").value(contains(DEFAULT_NAME_OF_THE_MINISTRY)));
+
+        // Unknown fields and keyset pagination are rejected
+        restPurchaseOrderMockMvc.perform(get(ENTITY_API_URL + "?fields=id,supplier")).andExpect(status().isBadRequest());
+        restPurchaseOrderMockMvc.perform(get(ENTITY_API_URL + "?fields=id&cursor=")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional
+    void exportPurchaseOrders() throws Exception {
+        // Initialize the database
+        insertedPurchaseOrder = purchaseOrderRepository.saveAndFlush(purchaseOrder);
+
+        // Export the purchaseOrderList as CSV
+        restPurchaseOrderMockMvc
+            .perform(get(ENTITY_API_URL + "/export?id.equals=" + purchaseOrder.getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith("text/csv"))
+            .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, containsString("purchaseOrders.csv")))
+            .andExpect(content().string(containsString("id,nameOfTheMinistry,orderNumber,")))
+            .andExpect(content().string(containsString(purchaseOrder.getId() + "," + DEFAULT_NAME_OF_THE_MINISTRY + ",")));
+
+        // Export the purchaseOrderList as NDJSON
+        restPurchaseOrderMockMvc
+            .perform(get(ENTITY_API_URL + "/export?format=ndjson&id.equals=" + purchaseOrder.getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+            .andExpect(content().string(containsString("{\"id\":" + purchaseOrder.getId() + ",")));
+
+        // An unknown format is rejected
+        restPurchaseOrderMockMvc.perform(get(ENTITY_API_URL + "/export?format=xml")).andExpect(status().isBadRequest());
+    }
+
     @Test
     @Transactional
     void getPurchaseOrder() throws Exception {
@@ -0,0 +1,146 @@
+package com.crat.budget.web.rest.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.crat.budget.domain.PurchaseOrder;
+import com.crat.budget.web.rest.errors.BadRequestAlertException;
+import jakarta.persistence.Id;
+import jakarta.validation.constraints.NotNull;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Test class for the {@link KeysetPaginationUtil} utility class.
+ */
+class KeysetPaginationUtilTest {
+
+    @Test
+    void emptyCursorStartsAtTheFirstWindow() {
+        assertThat(KeysetPaginationUtil.parseCursor("", Sort.unsorted(), PurchaseOrder.class, "purchaseOrder").isInitial()).isTrue();
+        assertThat(KeysetPaginationUtil.parseCursor(null, Sort.unsorted(), PurchaseOrder.class, "purchaseOrder").isInitial()).isTrue();
+    }
+
+    @Test
+    void cursorRoundTripRestoresTypedKeys() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("orderDate", Instant.parse("2024-03-01T10:15:30Z"));
+        keys.put("totalAmountWithTax", new BigDecimal("1250.50"));
+        keys.put("orderNumber", "24-001 & co=");
+        keys.put("id", 1500L);
+
+        String cursor = KeysetPaginationUtil.formatCursor(ScrollPosition.forward(keys));
+        KeysetScrollPosition position = KeysetPaginationUtil.parseCursor(cursor, Sort.unsorted(), PurchaseOrder.class, "purchaseOrder");
+
+        assertThat(cursor).matches("[A-Za-z0-9_-]+");
+        assertThat(position.getKeys()).containsExactlyEntriesOf(keys);
+        assertThat(position.scrollsForward()).isTrue();
+    }
+
+    @Test
+    void dateKeysAreWrittenInIso8601() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("day", LocalDate.of(1987, 12, 31));
+        keys.put("id", 7L);
+
+        String cursor = KeysetPaginationUtil.formatCursor(ScrollPosition.forward(keys));
+        KeysetScrollPosition position = KeysetPaginationUtil.parseCursor(cursor, Sort.by("day"), Event.class, "event");
+
+        assertThat(new String(Base64.getUrlDecoder().decode(cursor), UTF_8)).isEqualTo("day=1987-12-31&id=7");
+        assertThat(position.getKeys()).containsExactlyEntriesOf(keys);
+
+        Map<String, Object> farKeys = Map.of("orderDate", Instant.parse("2150-01-01T00:00:00Z"));
+        String farCursor = KeysetPaginationUtil.formatCursor(ScrollPosition.forward(farKeys));
+        KeysetScrollPosition farPosition = KeysetPaginationUtil.parseCursor(farCursor, Sort.by("orderDate"), PurchaseOrder.class, "order");
+        assertThat(farPosition.getKeys()).containsExactlyEntriesOf(farKeys);
+    }
+
+    @Test
+    void nullKeyIsRejected() {
+        String cursor = Base64.getUrlEncoder().withoutPadding().encodeToString("orderDate&id=1".getBytes(UTF_8));
+        assertThatThrownBy(() -> KeysetPaginationUtil.parseCursor(cursor, Sort.unsorted(), PurchaseOrder.class, "order"))
+            .isInstanceOf(BadRequestAlertException.class)
+            .hasFieldOrPropertyWithValue("errorKey", "cursorinvalid");
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("orderDate", null);
+        assertThatThrownBy(() -> KeysetPaginationUtil.formatCursor(ScrollPosition.forward(keys))).isInstanceOf(
+            IllegalStateException.class
+        );
+    }
+
+    @Test
+    void nullableSortPropertyIsRejected() {
+        Sort requiredProperties = Sort.by("orderDate", "orderNumber", "id");
+        assertThat(KeysetPaginationUtil.parseCursor("", requiredProperties, PurchaseOrder.class, "purchaseOrder").isInitial()).isTrue();
+
+        for (String property : List.of("totalAmountWithTax", "supplier.id", "unknown")) {
+            assertThatThrownBy(() -> KeysetPaginationUtil.parseCursor("", Sort.by(property), PurchaseOrder.class, "purchaseOrder"))
+                .isInstanceOf(BadRequestAlertException.class)
+                .hasFieldOrPropertyWithValue("errorKey", "sortinvalid");
+        }
+    }
+
+    @Test
+    void invalidCursorIsRejected() {
+        assertThatThrownBy(() -> KeysetPaginationUtil.parseCursor("%%%", Sort.unsorted(), PurchaseOrder.class, "purchaseOrder"))
+            .isInstanceOf(BadRequestAlertException.class)
+            .hasFieldOrPropertyWithValue("errorKey", "cursorinvalid");
+        String unknownProperty = KeysetPaginationUtil.formatCursor(ScrollPosition.forward(Map.of("unknown", 1L)));
+        assertThatThrownBy(() ->
+            KeysetPaginationUtil.parseCursor(unknownProperty, Sort.unsorted(), PurchaseOrder.class, "purchaseOrder")
+        ).isInstanceOf(BadRequestAlertException.class);
+    }
+
+    @Test
+    void generateKeysetHttpHeadersLinksToTheNextWindow() {
+        Window<Long> window = Window.from(List.of(1L, 2L), index -> ScrollPosition.forward(Map.of("id", index + 1L)), true);
+
+        HttpHeaders headers = KeysetPaginationUtil.generateKeysetHttpHeaders(
+            UriComponentsBuilder.fromUriString("http://localhost/api/purchase-orders?cursor=&size=2&page=3"),
+            window
+        );
+
+        String nextCursor = headers.getFirst(KeysetPaginationUtil.HEADER_X_NEXT_CURSOR);
+        KeysetScrollPosition nextPosition = KeysetPaginationUtil.parseCursor(nextCursor, Sort.by("id"), PurchaseOrder.class, "order");
+        assertThat(nextPosition.getKeys()).containsEntry("id", 2L);
+        assertThat(headers.getFirst(HttpHeaders.LINK))
+            .contains("<http://localhost/api/purchase-orders?size=2&cursor=" + nextCursor + ">; rel=\"next\"")
+            .contains("<http://localhost/api/purchase-orders?size=2&cursor=>; rel=\"first\"");
+    }
+
+    @Test
+    void generateKeysetHttpHeadersOnTheLastWindow() {
+        Window<Long> window = Window.from(List.of(1L), index -> ScrollPosition.forward(Map.of("id", 1L)), false);
+
+        HttpHeaders headers = KeysetPaginationUtil.generateKeysetHttpHeaders(
+            UriComponentsBuilder.fromUriString("http://localhost/api/purchase-orders?cursor=abc"),
+            window
+        );
+
+        assertThat(headers.containsKey(KeysetPaginationUtil.HEADER_X_NEXT_CURSOR)).isFalse();
+        assertThat(headers.getFirst(HttpHeaders.LINK)).isEqualTo("<http://localhost/api/purchase-orders?cursor=>; rel=\"first\"");
+    }
+
+    private static class Event {
+
+        @Id
+        private Long id;
+
+        @NotNull
+        private LocalDate day;
+    }
+}
@@ -0,0 +1,64 @@
+package com.crat.budget.web.rest.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Test class for the {@link SlicePaginationUtil} utility class.
+ */
+class SlicePaginationUtilTest {
+
+    private static final String BASE_URL = "/api/purchase-orders";
+
+    @Test
+    void sliceIsOnlyRequestedWithoutExactTotal() {
+        assertThat(SlicePaginationUtil.isSliceRequested(null)).isFalse();
+        assertThat(SlicePaginationUtil.isSliceRequested("exact")).isFalse();
+        assertThat(SlicePaginationUtil.isSliceRequested("none")).isTrue();
+        assertThat(SlicePaginationUtil.isSliceRequested("approximate")).isTrue();
+        assertThat(SlicePaginationUtil.isApproximateTotalRequested("none")).isFalse();
+        assertThat(SlicePaginationUtil.isApproximateTotalRequested("approximate")).isTrue();
+    }
+
+    @Test
+    void generateSliceHttpHeadersWithoutTotal() {
+        SliceImpl<String> slice = new SliceImpl<>(List.of("a", "b"), PageRequest.of(2, 2), true);
+
+        HttpHeaders headers = SlicePaginationUtil.generateSliceHttpHeaders(
+            UriComponentsBuilder.fromUriString(BASE_URL + "?total=none"),
+            slice,
+            null
+        );
+
+        assertThat(headers.containsKey("X-Total-Count")).isFalse();
+        assertThat(headers.containsKey(SlicePaginationUtil.HEADER_X_TOTAL_COUNT_APPROXIMATE)).isFalse();
+        assertThat(headers.getFirst(HttpHeaders.LINK)).isEqualTo(
+            "<" +
+            BASE_URL +
+            "?total=none&page=3&size=2>; rel=\"next\"," +
+            "<" +
+            BASE_URL +
+            "?total=none&page=1&size=2>; rel=\"prev\"," +
+            "<" +
+            BASE_URL +
+            "?total=none&page=0&size=2>; rel=\"first\""
+        );
+    }
+
+    @Test
+    void generateSliceHttpHeadersWithApproximateTotal() {
+        SliceImpl<String> slice = new SliceImpl<>(List.of("a"), PageRequest.of(0, 2), false);
+
+        HttpHeaders headers = SlicePaginationUtil.generateSliceHttpHeaders(UriComponentsBuilder.fromUriString(BASE_URL), slice, 42L);
+
+        assertThat(headers.getFirst("X-Total-Count")).isEqualTo("42");
+        assertThat(headers.getFirst(SlicePaginationUtil.HEADER_X_TOTAL_COUNT_APPROXIMATE)).isEqualTo("true");
+        assertThat(headers.getFirst(HttpHeaders.LINK)).isEqualTo("<" + BASE_URL + "?page=0&size=2>; rel=\"first\"");
+    }
+}